@@ -0,0 +1,378 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore.ZoneDayKey;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightStatisticsStore;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightStats;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Routing.ReadWriteRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Persists the {@link WasteLogAggregateStore} to a local binary snapshot file and restores it on startup.
+ * <p>
+ * On startup the latest snapshot is loaded and only logs created or updated after its watermark are
+ * read back from the database, page by page in {@code updated_date} order; every zone-day they touch is recomputed from that day's rows, so
+ * catching up is idempotent. Without a snapshot the store is rebuilt with a keyset scan of the whole
+ * table. Snapshots are then written periodically in the background. With sharded storage both scans
+ * run on every shard, and a zone-day is recomputed from its zone's shard.
+ * </p>
+ * <p>
+ * The snapshot also carries the per-zone and per-vehicle {@link WeightStatisticsStore}. Running
+ * statistics cannot be recomputed for a single day, so the catch-up adds only logs completed after
+ * the snapshot was taken rather than everything after the watermark.
+ * </p>
+ */
+@Component
+public class AggregateSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregateSnapshotService.class);
+
+    /** Snapshot magic, "WLAS" in ASCII. */
+    private static final int MAGIC = 0x574C4153;
+    private static final short FORMAT_VERSION = 4;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final WasteLogAggregateStore aggregateStore;
+    private final WeightStatisticsStore statisticsStore;
+    private final WasteLogRepository wasteLogRepository;
+    private final ZoneSharding zoneSharding;
+    private final boolean enabled;
+    private final Path snapshotFile;
+    private final long watermarkLagSeconds;
+
+    public AggregateSnapshotService(WasteLogAggregateStore aggregateStore,
+                                    WeightStatisticsStore statisticsStore,
+                                    WasteLogRepository wasteLogRepository,
+                                    ZoneSharding zoneSharding,
+                                    @Value("${wastewise.snapshot.enabled:true}") boolean enabled,
+                                    @Value("${wastewise.snapshot.file:snapshot/aggregates.bin}") String snapshotFile,
+                                    @Value("${wastewise.snapshot.watermark-lag-seconds:60}") long watermarkLagSeconds) {
+        this.aggregateStore = aggregateStore;
+        this.statisticsStore = statisticsStore;
+        this.wasteLogRepository = wasteLogRepository;
+        this.zoneSharding = zoneSharding;
+        this.enabled = enabled;
+        this.snapshotFile = Paths.get(snapshotFile);
+        this.watermarkLagSeconds = watermarkLagSeconds;
+    }
+
+    /**
+     * Restores the aggregate store once the application is up. Until this completes the reports are
+     * served from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.nanoTime();
+        Restored restored = null;
+        if (enabled && Files.isRegularFile(snapshotFile)) {
+            try {
+                restored = readSnapshot(snapshotFile);
+                logger.info("Restored aggregate snapshot {} with watermark {}", snapshotFile, restored.watermark());
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable aggregate snapshot {}: {}", snapshotFile, e.getMessage());
+                aggregateStore.clear();
+                statisticsStore.clear();
+                restored = null;
+            }
+        }
+        if (restored == null) {
+            rebuild();
+        } else {
+            catchUp(restored.watermark(), restored.takenAt());
+        }
+        statisticsStore.markReady();
+        aggregateStore.finishLoading(this::refresh);
+        logger.info("Aggregate store warmed up in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Writes a new snapshot of the aggregate store.
+     */
+    @Scheduled(fixedDelayString = "${wastewise.snapshot.interval-ms:300000}",
+               initialDelayString = "${wastewise.snapshot.interval-ms:300000}")
+    public void snapshot() {
+        if (!enabled || !aggregateStore.isReady()) {
+            return;
+        }
+        // Anything that changed shortly before the snapshot started is replayed again by the catch-up.
+        LocalDateTime watermark = LocalDateTime.now().minusSeconds(watermarkLagSeconds);
+        try {
+            writeSnapshot(snapshotFile, watermark);
+            logger.info("Wrote aggregate snapshot {} ({} bytes)", snapshotFile, Files.size(snapshotFile));
+        } catch (IOException e) {
+            logger.error("Failed to write aggregate snapshot {}: {}", snapshotFile, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a final snapshot on shutdown so that a redeploy restarts warm.
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * What a snapshot was taken for: the catch-up watermark and the moment the statistics were copied.
+     */
+    record Restored(LocalDateTime watermark, LocalDateTime takenAt) {
+    }
+
+    /**
+     * What the catch-up of one shard read: the number of changed logs and the zone-days they touched.
+     */
+    private record ChangedLogs(long changed, Set<ZoneDayKey> touched) {
+    }
+
+    void rebuild() {
+        aggregateStore.clear();
+        statisticsStore.clear();
+        // Log IDs are striped across the shards, so every shard is walked with its own keyset.
+        long loaded = zoneSharding.onEachShard(() -> List.of(loadAll())).stream().mapToLong(Long::longValue).sum();
+        logger.info("Rebuilt aggregate store from {} waste logs", loaded);
+    }
+
+    private long loadAll() {
+        long lastLogId = 0;
+        long loaded = 0;
+        List<WasteLog> page;
+        do {
+            page = wasteLogRepository.findByLogIdGreaterThanOrderByLogIdAsc(lastLogId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (WasteLog log : page) {
+                aggregateStore.load(log);
+                if (log.getCollectionEndTime() != null) {
+                    statisticsStore.add(log);
+                }
+                lastLogId = log.getLogId();
+            }
+            loaded += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        return loaded;
+    }
+
+    void catchUp(LocalDateTime watermark, LocalDateTime takenAt) {
+        Set<ZoneDayKey> touched = new LinkedHashSet<>();
+        long changed = 0;
+        for (ChangedLogs shard : zoneSharding.onEachShard(() -> List.of(readChanges(watermark, takenAt)))) {
+            touched.addAll(shard.touched());
+            changed += shard.changed();
+        }
+        touched.forEach(this::refresh);
+        logger.info("Caught up {} changed logs touching {} zone-days since {}", changed, touched.size(), watermark);
+    }
+
+    private ChangedLogs readChanges(LocalDateTime watermark, LocalDateTime takenAt) {
+        Set<ZoneDayKey> touched = new LinkedHashSet<>();
+        LocalDateTime lastUpdated = watermark;
+        long lastLogId = Long.MAX_VALUE;
+        long changed = 0;
+        List<WasteLog> page;
+        do {
+            page = wasteLogRepository.findChangedAfter(lastUpdated, lastLogId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (WasteLog log : page) {
+                if (log.getCollectionEndTime() == null) {
+                    aggregateStore.putOpenLog(OpenLog.of(log));
+                } else {
+                    aggregateStore.removeOpenLog(log.getLogId());
+                    touched.add(new ZoneDayKey(log.getZoneId(), log.getCollectionStartTime().toLocalDate()));
+                    if (log.getCollectionEndTime().isAfter(takenAt)) {
+                        statisticsStore.add(log);
+                    }
+                }
+                lastUpdated = log.getUpdatedDate();
+                lastLogId = log.getLogId();
+            }
+            changed += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        return new ChangedLogs(changed, touched);
+    }
+
+    private void refresh(ZoneDayKey key) {
+        // The zone-day just changed; a lagging replica could still miss that change.
+        aggregateStore.replace(key, ReadWriteRoutingDataSource.callOnPrimary(() -> readZoneDay(key)));
+    }
+
+    /**
+     * Reads every log of one zone and day from the zone's shard, to recompute its aggregate.
+     */
+    List<WasteLog> readZoneDay(ZoneDayKey key) {
+        return zoneSharding.onZone(key.zoneId(), () -> wasteLogRepository.findByZoneIdAndCollectionStartTimeBetween(
+                key.zoneId(), key.date().atStartOfDay(), key.date().atTime(LocalTime.MAX)));
+    }
+
+    void writeSnapshot(Path target, LocalDateTime watermark) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            writeDateTime(out, watermark);
+
+            Map<String, ConcurrentSkipListMap<LocalDate, ZoneDayAggregate>> zones = Map.copyOf(aggregateStore.zoneDays());
+            out.writeInt(zones.size());
+            for (Map.Entry<String, ConcurrentSkipListMap<LocalDate, ZoneDayAggregate>> zone : zones.entrySet()) {
+                out.writeUTF(zone.getKey());
+                Map<LocalDate, ZoneDayAggregate> days = Map.copyOf(zone.getValue());
+                out.writeInt(days.size());
+                for (Map.Entry<LocalDate, ZoneDayAggregate> day : days.entrySet()) {
+                    ZoneDayAggregate aggregate = day.getValue();
+                    out.writeLong(day.getKey().toEpochDay());
+                    out.writeLong(aggregate.getCollections());
+                    out.writeLong(aggregate.getTotalWeightHundredths());
+                    writeVehicles(out, aggregate.getVehicles());
+                }
+            }
+
+            List<OpenLog> openLogs = List.copyOf(aggregateStore.getOpenLogs());
+            out.writeInt(openLogs.size());
+            for (OpenLog openLog : openLogs) {
+                out.writeLong(openLog.logId());
+                out.writeUTF(openLog.zoneId());
+                out.writeUTF(openLog.vehicleId());
+                out.writeUTF(openLog.workerId());
+                writeDateTime(out, openLog.collectionStartTime());
+            }
+
+            writeDateTime(out, LocalDateTime.now());
+            writeStats(out, Map.copyOf(statisticsStore.zoneStats()));
+            writeStats(out, Map.copyOf(statisticsStore.vehicleStats()));
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    Restored readSnapshot(Path source) throws IOException {
+        aggregateStore.clear();
+        statisticsStore.clear();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format");
+            }
+            LocalDateTime watermark = readDateTime(in);
+
+            int zones = in.readInt();
+            for (int z = 0; z < zones; z++) {
+                String zoneId = in.readUTF();
+                int days = in.readInt();
+                for (int d = 0; d < days; d++) {
+                    LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                    long collections = in.readLong();
+                    long totalWeightHundredths = in.readLong();
+                    VehicleBitmap vehicles = readVehicles(in);
+                    aggregateStore.putAggregate(new ZoneDayKey(zoneId, date), new ZoneDayAggregate(collections, totalWeightHundredths, vehicles));
+                }
+            }
+
+            int openLogs = in.readInt();
+            for (int i = 0; i < openLogs; i++) {
+                aggregateStore.putOpenLog(new OpenLog(in.readLong(), in.readUTF(), in.readUTF(), in.readUTF(), readDateTime(in)));
+            }
+
+            LocalDateTime takenAt = readDateTime(in);
+            int zoneStats = in.readInt();
+            for (int i = 0; i < zoneStats; i++) {
+                statisticsStore.putZoneStats(in.readUTF(), readStats(in));
+            }
+            int vehicleStats = in.readInt();
+            for (int i = 0; i < vehicleStats; i++) {
+                statisticsStore.putVehicleStats(in.readUTF(), readStats(in));
+            }
+            return new Restored(watermark, takenAt);
+        }
+    }
+
+    /**
+     * Writes a vehicle bitmap sparsely: only non-zero words with their position, then the overflow IDs.
+     */
+    private static void writeVehicles(DataOutputStream out, VehicleBitmap vehicles) throws IOException {
+        long[] words = vehicles.words();
+        int nonZero = 0;
+        for (long word : words) {
+            if (word != 0) {
+                nonZero++;
+            }
+        }
+        out.writeByte(nonZero);
+        for (int i = 0; i < words.length; i++) {
+            if (words[i] != 0) {
+                out.writeByte(i);
+                out.writeLong(words[i]);
+            }
+        }
+        Set<String> overflow = vehicles.overflow();
+        out.writeInt(overflow.size());
+        for (String vehicleId : overflow) {
+            out.writeUTF(vehicleId);
+        }
+    }
+
+    private static VehicleBitmap readVehicles(DataInputStream in) throws IOException {
+        long[] words = new long[VehicleBitmap.WORDS];
+        int nonZero = in.readUnsignedByte();
+        for (int i = 0; i < nonZero; i++) {
+            words[in.readUnsignedByte()] = in.readLong();
+        }
+        int overflowCount = in.readInt();
+        Set<String> overflow = overflowCount == 0 ? null : new HashSet<>(overflowCount * 2);
+        for (int i = 0; i < overflowCount; i++) {
+            overflow.add(in.readUTF());
+        }
+        return new VehicleBitmap(words, overflow);
+    }
+
+    private static void writeStats(DataOutputStream out, Map<String, WeightStats> stats) throws IOException {
+        out.writeInt(stats.size());
+        for (Map.Entry<String, WeightStats> entry : stats.entrySet()) {
+            WeightStats.Values values = entry.getValue().values();
+            out.writeUTF(entry.getKey());
+            out.writeLong(values.count());
+            out.writeDouble(values.mean());
+            out.writeDouble(values.m2());
+            out.writeDouble(values.ewma());
+        }
+    }
+
+    private static WeightStats.Values readStats(DataInputStream in) throws IOException {
+        return new WeightStats.Values(in.readLong(), in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,29 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore.ZoneDayKey;
+import com.WasteWise.WasteCollectionLogs.Invalidation.CollectionChangeListener;
+
+/**
+ * Recomputes the zone-day aggregate of every collection completed on another node, so that zone
+ * reports and distinct vehicle counts served from this node's {@link WasteLogAggregateStore} include it.
+ */
+@Component
+public class AggregateStoreChangeListener implements CollectionChangeListener {
+
+    private final WasteLogAggregateStore aggregateStore;
+    private final AggregateSnapshotService snapshotService;
+
+    public AggregateStoreChangeListener(WasteLogAggregateStore aggregateStore, AggregateSnapshotService snapshotService) {
+        this.aggregateStore = aggregateStore;
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    public void onRemoteChange(String zoneId, String vehicleId, LocalDate date) {
+        aggregateStore.invalidate(new ZoneDayKey(zoneId, date), snapshotService::readZoneDay);
+    }
+}
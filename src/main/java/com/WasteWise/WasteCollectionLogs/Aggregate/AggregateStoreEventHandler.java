@@ -0,0 +1,37 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEvent;
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEventHandler;
+
+/**
+ * Pipeline stage that keeps the {@link WasteLogAggregateStore} current with committed starts and ends.
+ * <p>
+ * The events lag the commit by the ring's backlog; that delay is far below the snapshot watermark
+ * lag, so a snapshot never misses an event that was not yet applied.
+ * </p>
+ */
+@Component
+@Order(0)
+public class AggregateStoreEventHandler implements CollectionEventHandler {
+
+    private final WasteLogAggregateStore aggregateStore;
+
+    public AggregateStoreEventHandler(WasteLogAggregateStore aggregateStore) {
+        this.aggregateStore = aggregateStore;
+    }
+
+    @Override
+    public void onEvent(CollectionEvent event, long sequence, boolean endOfBatch) {
+        if (event.getType() == CollectionEvent.Type.START) {
+            aggregateStore.onStart(new OpenLog(event.getLogId(), event.getZoneId(), event.getVehicleId(),
+                    event.getWorkerId(), event.getCollectionStartTime()));
+        } else {
+            aggregateStore.onComplete(event.getLogId(),
+                    new WasteLogAggregateStore.ZoneDayKey(event.getZoneId(), event.getCollectionStartTime().toLocalDate()),
+                    event.getVehicleId(), event.getWeightHundredths());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import java.time.LocalDateTime;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+
+/**
+ * Lightweight copy of a waste log that has been started but not yet completed.
+ */
+public record OpenLog(Long logId, String zoneId, String vehicleId, String workerId, LocalDateTime collectionStartTime) {
+
+    public static OpenLog of(WasteLog wasteLog) {
+        return new OpenLog(wasteLog.getLogId(), wasteLog.getZoneId(), wasteLog.getVehicleId(),
+                wasteLog.getWorkerId(), wasteLog.getCollectionStartTime());
+    }
+}
@@ -0,0 +1,143 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Exact, mergeable set of vehicle IDs.
+ * <p>
+ * Vehicle IDs are bounded ({@code RT000}-{@code RT999} and {@code PT000}-{@code PT999}), so each one
+ * maps to a fixed bit: RT to bits 0-999 and PT to bits 1000-1999. A set is therefore at most 256
+ * bytes, merging two sets is 32 word ORs and the distinct count is a popcount. IDs outside that
+ * format (only possible for rows written before validation existed) are kept in a small overflow
+ * set so counts stay exact.
+ * </p>
+ * Not thread-safe; {@link ZoneDayAggregate} guards its instance.
+ */
+public final class VehicleBitmap {
+
+    static final int WORDS = 32;
+    private static final int PT_OFFSET = 1000;
+
+    private final long[] words;
+    private Set<String> overflow;
+
+    public VehicleBitmap() {
+        this(new long[WORDS], null);
+    }
+
+    VehicleBitmap(long[] words, Set<String> overflow) {
+        this.words = words;
+        this.overflow = overflow;
+    }
+
+    /**
+     * @return The bit position of a vehicle ID, or {@code -1} if the ID is not of the form RT### or PT###.
+     */
+    static int indexOf(String vehicleId) {
+        if (vehicleId == null || vehicleId.length() != 5 || vehicleId.charAt(1) != 'T') {
+            return -1;
+        }
+        int base;
+        switch (vehicleId.charAt(0)) {
+            case 'R' -> base = 0;
+            case 'P' -> base = PT_OFFSET;
+            default -> {
+                return -1;
+            }
+        }
+        int number = 0;
+        for (int i = 2; i < 5; i++) {
+            char c = vehicleId.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return base + number;
+    }
+
+    /**
+     * Adds a vehicle ID to the set.
+     */
+    public void add(String vehicleId) {
+        int index = indexOf(vehicleId);
+        if (index >= 0) {
+            words[index >>> 6] |= 1L << index;
+        } else if (vehicleId != null) {
+            if (overflow == null) {
+                overflow = new HashSet<>();
+            }
+            overflow.add(vehicleId);
+        }
+    }
+
+    public boolean contains(String vehicleId) {
+        int index = indexOf(vehicleId);
+        if (index >= 0) {
+            return (words[index >>> 6] & (1L << index)) != 0;
+        }
+        return overflow != null && overflow.contains(vehicleId);
+    }
+
+    /**
+     * Adds every vehicle of {@code other} to this set.
+     */
+    public void or(VehicleBitmap other) {
+        for (int i = 0; i < WORDS; i++) {
+            words[i] |= other.words[i];
+        }
+        if (other.overflow != null && !other.overflow.isEmpty()) {
+            if (overflow == null) {
+                overflow = new HashSet<>();
+            }
+            overflow.addAll(other.overflow);
+        }
+    }
+
+    /**
+     * @return The number of distinct vehicles in the set.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return overflow == null ? count : count + overflow.size();
+    }
+
+    public VehicleBitmap copy() {
+        return new VehicleBitmap(words.clone(), overflow == null ? null : new HashSet<>(overflow));
+    }
+
+    /**
+     * @return The raw bitmap words, for snapshotting.
+     */
+    long[] words() {
+        return words;
+    }
+
+    /**
+     * @return The vehicle IDs that do not fit the bitmap, never {@code null}.
+     */
+    Set<String> overflow() {
+        return overflow == null ? Set.of() : overflow;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VehicleBitmap other)) {
+            return false;
+        }
+        return Arrays.equals(words, other.words) && overflow().equals(other.overflow());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(words) + overflow().hashCode();
+    }
+}
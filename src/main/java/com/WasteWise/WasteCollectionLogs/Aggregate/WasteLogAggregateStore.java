@@ -0,0 +1,278 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Util.ReportGranularity;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+/**
+ * In-memory derived state of the waste log table: per zone/day aggregates of completed
+ * collections and the set of currently open logs.
+ * <p>
+ * The store is rebuilt (or restored from a snapshot) once at startup by
+ * {@link AggregateSnapshotService}; until then {@link #isReady()} is {@code false} and report
+ * queries fall back to the database. Afterwards it is kept current on every start and end of a
+ * collection by {@link AggregateStoreEventHandler}, a stage of the collection event pipeline.
+ * </p>
+ */
+@Component
+public class WasteLogAggregateStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(WasteLogAggregateStore.class);
+    private static final int INVALIDATE_ATTEMPTS = 3;
+
+    private final ConcurrentMap<String, ConcurrentSkipListMap<LocalDate, ZoneDayAggregate>> zoneDays = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, OpenLog> openLogs = new ConcurrentHashMap<>();
+    private final Set<ZoneDayKey> pendingWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    /**
+     * Identifies one zone on one day.
+     */
+    public record ZoneDayKey(String zoneId, LocalDate date) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Records a newly started collection as open.
+     */
+    public void onStart(WasteLog wasteLog) {
+        onStart(OpenLog.of(wasteLog));
+    }
+
+    /**
+     * Records a newly started collection as open.
+     */
+    public void onStart(OpenLog openLog) {
+        openLogs.put(openLog.logId(), openLog);
+    }
+
+    /**
+     * Applies a completed collection to its zone-day aggregate. While the store is still loading,
+     * the zone-day is only remembered and recomputed from the database when loading finishes.
+     */
+    public void onComplete(WasteLog wasteLog) {
+        onComplete(wasteLog.getLogId(), new ZoneDayKey(wasteLog.getZoneId(), wasteLog.getCollectionStartTime().toLocalDate()),
+                wasteLog.getVehicleId(), wasteLog.getWeightCollected());
+    }
+
+    /**
+     * Applies a completed collection, given by its fields, to its zone-day aggregate.
+     *
+     * @see #onComplete(WasteLog)
+     */
+    public void onComplete(Long logId, ZoneDayKey key, String vehicleId, long weightHundredths) {
+        openLogs.remove(logId);
+        if (!ready) {
+            synchronized (pendingWhileLoading) {
+                if (!ready) {
+                    pendingWhileLoading.add(key);
+                    return;
+                }
+            }
+        }
+        aggregate(key).add(vehicleId, weightHundredths);
+    }
+
+    /**
+     * Applies a log during a full rebuild, without the loading guard of {@link #onComplete(WasteLog)}.
+     */
+    void load(WasteLog wasteLog) {
+        if (wasteLog.getCollectionEndTime() == null) {
+            openLogs.put(wasteLog.getLogId(), OpenLog.of(wasteLog));
+        } else {
+            aggregate(new ZoneDayKey(wasteLog.getZoneId(), wasteLog.getCollectionStartTime().toLocalDate()))
+                    .add(wasteLog.getVehicleId(), wasteLog.getWeightCollected());
+        }
+    }
+
+    /**
+     * Replaces one zone-day aggregate with totals recomputed from the given logs of that zone and day.
+     */
+    void replace(ZoneDayKey key, Collection<WasteLog> logs) {
+        zoneDays.computeIfAbsent(key.zoneId(), z -> new ConcurrentSkipListMap<>()).put(key.date(), summarize(logs));
+    }
+
+    /**
+     * Recomputes a zone-day that changed on another node from the rows returned by {@code reader}. If a
+     * local completion lands on the same zone-day while the rows are being read, they are read again,
+     * so that the replacement cannot drop it. While the store is still loading, the zone-day is only
+     * remembered, like a local completion.
+     */
+    void invalidate(ZoneDayKey key, Function<ZoneDayKey, Collection<WasteLog>> reader) {
+        if (!ready) {
+            synchronized (pendingWhileLoading) {
+                if (!ready) {
+                    pendingWhileLoading.add(key);
+                    return;
+                }
+            }
+        }
+        for (int attempt = 0; attempt < INVALIDATE_ATTEMPTS; attempt++) {
+            ZoneDayAggregate current = aggregate(key);
+            long collections = current.getCollections();
+            ZoneDayAggregate fresh = summarize(reader.apply(key));
+            // ZoneDayAggregate synchronizes on itself, so no local completion can slip in between.
+            synchronized (current) {
+                if (current.getCollections() == collections && zoneDays.get(key.zoneId()).replace(key.date(), current, fresh)) {
+                    return;
+                }
+            }
+        }
+        logger.warn("Zone-day {} kept changing while being recomputed, replacing it unconditionally", key);
+        replace(key, reader.apply(key));
+    }
+
+    void putAggregate(ZoneDayKey key, ZoneDayAggregate aggregate) {
+        zoneDays.computeIfAbsent(key.zoneId(), z -> new ConcurrentSkipListMap<>()).put(key.date(), aggregate);
+    }
+
+    void putOpenLog(OpenLog openLog) {
+        openLogs.put(openLog.logId(), openLog);
+    }
+
+    void removeOpenLog(Long logId) {
+        openLogs.remove(logId);
+    }
+
+    /**
+     * Marks the store as ready once every pending zone-day has been recomputed by {@code refresher}.
+     */
+    void finishLoading(Consumer<ZoneDayKey> refresher) {
+        synchronized (pendingWhileLoading) {
+            for (ZoneDayKey key : pendingWhileLoading) {
+                refresher.accept(key);
+            }
+            pendingWhileLoading.clear();
+            ready = true;
+        }
+        logger.info("Aggregate store ready: {} zones, {} open logs", zoneDays.size(), openLogs.size());
+    }
+
+    void clear() {
+        zoneDays.clear();
+        openLogs.clear();
+    }
+
+    /**
+     * Builds the daily zone report rows for {@code [from, to]} straight from the aggregates.
+     */
+    public List<ZoneReportDTO> getZoneReports(String zoneId, LocalDate from, LocalDate to) {
+        List<ZoneReportDTO> reports = new ArrayList<>();
+        NavigableMap<LocalDate, ZoneDayAggregate> days = zoneDays.get(zoneId);
+        if (days == null) {
+            return reports;
+        }
+        for (Map.Entry<LocalDate, ZoneDayAggregate> day : days.subMap(from, true, to, true).entrySet()) {
+            ZoneDayAggregate aggregate = day.getValue();
+            if (aggregate.getCollections() > 0) {
+                reports.add(new ZoneReportDTO(zoneId, day.getKey(), (long) aggregate.getDistinctVehicles(),
+                        WeightUnits.toKilograms(aggregate.getTotalWeightHundredths())));
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Rolls the days of a zone in {@code [from, to]} up into report buckets, keyed by bucket start.
+     * Distinct vehicles are merged per bucket, so a month counts each vehicle once.
+     *
+     * @param granularity A granularity of a day or longer; the store holds no hourly totals.
+     * @param buckets The buckets to add to; buckets are created as needed.
+     */
+    public void rollUp(String zoneId, LocalDate from, LocalDate to, ReportGranularity granularity,
+                       Map<LocalDateTime, ZoneDayAggregate> buckets) {
+        if (granularity == ReportGranularity.HOUR) {
+            throw new IllegalArgumentException("Zone aggregates are kept per day");
+        }
+        NavigableMap<LocalDate, ZoneDayAggregate> days = zoneDays.get(zoneId);
+        if (days == null) {
+            return;
+        }
+        for (Map.Entry<LocalDate, ZoneDayAggregate> day : days.subMap(from, true, to, true).entrySet()) {
+            if (day.getValue().getCollections() > 0) {
+                buckets.computeIfAbsent(granularity.bucketStart(day.getKey()).atStartOfDay(), start -> new ZoneDayAggregate())
+                        .addAll(day.getValue());
+            }
+        }
+    }
+
+    /**
+     * Sums the days of a zone over {@code [from, to]} into one aggregate: collections and weight are
+     * added and vehicles merged. The cost is proportional to the number of days with completed
+     * collections, independent of the number of logs.
+     */
+    public ZoneDayAggregate getZoneTotals(String zoneId, LocalDate from, LocalDate to) {
+        ZoneDayAggregate totals = new ZoneDayAggregate();
+        NavigableMap<LocalDate, ZoneDayAggregate> days = zoneDays.get(zoneId);
+        if (days != null) {
+            for (ZoneDayAggregate aggregate : days.subMap(from, true, to, true).values()) {
+                totals.addAll(aggregate);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Merges the per-day vehicle sets of a zone over {@code [from, to]}. The cost is proportional to
+     * the number of days with completed collections, independent of the number of logs.
+     */
+    public VehicleBitmap getDistinctVehicles(String zoneId, LocalDate from, LocalDate to) {
+        VehicleBitmap vehicles = new VehicleBitmap();
+        NavigableMap<LocalDate, ZoneDayAggregate> days = zoneDays.get(zoneId);
+        if (days != null) {
+            for (ZoneDayAggregate aggregate : days.subMap(from, true, to, true).values()) {
+                aggregate.mergeVehiclesInto(vehicles);
+            }
+        }
+        return vehicles;
+    }
+
+    /**
+     * @return The live per-zone day aggregates, used for snapshotting.
+     */
+    Map<String, ConcurrentSkipListMap<LocalDate, ZoneDayAggregate>> zoneDays() {
+        return zoneDays;
+    }
+
+    public Collection<OpenLog> getOpenLogs() {
+        return openLogs.values();
+    }
+
+    private static ZoneDayAggregate summarize(Collection<WasteLog> logs) {
+        ZoneDayAggregate fresh = new ZoneDayAggregate();
+        for (WasteLog log : logs) {
+            if (log.getCollectionEndTime() != null) {
+                fresh.add(log.getVehicleId(), log.getWeightCollected());
+            }
+        }
+        return fresh;
+    }
+
+    private ZoneDayAggregate aggregate(ZoneDayKey key) {
+        return zoneDays.computeIfAbsent(key.zoneId(), z -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(key.date(), d -> new ZoneDayAggregate());
+    }
+}
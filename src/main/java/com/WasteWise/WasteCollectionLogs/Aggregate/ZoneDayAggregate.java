@@ -0,0 +1,93 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+/**
+ * Running totals of the completed collections of one zone on one day.
+ * Mutators and readers are synchronized; instances are small and contention is per zone-day.
+ */
+public class ZoneDayAggregate {
+
+    private long collections;
+    private long totalWeightHundredths;
+    private final VehicleBitmap vehicles;
+
+    public ZoneDayAggregate() {
+        this(0, 0L, new VehicleBitmap());
+    }
+
+    ZoneDayAggregate(long collections, long totalWeightHundredths, VehicleBitmap vehicles) {
+        this.collections = collections;
+        this.totalWeightHundredths = totalWeightHundredths;
+        this.vehicles = vehicles;
+    }
+
+    /**
+     * Adds one completed collection to the totals.
+     *
+     * @param vehicleId The vehicle that performed the collection.
+     * @param weightHundredths The collected weight in hundredths of a kilogram.
+     */
+    public synchronized void add(String vehicleId, long weightHundredths) {
+        collections++;
+        totalWeightHundredths += weightHundredths;
+        vehicles.add(vehicleId);
+    }
+
+    /**
+     * Adds pre-aggregated collections of one vehicle to the totals.
+     *
+     * @param vehicleId The vehicle that performed the collections.
+     * @param collections The number of collections.
+     * @param weightHundredths Their total weight in hundredths of a kilogram.
+     */
+    public synchronized void add(String vehicleId, long collections, long weightHundredths) {
+        this.collections += collections;
+        totalWeightHundredths += weightHundredths;
+        vehicles.add(vehicleId);
+    }
+
+    /**
+     * Adds the totals and the vehicles of {@code other} to this aggregate, e.g. to roll days up into
+     * a month.
+     */
+    public void addAll(ZoneDayAggregate other) {
+        long otherCollections;
+        long otherWeight;
+        VehicleBitmap otherVehicles;
+        synchronized (other) {
+            otherCollections = other.collections;
+            otherWeight = other.totalWeightHundredths;
+            otherVehicles = other.vehicles.copy();
+        }
+        synchronized (this) {
+            collections += otherCollections;
+            totalWeightHundredths += otherWeight;
+            vehicles.or(otherVehicles);
+        }
+    }
+
+    public synchronized long getCollections() {
+        return collections;
+    }
+
+    public synchronized long getTotalWeightHundredths() {
+        return totalWeightHundredths;
+    }
+
+    public synchronized int getDistinctVehicles() {
+        return vehicles.cardinality();
+    }
+
+    /**
+     * Merges the vehicles seen on this day into {@code target}.
+     */
+    public synchronized void mergeVehiclesInto(VehicleBitmap target) {
+        target.or(vehicles);
+    }
+
+    /**
+     * @return A copy of the distinct vehicles seen on this day.
+     */
+    public synchronized VehicleBitmap getVehicles() {
+        return vehicles.copy();
+    }
+}
@@ -0,0 +1,178 @@
+package com.WasteWise.WasteCollectionLogs.Anomaly;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.support.PropertyComparator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dto.WeightAnomalyDTO;
+import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Model.WeightAnomaly;
+import com.WasteWise.WasteCollectionLogs.Repository.WeightAnomalyRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+/**
+ * Flags completed collections whose weight is far outside what their zone and vehicle usually collect.
+ * <p>
+ * A weight is an outlier when, once the zone has at least {@code wastewise.anomaly.min-samples}
+ * completed logs, it is more than {@code z-threshold} standard deviations from the zone mean, or at
+ * least {@code ratio-threshold} times the zone's or the vehicle's recent average (EWMA). The check
+ * reads the running {@link WeightStatisticsStore} and costs O(1) regardless of history.
+ * </p>
+ * <p>
+ * An anomaly is stored on the shard of its zone, with the log it flags.
+ * </p>
+ */
+@Component
+public class WeightAnomalyDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeightAnomalyDetector.class);
+
+    private final WeightStatisticsStore statisticsStore;
+    private final WeightAnomalyRepository weightAnomalyRepository;
+    private final ZoneSharding zoneSharding;
+    private final boolean enabled;
+    private final long minSamples;
+    private final double zThreshold;
+    private final double ratioThreshold;
+
+    public WeightAnomalyDetector(WeightStatisticsStore statisticsStore,
+                                 WeightAnomalyRepository weightAnomalyRepository,
+                                 ZoneSharding zoneSharding,
+                                 @Value("${wastewise.anomaly.enabled:true}") boolean enabled,
+                                 @Value("${wastewise.anomaly.min-samples:30}") long minSamples,
+                                 @Value("${wastewise.anomaly.z-threshold:4.0}") double zThreshold,
+                                 @Value("${wastewise.anomaly.ratio-threshold:10.0}") double ratioThreshold) {
+        this.statisticsStore = statisticsStore;
+        this.weightAnomalyRepository = weightAnomalyRepository;
+        this.zoneSharding = zoneSharding;
+        this.enabled = enabled;
+        this.minSamples = minSamples;
+        this.zThreshold = zThreshold;
+        this.ratioThreshold = ratioThreshold;
+    }
+
+    /**
+     * Checks a just completed log and records it in the anomalies table if its weight is an outlier.
+     * Called inside the transaction that completes the log, so the anomaly commits with it.
+     *
+     * @return The recorded anomaly, or empty if the weight looks normal or there is not enough history yet.
+     */
+    public Optional<WeightAnomaly> inspect(WasteLog wasteLog) {
+        if (!enabled || !statisticsStore.isReady() || wasteLog.getWeightCollected() == null) {
+            return Optional.empty();
+        }
+        Optional<WeightStats.Values> zone = statisticsStore.getZoneStats(wasteLog.getZoneId());
+        if (zone.isEmpty() || zone.get().count() < minSamples) {
+            return Optional.empty();
+        }
+        Optional<WeightStats.Values> vehicle = statisticsStore.getVehicleStats(wasteLog.getVehicleId())
+                .filter(stats -> stats.count() >= minSamples);
+        WeightAnomaly anomaly = assess(wasteLog, zone.get(), vehicle.orElse(null));
+        if (anomaly == null) {
+            return Optional.empty();
+        }
+        logger.warn("Weight anomaly for log {} in zone {} by vehicle {}: {}",
+                wasteLog.getLogId(), wasteLog.getZoneId(), wasteLog.getVehicleId(), anomaly.getReason());
+        return Optional.of(weightAnomalyRepository.save(anomaly));
+    }
+
+    /**
+     * Retrieves recorded anomalies detected within a date range, optionally for one zone.
+     * The anomalies of one zone are read from its shard; without a zone every shard is read.
+     *
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public Page<WeightAnomalyDTO> getAnomalies(String zoneId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidInputException(WasteLogConstants.END_DATE_CANNOT_BE_BEFORE_START_DATE);
+        }
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.atTime(LocalTime.MAX);
+        Page<WeightAnomaly> anomalies;
+        if (zoneId != null) {
+            anomalies = zoneSharding.onZone(zoneId, () ->
+                    weightAnomalyRepository.findByZoneIdAndDetectedAtBetween(zoneId, from, to, pageable));
+        } else if (!zoneSharding.isEnabled()) {
+            anomalies = weightAnomalyRepository.findByDetectedAtBetween(from, to, pageable);
+        } else {
+            anomalies = findOnEveryShard(from, to, pageable);
+        }
+        return anomalies.map(WeightAnomalyDTO::new);
+    }
+
+    /**
+     * Reads the first {@code offset + size} anomalies of every shard in the requested order, since any
+     * shard may hold the rows of the page, and cuts the page from their merge.
+     */
+    private Page<WeightAnomaly> findOnEveryShard(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        Pageable head = pageable.isPaged()
+                ? PageRequest.of(0, (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize()), pageable.getSort())
+                : pageable;
+        List<Page<WeightAnomaly>> pages = zoneSharding.scatter(zoneSharding.getShardNames(),
+                shard -> weightAnomalyRepository.findByDetectedAtBetween(from, to, head));
+        List<WeightAnomaly> rows = new ArrayList<>();
+        long total = 0;
+        for (Page<WeightAnomaly> page : pages) {
+            rows.addAll(page.getContent());
+            total += page.getTotalElements();
+        }
+        rows.sort(order(pageable.getSort()));
+        List<WeightAnomaly> content = pageable.isPaged()
+                ? rows.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList()
+                : rows;
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static Comparator<WeightAnomaly> order(Sort sort) {
+        Comparator<WeightAnomaly> order = (a, b) -> 0;
+        for (Sort.Order by : sort) {
+            order = order.thenComparing(new PropertyComparator<>(by.getProperty(), by.isIgnoreCase(), by.isAscending()));
+        }
+        return order;
+    }
+
+    /**
+     * @return The unsaved anomaly, or {@code null} if no rule fires.
+     */
+    WeightAnomaly assess(WasteLog wasteLog, WeightStats.Values zone, WeightStats.Values vehicle) {
+        double weightKg = WeightUnits.toKilograms(wasteLog.getWeightCollected());
+        List<String> reasons = new ArrayList<>();
+
+        double stdDev = zone.stdDev();
+        Double zScore = stdDev > 0 ? (weightKg - zone.mean()) / stdDev : null;
+        if (zScore != null && Math.abs(zScore) >= zThreshold) {
+            reasons.add(String.format("%.1f standard deviations from the zone mean of %.2f kg", zScore, zone.mean()));
+        }
+        if (zone.ewma() > 0 && weightKg >= ratioThreshold * zone.ewma()) {
+            reasons.add(String.format("%.1fx the zone's recent average of %.2f kg", weightKg / zone.ewma(), zone.ewma()));
+        }
+        if (vehicle != null && vehicle.ewma() > 0 && weightKg >= ratioThreshold * vehicle.ewma()) {
+            reasons.add(String.format("%.1fx the vehicle's recent average of %.2f kg", weightKg / vehicle.ewma(), vehicle.ewma()));
+        }
+        if (reasons.isEmpty()) {
+            return null;
+        }
+        return new WeightAnomaly(null, wasteLog.getLogId(), wasteLog.getZoneId(), wasteLog.getVehicleId(),
+                wasteLog.getWeightCollected(), zone.count(), zone.mean(), stdDev, zone.ewma(),
+                vehicle == null ? null : vehicle.ewma(), zScore,
+                String.format("Weight %.2f kg is %s", weightKg, String.join("; ", reasons)), LocalDateTime.now());
+    }
+}
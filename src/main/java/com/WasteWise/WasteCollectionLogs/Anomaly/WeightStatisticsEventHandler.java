@@ -0,0 +1,28 @@
+package com.WasteWise.WasteCollectionLogs.Anomaly;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEvent;
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEventHandler;
+
+/**
+ * Pipeline stage that adds every completed collection to the {@link WeightStatisticsStore}.
+ */
+@Component
+@Order(1)
+public class WeightStatisticsEventHandler implements CollectionEventHandler {
+
+    private final WeightStatisticsStore statisticsStore;
+
+    public WeightStatisticsEventHandler(WeightStatisticsStore statisticsStore) {
+        this.statisticsStore = statisticsStore;
+    }
+
+    @Override
+    public void onEvent(CollectionEvent event, long sequence, boolean endOfBatch) {
+        if (event.getType() == CollectionEvent.Type.END && statisticsStore.isReady()) {
+            statisticsStore.add(event.getZoneId(), event.getVehicleId(), event.getWeightHundredths());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.WasteWise.WasteCollectionLogs.Anomaly;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+/**
+ * Per-zone and per-vehicle {@link WeightStats} of all completed collections.
+ * <p>
+ * Restored together with the aggregate store by
+ * {@link com.WasteWise.WasteCollectionLogs.Aggregate.AggregateSnapshotService} and then kept current
+ * by {@link WeightStatisticsEventHandler}. Ends published while the store is still loading are
+ * skipped; the rebuild or catch-up reads them from the database instead.
+ * </p>
+ */
+@Component
+public class WeightStatisticsStore {
+
+    private final ConcurrentMap<String, WeightStats> zoneStats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, WeightStats> vehicleStats = new ConcurrentHashMap<>();
+    private final double ewmaAlpha;
+    private volatile boolean ready;
+
+    public WeightStatisticsStore(@Value("${wastewise.anomaly.ewma-alpha:0.05}") double ewmaAlpha) {
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Adds a completed log to its zone's and its vehicle's statistics.
+     */
+    public void add(WasteLog wasteLog) {
+        add(wasteLog.getZoneId(), wasteLog.getVehicleId(), wasteLog.getWeightCollected());
+    }
+
+    /**
+     * Adds one completed collection to its zone's and its vehicle's statistics.
+     */
+    public void add(String zoneId, String vehicleId, Long weightHundredths) {
+        if (weightHundredths == null) {
+            return;
+        }
+        double weightKg = WeightUnits.toKilograms(weightHundredths);
+        zoneStats.computeIfAbsent(zoneId, z -> new WeightStats()).add(weightKg, ewmaAlpha);
+        vehicleStats.computeIfAbsent(vehicleId, v -> new WeightStats()).add(weightKg, ewmaAlpha);
+    }
+
+    public Optional<WeightStats.Values> getZoneStats(String zoneId) {
+        WeightStats stats = zoneStats.get(zoneId);
+        return stats == null ? Optional.empty() : Optional.of(stats.values());
+    }
+
+    public Optional<WeightStats.Values> getVehicleStats(String vehicleId) {
+        WeightStats stats = vehicleStats.get(vehicleId);
+        return stats == null ? Optional.empty() : Optional.of(stats.values());
+    }
+
+    /**
+     * @return The live per-zone statistics, used for snapshotting.
+     */
+    public Map<String, WeightStats> zoneStats() {
+        return zoneStats;
+    }
+
+    /**
+     * @return The live per-vehicle statistics, used for snapshotting.
+     */
+    public Map<String, WeightStats> vehicleStats() {
+        return vehicleStats;
+    }
+
+    public void putZoneStats(String zoneId, WeightStats.Values values) {
+        zoneStats.put(zoneId, new WeightStats(values));
+    }
+
+    public void putVehicleStats(String vehicleId, WeightStats.Values values) {
+        vehicleStats.put(vehicleId, new WeightStats(values));
+    }
+
+    public void clear() {
+        zoneStats.clear();
+        vehicleStats.clear();
+    }
+}
@@ -0,0 +1,61 @@
+package com.WasteWise.WasteCollectionLogs.Anomaly;
+
+/**
+ * Running statistics of collected weights for one zone or vehicle, updated in O(1) per completed log.
+ * <p>
+ * Mean and variance use Welford's online algorithm, which stays numerically stable over millions
+ * of samples without keeping any of them. The exponentially weighted moving average follows recent
+ * loads, so seasonal shifts do not make every normal collection look anomalous against a
+ * years-old mean. The whole state is four numbers.
+ * </p>
+ */
+public final class WeightStats {
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double ewma;
+
+    WeightStats() {
+    }
+
+    WeightStats(Values values) {
+        this.count = values.count();
+        this.mean = values.mean();
+        this.m2 = values.m2();
+        this.ewma = values.ewma();
+    }
+
+    /**
+     * Adds one weight in kilograms.
+     *
+     * @param alpha The EWMA smoothing factor in {@code (0, 1]}; larger values follow recent loads more closely.
+     */
+    synchronized void add(double weightKg, double alpha) {
+        count++;
+        double delta = weightKg - mean;
+        mean += delta / count;
+        m2 += delta * (weightKg - mean);
+        ewma = count == 1 ? weightKg : ewma + alpha * (weightKg - ewma);
+    }
+
+    /**
+     * @return A consistent copy of the current state.
+     */
+    public synchronized Values values() {
+        return new Values(count, mean, m2, ewma);
+    }
+
+    /**
+     * Immutable state of a {@link WeightStats}; {@code m2} is the sum of squared deviations from the mean.
+     */
+    public record Values(long count, double mean, double m2, double ewma) {
+
+        /**
+         * @return The sample standard deviation, {@code 0} with fewer than two samples.
+         */
+        public double stdDev() {
+            return count < 2 ? 0 : Math.sqrt(m2 / (count - 1));
+        }
+    }
+}
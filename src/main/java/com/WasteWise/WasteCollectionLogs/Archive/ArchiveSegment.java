@@ -0,0 +1,239 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+
+/**
+ * Read-only view over a memory-mapped archive segment produced by {@link ArchiveSegmentWriter}.
+ * The header, dictionary and sparse (zone, day) index are decoded once when the segment is opened;
+ * row blocks stay in the mapping and are only inflated for index entries that match a query.
+ * Instances are immutable and safe for concurrent readers.
+ */
+public final class ArchiveSegment {
+
+    private final YearMonth month;
+    private final MappedByteBuffer mapped;
+    private final String[] dictionary;
+    private final Map<String, Integer> dictionaryIndex;
+    private final int[] entryZone;
+    private final int[] entryDay;
+    private final int[] entryRows;
+    private final int[] entryRawLength;
+    private final int[] entryOffset;
+    private final int[] entryLength;
+
+    private ArchiveSegment(YearMonth month, MappedByteBuffer mapped, String[] dictionary, int[] entryZone, int[] entryDay,
+                           int[] entryRows, int[] entryRawLength, int[] entryOffset, int[] entryLength) {
+        this.month = month;
+        this.mapped = mapped;
+        this.dictionary = dictionary;
+        this.dictionaryIndex = new HashMap<>(dictionary.length * 2);
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionaryIndex.put(dictionary[i], i);
+        }
+        this.entryZone = entryZone;
+        this.entryDay = entryDay;
+        this.entryRows = entryRows;
+        this.entryRawLength = entryRawLength;
+        this.entryOffset = entryOffset;
+        this.entryLength = entryLength;
+    }
+
+    /**
+     * Maps the segment file into memory and decodes its header and index.
+     *
+     * @param path The segment file.
+     * @return The opened segment.
+     * @throws IOException if the file cannot be mapped or is not a valid segment.
+     */
+    public static ArchiveSegment open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer in = mapped.duplicate();
+        if (in.getInt() != SegmentCodec.MAGIC || in.getShort() != SegmentCodec.FORMAT_VERSION) {
+            throw new IOException("Not a waste log archive segment: " + path);
+        }
+        YearMonth month = YearMonth.of(in.getInt(), in.get());
+
+        String[] dictionary = new String[SegmentCodec.readVarInt(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[SegmentCodec.readVarInt(in)];
+            in.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int entries = SegmentCodec.readVarInt(in);
+        int[] zone = new int[entries];
+        int[] day = new int[entries];
+        int[] rows = new int[entries];
+        int[] rawLength = new int[entries];
+        int[] offset = new int[entries];
+        int[] length = new int[entries];
+        for (int i = 0; i < entries; i++) {
+            zone[i] = SegmentCodec.readVarInt(in);
+            day[i] = SegmentCodec.readVarInt(in);
+            rows[i] = SegmentCodec.readVarInt(in);
+            rawLength[i] = SegmentCodec.readVarInt(in);
+            length[i] = SegmentCodec.readVarInt(in);
+        }
+        int position = in.position();
+        for (int i = 0; i < entries; i++) {
+            offset[i] = position;
+            position += length[i];
+        }
+        return new ArchiveSegment(month, mapped, dictionary, zone, day, rows, rawLength, offset, length);
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the archived logs of one zone whose start date lies in {@code [from, to]}.
+     */
+    public List<WasteLog> findByZone(String zoneId, LocalDate from, LocalDate to) {
+        Integer zoneIdx = dictionaryIndex.get(zoneId);
+        List<WasteLog> result = new ArrayList<>();
+        if (zoneIdx == null) {
+            return result;
+        }
+        for (int i = 0; i < entryZone.length; i++) {
+            if (entryZone[i] == zoneIdx && dayInRange(entryDay[i], from, to)) {
+                decodeBlock(i, null, -1, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the archived logs of one vehicle whose start date lies in {@code [from, to]}.
+     * Only blocks for matching days are inflated; rows of other vehicles are skipped while decoding.
+     */
+    public List<WasteLog> findByVehicle(String vehicleId, LocalDate from, LocalDate to) {
+        return findByVehicles(List.of(vehicleId), from, to);
+    }
+
+    /**
+     * Returns the archived logs of any of the given vehicles whose start date lies in {@code [from, to]}.
+     * Each matching block is inflated once for the whole set of vehicles.
+     */
+    public List<WasteLog> findByVehicles(Collection<String> vehicleIds, LocalDate from, LocalDate to) {
+        boolean[] vehicleMask = new boolean[dictionary.length];
+        boolean any = false;
+        for (String vehicleId : vehicleIds) {
+            Integer vehicleIdx = dictionaryIndex.get(vehicleId);
+            if (vehicleIdx != null) {
+                vehicleMask[vehicleIdx] = true;
+                any = true;
+            }
+        }
+        List<WasteLog> result = new ArrayList<>();
+        if (!any) {
+            return result;
+        }
+        for (int i = 0; i < entryZone.length; i++) {
+            if (dayInRange(entryDay[i], from, to)) {
+                decodeBlock(i, vehicleMask, -1, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the archived logs of one worker, or of every worker if {@code workerId} is {@code null},
+     * whose start date lies in {@code [from, to]}.
+     */
+    public List<WasteLog> findByWorker(String workerId, LocalDate from, LocalDate to) {
+        int workerFilter = -1;
+        List<WasteLog> result = new ArrayList<>();
+        if (workerId != null) {
+            Integer workerIdx = dictionaryIndex.get(workerId);
+            if (workerIdx == null) {
+                return result;
+            }
+            workerFilter = workerIdx;
+        }
+        for (int i = 0; i < entryZone.length; i++) {
+            if (dayInRange(entryDay[i], from, to)) {
+                decodeBlock(i, null, workerFilter, result);
+            }
+        }
+        return result;
+    }
+
+    private boolean dayInRange(int day, LocalDate from, LocalDate to) {
+        LocalDate date = month.atDay(day);
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    private void decodeBlock(int entry, boolean[] vehicleMask, int workerFilter, List<WasteLog> sink) {
+        ByteBuffer raw = ByteBuffer.wrap(inflate(entry));
+        String zoneId = dictionary[entryZone[entry]];
+        LocalDateTime dayStart = month.atDay(entryDay[entry]).atStartOfDay();
+        long logId = 0;
+        long startMicros = 0;
+        for (int row = 0; row < entryRows[entry]; row++) {
+            logId += SegmentCodec.readZigZag(raw);
+            int vehicleIdx = SegmentCodec.readVarInt(raw);
+            int workerIdx = SegmentCodec.readVarInt(raw);
+            startMicros += SegmentCodec.readVarLong(raw);
+            long durationMicros = SegmentCodec.readZigZag(raw);
+            long weightHundredths = SegmentCodec.readZigZag(raw);
+            if ((vehicleMask != null && !vehicleMask[vehicleIdx]) || (workerFilter >= 0 && workerIdx != workerFilter)) {
+                continue;
+            }
+            LocalDateTime start = dayStart.plusNanos(startMicros * 1_000);
+            WasteLog log = new WasteLog();
+            log.setLogId(logId);
+            log.setZoneId(zoneId);
+            log.setVehicleId(dictionary[vehicleIdx]);
+            log.setWorkerId(dictionary[workerIdx]);
+            log.setCollectionStartTime(start);
+            log.setCollectionEndTime(start.plusNanos(durationMicros * 1_000));
+            log.setWeightCollected(weightHundredths);
+            log.setCreatedDate(start);
+            sink.add(log);
+        }
+    }
+
+    private byte[] inflate(int entry) {
+        ByteBuffer compressed = mapped.slice(entryOffset[entry], entryLength[entry]);
+        byte[] raw = new byte[entryRawLength[entry]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, raw.length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated block");
+                }
+                read += n;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt archive block in segment " + month, e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
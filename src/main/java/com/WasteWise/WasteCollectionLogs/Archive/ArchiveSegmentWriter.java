@@ -0,0 +1,185 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+
+/**
+ * Writes one month of completed {@link WasteLog} rows into an immutable, compressed segment file.
+ * <p>
+ * Layout: a fixed header (magic, version, year, month), a dictionary of every zone, vehicle and
+ * worker ID used in the month, a sparse index with one entry per (zone, day) and finally the
+ * Deflate-compressed row blocks in index order. Rows inside a block are sorted by start time;
+ * log IDs and start times are delta-encoded against the previous row and IDs are replaced by
+ * their dictionary position, so a block is mostly one- and two-byte varints.
+ * </p>
+ */
+public final class ArchiveSegmentWriter {
+
+    private ArchiveSegmentWriter() {
+    }
+
+    /**
+     * Encodes the given logs and atomically publishes them as {@code target}.
+     *
+     * @param target The final segment path.
+     * @param month The calendar month the logs belong to.
+     * @param logs Completed logs whose start time falls inside {@code month}, in any order.
+     * @return The number of logs written.
+     * @throws IOException if the segment cannot be written.
+     */
+    public static int write(Path target, YearMonth month, List<WasteLog> logs) throws IOException {
+        List<WasteLog> sorted = new ArrayList<>(logs);
+        sorted.sort(Comparator.comparing(WasteLog::getZoneId)
+                .thenComparing(WasteLog::getCollectionStartTime));
+        return write(target, month, sorted.iterator());
+    }
+
+    /**
+     * Encodes the logs of {@code logs} as they are read and atomically publishes them as {@code target}.
+     * Only one (zone, day) block is held in memory at a time; compressed blocks are spilled to a file
+     * next to the target, which is then appended to the header. The file is first written next to the
+     * target and then moved into place, so readers never observe a partially written segment.
+     *
+     * @param target The final segment path.
+     * @param month The calendar month the logs belong to.
+     * @param logs Completed logs whose start time falls inside {@code month}, grouped by zone and
+     *             ordered by start time within a zone.
+     * @return The number of logs written.
+     * @throws IOException if the segment cannot be written.
+     * @throws IllegalArgumentException if the logs of one zone and day are not contiguous.
+     */
+    public static int write(Path target, YearMonth month, Iterator<WasteLog> logs) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        Set<Long> writtenBlocks = new HashSet<>();
+        int rows = 0;
+
+        Files.createDirectories(target.getParent());
+        Path body = target.resolveSibling(target.getFileName() + ".body");
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(body))) {
+                List<WasteLog> block = new ArrayList<>();
+                long blockKey = -1;
+                while (logs.hasNext()) {
+                    WasteLog log = logs.next();
+                    int zoneIdx = dictionary.computeIfAbsent(log.getZoneId(), k -> dictionary.size());
+                    dictionary.computeIfAbsent(log.getVehicleId(), k -> dictionary.size());
+                    dictionary.computeIfAbsent(log.getWorkerId(), k -> dictionary.size());
+                    // (zoneIdx, day); the index lists blocks in the order they were written
+                    long key = ((long) zoneIdx << 8) | log.getCollectionStartTime().getDayOfMonth();
+                    if (key != blockKey) {
+                        writeBlock(block, blockKey, dictionary, index, out);
+                        block.clear();
+                        if (!writtenBlocks.add(key)) {
+                            throw new IllegalArgumentException("Logs of zone " + log.getZoneId() + " on "
+                                    + log.getCollectionStartTime().toLocalDate() + " are not contiguous");
+                        }
+                        blockKey = key;
+                    }
+                    block.add(log);
+                    rows++;
+                }
+                writeBlock(block, blockKey, dictionary, index, out);
+            }
+
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            ByteBuffer fixed = ByteBuffer.allocate(11);
+            fixed.putInt(SegmentCodec.MAGIC).putShort(SegmentCodec.FORMAT_VERSION)
+                    .putInt(month.getYear()).put((byte) month.getMonthValue());
+            header.write(fixed.array());
+
+            SegmentCodec.writeVarLong(header, dictionary.size());
+            for (String id : dictionary.keySet()) {
+                byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+                SegmentCodec.writeVarLong(header, bytes.length);
+                header.write(bytes);
+            }
+            SegmentCodec.writeVarLong(header, writtenBlocks.size());
+            index.writeTo(header);
+
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                header.writeTo(out);
+                Files.copy(body, out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(body);
+            Files.deleteIfExists(temp);
+        }
+        return rows;
+    }
+
+    private static void writeBlock(List<WasteLog> rows, long key, Map<String, Integer> dictionary,
+                                   ByteArrayOutputStream index, OutputStream out) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(Comparator.comparing(WasteLog::getCollectionStartTime));
+        byte[] raw = encodeRows(rows, dictionary);
+        byte[] compressed = deflate(raw);
+        out.write(compressed);
+
+        SegmentCodec.writeVarLong(index, key >>> 8);
+        SegmentCodec.writeVarLong(index, key & 0xFF);
+        SegmentCodec.writeVarLong(index, rows.size());
+        SegmentCodec.writeVarLong(index, raw.length);
+        SegmentCodec.writeVarLong(index, compressed.length);
+    }
+
+    private static byte[] encodeRows(List<WasteLog> rows, Map<String, Integer> dictionary) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 12);
+        long previousLogId = 0;
+        long previousStartMicros = 0;
+        for (WasteLog log : rows) {
+            LocalDateTime start = log.getCollectionStartTime();
+            long startMicros = start.toLocalTime().toNanoOfDay() / 1_000;
+            long durationMicros = ChronoUnit.MICROS.between(start, log.getCollectionEndTime());
+            long weightHundredths = log.getWeightCollected() == null ? 0 : log.getWeightCollected();
+
+            SegmentCodec.writeZigZag(out, log.getLogId() - previousLogId);
+            SegmentCodec.writeVarLong(out, dictionary.get(log.getVehicleId()));
+            SegmentCodec.writeVarLong(out, dictionary.get(log.getWorkerId()));
+            SegmentCodec.writeVarLong(out, startMicros - previousStartMicros);
+            SegmentCodec.writeZigZag(out, durationMicros);
+            SegmentCodec.writeZigZag(out, weightHundredths);
+
+            previousLogId = log.getLogId();
+            previousStartMicros = startMicros;
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 3));
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(raw);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Low-level encoding helpers shared by the archive segment writer and reader.
+ * Integers are written as unsigned LEB128 varints; signed deltas are zig-zag encoded first
+ * so that small negative values stay small on disk.
+ */
+final class SegmentCodec {
+
+    /** File magic, "WLSG" in ASCII. */
+    static final int MAGIC = 0x574C5347;
+    static final short FORMAT_VERSION = 1;
+
+    private SegmentCodec() {
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeZigZag(ByteArrayOutputStream out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        return (int) readVarLong(in);
+    }
+
+    static long readZigZag(ByteBuffer in) {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -0,0 +1,288 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Archive tier for waste collection logs older than the hot database window.
+ * <p>
+ * Once a calendar month falls out of the hot window and has no open logs left, its completed logs
+ * are written into one immutable segment file (see {@link ArchiveSegmentWriter}). Segments are memory-mapped on startup
+ * and after every archive run, and the report queries in the service read them transparently for
+ * the archived part of a requested date range. Archiving never deletes rows; purging the database
+ * copy is left to the retention job.
+ * </p>
+ * <p>
+ * With sharded storage a month is only archived once no shard has open logs in it, and its segment
+ * holds the logs of every shard.
+ * </p>
+ */
+@Component
+public class WasteLogArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(WasteLogArchive.class);
+    private static final String SEGMENT_PREFIX = "waste-log-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final WasteLogRepository wasteLogRepository;
+    private final ZoneSharding zoneSharding;
+    private final boolean enabled;
+    private final Path directory;
+    private final int hotWindowMonths;
+    private final int pageSize;
+    private final ConcurrentMap<YearMonth, ArchiveSegment> segments = new ConcurrentHashMap<>();
+
+    public WasteLogArchive(WasteLogRepository wasteLogRepository,
+                           ZoneSharding zoneSharding,
+                           @Value("${wastewise.archive.enabled:false}") boolean enabled,
+                           @Value("${wastewise.archive.directory:archive}") String directory,
+                           @Value("${wastewise.archive.hot-window-months:6}") int hotWindowMonths,
+                           @Value("${wastewise.archive.page-size:1000}") int pageSize) {
+        this.wasteLogRepository = wasteLogRepository;
+        this.zoneSharding = zoneSharding;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.hotWindowMonths = hotWindowMonths;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Maps every segment already present in the archive directory.
+     */
+    @PostConstruct
+    public void loadSegments() {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                ArchiveSegment segment = ArchiveSegment.open(file);
+                segments.put(segment.getMonth(), segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open archive segments in " + directory, e);
+        }
+        logger.info("Loaded {} archive segments from {}", segments.size(), directory);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return {@code true} if the given month has been archived into a segment.
+     */
+    public boolean covers(YearMonth month) {
+        return segments.containsKey(month);
+    }
+
+    /**
+     * Returns the first date of {@code [startDate, endDate]} that must still be read from the database.
+     * Every date before it belongs to an archived month. If the whole range is archived, the day after
+     * {@code endDate} is returned.
+     */
+    public LocalDate liveFrom(LocalDate startDate, LocalDate endDate) {
+        LocalDate cursor = startDate;
+        while (!cursor.isAfter(endDate) && covers(YearMonth.from(cursor))) {
+            cursor = YearMonth.from(cursor).plusMonths(1).atDay(1);
+        }
+        return cursor.isAfter(endDate) ? endDate.plusDays(1) : cursor;
+    }
+
+    /**
+     * Reads the archived logs of a zone between two dates (inclusive).
+     */
+    public List<WasteLog> findZoneLogs(String zoneId, LocalDate from, LocalDate to) {
+        List<WasteLog> logs = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            ArchiveSegment segment = segments.get(month);
+            if (segment != null) {
+                logs.addAll(segment.findByZone(zoneId, from, to));
+            }
+        }
+        logger.debug("Read {} archived logs for zoneId={} between {} and {}", logs.size(), zoneId, from, to);
+        return logs;
+    }
+
+    /**
+     * Reads the archived logs of a vehicle between two dates (inclusive).
+     */
+    public List<WasteLog> findVehicleLogs(String vehicleId, LocalDate from, LocalDate to) {
+        List<WasteLog> logs = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            ArchiveSegment segment = segments.get(month);
+            if (segment != null) {
+                logs.addAll(segment.findByVehicle(vehicleId, from, to));
+            }
+        }
+        logger.debug("Read {} archived logs for vehicleId={} between {} and {}", logs.size(), vehicleId, from, to);
+        return logs;
+    }
+
+    /**
+     * Reads the archived logs of several vehicles between two dates (inclusive), decoding each
+     * archived block once for the whole set.
+     */
+    public List<WasteLog> findVehicleLogs(Collection<String> vehicleIds, LocalDate from, LocalDate to) {
+        List<WasteLog> logs = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            ArchiveSegment segment = segments.get(month);
+            if (segment != null) {
+                logs.addAll(segment.findByVehicles(vehicleIds, from, to));
+            }
+        }
+        logger.debug("Read {} archived logs for {} vehicles between {} and {}", logs.size(), vehicleIds.size(), from, to);
+        return logs;
+    }
+
+    /**
+     * Reads the archived logs of a worker, or of all workers if {@code workerId} is {@code null},
+     * between two dates (inclusive).
+     */
+    public List<WasteLog> findWorkerLogs(String workerId, LocalDate from, LocalDate to) {
+        List<WasteLog> logs = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            ArchiveSegment segment = segments.get(month);
+            if (segment != null) {
+                logs.addAll(segment.findByWorker(workerId, from, to));
+            }
+        }
+        logger.debug("Read {} archived logs for workerId={} between {} and {}", logs.size(), workerId, from, to);
+        return logs;
+    }
+
+    /**
+     * Archives every month older than the hot window that does not have a segment yet.
+     * Months are processed oldest first so the archived range always stays contiguous.
+     */
+    @Scheduled(cron = "${wastewise.archive.cron:0 30 2 1 * *}")
+    public void archiveCompletedMonths() {
+        if (!enabled) {
+            return;
+        }
+        Optional<WasteLog> oldest = findOldestLog();
+        if (oldest.isEmpty()) {
+            return;
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(hotWindowMonths);
+        for (YearMonth month = YearMonth.from(oldest.get().getCollectionStartTime()); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            if (!covers(month) && !archiveMonth(month)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return The log that started first on any shard.
+     */
+    private Optional<WasteLog> findOldestLog() {
+        return zoneSharding.onEachShard(() -> wasteLogRepository.findFirstByOrderByCollectionStartTimeAsc().stream().toList())
+                .stream()
+                .min(Comparator.comparing(WasteLog::getCollectionStartTime));
+    }
+
+    /**
+     * Writes the completed logs of {@code month} into its segment, reading them page by page. A month
+     * that still has open logs is not archived: a log completed after its month was archived would be
+     * hidden from the reports, which no longer read that month from the database, and later purged.
+     *
+     * @return {@code false} if the month was not archived.
+     */
+    private boolean archiveMonth(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.atEndOfMonth().atTime(LocalTime.MAX);
+        if (zoneSharding.onEachShard(() -> List.of(wasteLogRepository.existsByCollectionStartTimeBetweenAndCollectionEndTimeIsNull(from, to)))
+                .contains(true)) {
+            logger.warn("Not archiving {} yet: it still has open logs", month);
+            return false;
+        }
+        Path target = directory.resolve(SEGMENT_PREFIX + month + SEGMENT_SUFFIX);
+        try {
+            int archived = ArchiveSegmentWriter.write(target, month, new CompletedLogPages(from, to));
+            segments.put(month, ArchiveSegment.open(target));
+            logger.info("Archived {} completed logs for {} into {} ({} bytes)", archived, month, target, Files.size(target));
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to archive logs for {}: {}", month, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * The completed logs of a month, ordered by zone, start time and log ID, fetched one keyset page
+     * at a time so that only a single page is held in memory. Shards are read one after another; a
+     * zone lives on one shard, so the logs of a zone stay contiguous.
+     */
+    private final class CompletedLogPages implements Iterator<WasteLog> {
+
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final Iterator<String> shards = zoneSharding.getShardNames().iterator();
+        private String shard;
+        private List<WasteLog> page = List.of();
+        private int position;
+
+        private CompletedLogPages(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (position == page.size()) {
+                if (page.size() == pageSize) {
+                    WasteLog last = page.get(page.size() - 1);
+                    page = zoneSharding.onShard(shard, () -> wasteLogRepository.findCompletedAfterOrderByZone(from, to,
+                            last.getZoneId(), last.getCollectionStartTime(), last.getLogId(), PageRequest.of(0, pageSize)));
+                } else if (shards.hasNext()) {
+                    shard = shards.next();
+                    page = zoneSharding.onShard(shard, () -> wasteLogRepository.findByCollectionStartTimeBetweenAndCollectionEndTimeIsNotNull(
+                            from, to, PageRequest.of(0, pageSize, Sort.by("zoneId", "collectionStartTime", "logId"))));
+                } else {
+                    return false;
+                }
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public WasteLog next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(position++);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Dto.RetentionStatusDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+/**
+ * Purges completed waste logs older than the retention period from the database.
+ * <p>
+ * Instead of one large {@code DELETE}, the purge walks the primary-key range of the expired rows in
+ * fixed-width chunks. Each chunk is deleted in its own short transaction and followed by a pause, so
+ * locks are held on a bounded slice of the table at a time and concurrent starts and ends keep
+ * flowing. Chunk size and pause can be changed while a purge runs.
+ * </p>
+ * <p>
+ * When {@code wastewise.retention.require-archive} is set, only months that already have an archive
+ * segment are purged; the reports keep serving them from {@link WasteLogArchive}. The purge stops at
+ * the first month that is not archived.
+ * </p>
+ * <p>
+ * With sharded storage the shards are purged one after another, each by its own log ID range.
+ * </p>
+ * Open logs are never purged.
+ */
+@Component
+public class WasteLogRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(WasteLogRetentionJob.class);
+
+    private final WasteLogRepository wasteLogRepository;
+    private final WasteLogArchive wasteLogArchive;
+    private final ZoneSharding zoneSharding;
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final boolean requireArchive;
+
+    private volatile int chunkSize;
+    private volatile long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile LocalDateTime lastStarted;
+    private volatile LocalDateTime lastFinished;
+    private volatile LocalDateTime cutoff;
+    private volatile Long currentLogId;
+    private volatile Long maxLogId;
+    private volatile long rowsDeleted;
+    private volatile long chunks;
+    private volatile double rowsPerSecond;
+    private volatile String lastSkipReason;
+
+    public WasteLogRetentionJob(WasteLogRepository wasteLogRepository,
+                                WasteLogArchive wasteLogArchive,
+                                ZoneSharding zoneSharding,
+                                @Value("${wastewise.retention.enabled:false}") boolean enabled,
+                                @Value("${wastewise.retention.retention-months:24}") int retentionMonths,
+                                @Value("${wastewise.retention.require-archive:true}") boolean requireArchive,
+                                @Value("${wastewise.retention.chunk-size:5000}") int chunkSize,
+                                @Value("${wastewise.retention.pause-ms:250}") long pauseMs) {
+        this.wasteLogRepository = wasteLogRepository;
+        this.wasteLogArchive = wasteLogArchive;
+        this.zoneSharding = zoneSharding;
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+        this.requireArchive = requireArchive;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+    }
+
+    /**
+     * Runs the purge on the configured schedule.
+     */
+    @Scheduled(cron = "${wastewise.retention.cron:0 0 3 * * *}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purge();
+        }
+    }
+
+    /**
+     * Changes the chunk width and the pause between chunks; a running purge picks them up at its next chunk.
+     */
+    public void throttle(int chunkSize, long pauseMs) {
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        logger.info("Retention throttle set to chunkSize={}, pauseMs={}", chunkSize, pauseMs);
+    }
+
+    public RetentionStatusDTO getStatus() {
+        return new RetentionStatusDTO(enabled, running.get(), retentionMonths, chunkSize, pauseMs, cutoff,
+                currentLogId, maxLogId, rowsDeleted, chunks, rowsPerSecond, lastStarted, lastFinished, lastSkipReason);
+    }
+
+    /**
+     * Purges every completed log that started before the effective cutoff.
+     *
+     * @return The number of deleted rows.
+     */
+    public long purge() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Retention purge already running, skipping this run");
+            return 0;
+        }
+        try {
+            lastStarted = LocalDateTime.now();
+            rowsDeleted = 0;
+            chunks = 0;
+            rowsPerSecond = 0;
+            lastSkipReason = null;
+            YearMonth retainedFrom = YearMonth.now().minusMonths(retentionMonths);
+            Optional<YearMonth> purgeUntil = coveredUntil(retainedFrom);
+            if (purgeUntil.isEmpty()) {
+                return 0;
+            }
+            cutoff = purgeUntil.get().atDay(1).atStartOfDay();
+            return purgeBefore(cutoff);
+        } finally {
+            lastFinished = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * @return The exclusive month up to which logs may be deleted, or empty if nothing can be purged.
+     */
+    private Optional<YearMonth> coveredUntil(YearMonth retainedFrom) {
+        Optional<WasteLog> oldest = zoneSharding.onEachShard(() -> wasteLogRepository.findFirstByOrderByCollectionStartTimeAsc().stream().toList())
+                .stream()
+                .min(Comparator.comparing(WasteLog::getCollectionStartTime));
+        if (oldest.isEmpty() || !YearMonth.from(oldest.get().getCollectionStartTime()).isBefore(retainedFrom)) {
+            lastSkipReason = "No logs older than " + retainedFrom;
+            return Optional.empty();
+        }
+        if (!requireArchive) {
+            return Optional.of(retainedFrom);
+        }
+        YearMonth month = YearMonth.from(oldest.get().getCollectionStartTime());
+        while (month.isBefore(retainedFrom) && wasteLogArchive.covers(month)) {
+            month = month.plusMonths(1);
+        }
+        if (month.isBefore(retainedFrom)) {
+            lastSkipReason = "Month " + month + " is not archived yet";
+            logger.warn("Retention purge limited to logs before {}: {}", month, lastSkipReason);
+        }
+        return month.equals(YearMonth.from(oldest.get().getCollectionStartTime())) ? Optional.empty() : Optional.of(month);
+    }
+
+    private long purgeBefore(LocalDateTime cutoff) {
+        long started = System.nanoTime();
+        for (String shard : zoneSharding.getShardNames()) {
+            if (!zoneSharding.onShard(shard, () -> purgeShard(shard, cutoff, started))) {
+                logger.warn("Retention purge interrupted after {} rows", rowsDeleted);
+                break;
+            }
+        }
+        currentLogId = null;
+        logger.info("Retention purge deleted {} rows in {} chunks ({} rows/s)", rowsDeleted, chunks, Math.round(rowsPerSecond));
+        return rowsDeleted;
+    }
+
+    /**
+     * Purges the bound shard, {@code null} for the single database, chunk by chunk.
+     *
+     * @return {@code false} if the purge was interrupted.
+     */
+    private boolean purgeShard(String shard, LocalDateTime cutoff, long started) {
+        List<Object[]> range = wasteLogRepository.findPurgeableLogIdRange(cutoff);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return true;
+        }
+        long from = ((Number) range.get(0)[0]).longValue();
+        long max = ((Number) range.get(0)[1]).longValue();
+        maxLogId = max;
+        logger.info("Retention purge of completed logs before {}: log IDs {} to {}{}", cutoff, from, max,
+                shard == null ? "" : " on " + shard);
+
+        while (from <= max) {
+            long to = from + chunkSize;
+            currentLogId = from;
+            rowsDeleted += wasteLogRepository.deleteCompletedInLogIdRange(from, to, cutoff);
+            chunks++;
+            rowsPerSecond = rowsDeleted / Math.max((System.nanoTime() - started) / 1e9, 1e-3);
+            from = to;
+            if (from <= max && !pause()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean pause() {
+        long pause = pauseMs;
+        if (pause <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
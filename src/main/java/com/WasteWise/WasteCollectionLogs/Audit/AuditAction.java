@@ -0,0 +1,13 @@
+package com.WasteWise.WasteCollectionLogs.Audit;
+
+/**
+ * Kind of change recorded in the audit trail.
+ */
+public enum AuditAction {
+    /** A collection log was created. */
+    START,
+    /** An open collection log was completed. */
+    END,
+    /** Any other change to an existing log. */
+    UPDATE
+}
@@ -0,0 +1,20 @@
+package com.WasteWise.WasteCollectionLogs.Audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A captured change waiting in the {@link AuditTrailWriter} queue.
+ * The value maps are serialized to JSON on the writer thread, not on the request thread.
+ *
+ * @param entityType The audited entity, e.g. {@code WasteLog}.
+ * @param entityId The primary key of the changed row.
+ * @param action What happened.
+ * @param actor Who made the change.
+ * @param occurredAt When the change was made.
+ * @param oldValues The changed fields before the change, {@code null} for a start.
+ * @param newValues The changed fields after the change.
+ */
+public record AuditRecord(String entityType, Long entityId, AuditAction action, String actor, LocalDateTime occurredAt,
+                          Map<String, Object> oldValues, Map<String, Object> newValues) {
+}
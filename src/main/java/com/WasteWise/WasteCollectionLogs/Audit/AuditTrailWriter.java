@@ -0,0 +1,221 @@
+package com.WasteWise.WasteCollectionLogs.Audit;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.WasteWise.WasteCollectionLogs.Dto.AuditMetricsDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Writes the audit trail asynchronously.
+ * <p>
+ * Captured changes are offered to a bounded in-memory queue and never block the request: when the
+ * queue is full the record is dropped and counted. A single background thread drains the queue and
+ * inserts the records into {@code audit_log} with JDBC batch statements, so the cost on the request
+ * path is one queue offer instead of an extra insert in the business transaction. The queue is
+ * flushed when the application shuts down.
+ * </p>
+ */
+@Component
+public class AuditTrailWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditTrailWriter.class);
+
+    static final String INSERT_SQL = "INSERT INTO audit_log (entity_type, entity_id, action, actor, occurred_at, old_values, new_values) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<AuditRecord> queue;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditTrailWriter(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${wastewise.audit.enabled:true}") boolean enabled,
+                            @Value("${wastewise.audit.queue-capacity:10000}") int queueCapacity,
+                            @Value("${wastewise.audit.batch-size:500}") int batchSize,
+                            @Value("${wastewise.audit.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Old values are mostly nulls that became set; the application-wide NON_NULL inclusion would hide them.
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.ALWAYS);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Starts the background writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("Audit trail is disabled");
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-trail-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the writer thread and writes whatever is still queued.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        logger.info("Audit trail writer stopped: written={}, dropped={}, failed={}", written.get(), dropped.get(), failed.get());
+    }
+
+    /**
+     * Queues a record without blocking.
+     *
+     * @return {@code false} if the record was dropped because the queue is full or auditing is disabled.
+     */
+    public boolean submit(AuditRecord record) {
+        if (!enabled) {
+            return false;
+        }
+        if (queue.offer(record)) {
+            enqueued.incrementAndGet();
+            return true;
+        }
+        long total = dropped.incrementAndGet();
+        // One warning per thousand drops is enough to show up in the logs without flooding them.
+        if (total % 1000 == 1) {
+            logger.warn("Audit queue full, dropped {} records so far", total);
+        }
+        return false;
+    }
+
+    /**
+     * Queues the record once the surrounding transaction commits, so rolled-back changes are never
+     * audited; queues it immediately outside of a transaction.
+     */
+    public void submitAfterCommit(AuditRecord record) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(record);
+                }
+            });
+        } else {
+            submit(record);
+        }
+    }
+
+    /**
+     * Writes every queued record on the calling thread.
+     */
+    public void flush() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    public AuditMetricsDTO getMetrics() {
+        return new AuditMetricsDTO(queue.size(), queue.size() + queue.remainingCapacity(), enqueued.get(),
+                written.get(), dropped.get(), failed.get(), batches.get());
+    }
+
+    private void drainLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditRecord first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Audit trail writer failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<AuditRecord> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            written.addAndGet(batch.size());
+            batches.incrementAndGet();
+        } catch (DataAccessException e) {
+            failed.addAndGet(batch.size());
+            logger.error("Failed to write {} audit records: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private void bind(PreparedStatement statement, AuditRecord record) throws SQLException {
+        statement.setString(1, record.entityType());
+        statement.setLong(2, record.entityId());
+        statement.setString(3, record.action().name());
+        statement.setString(4, record.actor());
+        statement.setTimestamp(5, Timestamp.valueOf(record.occurredAt()));
+        statement.setString(6, toJson(record.oldValues()));
+        statement.setString(7, toJson(record.newValues()));
+    }
+
+    private String toJson(Map<String, Object> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(values);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.WasteWise.WasteCollectionLogs.Cache;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Audit.AuditTrailWriter;
+import com.WasteWise.WasteCollectionLogs.Listener.AuditListener;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+
+/**
+ * Bounded cache of the open logs started on this node, so that their end skips the read round trip.
+ * <p>
+ * {@code startCollection} puts a detached copy of each new log, with its version, into the cache.
+ * {@link #complete} removes it again and completes the row with one version-checked {@code UPDATE}.
+ * The version makes the cache safe across nodes: if the log was completed or changed anywhere since
+ * it was cached, the update matches no row and the caller falls back to reading the log. The least
+ * recently started logs are dropped once {@code wastewise.open-log-cache.max-size} is reached.
+ * </p>
+ */
+@Component
+public class OpenLogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenLogCache.class);
+
+    private final WasteLogRepository wasteLogRepository;
+    private final AuditTrailWriter auditTrailWriter;
+    private final boolean enabled;
+    private final Map<Long, WasteLog> openLogs;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+
+    public OpenLogCache(WasteLogRepository wasteLogRepository,
+                        AuditTrailWriter auditTrailWriter,
+                        @Value("${wastewise.open-log-cache.enabled:true}") boolean enabled,
+                        @Value("${wastewise.open-log-cache.max-size:10000}") int maxSize) {
+        this.wasteLogRepository = wasteLogRepository;
+        this.auditTrailWriter = auditTrailWriter;
+        this.enabled = enabled;
+        this.openLogs = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, WasteLog> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Caches a copy of a log that was just started and committed.
+     */
+    public void put(WasteLog wasteLog) {
+        if (!enabled || wasteLog.getLogId() == null || wasteLog.getVersion() == null) {
+            return;
+        }
+        WasteLog copy = copyOf(wasteLog);
+        synchronized (openLogs) {
+            openLogs.put(copy.getLogId(), copy);
+        }
+    }
+
+    /**
+     * Completes a cached open log with a version-checked update and audits the end.
+     *
+     * @return The completed log, or empty if the log is not cached, its end would precede its start, or
+     * the cached version is stale; the caller must then read and complete the log itself.
+     */
+    public Optional<WasteLog> complete(Long logId, LocalDateTime endTime, Long weightCollected) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        WasteLog cached;
+        synchronized (openLogs) {
+            cached = openLogs.remove(logId);
+        }
+        if (cached == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (endTime.isBefore(cached.getCollectionStartTime())) {
+            return Optional.empty();
+        }
+        cached.setCollectionEndTime(endTime);
+        cached.setWeightCollected(weightCollected);
+        cached.setUpdatedDate(LocalDateTime.now());
+        cached.setUpdatedBy(AuditListener.currentActor());
+        int updated = wasteLogRepository.completeIfCurrent(logId, cached.getVersion(), endTime, weightCollected,
+                cached.getUpdatedDate(), cached.getUpdatedBy());
+        if (updated == 0) {
+            stale.incrementAndGet();
+            logger.debug("Cached version {} of waste log {} is stale, reading it instead", cached.getVersion(), logId);
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        cached.setVersion(cached.getVersion() + 1);
+        auditTrailWriter.submitAfterCommit(AuditListener.endRecord(cached));
+        return Optional.of(cached);
+    }
+
+    public int size() {
+        synchronized (openLogs) {
+            return openLogs.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getStale() {
+        return stale.get();
+    }
+
+    private static WasteLog copyOf(WasteLog wasteLog) {
+        return new WasteLog(wasteLog.getLogId(), wasteLog.getZoneId(), wasteLog.getVehicleId(), wasteLog.getWorkerId(),
+                wasteLog.getCollectionStartTime(), wasteLog.getCollectionEndTime(), wasteLog.getWeightCollected(),
+                wasteLog.getCreatedDate(), wasteLog.getCreatedBy(), wasteLog.getUpdatedDate(), wasteLog.getUpdatedBy(),
+                wasteLog.getVersion());
+    }
+}
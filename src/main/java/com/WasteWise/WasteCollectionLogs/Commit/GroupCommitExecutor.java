@@ -0,0 +1,257 @@
+package com.WasteWise.WasteCollectionLogs.Commit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.WasteWise.WasteCollectionLogs.Shard.ShardRoutingDataSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Optional group commit for the write path.
+ * <p>
+ * When enabled, each write is queued and a single committer thread runs up to
+ * {@code wastewise.group-commit.max-batch} queued writes, or whatever arrived within
+ * {@code wastewise.group-commit.max-wait-ms}, inside one transaction. The batch costs one commit
+ * (one log flush and one round trip) instead of one per request, in exchange for at most
+ * {@code max-wait-ms} of extra latency. Every caller blocks until its own write has been committed
+ * and then receives its own result or exception.
+ * </p>
+ * <p>
+ * A write must validate before it modifies anything: a write that throws is reported to its caller
+ * only, while the others still commit. If the batch transaction itself fails, every write of the
+ * batch is retried in a transaction of its own so one bad row cannot fail its neighbours.
+ * </p>
+ * <p>
+ * With sharded storage each write keeps the shard its caller had bound, and a batch commits one
+ * transaction per shard it touches.
+ * </p>
+ */
+@Component
+public class GroupCommitExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitExecutor.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingWrite<?>> queue;
+
+    private final AtomicLong committedBatches = new AtomicLong();
+    private final AtomicLong committedWrites = new AtomicLong();
+    private final AtomicLong fallbackBatches = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread committer;
+
+    /**
+     * A queued write, the shard its caller had bound ({@code null} if none) and the future its caller waits on.
+     */
+    private record PendingWrite<T>(String shard, Supplier<T> work, CompletableFuture<T> result) {
+
+        void runInto(Object[] results, RuntimeException[] failures, int index) {
+            try {
+                results[index] = work.get();
+            } catch (RuntimeException e) {
+                failures[index] = e;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value, RuntimeException failure) {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete((T) value);
+            }
+        }
+    }
+
+    public GroupCommitExecutor(PlatformTransactionManager transactionManager,
+                               @Value("${wastewise.group-commit.enabled:false}") boolean enabled,
+                               @Value("${wastewise.group-commit.max-batch:64}") int maxBatch,
+                               @Value("${wastewise.group-commit.max-wait-ms:5}") long maxWaitMs,
+                               @Value("${wastewise.group-commit.queue-capacity:10000}") int queueCapacity) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts the committer thread.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        committer = new Thread(this::commitLoop, "group-committer");
+        committer.setDaemon(true);
+        committer.start();
+        logger.info("Group commit enabled: maxBatch={}, maxWaitMs={}", maxBatch, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+    }
+
+    /**
+     * Stops the committer thread and commits whatever is still queued.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (committer != null) {
+            committer.interrupt();
+            try {
+                committer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatch);
+        while (queue.drainTo(batch, maxBatch) > 0) {
+            commitByShard(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Runs {@code work} in the next group transaction and waits until it has been committed.
+     *
+     * @return The value returned by {@code work}.
+     * @throws RuntimeException whatever {@code work} threw, or the commit failure of its transaction.
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (!running) {
+            // Not started or already shutting down: nobody would drain the queue.
+            return transactionTemplate.execute(status -> work.get());
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            queue.put(new PendingWrite<>(ShardRoutingDataSource.currentShard(), work, result));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a write", e);
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public long getCommittedBatches() {
+        return committedBatches.get();
+    }
+
+    public long getCommittedWrites() {
+        return committedWrites.get();
+    }
+
+    public long getFallbackBatches() {
+        return fallbackBatches.get();
+    }
+
+    private void commitLoop() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatch) {
+                    if (queue.drainTo(batch, maxBatch - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite<?> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                if (!running && batch.isEmpty()) {
+                    break;
+                }
+            }
+            if (!batch.isEmpty()) {
+                commitByShard(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commitByShard(List<PendingWrite<?>> batch) {
+        Map<String, List<PendingWrite<?>>> byShard = new LinkedHashMap<>();
+        for (PendingWrite<?> write : batch) {
+            byShard.computeIfAbsent(write.shard(), shard -> new ArrayList<>()).add(write);
+        }
+        byShard.forEach((shard, writes) -> ShardRoutingDataSource.callOn(shard, () -> {
+            commit(writes);
+            return null;
+        }));
+    }
+
+    private void commit(List<PendingWrite<?>> batch) {
+        Object[] results = new Object[batch.size()];
+        RuntimeException[] failures = new RuntimeException[batch.size()];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).runInto(results, failures, i);
+                }
+            });
+        } catch (RuntimeException batchFailure) {
+            fallbackBatches.incrementAndGet();
+            logger.warn("Group commit of {} writes failed, retrying them one by one: {}", batch.size(), batchFailure.getMessage());
+            commitIndividually(batch);
+            return;
+        }
+        committedBatches.incrementAndGet();
+        committedWrites.addAndGet(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(results[i], failures[i]);
+        }
+    }
+
+    private void commitIndividually(List<PendingWrite<?>> batch) {
+        for (PendingWrite<?> write : batch) {
+            Object[] result = new Object[1];
+            RuntimeException[] failure = new RuntimeException[1];
+            try {
+                transactionTemplate.executeWithoutResult(status -> write.runInto(result, failure, 0));
+                committedWrites.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (failure[0] == null) {
+                    failure[0] = e;
+                }
+            }
+            write.complete(result[0], failure[0]);
+        }
+    }
+}
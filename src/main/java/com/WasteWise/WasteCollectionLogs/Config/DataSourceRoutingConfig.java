@@ -0,0 +1,73 @@
+package com.WasteWise.WasteCollectionLogs.Config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.WasteWise.WasteCollectionLogs.Routing.ReadWriteRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Routing.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits the database access between the primary and a read replica once
+ * {@code wastewise.datasource.replica.url} is set and sharding is off; otherwise the single
+ * auto-configured {@code spring.datasource} pool, or the shards of {@link ShardingConfig}, are used.
+ * <p>
+ * The primary pool is built from {@code spring.datasource.*}, the replica pool from
+ * {@code wastewise.datasource.replica.*} (credentials default to the primary's). The application's
+ * {@code DataSource} routes read-only transactions to the replica through a
+ * {@link ReadWriteRoutingDataSource}, and the {@link ReadYourWritesFilter} keeps a client's reads on
+ * the primary right after its own writes. The replica's schema is not managed by Hibernate; it is
+ * expected to come from replication.
+ * </p>
+ */
+@Configuration
+@ConditionalOnExpression("!'${wastewise.datasource.replica.url:}'.isEmpty() and !${wastewise.sharding.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${wastewise.datasource.replica.url}") String url,
+                                              @Value("${wastewise.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${wastewise.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                              @Value("${wastewise.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        logger.info("Read-only transactions are routed to the replica pool.");
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${wastewise.datasource.replica.max-staleness-ms:5000}") long maxStalenessMs) {
+        return new ReadYourWritesFilter(maxStalenessMs);
+    }
+}
@@ -0,0 +1,51 @@
+package com.WasteWise.WasteCollectionLogs.Config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Registers the streaming {@link ReportResponseHttpMessageConverter} ahead of the Jackson converter.
+ * The streaming writer reproduces the output of the application's {@code ObjectMapper} as configured
+ * in {@code application.properties} (ISO dates, {@code null} values omitted); if the mapper is
+ * configured differently the converter is not registered and reports keep the Jackson path.
+ */
+@Configuration
+public class ReportJsonConfig implements WebMvcConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJsonConfig.class);
+
+    private final ObjectMapper objectMapper;
+    private final boolean streamingEnabled;
+
+    public ReportJsonConfig(ObjectMapper objectMapper,
+                            @Value("${wastewise.reports.streaming-json.enabled:true}") boolean streamingEnabled) {
+        this.objectMapper = objectMapper;
+        this.streamingEnabled = streamingEnabled;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!streamingEnabled) {
+            return;
+        }
+        boolean isoDates = !objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        boolean omitNulls = objectMapper.getSerializationConfig().getDefaultPropertyInclusion()
+                .getValueInclusion() == JsonInclude.Include.NON_NULL;
+        if (!isoDates || !omitNulls) {
+            logger.warn("ObjectMapper configuration differs from the streaming report writer; report responses use Jackson");
+            return;
+        }
+        converters.add(0, new ReportResponseHttpMessageConverter(objectMapper));
+        logger.info("Streaming JSON writer registered for report responses.");
+    }
+}
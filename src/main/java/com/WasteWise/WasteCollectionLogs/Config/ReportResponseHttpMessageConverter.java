@@ -0,0 +1,100 @@
+package com.WasteWise.WasteCollectionLogs.Config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Payload.ReportResponseWriter;
+import com.WasteWise.WasteCollectionLogs.Payload.RestResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Write-only converter for the zone, vehicle and worker report responses. It only claims
+ * {@code RestResponse<Page<ZoneReportDTO>>}, {@code RestResponse<Page<VehicleReportDTO>>} and
+ * {@code RestResponse<Page<WorkerReportDTO>>} return types, or their {@code Slice} counterparts, and streams them with {@link ReportResponseWriter}; everything else is left to the regular
+ * Jackson converter.
+ */
+public class ReportResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    public ReportResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RestResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        // Without the generic type the row type is unknown
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return type != null && isReportResponse(type) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            RestResponse<?> response = (RestResponse<?>) object;
+            if (ReportResponseWriter.supports(response)) {
+                @SuppressWarnings("unchecked")
+                RestResponse<? extends Slice<?>> report = (RestResponse<? extends Slice<?>>) response;
+                ReportResponseWriter.write(generator, report);
+            } else {
+                objectMapper.writeValue(generator, response);
+            }
+        }
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("Report responses are write-only");
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("Report responses are write-only");
+    }
+
+    static boolean isReportResponse(Type type) {
+        ResolvableType response = ResolvableType.forType(type);
+        if (!RestResponse.class.isAssignableFrom(response.toClass())) {
+            return false;
+        }
+        ResolvableType page = response.getGeneric(0);
+        if (!Slice.class.isAssignableFrom(page.toClass())) {
+            return false;
+        }
+        Class<?> row = page.getGeneric(0).toClass();
+        return row == ZoneReportDTO.class || row == VehicleReportDTO.class || row == WorkerReportDTO.class;
+    }
+}
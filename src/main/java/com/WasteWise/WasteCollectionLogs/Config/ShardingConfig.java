@@ -0,0 +1,88 @@
+package com.WasteWise.WasteCollectionLogs.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.WasteWise.WasteCollectionLogs.Report.ReportQueries;
+import com.WasteWise.WasteCollectionLogs.Report.ShardedReportQueries;
+import com.WasteWise.WasteCollectionLogs.Shard.HashShardMap;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardMap;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardingProperties;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Stores collection logs across several databases, split by zone, once {@code wastewise.sharding.enabled}
+ * is set; {@code spring.datasource} is then not used. It replaces the read replica routing of
+ * {@link DataSourceRoutingConfig}, which stays off while sharding is on.
+ * <p>
+ * Every shard gets its own pool from {@code wastewise.sharding.shards.<name>.*}, and the application's
+ * {@code DataSource} routes each connection to the shard bound by
+ * {@link ZoneSharding}. Hibernate only manages the schema of
+ * the first shard; the other shards are provisioned the same way, including the log ID striping.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "wastewise.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardingConfig.class);
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties) {
+        Map<String, ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("wastewise.sharding.enabled is set but no wastewise.sharding.shards are configured");
+        }
+        int position = 0;
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (String name : shards.keySet().stream().sorted().toList()) {
+            ShardingProperties.Shard shard = shards.get(name);
+            HikariDataSource pool = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(shard.getUrl()).username(shard.getUsername()).password(shard.getPassword()).build();
+            pool.setPoolName("shard-" + name);
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            if (properties.getIdStripingSql() != null && !properties.getIdStripingSql().isBlank()) {
+                pool.setConnectionInitSql(String.format(properties.getIdStripingSql(), shards.size(), ++position));
+            }
+            pools.put(name, pool);
+        }
+        logger.info("Collection logs are sharded by zone across {}", pools.keySet());
+        return new ShardRoutingDataSource(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ShardMap.class)
+    public ShardMap shardMap(ShardRoutingDataSource shardRoutingDataSource, ShardingProperties properties) {
+        return new HashShardMap(shardRoutingDataSource.getShardNames(), properties.getZones());
+    }
+
+    @Bean
+    @Primary
+    public ReportQueries shardedReportQueries(ShardRoutingDataSource shardRoutingDataSource, ShardMap shardMap, ZoneSharding zoneSharding,
+                                              @Value("${wastewise.reports.fetch-size:500}") int fetchSize) {
+        return new ShardedReportQueries(shardRoutingDataSource, shardMap, zoneSharding, fetchSize);
+    }
+}
@@ -5,6 +5,18 @@ public final class WasteLogConstants {
 	    public static final String WASTE_COLLECTION_LOG_RECORDED_SUCCESSFULLY = "Waste Collection Log Recorded Successfully";
 	    public static final String WASTE_COLLECTION_LOG_COMPLETED_SUCCESSFULLY = "Waste Collection Log Completed Successfully";
 	    public static final String VEHICLE_REPORT_GENERATED_SUCCESSFULLY = "Vehicle report generated successfully.";
+	    public static final String VEHICLE_UTILIZATION_GENERATED_SUCCESSFULLY = "Vehicle utilization generated successfully.";
+	    public static final String DISTINCT_VEHICLES_GENERATED_SUCCESSFULLY = "Distinct vehicle count generated successfully.";
+	    public static final String WORKER_REPORT_GENERATED_SUCCESSFULLY = "Worker report generated successfully.";
+	    public static final String BATCH_REPORT_GENERATED_SUCCESSFULLY = "Batch report generated successfully for %d IDs.";
+	    public static final String AUDIT_METRICS_RETRIEVED_SUCCESSFULLY = "Audit trail metrics retrieved successfully.";
+	    public static final String RETENTION_STATUS_RETRIEVED_SUCCESSFULLY = "Retention job status retrieved successfully.";
+	    public static final String RETENTION_THROTTLE_UPDATED_SUCCESSFULLY = "Retention job throttle updated successfully.";
+	    public static final String WEIGHT_ANOMALIES_RETRIEVED_SUCCESSFULLY = "Weight anomalies retrieved successfully.";
+	    public static final String COLLECTION_OVERLAPS_RETRIEVED_SUCCESSFULLY = "Collection overlaps retrieved successfully.";
+	    public static final String ZONE_COMPARISON_GENERATED_SUCCESSFULLY = "Zone comparison generated successfully for %d zones.";
+	    public static final String DASHBOARD_SUMMARY_GENERATED_SUCCESSFULLY = "Dashboard summary generated successfully.";
+	    public static final String DASHBOARD_SUMMARY_PARTIAL = "Dashboard summary generated without: %s.";
 	    
 	    
 	    public static final String WASTE_LOG_NOT_FOUND_MESSAGE = "Waste Log Not Found With Id %d";
@@ -13,10 +25,14 @@ public final class WasteLogConstants {
 	   
 	    public static final String END_DATE_CANNOT_BE_BEFORE_START_DATE = "Start date cannot be after end date.";
 	    public static final String NO_COMPLETED_LOGS_FOUND_ZONE = "No active completed logs found for zone ID: %s between %s and %s.";
+	    public static final String NO_COMPLETED_LOGS_FOUND_WORKER = "No completed logs found for worker ID: %s between %s and %s.";
 	    public static final String NO_COMPLETED_LOGS_FOUND_VEHICLE = "No active completed logs found for vehicle ID: %s in the period %s to %s. Returning empty list.";
 	  
 	    public static final String NO_VEHICLE_REPORT_ENTRIES_FOUND = "No vehicle report entries found for vehicleId: %s in the specified date range.";
 	    
+	    public static final int MAX_BATCH_IDS = 500;
+	    public static final String BATCH_IDS_LIMIT_EXCEEDED = "A batch report accepts between 1 and " + MAX_BATCH_IDS + " IDs.";
+	    
 	    public static final String WEIGHT_COLLECTED_MUST_BE_POSITIVE ="Weight Collected Must be Positive";
 	    
 	    public static final String ZONE_ID_REGEX = "^Z\\d{3}$";
@@ -33,4 +49,6 @@ public final class WasteLogConstants {
 	    public static final String INVALID_WORKER_ID_PROVIDED = "Invalid Worker ID provided %s";
 	    
 	    public static final String ACTIVE_LOG_EXISTS_MESSAGE = "A collection log for worker ID '%s', zone ID '%s', and vehicle ID '%s' is already active (not yet completed).";
+	    public static final String VEHICLE_IN_USE_MESSAGE = "Vehicle ID '%s' is already in use by active collection log %d.";
+	    public static final String WORKER_BUSY_MESSAGE = "Worker ID '%s' is already assigned to active collection log %d.";
 }
@@ -0,0 +1,71 @@
+package com.WasteWise.WasteCollectionLogs.Controller;
+
+import java.time.LocalDate;
+
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightAnomalyDetector;
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dto.WeightAnomalyDTO;
+import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
+import com.WasteWise.WasteCollectionLogs.Payload.RestResponse;
+
+import jakarta.validation.constraints.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for querying collections flagged with a suspicious weight.
+ */
+@RestController
+@RequestMapping("wastewise/admin/anomalies")
+@Validated
+public class AnomalyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnomalyController.class);
+    private final WeightAnomalyDetector anomalyDetector;
+
+    /**
+     * Constructs a new AnomalyController.
+     *
+     * @param anomalyDetector The detector that records and serves weight anomalies.
+     */
+    public AnomalyController(WeightAnomalyDetector anomalyDetector) {
+        this.anomalyDetector = anomalyDetector;
+    }
+
+    /**
+     * Retrieves the weight anomalies detected within a date range, newest first by default.
+     *
+     * @param zoneId Optional zone to restrict the result to. Must conform to {@link WasteLogConstants#ZONE_ID_REGEX}.
+     * @param startDate The first detection day in YYYY-MM-DD format.
+     * @param endDate The last detection day in YYYY-MM-DD format.
+     * @param pageable Pagination information, sorted by `detectedAt` descending by default.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page of {@link WeightAnomalyDTO}
+     * and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid.
+     * @throws jakarta.validation.ConstraintViolationException If `zoneId` does not match the required pattern.
+     */
+    @GetMapping
+    public ResponseEntity<RestResponse<Page<WeightAnomalyDTO>>> getAnomalies(
+            @RequestParam(required = false) @Pattern(regexp = WasteLogConstants.ZONE_ID_REGEX,
+                    message = "Invalid Zone ID format. Must be Z### (e.g., Z001).") String zoneId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 20, sort = "detectedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        logger.info("Received request for weight anomalies: zoneId={}, startDate={}, endDate={}, pageable={}",
+                zoneId, startDate, endDate, pageable);
+        Page<WeightAnomalyDTO> anomalies = anomalyDetector.getAnomalies(zoneId, startDate, endDate, pageable);
+        return ResponseEntity.ok(new RestResponse<>(true, WasteLogConstants.WEIGHT_ANOMALIES_RETRIEVED_SUCCESSFULLY, anomalies));
+    }
+}
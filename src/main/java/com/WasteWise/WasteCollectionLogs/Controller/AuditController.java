@@ -0,0 +1,47 @@
+package com.WasteWise.WasteCollectionLogs.Controller;
+
+import com.WasteWise.WasteCollectionLogs.Audit.AuditTrailWriter;
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dto.AuditMetricsDTO;
+import com.WasteWise.WasteCollectionLogs.Payload.RestResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller exposing the health of the asynchronous audit trail.
+ */
+@RestController
+@RequestMapping("wastewise/admin/audit")
+public class AuditController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditController.class);
+    private final AuditTrailWriter auditTrailWriter;
+
+    /**
+     * Constructs a new AuditController.
+     *
+     * @param auditTrailWriter The background writer whose queue is reported.
+     */
+    public AuditController(AuditTrailWriter auditTrailWriter) {
+        this.auditTrailWriter = auditTrailWriter;
+    }
+
+    /**
+     * Returns the audit queue depth and capacity together with the number of records
+     * enqueued, written, dropped because the queue was full, and lost to failed batch inserts.
+     *
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with an {@link AuditMetricsDTO}
+     * and an HTTP status of 200 (OK).
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<RestResponse<AuditMetricsDTO>> getMetrics() {
+        AuditMetricsDTO metrics = auditTrailWriter.getMetrics();
+        logger.debug("Audit metrics requested: {}", metrics);
+        return ResponseEntity.ok(new RestResponse<>(true, WasteLogConstants.AUDIT_METRICS_RETRIEVED_SUCCESSFULLY, metrics));
+    }
+}
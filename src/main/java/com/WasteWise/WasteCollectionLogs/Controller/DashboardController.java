@@ -0,0 +1,51 @@
+package com.WasteWise.WasteCollectionLogs.Controller;
+
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dashboard.DashboardSummaryService;
+import com.WasteWise.WasteCollectionLogs.Dto.DashboardSummaryDTO;
+import com.WasteWise.WasteCollectionLogs.Payload.RestResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the landing dashboard.
+ */
+@RestController
+@RequestMapping("wastewise/admin/dashboard")
+public class DashboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
+    private final DashboardSummaryService dashboardSummaryService;
+
+    /**
+     * Constructs a new DashboardController.
+     *
+     * @param dashboardSummaryService The service that computes the dashboard components concurrently.
+     */
+    public DashboardController(DashboardSummaryService dashboardSummaryService) {
+        this.dashboardSummaryService = dashboardSummaryService;
+    }
+
+    /**
+     * Returns open-log count, today's totals, top zones and vehicles, stale open logs and today's
+     * anomalies in one payload. Components that fail or exceed the timeout are omitted and listed in
+     * {@code unavailable}; the request still succeeds.
+     *
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a {@link DashboardSummaryDTO}
+     * and an HTTP status of 200 (OK).
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<RestResponse<DashboardSummaryDTO>> getSummary() {
+        DashboardSummaryDTO summary = dashboardSummaryService.getSummary();
+        String message = summary.getUnavailable() == null
+                ? WasteLogConstants.DASHBOARD_SUMMARY_GENERATED_SUCCESSFULLY
+                : String.format(WasteLogConstants.DASHBOARD_SUMMARY_PARTIAL, String.join(", ", summary.getUnavailable()));
+        logger.info("Dashboard summary generated. Unavailable components: {}", summary.getUnavailable());
+        return ResponseEntity.ok(new RestResponse<>(true, message, summary));
+    }
+}
@@ -0,0 +1,74 @@
+package com.WasteWise.WasteCollectionLogs.Controller;
+
+import com.WasteWise.WasteCollectionLogs.Archive.WasteLogRetentionJob;
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dto.RetentionStatusDTO;
+import com.WasteWise.WasteCollectionLogs.Payload.RestResponse;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for observing and throttling the retention purge.
+ */
+@RestController
+@RequestMapping("wastewise/admin/retention")
+@Validated
+public class RetentionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentionController.class);
+    private final WasteLogRetentionJob retentionJob;
+
+    /**
+     * Constructs a new RetentionController.
+     *
+     * @param retentionJob The chunked purge job.
+     */
+    public RetentionController(WasteLogRetentionJob retentionJob) {
+        this.retentionJob = retentionJob;
+    }
+
+    /**
+     * Returns the progress of the running purge, or the outcome of the last one: cutoff, key range,
+     * rows deleted, chunks and rows per second.
+     *
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a {@link RetentionStatusDTO}
+     * and an HTTP status of 200 (OK).
+     */
+    @GetMapping("/status")
+    public ResponseEntity<RestResponse<RetentionStatusDTO>> getStatus() {
+        return ResponseEntity.ok(new RestResponse<>(true, WasteLogConstants.RETENTION_STATUS_RETRIEVED_SUCCESSFULLY,
+                retentionJob.getStatus()));
+    }
+
+    /**
+     * Changes how aggressively the purge deletes; a running purge applies the new values from its next chunk.
+     *
+     * @param chunkSize The width of each deleted primary-key range.
+     * @param pauseMs The pause between two chunks in milliseconds.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with the updated {@link RetentionStatusDTO}
+     * and an HTTP status of 200 (OK).
+     * @throws jakarta.validation.ConstraintViolationException If a value is out of range.
+     */
+    @PutMapping("/throttle")
+    public ResponseEntity<RestResponse<RetentionStatusDTO>> throttle(
+            @RequestParam @Min(value = 1, message = "chunkSize must be at least 1.")
+            @Max(value = 100_000, message = "chunkSize must be at most 100000.") int chunkSize,
+            @RequestParam @Min(value = 0, message = "pauseMs must not be negative.")
+            @Max(value = 60_000, message = "pauseMs must be at most 60000.") long pauseMs) {
+        logger.info("Received retention throttle request: chunkSize={}, pauseMs={}", chunkSize, pauseMs);
+        retentionJob.throttle(chunkSize, pauseMs);
+        return ResponseEntity.ok(new RestResponse<>(true, WasteLogConstants.RETENTION_THROTTLE_UPDATED_SUCCESSFULLY,
+                retentionJob.getStatus()));
+    }
+}
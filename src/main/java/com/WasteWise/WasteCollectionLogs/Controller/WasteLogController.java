@@ -2,19 +2,27 @@ package com.WasteWise.WasteCollectionLogs.Controller;
 
 import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
 import com.WasteWise.WasteCollectionLogs.Payload.RestResponse; 
+import com.WasteWise.WasteCollectionLogs.Dto.CollectionOverlapDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogResponseDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogStartRequestDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogUpdateRequestDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneComparisonDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneDistinctVehiclesDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
 import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
 import com.WasteWise.WasteCollectionLogs.Handler.LogAlreadyCompletedException;
 import com.WasteWise.WasteCollectionLogs.Handler.ResourceNotFoundException;
 import com.WasteWise.WasteCollectionLogs.ServiceImpl.WasteLogServiceImpl;
+import com.WasteWise.WasteCollectionLogs.Util.ComparisonPeriod;
+import com.WasteWise.WasteCollectionLogs.Util.ReportGranularity;
 
 //import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault; 
 import org.springframework.data.domain.Sort;
 import jakarta.validation.Valid;
@@ -28,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -124,9 +133,11 @@ public class WasteLogController {
      * @param zoneId The unique identifier of the zone (e.g., "Z001"). Must conform to {@link WasteLogConstants#ZONE_ID_REGEX}.
      * @param startDate The start date of the reporting period in YYYY-MM-DD format.
      * @param endDate The end date of the reporting period in YYYY-MM-DD format.
+     * @param granularity Optional bucket size (HOUR, DAY, WEEK, MONTH or YEAR); without it each row is one day.
+     * @param count With {@code false} a Slice without `totalElements` and `totalPages` is returned.
      * @param pageable Pagination information, automatically provided by Spring.
      * Defaults to sorting by `date` ascending (as per business logic).
-     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page of {@link ZoneReportDTO},
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page (or Slice) of {@link ZoneReportDTO},
      * each representing a daily summary for the specified zone, and an HTTP status of 200 (OK).
      * An empty page is returned if no logs are found for the given criteria.
      * @throws InvalidInputException If the date range is invalid (e.g., startDate is after endDate).
@@ -134,23 +145,89 @@ public class WasteLogController {
      * @throws org.springframework.web.method.annotation.MethodArgumentTypeMismatchException If dates are not in correct format.
      */
     @GetMapping("/reports/zone")
-    public ResponseEntity<RestResponse<Page<ZoneReportDTO>>> getZoneLogs( // Return type changed
+    public ResponseEntity<RestResponse<Slice<ZoneReportDTO>>> getZoneLogs( // Return type changed
             @RequestParam @Pattern(regexp = WasteLogConstants.ZONE_ID_REGEX,
                     message = "Invalid Zone ID format. Must be Z### (e.g., Z001).") String zoneId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) ReportGranularity granularity,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size=1,sort = "date", direction = Sort.Direction.ASC) Pageable pageable) { // Added Pageable with fixed sort default
-    	  logger.info("Received request for zone report: zoneId={}, startDate={}, endDate={}, pageable={}",
-                  zoneId, startDate, endDate, pageable);
-        Page<ZoneReportDTO> reportsPage = wasteLogService.getZoneLogs(zoneId, startDate, endDate, pageable); // Pass pageable
+    	  logger.info("Received request for zone report: zoneId={}, startDate={}, endDate={}, granularity={}, count={}, pageable={}",
+                  zoneId, startDate, endDate, granularity, count, pageable);
+        Slice<ZoneReportDTO> reportsPage = count
+                ? wasteLogService.getZoneLogs(zoneId, startDate, endDate, granularity, pageable) // Pass pageable
+                : wasteLogService.getZoneLogSlice(zoneId, startDate, endDate, granularity, pageable);
 
         String message = reportsPage.isEmpty() ?
                 String.format(WasteLogConstants.NO_COMPLETED_LOGS_FOUND_ZONE, zoneId, startDate.toString(), endDate.toString()) :
                 "Zone report generated successfully.";
 
-        RestResponse<Page<ZoneReportDTO>> restResponse = new RestResponse<>(true, message, reportsPage); 
-        logger.info("Zone report generated. Page size: {}, Total elements: {}. Response: {}",
-                reportsPage.getContent().size(), reportsPage.getTotalElements(), restResponse);
+        RestResponse<Slice<ZoneReportDTO>> restResponse = new RestResponse<>(true, message, reportsPage); 
+        logger.info("Zone report generated. Page size: {}, Has next: {}. Response: {}",
+                reportsPage.getContent().size(), reportsPage.hasNext(), restResponse);
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Retrieves a per-day productivity report for a worker, or for the whole workforce when no
+     * `workerId` is given: completed collections, total weight collected and total active minutes
+     * per worker and day.
+     *
+     * @param workerId The unique identifier of the worker (e.g., "W001"), optional. Must conform to {@link WasteLogConstants#WORKER_ID_REGEX}.
+     * @param startDate The start date of the reporting period in YYYY-MM-DD format.
+     * @param endDate The end date of the reporting period in YYYY-MM-DD format.
+     * @param pageable Pagination information, automatically provided by Spring.
+     * Rows are ordered by `date`, then `workerId`.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page of {@link WorkerReportDTO}
+     * and an HTTP status of 200 (OK). An empty page is returned if no logs are found.
+     * @throws InvalidInputException If the date range is invalid (e.g., startDate is after endDate).
+     * @throws jakarta.validation.ConstraintViolationException If `workerId` does not match the required pattern.
+     */
+    @GetMapping("/reports/worker")
+    public ResponseEntity<RestResponse<Page<WorkerReportDTO>>> getWorkerReport(
+            @RequestParam(required = false) @Pattern(regexp = WasteLogConstants.WORKER_ID_REGEX,
+                    message = "Invalid Worker ID format. Must be W### (e.g., W001).") String workerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 1, sort = "date", direction = Sort.Direction.ASC) Pageable pageable) {
+        logger.info("Received request for worker report: workerId={}, startDate={}, endDate={}, pageable={}",
+                workerId, startDate, endDate, pageable);
+        Page<WorkerReportDTO> reportsPage = wasteLogService.getWorkerReport(workerId, startDate, endDate, pageable);
+
+        String message = reportsPage.isEmpty() ?
+                String.format(WasteLogConstants.NO_COMPLETED_LOGS_FOUND_WORKER, workerId == null ? "all" : workerId, startDate, endDate) :
+                WasteLogConstants.WORKER_REPORT_GENERATED_SUCCESSFULLY;
+
+        RestResponse<Page<WorkerReportDTO>> restResponse = new RestResponse<>(true, message, reportsPage);
+        logger.info("Worker report generated. Page size: {}, Total elements: {}.",
+                reportsPage.getContent().size(), reportsPage.getTotalElements());
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Counts the distinct vehicles that completed collections in a zone over an arbitrary date range
+     * (a week, a month or any custom period). Each vehicle is counted once for the whole range.
+     *
+     * @param zoneId The unique identifier of the zone (e.g., "Z001"). Must conform to {@link WasteLogConstants#ZONE_ID_REGEX}.
+     * @param startDate The start date of the period in YYYY-MM-DD format.
+     * @param endDate The end date of the period in YYYY-MM-DD format.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a {@link ZoneDistinctVehiclesDTO}
+     * and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid (e.g., startDate is after endDate).
+     * @throws jakarta.validation.ConstraintViolationException If `zoneId` does not match the required pattern.
+     */
+    @GetMapping("/reports/zone/distinct-vehicles")
+    public ResponseEntity<RestResponse<ZoneDistinctVehiclesDTO>> getDistinctVehicles(
+            @RequestParam @Pattern(regexp = WasteLogConstants.ZONE_ID_REGEX,
+                    message = "Invalid Zone ID format. Must be Z### (e.g., Z001).") String zoneId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        logger.info("Received request for distinct vehicles: zoneId={}, startDate={}, endDate={}", zoneId, startDate, endDate);
+        ZoneDistinctVehiclesDTO result = wasteLogService.getDistinctVehicles(zoneId, startDate, endDate);
+        RestResponse<ZoneDistinctVehiclesDTO> restResponse =
+                new RestResponse<>(true, WasteLogConstants.DISTINCT_VEHICLES_GENERATED_SUCCESSFULLY, result);
+        logger.info("Distinct vehicles counted. Response: {}", restResponse);
         return ResponseEntity.ok(restResponse);
     }
 
@@ -164,9 +241,13 @@ public class WasteLogController {
      * @param vehicleId The unique identifier of the vehicle (e.g., "RT001" or "PT001"). Must conform to {@link WasteLogConstants#VEHICLE_ID_REGEX}.
      * @param startDate The start date of the reporting period in YYYY-MM-DD format.
      * @param endDate The end date of the reporting period in YYYY-MM-DD format.
+     * @param granularity Optional bucket size (HOUR, DAY, WEEK, MONTH or YEAR); with it each row sums
+     * one bucket and zone instead of listing single collections.
+     * @param count With {@code false} a Slice without `totalElements` and `totalPages` is returned and only
+     * one row more than the page size is read.
      * @param pageable Pagination information, automatically provided by Spring.
      * Defaults to sorting by `collectionDate` ascending.
-     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page of {@link VehicleReportDTO},
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page (or Slice) of {@link VehicleReportDTO},
      * each representing a single collection log entry for the specified vehicle, and an HTTP status of 200 (OK).
      * An empty page is returned if no logs are found.
      * @throws InvalidInputException If the date range is invalid.
@@ -174,23 +255,163 @@ public class WasteLogController {
      * @throws org.springframework.web.method.annotation.MethodArgumentTypeMismatchException If dates are not in correct format.
      */
     @GetMapping("/reports/vehicle")
-    public ResponseEntity<RestResponse<Page<VehicleReportDTO>>> getVehicleLogs(
+    public ResponseEntity<RestResponse<Slice<VehicleReportDTO>>> getVehicleLogs(
             @RequestParam @Pattern(regexp = WasteLogConstants.VEHICLE_ID_REGEX,
                     message = "Invalid Vehicle ID format. Must be RT### or PT### (e.g., RT001).") String vehicleId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) ReportGranularity granularity,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size=1,sort = "collectionDate", direction = Sort.Direction.ASC) Pageable pageable) { 
-    	 logger.info("Received request for vehicle report: vehicleId={}, startDate={}, endDate={}, pageable={}",
-                 vehicleId, startDate, endDate, pageable);
-        Page<VehicleReportDTO> reportsPage = wasteLogService.getVehicleLogs(vehicleId, startDate, endDate, pageable); 
+    	 logger.info("Received request for vehicle report: vehicleId={}, startDate={}, endDate={}, granularity={}, count={}, pageable={}",
+                 vehicleId, startDate, endDate, granularity, count, pageable);
+        Slice<VehicleReportDTO> reportsPage = count
+                ? wasteLogService.getVehicleLogs(vehicleId, startDate, endDate, granularity, pageable)
+                : wasteLogService.getVehicleLogSlice(vehicleId, startDate, endDate, granularity, pageable);
 
         String message = reportsPage.isEmpty() ?
                 String.format(WasteLogConstants.NO_COMPLETED_LOGS_FOUND_VEHICLE, vehicleId, startDate.toString(), endDate.toString()) :
                 WasteLogConstants.VEHICLE_REPORT_GENERATED_SUCCESSFULLY;
 
-        RestResponse<Page<VehicleReportDTO>> restResponse = new RestResponse<>(true, message, reportsPage);
-        logger.info("Vehicle report generated. Page size: {}, Total elements: {}. Response: {}",
-                reportsPage.getContent().size(), reportsPage.getTotalElements(), restResponse);
+        RestResponse<Slice<VehicleReportDTO>> restResponse = new RestResponse<>(true, message, reportsPage);
+        logger.info("Vehicle report generated. Page size: {}, Has next: {}. Response: {}",
+                reportsPage.getContent().size(), reportsPage.hasNext(), restResponse);
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Retrieves the utilization timeline of a vehicle: per day, the merged intervals in which it was
+     * collecting, the idle gaps between them and the active hours. Overlapping logs of several workers
+     * on the same vehicle are counted once.
+     *
+     * @param vehicleId The unique identifier of the vehicle (e.g., "RT001"). Must conform to {@link WasteLogConstants#VEHICLE_ID_REGEX}.
+     * @param startDate The start date of the reporting period in YYYY-MM-DD format.
+     * @param endDate The end date of the reporting period in YYYY-MM-DD format.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a {@link VehicleUtilizationDTO}
+     * and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid.
+     * @throws jakarta.validation.ConstraintViolationException If `vehicleId` does not match the required pattern.
+     */
+    @GetMapping("/reports/vehicle/utilization")
+    public ResponseEntity<RestResponse<VehicleUtilizationDTO>> getVehicleUtilization(
+            @RequestParam @Pattern(regexp = WasteLogConstants.VEHICLE_ID_REGEX,
+                    message = "Invalid Vehicle ID format. Must be RT### or PT### (e.g., RT001).") String vehicleId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        logger.info("Received request for vehicle utilization: vehicleId={}, startDate={}, endDate={}", vehicleId, startDate, endDate);
+        VehicleUtilizationDTO utilization = wasteLogService.getVehicleUtilization(vehicleId, startDate, endDate);
+        RestResponse<VehicleUtilizationDTO> restResponse =
+                new RestResponse<>(true, WasteLogConstants.VEHICLE_UTILIZATION_GENERATED_SUCCESSFULLY, utilization);
+        logger.info("Vehicle utilization generated for {} active days.", utilization.getDays().size());
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Audits a date range for collections that used the same vehicle, or the same worker, at the same time.
+     *
+     * @param startDate The first start day of the audited collections in YYYY-MM-DD format.
+     * @param endDate The last start day of the audited collections in YYYY-MM-DD format.
+     * @param pageable Pagination information.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with a Page of {@link CollectionOverlapDTO}
+     * and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid.
+     */
+    @GetMapping("/reports/overlaps")
+    public ResponseEntity<RestResponse<Page<CollectionOverlapDTO>>> getCollectionOverlaps(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 50) Pageable pageable) {
+        logger.info("Received request for collection overlaps: startDate={}, endDate={}, pageable={}", startDate, endDate, pageable);
+        Page<CollectionOverlapDTO> overlaps = wasteLogService.getCollectionOverlaps(startDate, endDate, pageable);
+        RestResponse<Page<CollectionOverlapDTO>> restResponse =
+                new RestResponse<>(true, WasteLogConstants.COLLECTION_OVERLAPS_RETRIEVED_SUCCESSFULLY, overlaps);
+        logger.info("Collection overlaps retrieved. Total elements: {}", overlaps.getTotalElements());
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Retrieves the vehicle reports of several vehicles in a single request, e.g. for a fleet
+     * dashboard. The vehicles are resolved with one database query instead of one request per vehicle.
+     *
+     * @param vehicleIds Comma-separated vehicle IDs (e.g., "RT001,PT002"), at most {@link WasteLogConstants#MAX_BATCH_IDS}.
+     * Each must conform to {@link WasteLogConstants#VEHICLE_ID_REGEX}.
+     * @param startDate The start date of the reporting period in YYYY-MM-DD format.
+     * @param endDate The end date of the reporting period in YYYY-MM-DD format.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with the completed collections
+     * grouped by vehicle ID, in request order, and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid or the number of IDs is out of bounds.
+     * @throws jakarta.validation.ConstraintViolationException If a vehicle ID does not match the required pattern.
+     */
+    @GetMapping("/reports/vehicle/batch")
+    public ResponseEntity<RestResponse<Map<String, List<VehicleReportDTO>>>> getVehicleLogsBatch(
+            @RequestParam List<@Pattern(regexp = WasteLogConstants.VEHICLE_ID_REGEX,
+                    message = "Invalid Vehicle ID format. Must be RT### or PT### (e.g., RT001).") String> vehicleIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        logger.info("Received request for batch vehicle report: {} vehicleIds, startDate={}, endDate={}",
+                vehicleIds.size(), startDate, endDate);
+        Map<String, List<VehicleReportDTO>> reports = wasteLogService.getVehicleLogsBatch(vehicleIds, startDate, endDate);
+        RestResponse<Map<String, List<VehicleReportDTO>>> restResponse = new RestResponse<>(true,
+                String.format(WasteLogConstants.BATCH_REPORT_GENERATED_SUCCESSFULLY, reports.size()), reports);
+        logger.info("Batch vehicle report generated for {} vehicles.", reports.size());
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Retrieves the daily zone reports of several zones in a single request.
+     *
+     * @param zoneIds Comma-separated zone IDs (e.g., "Z001,Z002"), at most {@link WasteLogConstants#MAX_BATCH_IDS}.
+     * Each must conform to {@link WasteLogConstants#ZONE_ID_REGEX}.
+     * @param startDate The start date of the reporting period in YYYY-MM-DD format.
+     * @param endDate The end date of the reporting period in YYYY-MM-DD format.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with the daily summaries grouped
+     * by zone ID, in request order, and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid or the number of IDs is out of bounds.
+     * @throws jakarta.validation.ConstraintViolationException If a zone ID does not match the required pattern.
+     */
+    @GetMapping("/reports/zone/batch")
+    public ResponseEntity<RestResponse<Map<String, List<ZoneReportDTO>>>> getZoneLogsBatch(
+            @RequestParam List<@Pattern(regexp = WasteLogConstants.ZONE_ID_REGEX,
+                    message = "Invalid Zone ID format. Must be Z### (e.g., Z001).") String> zoneIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        logger.info("Received request for batch zone report: {} zoneIds, startDate={}, endDate={}",
+                zoneIds.size(), startDate, endDate);
+        Map<String, List<ZoneReportDTO>> reports = wasteLogService.getZoneLogsBatch(zoneIds, startDate, endDate);
+        RestResponse<Map<String, List<ZoneReportDTO>>> restResponse = new RestResponse<>(true,
+                String.format(WasteLogConstants.BATCH_REPORT_GENERATED_SUCCESSFULLY, reports.size()), reports);
+        logger.info("Batch zone report generated for {} zones.", reports.size());
+        return ResponseEntity.ok(restResponse);
+    }
+
+    /**
+     * Compares several zones between a period and an earlier one, e.g. this week with last week or
+     * this month with the same month last year, returning both totals with their deltas and percent changes.
+     *
+     * @param zoneIds Comma-separated zone IDs (e.g., "Z001,Z002"), at most {@link WasteLogConstants#MAX_BATCH_IDS}.
+     * Each must conform to {@link WasteLogConstants#ZONE_ID_REGEX}.
+     * @param startDate The first day of the period in YYYY-MM-DD format.
+     * @param endDate The last day of the period in YYYY-MM-DD format.
+     * @param baseline {@code PREVIOUS_PERIOD} (default) for the period of the same length just before,
+     * or {@code PREVIOUS_YEAR} for the same dates one year earlier.
+     * @return A {@link ResponseEntity} containing a {@link RestResponse} with one {@link ZoneComparisonDTO}
+     * per zone, in request order, and an HTTP status of 200 (OK).
+     * @throws InvalidInputException If the date range is invalid or the number of IDs is out of bounds.
+     * @throws jakarta.validation.ConstraintViolationException If a zone ID does not match the required pattern.
+     */
+    @GetMapping("/reports/zone/compare")
+    public ResponseEntity<RestResponse<List<ZoneComparisonDTO>>> compareZonePeriods(
+            @RequestParam List<@Pattern(regexp = WasteLogConstants.ZONE_ID_REGEX,
+                    message = "Invalid Zone ID format. Must be Z### (e.g., Z001).") String> zoneIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) ComparisonPeriod baseline) {
+        logger.info("Received request for zone comparison: {} zoneIds, startDate={}, endDate={}, baseline={}",
+                zoneIds.size(), startDate, endDate, baseline);
+        List<ZoneComparisonDTO> comparisons = wasteLogService.compareZonePeriods(zoneIds, startDate, endDate, baseline);
+        RestResponse<List<ZoneComparisonDTO>> restResponse = new RestResponse<>(true,
+                String.format(WasteLogConstants.ZONE_COMPARISON_GENERATED_SUCCESSFULLY, comparisons.size()), comparisons);
+        logger.info("Zone comparison generated for {} zones.", comparisons.size());
         return ResponseEntity.ok(restResponse);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,251 @@
+package com.WasteWise.WasteCollectionLogs.Dashboard;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore;
+import com.WasteWise.WasteCollectionLogs.Dto.DashboardRankingDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.DashboardSummaryDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.DashboardTotalsDTO;
+import com.WasteWise.WasteCollectionLogs.Repository.CollectionTotals;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Repository.WeightAnomalyRepository;
+import com.WasteWise.WasteCollectionLogs.Repository.WeightRanking;
+import com.WasteWise.WasteCollectionLogs.Routing.ReadWriteRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds the landing dashboard in one call.
+ * <p>
+ * The six components (open logs, today's totals, top zones, top vehicles, stale open logs and
+ * today's anomalies) are independent, so each runs on its own virtual thread and the response takes
+ * as long as the slowest one instead of the sum of all. Every component must finish within
+ * {@code wastewise.dashboard.timeout-ms} of the request; one that fails or runs late is cancelled,
+ * left out of the payload and named in {@code unavailable}, while the others are still returned.
+ * </p>
+ * <p>
+ * Cancelling a component does not stop a query blocked in the driver, so every component queries in
+ * a read-only transaction with the same timeout. The transaction manager passes what is left of it
+ * to each statement as its query timeout, and the database aborts a late query and frees its
+ * connection instead of holding it after the response has gone out.
+ * </p>
+ * <p>
+ * With sharded storage every component reads all shards at once, each shard under its own query
+ * timeout. Counts are added up; rankings are merged by ID, since a vehicle collects in zones of
+ * every shard, and cut to {@code wastewise.dashboard.top-size} after the merge.
+ * </p>
+ */
+@Component
+public class DashboardSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSummaryService.class);
+
+    private final WasteLogRepository wasteLogRepository;
+    private final WeightAnomalyRepository weightAnomalyRepository;
+    private final WasteLogAggregateStore aggregateStore;
+    private final ZoneSharding zoneSharding;
+    private final long timeoutNanos;
+    private final int topSize;
+    private final int topDays;
+    private final long staleAfterHours;
+    private final TransactionTemplate queryTemplate;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+
+    public DashboardSummaryService(WasteLogRepository wasteLogRepository,
+                                   WeightAnomalyRepository weightAnomalyRepository,
+                                   WasteLogAggregateStore aggregateStore,
+                                   ZoneSharding zoneSharding,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${wastewise.dashboard.timeout-ms:2000}") long timeoutMs,
+                                   @Value("${wastewise.dashboard.top-size:5}") int topSize,
+                                   @Value("${wastewise.dashboard.top-days:7}") int topDays,
+                                   @Value("${wastewise.dashboard.stale-after-hours:12}") long staleAfterHours) {
+        this.wasteLogRepository = wasteLogRepository;
+        this.weightAnomalyRepository = weightAnomalyRepository;
+        this.aggregateStore = aggregateStore;
+        this.zoneSharding = zoneSharding;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.topSize = topSize;
+        this.topDays = topDays;
+        this.staleAfterHours = staleAfterHours;
+        this.queryTemplate = new TransactionTemplate(transactionManager);
+        queryTemplate.setReadOnly(true);
+        // JDBC query timeouts are whole seconds
+        queryTemplate.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Computes all dashboard components concurrently.
+     *
+     * @return The summary; components that failed or timed out are {@code null} and listed in {@code unavailable}.
+     */
+    public DashboardSummaryDTO getSummary() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        long deadline = System.nanoTime() + timeoutNanos;
+        LocalDateTime rankedSince = today.minusDays(topDays - 1L).atStartOfDay();
+        // A zone is ranked by its own shard alone, but a vehicle's totals are spread over every shard.
+        Pageable vehicleRanking = zoneSharding.isEnabled() ? Pageable.unpaged() : PageRequest.of(0, topSize);
+
+        Future<Long> openLogs = submit(this::countOpenLogs);
+        Future<DashboardTotalsDTO> totals = submit(() -> summarizeDay(today));
+        Future<List<DashboardRankingDTO>> topZones = submit(() -> rank(queryEachShard(() ->
+                wasteLogRepository.findTopZonesByWeight(rankedSince, PageRequest.of(0, topSize)))));
+        Future<List<DashboardRankingDTO>> topVehicles = submit(() -> rank(queryEachShard(() ->
+                wasteLogRepository.findTopVehiclesByWeight(rankedSince, vehicleRanking))));
+        Future<Long> staleOpenLogs = submit(() -> countEachShard(() ->
+                wasteLogRepository.countByCollectionEndTimeIsNullAndCollectionStartTimeBefore(now.minusHours(staleAfterHours))));
+        Future<Long> anomalies = submit(() -> countEachShard(() ->
+                weightAnomalyRepository.countByDetectedAtGreaterThanEqual(today.atStartOfDay())));
+
+        List<String> unavailable = new ArrayList<>();
+        DashboardSummaryDTO summary = new DashboardSummaryDTO();
+        summary.setGeneratedAt(now);
+        summary.setOpenLogs(await("openLogs", openLogs, deadline, unavailable));
+        summary.setToday(await("today", totals, deadline, unavailable));
+        summary.setTopZones(await("topZones", topZones, deadline, unavailable));
+        summary.setTopVehicles(await("topVehicles", topVehicles, deadline, unavailable));
+        summary.setStaleOpenLogs(await("staleOpenLogs", staleOpenLogs, deadline, unavailable));
+        summary.setAnomaliesToday(await("anomaliesToday", anomalies, deadline, unavailable));
+        if (!unavailable.isEmpty()) {
+            summary.setUnavailable(unavailable);
+        }
+        return summary;
+    }
+
+    private long countOpenLogs() {
+        if (aggregateStore.isReady()) {
+            return aggregateStore.getOpenLogs().size();
+        }
+        return countEachShard(wasteLogRepository::countByCollectionEndTimeIsNull);
+    }
+
+    private DashboardTotalsDTO summarizeDay(LocalDate day) {
+        long collections = 0;
+        long weightHundredths = 0;
+        Set<String> zones = new HashSet<>();
+        Set<String> vehicles = new HashSet<>();
+        List<CollectionTotals> rows = queryEachShard(() ->
+                wasteLogRepository.aggregateDailyTotals(null, null, day.atStartOfDay(), day.atTime(LocalTime.MAX)));
+        for (CollectionTotals totals : rows) {
+            collections += totals.getCollections();
+            weightHundredths += WeightUnits.toHundredths(totals.getTotalWeightKg());
+            zones.add(totals.getZoneId());
+            vehicles.add(totals.getVehicleId());
+        }
+        return new DashboardTotalsDTO(day, collections, WeightUnits.toKilograms(weightHundredths),
+                (long) zones.size(), (long) vehicles.size());
+    }
+
+    /**
+     * Starts one component on its own virtual thread. The read-your-writes pin of the request is a
+     * thread-local, so it is carried over to the component.
+     */
+    private <T> Future<T> submit(Supplier<T> component) {
+        boolean pinned = ReadWriteRoutingDataSource.isPinnedToPrimary();
+        return executor.submit(() -> pinned ? ReadWriteRoutingDataSource.callOnPrimary(component) : component.get());
+    }
+
+    /**
+     * Runs one component's database query under the dashboard's query timeout.
+     */
+    private <T> T query(Supplier<T> query) {
+        return queryTemplate.execute(status -> query.get());
+    }
+
+    /**
+     * Runs one component's database query on every shard in parallel, each under the dashboard's query timeout.
+     *
+     * @return The rows of all shards.
+     */
+    private <T> List<T> queryEachShard(Supplier<List<T>> query) {
+        return zoneSharding.onEachShard(() -> query(query));
+    }
+
+    private long countEachShard(Supplier<Long> count) {
+        return queryEachShard(() -> List.of(count.get())).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Adds up the rows of each zone or vehicle and keeps the heaviest {@code topSize}.
+     */
+    private List<DashboardRankingDTO> rank(List<WeightRanking> rows) {
+        Map<String, Ranking> byId = new LinkedHashMap<>();
+        for (WeightRanking row : rows) {
+            byId.merge(row.getId(), new Ranking(row.getId(), row.getCollections(),
+                    row.getTotalWeightKg() == null ? BigDecimal.ZERO : row.getTotalWeightKg()), Ranking::plus);
+        }
+        return byId.values().stream()
+                .sorted(Ranking.HEAVIEST_FIRST)
+                .limit(topSize)
+                .map(ranking -> new DashboardRankingDTO(ranking.id(), ranking.collections(), ranking.totalWeightKg().doubleValue()))
+                .toList();
+    }
+
+    /**
+     * The totals of one zone or vehicle, in the order of the ranking queries.
+     */
+    private record Ranking(String id, long collections, BigDecimal totalWeightKg) {
+        static final Comparator<Ranking> HEAVIEST_FIRST =
+                Comparator.comparing(Ranking::totalWeightKg).reversed().thenComparing(Ranking::id);
+
+        Ranking plus(Ranking other) {
+            return new Ranking(id, collections + other.collections, totalWeightKg.add(other.totalWeightKg));
+        }
+    }
+
+    /**
+     * Waits for one component until the shared deadline.
+     *
+     * @return The component's value, or {@code null} if it failed or timed out.
+     */
+    private static <T> T await(String component, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Dashboard component {} did not finish in time", component);
+        } catch (ExecutionException e) {
+            logger.warn("Dashboard component {} failed: {}", component, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        unavailable.add(component);
+        return null;
+    }
+}
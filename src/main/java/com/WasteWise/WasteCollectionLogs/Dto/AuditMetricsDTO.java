@@ -0,0 +1,18 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditMetricsDTO {
+    private Integer queueDepth;
+    private Integer queueCapacity;
+    private Long enqueued;
+    private Long written;
+    private Long dropped;
+    private Long failed;
+    private Long batches;
+}
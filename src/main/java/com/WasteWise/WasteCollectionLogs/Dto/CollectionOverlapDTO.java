@@ -0,0 +1,25 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Two collections that used the same vehicle or the same worker at the same time.
+ * {@code overlapEnd} is {@code null} while both collections are still open.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CollectionOverlapDTO {
+
+    /** {@code VEHICLE} or {@code WORKER}. */
+    private String resourceType;
+    private String resourceId;
+    private Long logId;
+    private Long otherLogId;
+    private LocalDateTime overlapStart;
+    private LocalDateTime overlapEnd;
+}
@@ -0,0 +1,15 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardRankingDTO {
+    /** Zone or vehicle ID. */
+    private String id;
+    private Long collections;
+    private Double totalWeightCollectedKg;
+}
@@ -0,0 +1,26 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Everything the landing dashboard shows, in one payload. A component that failed or did not finish
+ * within the timeout is left {@code null} and listed in {@code unavailable}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardSummaryDTO {
+    private LocalDateTime generatedAt;
+    private Long openLogs;
+    private DashboardTotalsDTO today;
+    private List<DashboardRankingDTO> topZones;
+    private List<DashboardRankingDTO> topVehicles;
+    private Long staleOpenLogs;
+    private Long anomaliesToday;
+    private List<String> unavailable;
+}
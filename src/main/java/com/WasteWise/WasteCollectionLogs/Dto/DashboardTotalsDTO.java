@@ -0,0 +1,18 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardTotalsDTO {
+    private LocalDate date;
+    private Long collections;
+    private Double totalWeightCollectedKg;
+    private Long activeZones;
+    private Long activeVehicles;
+}
@@ -0,0 +1,27 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RetentionStatusDTO {
+    private Boolean enabled;
+    private Boolean running;
+    private Integer retentionMonths;
+    private Integer chunkSize;
+    private Long pauseMs;
+    private LocalDateTime cutoff;
+    private Long currentLogId;
+    private Long maxLogId;
+    private Long rowsDeleted;
+    private Long chunks;
+    private Double rowsPerSecond;
+    private LocalDateTime lastStarted;
+    private LocalDateTime lastFinished;
+    private String lastSkipReason;
+}
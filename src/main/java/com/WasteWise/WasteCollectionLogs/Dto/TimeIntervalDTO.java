@@ -0,0 +1,15 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeIntervalDTO {
+    private LocalDateTime start;
+    private LocalDateTime end;
+}
@@ -1,6 +1,7 @@
 package com.WasteWise.WasteCollectionLogs.Dto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,4 +15,12 @@ public class VehicleReportDTO {
 	    private String zoneId;
 	    private Double weightCollected;
 	    private LocalDate collectionDate; 
+	    /** Number of collections in the report bucket; only set when a granularity was requested. */
+	    private Long numberOfCollections;
+	    /** Start of the report bucket; only set when a granularity was requested. */
+	    private LocalDateTime periodStart;
+
+	    public VehicleReportDTO(String vehicleId, String zoneId, Double weightCollected, LocalDate collectionDate) {
+	        this(vehicleId, zoneId, weightCollected, collectionDate, null, null);
+	    }
 }
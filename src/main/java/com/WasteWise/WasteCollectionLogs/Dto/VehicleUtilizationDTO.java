@@ -0,0 +1,22 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VehicleUtilizationDTO {
+    private String vehicleId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double totalActiveHours;
+    /** Active share of all hours in the range. */
+    private Double utilizationPercent;
+    /** Days with at least one collection, in date order. */
+    private List<VehicleUtilizationDayDTO> days;
+}
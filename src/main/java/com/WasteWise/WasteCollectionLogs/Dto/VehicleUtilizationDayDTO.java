@@ -0,0 +1,23 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VehicleUtilizationDayDTO {
+    private LocalDate date;
+    /** Merged, non-overlapping intervals in which at least one collection was running. */
+    private List<TimeIntervalDTO> busyIntervals;
+    /** Gaps between consecutive busy intervals of the day. */
+    private List<TimeIntervalDTO> idleGaps;
+    private Double activeHours;
+    private Double idleHours;
+    /** Active share of the 24-hour day. */
+    private Double utilizationPercent;
+}
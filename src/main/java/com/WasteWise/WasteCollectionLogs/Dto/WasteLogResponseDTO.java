@@ -3,6 +3,7 @@ package com.WasteWise.WasteCollectionLogs.Dto;
 import java.time.LocalDateTime;
 
 import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -24,6 +25,11 @@ public class WasteLogResponseDTO {
 	 private String message;
 	 private LocalDateTime createdDate; 
 	    private LocalDateTime updatedDate;
+	 /** Set on the end of a collection whose weight was flagged as an outlier for its zone or vehicle. */
+	 private Boolean weightAnomaly;
+	 private String anomalyReason;
+	 /** Set on the start of a collection whose vehicle or worker is already busy, when overlaps are only flagged. */
+	 private String overlapWarning;
 	 
 	 
 	public WasteLogResponseDTO(Long logId, String message) {
@@ -41,7 +47,7 @@ public class WasteLogResponseDTO {
 	        this.workerId = wasteLog.getWorkerId();
 	        this.collectionStartTime = wasteLog.getCollectionStartTime();
 	        this.collectionEndTime = wasteLog.getCollectionEndTime();
-	        this.weightCollected = wasteLog.getWeightCollected();
+	        this.weightCollected = WeightUnits.toKilograms(wasteLog.getWeightCollected());
 	        this.message = null;
 	        this.createdDate = wasteLog.getCreatedDate();
 	        this.updatedDate = wasteLog.getUpdatedDate();
@@ -0,0 +1,45 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDateTime;
+
+import com.WasteWise.WasteCollectionLogs.Model.WeightAnomaly;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WeightAnomalyDTO {
+    private Long anomalyId;
+    private Long logId;
+    private String zoneId;
+    private String vehicleId;
+    private Double weightCollected;
+    private Long zoneSamples;
+    private Double zoneMeanKg;
+    private Double zoneStdDevKg;
+    private Double zoneEwmaKg;
+    private Double vehicleEwmaKg;
+    private Double zoneZScore;
+    private String reason;
+    private LocalDateTime detectedAt;
+
+    public WeightAnomalyDTO(WeightAnomaly anomaly) {
+        this.anomalyId = anomaly.getAnomalyId();
+        this.logId = anomaly.getLogId();
+        this.zoneId = anomaly.getZoneId();
+        this.vehicleId = anomaly.getVehicleId();
+        this.weightCollected = WeightUnits.toKilograms(anomaly.getWeightCollected());
+        this.zoneSamples = anomaly.getZoneSamples();
+        this.zoneMeanKg = anomaly.getZoneMeanKg();
+        this.zoneStdDevKg = anomaly.getZoneStdDevKg();
+        this.zoneEwmaKg = anomaly.getZoneEwmaKg();
+        this.vehicleEwmaKg = anomaly.getVehicleEwmaKg();
+        this.zoneZScore = anomaly.getZoneZScore();
+        this.reason = anomaly.getReason();
+        this.detectedAt = anomaly.getDetectedAt();
+    }
+}
@@ -0,0 +1,33 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Totals of one zone in a report period and in the period it is compared against. Percent changes
+ * are {@code null} when the previous value is zero.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ZoneComparisonDTO {
+    private String zoneId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate previousStartDate;
+    private LocalDate previousEndDate;
+    private Long collections;
+    private Long previousCollections;
+    private Long collectionsChange;
+    private Double collectionsChangePercent;
+    private Double totalWeightCollectedKg;
+    private Double previousTotalWeightCollectedKg;
+    private Double weightChangeKg;
+    private Double weightChangePercent;
+    private Long distinctVehicles;
+    private Long previousDistinctVehicles;
+    private Long distinctVehiclesChange;
+}
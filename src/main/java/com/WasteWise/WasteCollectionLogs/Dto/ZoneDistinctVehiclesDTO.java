@@ -0,0 +1,17 @@
+package com.WasteWise.WasteCollectionLogs.Dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ZoneDistinctVehiclesDTO {
+    private String zoneId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long distinctVehicles;
+}
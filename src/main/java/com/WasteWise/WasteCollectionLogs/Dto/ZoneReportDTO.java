@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
@@ -14,4 +15,10 @@ public class ZoneReportDTO {
     private LocalDate date; 
     private Long totalNumberOfCollections; 
     private Double totalWeightCollectedKg;
-}
\ No newline at end of file
+    /** Start of the report bucket; only set when a granularity was requested. */
+    private LocalDateTime periodStart;
+
+    public ZoneReportDTO(String zoneId, LocalDate date, Long totalNumberOfCollections, Double totalWeightCollectedKg) {
+        this(zoneId, date, totalNumberOfCollections, totalWeightCollectedKg, null);
+    }
+}
@@ -0,0 +1,254 @@
+package com.WasteWise.WasteCollectionLogs.Invalidation;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Invalidation bus between the nodes of a cluster, built on the shared database only.
+ * <p>
+ * Every end appends a row (zone, vehicle, day) to {@code collection_change} in the transaction of the
+ * end. Each node polls the table with a primary-key range scan from the last sequence it has seen,
+ * skips its own rows and hands the others to the {@link CollectionChangeListener}s, which evict or
+ * recompute only the affected entries. Rows older than {@code wastewise.change-feed.retention-minutes}
+ * are deleted; the retention must be longer than any pause of a node's polling.
+ * </p>
+ * <p>
+ * Sequence numbers become visible out of order when transactions commit out of order. A missing
+ * number below the highest seen one is remembered and looked for again on the following polls, until
+ * it shows up or {@code wastewise.change-feed.gap-timeout-ms} passes (a rolled-back insert never does).
+ * </p>
+ * <p>
+ * With sharded storage a change is appended on the shard of its zone, and every shard numbers its
+ * changes on its own, so a node keeps one cursor per shard and polls all shards at once.
+ * </p>
+ */
+@Component
+public class CollectionChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionChangeFeed.class);
+
+    static final String APPEND_SQL = "INSERT INTO collection_change (zone_id, vehicle_id, change_date, node_id, created_at) VALUES (?, ?, ?, ?, ?)";
+    static final String POLL_SQL = "SELECT seq, zone_id, vehicle_id, change_date, node_id FROM collection_change WHERE seq > ? ORDER BY seq";
+    static final String GAP_SQL = "SELECT seq, zone_id, vehicle_id, change_date, node_id FROM collection_change WHERE seq > ? AND seq <= ? ORDER BY seq";
+    static final String MAX_SEQ_SQL = "SELECT COALESCE(MAX(seq), 0) FROM collection_change";
+    static final String PURGE_SQL = "DELETE FROM collection_change WHERE created_at < ?";
+
+    /** Missing sequence numbers tracked at most; a larger jump is treated as lost rows. */
+    private static final int MAX_GAPS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    /** Reads at most {@code batch-size} new changes per poll. */
+    private final JdbcTemplate pollTemplate;
+    private final List<CollectionChangeListener> listeners;
+    private final ZoneSharding zoneSharding;
+    private final boolean enabled;
+    private final String nodeId;
+    private final long gapTimeoutNanos;
+    private final long retentionMinutes;
+
+    /** The cursor of every shard, in shard order. */
+    private final Map<String, Cursor> cursors = new LinkedHashMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong expiredGaps = new AtomicLong();
+
+    /**
+     * A polled row.
+     */
+    record Change(long seq, String zoneId, String vehicleId, LocalDate date, String nodeId) {
+    }
+
+    /**
+     * The read position in the changes of one shard.
+     */
+    private static final class Cursor {
+
+        private long lastSeen;
+        /** Missing sequence numbers below {@link #lastSeen}, with the time they were first noticed. */
+        private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+        private Cursor(long lastSeen) {
+            this.lastSeen = lastSeen;
+        }
+    }
+
+    private static final RowMapper<Change> CHANGE_MAPPER = (rs, row) -> new Change(rs.getLong("seq"), rs.getString("zone_id"),
+            rs.getString("vehicle_id"), rs.getDate("change_date").toLocalDate(), rs.getString("node_id"));
+
+    public CollectionChangeFeed(JdbcTemplate jdbcTemplate,
+                                List<CollectionChangeListener> listeners,
+                                ZoneSharding zoneSharding,
+                                @Value("${wastewise.change-feed.enabled:false}") boolean enabled,
+                                @Value("${wastewise.change-feed.node-id:}") String nodeId,
+                                @Value("${wastewise.change-feed.batch-size:1000}") int batchSize,
+                                @Value("${wastewise.change-feed.gap-timeout-ms:10000}") long gapTimeoutMs,
+                                @Value("${wastewise.change-feed.retention-minutes:60}") long retentionMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.pollTemplate.setMaxRows(batchSize);
+        this.listeners = listeners;
+        this.zoneSharding = zoneSharding;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMs);
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts from the current end of the feed, before the derived state warms up from the database.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (cursors) {
+            for (String shard : zoneSharding.getShardNames()) {
+                cursors.put(shard, new Cursor(zoneSharding.onShard(shard, () -> jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class))));
+            }
+            logger.info("Collection change feed enabled for node {} from sequence {}", nodeId,
+                    cursors.values().stream().map(cursor -> cursor.lastSeen).toList());
+        }
+    }
+
+    /**
+     * Announces a completed collection to the other nodes; runs in the transaction of the end, on the shard of its zone.
+     */
+    public void append(String zoneId, String vehicleId, LocalDate date) {
+        jdbcTemplate.update(APPEND_SQL, zoneId, vehicleId, Date.valueOf(date), nodeId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Reads the changes made since the last poll and delivers those of other nodes.
+     *
+     * @return The number of changes delivered to the listeners.
+     */
+    @Scheduled(fixedDelayString = "${wastewise.change-feed.poll-interval-ms:1000}")
+    public int poll() {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (cursors) {
+            // Each shard only moves its own cursor; the listeners are called back on this thread.
+            List<List<Change>> perShard = zoneSharding.scatter(cursors.keySet(), shard -> read(cursors.get(shard)));
+            int delivered = 0;
+            for (List<Change> changes : perShard) {
+                for (Change change : changes) {
+                    deliver(change);
+                    delivered++;
+                }
+            }
+            received.addAndGet(delivered);
+            return delivered;
+        }
+    }
+
+    /**
+     * Advances {@code cursor} over the changes of the bound shard.
+     *
+     * @return The new changes of other nodes.
+     */
+    private List<Change> read(Cursor cursor) {
+        List<Change> changes = new ArrayList<>();
+        if (!cursor.gaps.isEmpty()) {
+            // Bounded by the gap timeout: only rows committed during the last few seconds lie in this range.
+            changes.addAll(jdbcTemplate.query(GAP_SQL, CHANGE_MAPPER, cursor.gaps.firstKey() - 1, cursor.lastSeen));
+        }
+        changes.addAll(pollTemplate.query(POLL_SQL, CHANGE_MAPPER, cursor.lastSeen));
+        long now = System.nanoTime();
+        List<Change> remote = new ArrayList<>();
+        for (Change change : changes) {
+            if (change.seq() <= cursor.lastSeen) {
+                if (cursor.gaps.remove(change.seq()) == null) {
+                    continue; // Seen by an earlier poll.
+                }
+            } else {
+                for (long missing = cursor.lastSeen + 1; missing < change.seq() && cursor.gaps.size() < MAX_GAPS; missing++) {
+                    cursor.gaps.put(missing, now);
+                }
+                cursor.lastSeen = change.seq();
+            }
+            if (!nodeId.equals(change.nodeId())) {
+                remote.add(change);
+            }
+        }
+        expireGaps(cursor.gaps, now);
+        return remote;
+    }
+
+    /**
+     * Deletes changes older than the retention period; every node has polled them long ago.
+     */
+    @Scheduled(fixedDelayString = "${wastewise.change-feed.purge-interval-ms:600000}")
+    public int purge() {
+        if (!enabled) {
+            return 0;
+        }
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusMinutes(retentionMinutes));
+        int deleted = zoneSharding.onEachShard(() -> List.of(jdbcTemplate.update(PURGE_SQL, cutoff))).stream()
+                .mapToInt(Integer::intValue).sum();
+        if (deleted > 0) {
+            logger.debug("Purged {} collection changes older than {} minutes", deleted, retentionMinutes);
+        }
+        return deleted;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    public long getExpiredGaps() {
+        return expiredGaps.get();
+    }
+
+    private void deliver(Change change) {
+        for (CollectionChangeListener listener : listeners) {
+            try {
+                listener.onRemoteChange(change.zoneId(), change.vehicleId(), change.date());
+            } catch (RuntimeException e) {
+                logger.error("Listener {} failed on collection change {}: {}", listener.getClass().getSimpleName(), change.seq(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void expireGaps(TreeMap<Long, Long> gaps, long now) {
+        for (Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Long> gap = it.next();
+            if (now - gap.getValue() > gapTimeoutNanos) {
+                it.remove();
+                expiredGaps.incrementAndGet();
+            }
+        }
+    }
+}
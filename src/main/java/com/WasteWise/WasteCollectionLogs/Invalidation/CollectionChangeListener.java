@@ -0,0 +1,17 @@
+package com.WasteWise.WasteCollectionLogs.Invalidation;
+
+import java.time.LocalDate;
+
+/**
+ * Receives the collections completed on other nodes, so that state derived from them on this node
+ * can be evicted or recomputed. Called on the polling thread of {@link CollectionChangeFeed}.
+ */
+public interface CollectionChangeListener {
+
+    /**
+     * @param zoneId The zone of the completed collection.
+     * @param vehicleId The vehicle of the completed collection.
+     * @param date The start day of the completed collection.
+     */
+    void onRemoteChange(String zoneId, String vehicleId, LocalDate date);
+}
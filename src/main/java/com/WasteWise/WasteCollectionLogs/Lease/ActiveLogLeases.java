@@ -0,0 +1,107 @@
+package com.WasteWise.WasteCollectionLogs.Lease;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+/**
+ * Cluster-safe enforcement of one open log per worker, zone and vehicle.
+ * <p>
+ * When {@code wastewise.active-log-lease.enabled} is set, a start inserts a row into
+ * {@code active_log_lease} before it inserts the log, and an end deletes it in the same transaction
+ * as the completion. The unique key on the combination makes the database reject a second start
+ * from any node, with no check-then-insert race; a rejected start has not modified anything yet. The
+ * statements run on the connection of the surrounding JPA transaction.
+ * </p>
+ * <p>
+ * At startup, leases are created for open logs that predate the feature, so they are protected too.
+ * With sharded storage a lease lives on the shard of its zone, next to its log, and every shard is backfilled.
+ * </p>
+ */
+@Component
+public class ActiveLogLeases {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveLogLeases.class);
+
+    static final String ACQUIRE_SQL = "INSERT INTO active_log_lease (worker_id, zone_id, vehicle_id, acquired_at) VALUES (?, ?, ?, ?)";
+    static final String RELEASE_SQL = "DELETE FROM active_log_lease WHERE worker_id = ? AND zone_id = ? AND vehicle_id = ?";
+    static final String BACKFILL_SQL = "INSERT INTO active_log_lease (worker_id, zone_id, vehicle_id, acquired_at)"
+            + " SELECT w.worker_id, w.zone_id, w.vehicle_id, MIN(w.collection_start_time) FROM waste_log w"
+            + " WHERE w.collection_end_time IS NULL AND NOT EXISTS (SELECT 1 FROM active_log_lease l"
+            + " WHERE l.worker_id = w.worker_id AND l.zone_id = w.zone_id AND l.vehicle_id = w.vehicle_id)"
+            + " GROUP BY w.worker_id, w.zone_id, w.vehicle_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ZoneSharding zoneSharding;
+    private final boolean enabled;
+
+    public ActiveLogLeases(JdbcTemplate jdbcTemplate,
+                           ZoneSharding zoneSharding,
+                           @Value("${wastewise.active-log-lease.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.zoneSharding = zoneSharding;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the leases of open logs that have none, e.g. logs started before the leases were enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        int created = zoneSharding.onEachShard(() -> List.of(backfillShard())).stream().mapToInt(Integer::intValue).sum();
+        logger.info("Active log leases enabled, {} leases created for existing open logs", created);
+    }
+
+    private int backfillShard() {
+        try {
+            return jdbcTemplate.update(BACKFILL_SQL);
+        } catch (DuplicateKeyException e) {
+            // Another node backfilled the same logs at the same time.
+            logger.info("Active log leases already backfilled by another node");
+            return 0;
+        }
+    }
+
+    /**
+     * Claims the combination for a new open log.
+     *
+     * @throws InvalidInputException if the combination already has an open log on any node.
+     */
+    public void acquire(String workerId, String zoneId, String vehicleId, LocalDateTime acquiredAt) {
+        try {
+            jdbcTemplate.update(ACQUIRE_SQL, workerId, zoneId, vehicleId, Timestamp.valueOf(acquiredAt));
+        } catch (DuplicateKeyException e) {
+            logger.warn("ActiveLogExists: Lease already held for workerId={}, zoneId={}, vehicleId={}", workerId, zoneId, vehicleId);
+            throw new InvalidInputException(String.format(WasteLogConstants.ACTIVE_LOG_EXISTS_MESSAGE, workerId, zoneId, vehicleId));
+        }
+    }
+
+    /**
+     * Releases the combination of a completed log.
+     *
+     * @return {@code true} if a lease was held.
+     */
+    public boolean release(String workerId, String zoneId, String vehicleId) {
+        return jdbcTemplate.update(RELEASE_SQL, workerId, zoneId, vehicleId) > 0;
+    }
+}
@@ -1,22 +1,88 @@
 package com.WasteWise.WasteCollectionLogs.Listener;
- 
+
+import com.WasteWise.WasteCollectionLogs.Audit.AuditAction;
+import com.WasteWise.WasteCollectionLogs.Audit.AuditRecord;
+import com.WasteWise.WasteCollectionLogs.Audit.AuditTrailWriter;
 import com.WasteWise.WasteCollectionLogs.Model.WasteLog; // Import your entity
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.servlet.http.HttpServletRequest;
+
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * An entity listener for auditing {@link WasteLog} entities.
  * This class automatically populates creation and update audit fields
- * (like created date/by and updated date/by) before an entity is persisted or updated.
+ * (like created date/by and updated date/by) before an entity is persisted or updated,
+ * and hands every start and end of a collection to the {@link AuditTrailWriter}
+ * once the surrounding transaction has committed.
  */
 public class AuditListener {
 
+    /** Request header naming the acting user; set by the gateway in front of the admin API. */
+    public static final String USER_ID_HEADER = "X-User-Id";
+    /** Actor recorded for changes made outside of a request, e.g. by scheduled jobs. */
+    public static final String SYSTEM_ACTOR = "system";
+
+    private static final String ENTITY_TYPE = "WasteLog";
+    private static final String WEIGHT_PROPERTY = "weightCollected";
+    private static final String END_TIME_PROPERTY = "collectionEndTime";
+    /** Bookkeeping columns maintained by this listener; they are not part of the audited change. */
+    private static final Set<String> UNAUDITED_PROPERTIES = Set.of("createdDate", "createdBy", "updatedDate", "updatedBy", "version");
+
+    private final ObjectProvider<AuditTrailWriter> auditTrailWriter;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    /**
+     * Used when the listener is instantiated outside of Spring; only the audit fields are maintained.
+     */
+    public AuditListener() {
+        this(null, null);
+    }
+
     /**
-     * Retrieves the current user's identifier.
-     * In a real application, this would typically fetch the authenticated user
-     * from Spring Security's context or a similar mechanism.
+     * Used by Hibernate's Spring bean container. The providers are resolved lazily because the listener
+     * is created while the entity manager factory itself is being built.
      */
+    @Autowired
+    public AuditListener(ObjectProvider<AuditTrailWriter> auditTrailWriter, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.auditTrailWriter = auditTrailWriter;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Retrieves the current user's identifier from the {@value #USER_ID_HEADER} request header,
+     * or {@value #SYSTEM_ACTOR} outside of a request or when the header is missing.
+     */
+    public static String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            String userId = request.getHeader(USER_ID_HEADER);
+            if (userId != null && !userId.isBlank()) {
+                return userId.trim();
+            }
+        }
+        return SYSTEM_ACTOR;
+    }
 
     /**
      * Sets createdDate and createdBy before a new WasteLog entity is persisted to the database.
@@ -28,22 +94,47 @@ public class AuditListener {
     @PrePersist // Marks this method to be called before a new entity is persisted.
     public void prePersist(WasteLog wasteLog) {
         LocalDateTime now = LocalDateTime.now(); // Gets the current timestamp.
+        String actor = currentActor();
 
         // Set creation audit fields only if they are not already set (e.g., manually in tests or initial DTO mapping)
         if (wasteLog.getCreatedDate() == null) {
             wasteLog.setCreatedDate(now); // Sets the creation timestamp.
         }
-        
+        if (wasteLog.getCreatedBy() == null) {
+            wasteLog.setCreatedBy(actor);
+        }
+
         // On initial creation, updatedDate and updatedBy are often set to the same as created
         // This ensures these fields are not null immediately after creation.
         if (wasteLog.getUpdatedDate() == null) {
              wasteLog.setUpdatedDate(now); // Sets the update timestamp (initially same as created).
         }
-       
+        if (wasteLog.getUpdatedBy() == null) {
+            wasteLog.setUpdatedBy(actor);
+        }
     }
 
     /**
-     * Sets updatedDate and updatedBy before an existing WasteLog entity is updated in the database.
+     * Records the start of a collection. Runs after the insert so that the generated log ID is known.
+     *
+     * @param wasteLog The {@link WasteLog} entity that was persisted.
+     */
+    @PostPersist
+    public void postPersist(WasteLog wasteLog) {
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        newValues.put("zoneId", wasteLog.getZoneId());
+        newValues.put("vehicleId", wasteLog.getVehicleId());
+        newValues.put("workerId", wasteLog.getWorkerId());
+        newValues.put("collectionStartTime", wasteLog.getCollectionStartTime());
+        newValues.put(END_TIME_PROPERTY, wasteLog.getCollectionEndTime());
+        newValues.put(WEIGHT_PROPERTY, WeightUnits.toKilograms(wasteLog.getWeightCollected()));
+        submitAfterCommit(new AuditRecord(ENTITY_TYPE, wasteLog.getLogId(), AuditAction.START,
+                wasteLog.getCreatedBy(), wasteLog.getCreatedDate(), null, newValues));
+    }
+
+    /**
+     * Sets updatedDate and updatedBy before an existing WasteLog entity is updated in the database,
+     * and records the changed fields with their old and new values.
      * This method is automatically invoked by Jakarta Persistence (JPA) lifecycle callbacks.
      *
      * @param wasteLog The {@link WasteLog} entity being updated.
@@ -51,5 +142,73 @@ public class AuditListener {
     @PreUpdate // Marks this method to be called before an existing entity is updated.
     public void preUpdate(WasteLog wasteLog) {
         wasteLog.setUpdatedDate(LocalDateTime.now()); // Updates the timestamp to the current time.
+        wasteLog.setUpdatedBy(currentActor());
+
+        EntityEntry entry = entityEntry(wasteLog);
+        if (entry == null || entry.getLoadedState() == null) {
+            return;
+        }
+        // The loaded state is what the row held when this persistence context read it, so the diff needs no extra query.
+        String[] properties = entry.getPersister().getPropertyNames();
+        Object[] oldState = entry.getLoadedState();
+        Object[] newState = entry.getPersister().getValues(wasteLog);
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            if (!UNAUDITED_PROPERTIES.contains(properties[i]) && !Objects.equals(oldState[i], newState[i])) {
+                oldValues.put(properties[i], auditValue(properties[i], oldState[i]));
+                newValues.put(properties[i], auditValue(properties[i], newState[i]));
+            }
+        }
+        if (newValues.isEmpty()) {
+            return;
+        }
+        AuditAction action = oldValues.containsKey(END_TIME_PROPERTY) && oldValues.get(END_TIME_PROPERTY) == null
+                ? AuditAction.END : AuditAction.UPDATE;
+        submitAfterCommit(new AuditRecord(ENTITY_TYPE, wasteLog.getLogId(), action,
+                wasteLog.getUpdatedBy(), wasteLog.getUpdatedDate(), oldValues, newValues));
+    }
+
+    /**
+     * Builds the record of an end written without going through the persistence context, e.g. by the
+     * version-checked update of {@code OpenLogCache}; it matches what {@link #preUpdate} records for an end.
+     *
+     * @param wasteLog The log as it was completed.
+     */
+    public static AuditRecord endRecord(WasteLog wasteLog) {
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        oldValues.put(END_TIME_PROPERTY, null);
+        oldValues.put(WEIGHT_PROPERTY, null);
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        newValues.put(END_TIME_PROPERTY, wasteLog.getCollectionEndTime());
+        newValues.put(WEIGHT_PROPERTY, WeightUnits.toKilograms(wasteLog.getWeightCollected()));
+        return new AuditRecord(ENTITY_TYPE, wasteLog.getLogId(), AuditAction.END,
+                wasteLog.getUpdatedBy(), wasteLog.getUpdatedDate(), oldValues, newValues);
+    }
+
+    private static Object auditValue(String property, Object value) {
+        return WEIGHT_PROPERTY.equals(property) && value instanceof Long hundredths ? WeightUnits.toKilograms(hundredths) : value;
+    }
+
+    private EntityEntry entityEntry(WasteLog wasteLog) {
+        EntityManagerFactory factory = entityManagerFactory == null ? null : entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return null;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+        if (entityManager == null) {
+            return null;
+        }
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal().getEntry(wasteLog);
+    }
+
+    /**
+     * Hands the record to the writer once the transaction commits, so rolled-back changes are never audited.
+     */
+    private void submitAfterCommit(AuditRecord record) {
+        AuditTrailWriter writer = auditTrailWriter == null ? null : auditTrailWriter.getIfAvailable();
+        if (writer != null) {
+            writer.submitAfterCommit(record);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.WasteWise.WasteCollectionLogs.Model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Claim on a worker/zone/vehicle combination while it has an open collection. The unique key lets the
+ * database, rather than a check on each node, guarantee one open log per combination across the cluster.
+ * Rows are inserted and deleted by {@link com.WasteWise.WasteCollectionLogs.Lease.ActiveLogLeases};
+ * the entity only describes the table.
+ */
+@Entity
+@Table(name="active_log_lease", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_active_log_lease", columnNames = {"worker_id", "zone_id", "vehicle_id"})
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ActiveLogLease {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "lease_id")
+	private Long leaseId;
+
+	@Column(name="worker_id", nullable = false)
+	private String workerId;
+
+	@Column(name="zone_id", nullable = false)
+	private String zoneId;
+
+	@Column(name="vehicle_id", nullable = false)
+	private String vehicleId;
+
+	@Column(name="acquired_at", nullable = false)
+	private LocalDateTime acquiredAt;
+}
@@ -0,0 +1,60 @@
+package com.WasteWise.WasteCollectionLogs.Model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the audit trail: who changed which waste log, when, and the old and new values.
+ * Rows are inserted in JDBC batches by {@link com.WasteWise.WasteCollectionLogs.Audit.AuditTrailWriter};
+ * the entity only describes the table.
+ */
+@Entity
+@Table(name="audit_log", indexes = {
+		@Index(name = "idx_audit_log_entity", columnList = "entity_type, entity_id")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLog {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "audit_id")
+	private Long auditId;
+
+	@Column(name="entity_type", nullable = false, length = 64)
+	private String entityType;
+
+	@Column(name="entity_id", nullable = false)
+	private Long entityId;
+
+	@Column(name="action", nullable = false, length = 16)
+	private String action;
+
+	@Column(name="actor", nullable = false)
+	private String actor;
+
+	@Column(name="occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+
+	/** JSON object of the changed fields before the change, {@code null} for a start. */
+	@Lob
+	@Column(name="old_values")
+	private String oldValues;
+
+	/** JSON object of the changed fields after the change. */
+	@Lob
+	@Column(name="new_values")
+	private String newValues;
+}
@@ -0,0 +1,51 @@
+package com.WasteWise.WasteCollectionLogs.Model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One completed collection announced to the other nodes: which zone, vehicle and day it changed.
+ * Rows are appended and polled by {@link com.WasteWise.WasteCollectionLogs.Invalidation.CollectionChangeFeed};
+ * the entity only describes the table.
+ */
+@Entity
+@Table(name="collection_change", indexes = {
+		@Index(name = "idx_collection_change_created", columnList = "created_at")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CollectionChange {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "seq")
+	private Long seq;
+
+	@Column(name="zone_id", nullable = false)
+	private String zoneId;
+
+	@Column(name="vehicle_id", nullable = false)
+	private String vehicleId;
+
+	@Column(name="change_date", nullable = false)
+	private LocalDate changeDate;
+
+	/** The node that made the change; it skips its own rows when polling. */
+	@Column(name="node_id", nullable = false, length = 64)
+	private String nodeId;
+
+	@Column(name="created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
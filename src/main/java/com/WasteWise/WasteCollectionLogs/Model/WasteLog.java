@@ -4,18 +4,32 @@ import java.time.LocalDateTime;
 
 
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.WasteWise.WasteCollectionLogs.Listener.AuditListener;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name="waste_log")
+@EntityListeners(AuditListener.class)
+@Table(name="waste_log", indexes = {
+		@Index(name = "idx_waste_log_worker_start", columnList = "worker_id, collection_start_time"),
+		@Index(name = "idx_waste_log_vehicle_start", columnList = "vehicle_id, collection_start_time"),
+		@Index(name = "idx_waste_log_zone_start", columnList = "zone_id, collection_start_time"),
+		@Index(name = "idx_waste_log_updated", columnList = "updated_date")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -41,8 +55,10 @@ public class WasteLog {
 	@Column(name="collection_end_time")
 	private LocalDateTime collectionEndTime;
 	
-	@Column(name="weight_collected")
-	private Double weightCollected;
+	/** Weight collected, in hundredths of a kilogram. */
+	@Convert(converter = WeightHundredthsConverter.class)
+	@Column(name="weight_collected", precision = 10, scale = 2)
+	private Long weightCollected;
 	
 	
 	@Column(name="created_date", nullable = false)
@@ -57,4 +73,10 @@ public class WasteLog {
 	@Column(name="updated_by")
 	    private String updatedBy;
 	
+	/** Optimistic lock; lets a node complete a log it cached at start without reading it first. */
+	@Version
+	@ColumnDefault("0")
+	@Column(name="version", nullable = false)
+	private Long version;
+	
 }
@@ -0,0 +1,76 @@
+package com.WasteWise.WasteCollectionLogs.Model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A completed collection whose weight was flagged as an outlier when it ended, together with the
+ * zone and vehicle statistics it was compared against. Written by
+ * {@link com.WasteWise.WasteCollectionLogs.Anomaly.WeightAnomalyDetector} in the same transaction
+ * as the end of the collection.
+ */
+@Entity
+@Table(name="weight_anomaly", indexes = {
+		@Index(name = "idx_weight_anomaly_zone_detected", columnList = "zone_id, detected_at"),
+		@Index(name = "idx_weight_anomaly_detected", columnList = "detected_at")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WeightAnomaly {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "anomaly_id")
+	private Long anomalyId;
+
+	@Column(name="log_id", nullable = false)
+	private Long logId;
+
+	@Column(name="zone_id", nullable = false)
+	private String zoneId;
+
+	@Column(name="vehicle_id", nullable = false)
+	private String vehicleId;
+
+	/** Weight in hundredths of a kilogram, stored as DECIMAL(10,2) kilograms. */
+	@Convert(converter = WeightHundredthsConverter.class)
+	@Column(name="weight_collected", precision = 10, scale = 2, nullable = false)
+	private Long weightCollected;
+
+	@Column(name="zone_samples", nullable = false)
+	private Long zoneSamples;
+
+	@Column(name="zone_mean_kg")
+	private Double zoneMeanKg;
+
+	@Column(name="zone_std_dev_kg")
+	private Double zoneStdDevKg;
+
+	@Column(name="zone_ewma_kg")
+	private Double zoneEwmaKg;
+
+	@Column(name="vehicle_ewma_kg")
+	private Double vehicleEwmaKg;
+
+	/** Standard deviations between the weight and the zone mean. */
+	@Column(name="zone_z_score")
+	private Double zoneZScore;
+
+	@Column(name="reason", nullable = false, length = 512)
+	private String reason;
+
+	@Column(name="detected_at", nullable = false)
+	private LocalDateTime detectedAt;
+}
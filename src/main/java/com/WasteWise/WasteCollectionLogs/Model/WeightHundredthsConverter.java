@@ -0,0 +1,24 @@
+package com.WasteWise.WasteCollectionLogs.Model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps a weight held as hundredths of a kilogram onto the {@code DECIMAL(10,2)} kilogram column.
+ */
+@Converter
+public class WeightHundredthsConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long hundredths) {
+        return hundredths == null ? null : BigDecimal.valueOf(hundredths, 2);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal kilograms) {
+        return kilograms == null ? null : kilograms.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
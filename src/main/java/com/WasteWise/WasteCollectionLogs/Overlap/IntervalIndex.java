@@ -0,0 +1,86 @@
+package com.WasteWise.WasteCollectionLogs.Overlap;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Collection intervals of one vehicle or one worker, searchable for overlaps in O(log n).
+ * <p>
+ * Completed intervals are kept sorted by start. Any interval overlapping {@code [start, end)} must
+ * start after {@code start} minus the longest indexed duration and before {@code end}, so a query
+ * is one tree descent followed by a scan of that narrow window (usually zero or one entries, since
+ * a resource rarely runs overlapping collections). Open collections, typically one per resource,
+ * are kept apart because their end is unknown.
+ * </p>
+ */
+final class IntervalIndex {
+
+    private static final Comparator<Interval> BY_START =
+            Comparator.comparing(Interval::start).thenComparingLong(Interval::logId);
+
+    /**
+     * One indexed collection.
+     */
+    record Interval(long logId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private final NavigableSet<Interval> completed = new TreeSet<>(BY_START);
+    private final Map<Long, LocalDateTime> open = new HashMap<>(2);
+    private Duration longest = Duration.ZERO;
+
+    synchronized void open(long logId, LocalDateTime start) {
+        open.put(logId, start);
+    }
+
+    synchronized void complete(long logId, LocalDateTime start, LocalDateTime end) {
+        open.remove(logId);
+        completed.add(new Interval(logId, start, end));
+        Duration duration = Duration.between(start, end);
+        if (duration.compareTo(longest) > 0) {
+            longest = duration;
+        }
+    }
+
+    /**
+     * Finds an indexed collection that overlaps {@code [start, end)}; an open collection overlaps
+     * everything from its start on.
+     *
+     * @param excludeLogId A log to ignore, e.g. the one being checked.
+     * @return The ID of an overlapping log, or {@code null} if there is none.
+     */
+    synchronized Long findOverlap(LocalDateTime start, LocalDateTime end, long excludeLogId) {
+        for (Map.Entry<Long, LocalDateTime> entry : open.entrySet()) {
+            if (entry.getKey() != excludeLogId && entry.getValue().isBefore(end)) {
+                return entry.getKey();
+            }
+        }
+        Interval from = new Interval(Long.MIN_VALUE, start.minus(longest), null);
+        Interval to = new Interval(Long.MIN_VALUE, end, null);
+        for (Interval interval : completed.subSet(from, true, to, false)) {
+            if (interval.logId() != excludeLogId && interval.end().isAfter(start)) {
+                return interval.logId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops completed intervals that started before {@code cutoff}.
+     */
+    synchronized void pruneBefore(LocalDateTime cutoff) {
+        completed.headSet(new Interval(Long.MIN_VALUE, cutoff, null), false).clear();
+    }
+
+    synchronized boolean isEmpty() {
+        return completed.isEmpty() && open.isEmpty();
+    }
+
+    synchronized int size() {
+        return completed.size() + open.size();
+    }
+}
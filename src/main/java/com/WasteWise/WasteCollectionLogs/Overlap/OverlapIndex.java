@@ -0,0 +1,154 @@
+package com.WasteWise.WasteCollectionLogs.Overlap;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEvent;
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEventHandler;
+import com.WasteWise.WasteCollectionLogs.Repository.LogInterval;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+/**
+ * In-memory {@link IntervalIndex} per vehicle and per worker over open and recent collections,
+ * used by {@code startCollection} to detect that a vehicle or a worker is already busy without a
+ * database range query.
+ * <p>
+ * The index is loaded at startup with every open log and the logs of the last
+ * {@code wastewise.overlap.window-days} days, kept current as a stage of the collection event
+ * pipeline and pruned hourly. Because the pipeline lags the commit slightly, a hit is only a
+ * candidate: the caller confirms it against the database before acting on it.
+ * </p>
+ */
+@Component
+@Order(2)
+public class OverlapIndex implements CollectionEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverlapIndex.class);
+
+    private final WasteLogRepository wasteLogRepository;
+    private final ZoneSharding zoneSharding;
+    private final OverlapMode mode;
+    private final int windowDays;
+    private final ConcurrentMap<String, IntervalIndex> vehicles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, IntervalIndex> workers = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public OverlapIndex(WasteLogRepository wasteLogRepository,
+                        ZoneSharding zoneSharding,
+                        @Value("${wastewise.overlap.mode:FLAG}") OverlapMode mode,
+                        @Value("${wastewise.overlap.window-days:7}") int windowDays) {
+        this.wasteLogRepository = wasteLogRepository;
+        this.zoneSharding = zoneSharding;
+        this.mode = mode;
+        this.windowDays = windowDays;
+    }
+
+    public OverlapMode getMode() {
+        return mode;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Loads open and recent logs of every shard once the application is up. Until then no overlap is reported.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (mode == OverlapMode.OFF) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+        List<LogInterval> intervals = zoneSharding.onEachShard(() -> wasteLogRepository.findOpenOrRecentIntervals(since));
+        for (LogInterval interval : intervals) {
+            add(interval.getLogId(), interval.getVehicleId(), interval.getWorkerId(),
+                    interval.getCollectionStartTime(), interval.getCollectionEndTime());
+        }
+        ready = true;
+        logger.info("Overlap index loaded with {} intervals for {} vehicles and {} workers",
+                intervals.size(), vehicles.size(), workers.size());
+    }
+
+    @Override
+    public void onEvent(CollectionEvent event, long sequence, boolean endOfBatch) {
+        if (mode == OverlapMode.OFF) {
+            return;
+        }
+        add(event.getLogId(), event.getVehicleId(), event.getWorkerId(), event.getCollectionStartTime(),
+                event.getType() == CollectionEvent.Type.END ? event.getCollectionEndTime() : null);
+    }
+
+    /**
+     * @return The ID of a log that keeps {@code vehicleId} busy at {@code at}, or {@code null}.
+     */
+    public Long findVehicleOverlap(String vehicleId, LocalDateTime at) {
+        return findOverlap(vehicles, vehicleId, at);
+    }
+
+    /**
+     * @return The ID of a log that keeps {@code workerId} busy at {@code at}, or {@code null}.
+     */
+    public Long findWorkerOverlap(String workerId, LocalDateTime at) {
+        return findOverlap(workers, workerId, at);
+    }
+
+    /**
+     * Drops completed intervals that fell out of the window, and resources left without any.
+     */
+    @Scheduled(fixedDelayString = "${wastewise.overlap.prune-interval-ms:3600000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(windowDays);
+        prune(vehicles, cutoff);
+        prune(workers, cutoff);
+    }
+
+    void add(long logId, String vehicleId, String workerId, LocalDateTime start, LocalDateTime end) {
+        add(vehicles, vehicleId, logId, start, end);
+        add(workers, workerId, logId, start, end);
+    }
+
+    private static void add(ConcurrentMap<String, IntervalIndex> indexes, String key, long logId,
+                            LocalDateTime start, LocalDateTime end) {
+        // compute() keeps the add atomic with respect to prune() dropping an empty index.
+        indexes.compute(key, (k, index) -> {
+            IntervalIndex target = index == null ? new IntervalIndex() : index;
+            if (end == null) {
+                target.open(logId, start);
+            } else {
+                target.complete(logId, start, end);
+            }
+            return target;
+        });
+    }
+
+    private Long findOverlap(Map<String, IntervalIndex> indexes, String key, LocalDateTime at) {
+        if (!ready || mode == OverlapMode.OFF) {
+            return null;
+        }
+        IntervalIndex index = indexes.get(key);
+        return index == null ? null : index.findOverlap(at, at.plusNanos(1), -1);
+    }
+
+    private static void prune(ConcurrentMap<String, IntervalIndex> indexes, LocalDateTime cutoff) {
+        for (String key : indexes.keySet()) {
+            indexes.computeIfPresent(key, (k, index) -> {
+                index.pruneBefore(cutoff);
+                return index.isEmpty() ? null : index;
+            });
+        }
+    }
+}
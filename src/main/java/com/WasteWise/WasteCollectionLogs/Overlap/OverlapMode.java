@@ -0,0 +1,13 @@
+package com.WasteWise.WasteCollectionLogs.Overlap;
+
+/**
+ * What {@code startCollection} does when the vehicle or the worker is already busy with another collection.
+ */
+public enum OverlapMode {
+    /** No overlap check beyond the exact worker/zone/vehicle triple. */
+    OFF,
+    /** Start the collection and report the conflict in the response; the default. */
+    FLAG,
+    /** Refuse to start the collection. */
+    REJECT
+}
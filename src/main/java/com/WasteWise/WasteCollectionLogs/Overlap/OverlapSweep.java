@@ -0,0 +1,62 @@
+package com.WasteWise.WasteCollectionLogs.Overlap;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import com.WasteWise.WasteCollectionLogs.Dto.CollectionOverlapDTO;
+
+/**
+ * Finds overlapping collections of the same resource in a single pass.
+ * <p>
+ * Intervals must be fed grouped by resource and, within a resource, in non-decreasing start order.
+ * The sweep keeps only the furthest end seen for the current resource: an interval starting before
+ * it overlaps the collection that reaches furthest, and is reported against that one. A collection
+ * overlapping several others is therefore reported once, which is what an audit needs to find it.
+ * Open collections end at infinity.
+ * </p>
+ */
+public final class OverlapSweep {
+
+    private final String resourceType;
+    private final Consumer<CollectionOverlapDTO> overlaps;
+
+    private String resourceId;
+    private long furthestLogId;
+    private LocalDateTime furthestEnd;
+    private boolean furthestOpen;
+
+    /**
+     * @param resourceType Reported as {@link CollectionOverlapDTO#getResourceType()}.
+     * @param overlaps Receives every overlap as soon as it is found.
+     */
+    public OverlapSweep(String resourceType, Consumer<CollectionOverlapDTO> overlaps) {
+        this.resourceType = resourceType;
+        this.overlaps = overlaps;
+    }
+
+    /**
+     * Adds one collection.
+     *
+     * @param end The end of the collection, {@code null} if it is still open.
+     */
+    public void accept(String resourceId, long logId, LocalDateTime start, LocalDateTime end) {
+        if (!resourceId.equals(this.resourceId)) {
+            this.resourceId = resourceId;
+            reach(logId, end);
+            return;
+        }
+        if (furthestOpen || furthestEnd.isAfter(start)) {
+            LocalDateTime overlapEnd = furthestOpen ? end : end == null || furthestEnd.isBefore(end) ? furthestEnd : end;
+            overlaps.accept(new CollectionOverlapDTO(resourceType, resourceId, logId, furthestLogId, start, overlapEnd));
+        }
+        if (!furthestOpen && (end == null || end.isAfter(furthestEnd))) {
+            reach(logId, end);
+        }
+    }
+
+    private void reach(long logId, LocalDateTime end) {
+        furthestLogId = logId;
+        furthestEnd = end;
+        furthestOpen = end == null;
+    }
+}
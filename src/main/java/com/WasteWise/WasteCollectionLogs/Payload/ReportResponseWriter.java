@@ -0,0 +1,264 @@
+package com.WasteWise.WasteCollectionLogs.Payload;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Writes report responses ({@code RestResponse<Page<ZoneReportDTO>>},
+ * {@code RestResponse<Page<VehicleReportDTO>>} and {@code RestResponse<Page<WorkerReportDTO>>}) directly to a Jackson {@link JsonGenerator}.
+ * <p>
+ * The output is field-for-field what the default {@code ObjectMapper} produces for these types
+ * (including the {@code PageImpl} envelope with its {@code pageable} and {@code sort} metadata, ISO
+ * dates and omitted {@code null} values), but without bean introspection: field names are
+ * pre-encoded {@link SerializedString}s and ISO date strings are cached per day. A {@code SliceImpl}
+ * gets the same envelope without {@code totalPages} and {@code totalElements}.
+ * </p>
+ */
+public final class ReportResponseWriter {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGEABLE = new SerializedString("pageable");
+    private static final SerializedString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString SORT = new SerializedString("sort");
+    private static final SerializedString OFFSET = new SerializedString("offset");
+    private static final SerializedString PAGED = new SerializedString("paged");
+    private static final SerializedString UNPAGED = new SerializedString("unpaged");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+    private static final SerializedString SORTED = new SerializedString("sorted");
+    private static final SerializedString UNSORTED = new SerializedString("unsorted");
+
+    private static final SerializedString ZONE_ID = new SerializedString("zoneId");
+    private static final SerializedString DATE = new SerializedString("date");
+    private static final SerializedString TOTAL_NUMBER_OF_COLLECTIONS = new SerializedString("totalNumberOfCollections");
+    private static final SerializedString TOTAL_WEIGHT_COLLECTED_KG = new SerializedString("totalWeightCollectedKg");
+    private static final SerializedString VEHICLE_ID = new SerializedString("vehicleId");
+    private static final SerializedString WEIGHT_COLLECTED = new SerializedString("weightCollected");
+    private static final SerializedString COLLECTION_DATE = new SerializedString("collectionDate");
+    private static final SerializedString WORKER_ID = new SerializedString("workerId");
+    private static final SerializedString TOTAL_ACTIVE_MINUTES = new SerializedString("totalActiveMinutes");
+    private static final SerializedString PERIOD_START = new SerializedString("periodStart");
+    private static final SerializedString NUMBER_OF_COLLECTIONS = new SerializedString("numberOfCollections");
+
+    /** Upper bound for the day cache; reports overwhelmingly hit a few recent years of days. */
+    private static final int MAX_CACHED_DATES = 4096;
+    private static final ConcurrentMap<LocalDate, SerializedString> DATE_CACHE = new ConcurrentHashMap<>();
+
+    private ReportResponseWriter() {
+    }
+
+    /**
+     * @return {@code true} if {@link #write} can reproduce the default serialization of the given response.
+     * Unpaged pages are left to the {@code ObjectMapper}, which does not support them either.
+     */
+    public static boolean supports(RestResponse<?> response) {
+        return response.getData() instanceof Slice<?> page && page.getPageable().isPaged();
+    }
+
+    /**
+     * Writes a zone, vehicle or worker report response.
+     *
+     * @param generator The target generator.
+     * @param response A response whose data is a paged {@link Page} or {@link Slice} of {@link ZoneReportDTO},
+     * {@link VehicleReportDTO} or {@link WorkerReportDTO}.
+     * @throws IOException if writing to the generator fails.
+     */
+    public static void write(JsonGenerator generator, RestResponse<? extends Slice<?>> response) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(SUCCESS);
+        generator.writeBoolean(response.isSuccess());
+        if (response.getMessage() != null) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(response.getMessage());
+        }
+        if (response.getData() != null) {
+            generator.writeFieldName(DATA);
+            writePage(generator, response.getData());
+        }
+        if (response.getTimestamp() != null) {
+            generator.writeFieldName(TIMESTAMP);
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(response.getTimestamp()));
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writePage(JsonGenerator generator, Slice<?> page) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(CONTENT);
+        List<?> content = page.getContent();
+        generator.writeStartArray(content, content.size());
+        for (Object row : content) {
+            if (row instanceof ZoneReportDTO zoneReport) {
+                writeZoneReport(generator, zoneReport);
+            } else if (row instanceof VehicleReportDTO vehicleReport) {
+                writeVehicleReport(generator, vehicleReport);
+            } else if (row instanceof WorkerReportDTO workerReport) {
+                writeWorkerReport(generator, workerReport);
+            } else if (row == null) {
+                generator.writeNull();
+            } else {
+                throw new IllegalArgumentException("Unsupported report row type: " + row.getClass().getName());
+            }
+        }
+        generator.writeEndArray();
+
+        Pageable pageable = page.getPageable();
+        generator.writeFieldName(PAGEABLE);
+        generator.writeStartObject();
+        writeNumberField(generator, PAGE_NUMBER, pageable.getPageNumber());
+        writeNumberField(generator, PAGE_SIZE, pageable.getPageSize());
+        generator.writeFieldName(SORT);
+        writeSort(generator, pageable.getSort());
+        writeNumberField(generator, OFFSET, pageable.getOffset());
+        writeBooleanField(generator, PAGED, pageable.isPaged());
+        writeBooleanField(generator, UNPAGED, pageable.isUnpaged());
+        generator.writeEndObject();
+
+        if (page instanceof Page<?> counted) {
+            writeNumberField(generator, TOTAL_PAGES, counted.getTotalPages());
+            writeNumberField(generator, TOTAL_ELEMENTS, counted.getTotalElements());
+        }
+        writeBooleanField(generator, LAST, page.isLast());
+        writeNumberField(generator, SIZE, page.getSize());
+        writeNumberField(generator, NUMBER, page.getNumber());
+        generator.writeFieldName(SORT);
+        writeSort(generator, page.getSort());
+        writeBooleanField(generator, FIRST, page.isFirst());
+        writeNumberField(generator, NUMBER_OF_ELEMENTS, page.getNumberOfElements());
+        writeBooleanField(generator, EMPTY, page.isEmpty());
+        generator.writeEndObject();
+    }
+
+    private static void writeSort(JsonGenerator generator, Sort sort) throws IOException {
+        generator.writeStartObject();
+        writeBooleanField(generator, EMPTY, sort.isEmpty());
+        writeBooleanField(generator, SORTED, sort.isSorted());
+        writeBooleanField(generator, UNSORTED, sort.isUnsorted());
+        generator.writeEndObject();
+    }
+
+    private static void writeZoneReport(JsonGenerator generator, ZoneReportDTO report) throws IOException {
+        generator.writeStartObject();
+        if (report.getZoneId() != null) {
+            generator.writeFieldName(ZONE_ID);
+            generator.writeString(report.getZoneId());
+        }
+        if (report.getDate() != null) {
+            generator.writeFieldName(DATE);
+            generator.writeString(isoDate(report.getDate()));
+        }
+        if (report.getTotalNumberOfCollections() != null) {
+            writeNumberField(generator, TOTAL_NUMBER_OF_COLLECTIONS, report.getTotalNumberOfCollections());
+        }
+        if (report.getTotalWeightCollectedKg() != null) {
+            generator.writeFieldName(TOTAL_WEIGHT_COLLECTED_KG);
+            generator.writeNumber(report.getTotalWeightCollectedKg());
+        }
+        if (report.getPeriodStart() != null) {
+            generator.writeFieldName(PERIOD_START);
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(report.getPeriodStart()));
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeVehicleReport(JsonGenerator generator, VehicleReportDTO report) throws IOException {
+        generator.writeStartObject();
+        if (report.getVehicleId() != null) {
+            generator.writeFieldName(VEHICLE_ID);
+            generator.writeString(report.getVehicleId());
+        }
+        if (report.getZoneId() != null) {
+            generator.writeFieldName(ZONE_ID);
+            generator.writeString(report.getZoneId());
+        }
+        if (report.getWeightCollected() != null) {
+            generator.writeFieldName(WEIGHT_COLLECTED);
+            generator.writeNumber(report.getWeightCollected());
+        }
+        if (report.getCollectionDate() != null) {
+            generator.writeFieldName(COLLECTION_DATE);
+            generator.writeString(isoDate(report.getCollectionDate()));
+        }
+        if (report.getNumberOfCollections() != null) {
+            writeNumberField(generator, NUMBER_OF_COLLECTIONS, report.getNumberOfCollections());
+        }
+        if (report.getPeriodStart() != null) {
+            generator.writeFieldName(PERIOD_START);
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(report.getPeriodStart()));
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeWorkerReport(JsonGenerator generator, WorkerReportDTO report) throws IOException {
+        generator.writeStartObject();
+        if (report.getWorkerId() != null) {
+            generator.writeFieldName(WORKER_ID);
+            generator.writeString(report.getWorkerId());
+        }
+        if (report.getDate() != null) {
+            generator.writeFieldName(DATE);
+            generator.writeString(isoDate(report.getDate()));
+        }
+        if (report.getTotalNumberOfCollections() != null) {
+            writeNumberField(generator, TOTAL_NUMBER_OF_COLLECTIONS, report.getTotalNumberOfCollections());
+        }
+        if (report.getTotalWeightCollectedKg() != null) {
+            generator.writeFieldName(TOTAL_WEIGHT_COLLECTED_KG);
+            generator.writeNumber(report.getTotalWeightCollectedKg());
+        }
+        if (report.getTotalActiveMinutes() != null) {
+            writeNumberField(generator, TOTAL_ACTIVE_MINUTES, report.getTotalActiveMinutes());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeNumberField(JsonGenerator generator, SerializableString name, long value) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeNumber(value);
+    }
+
+    private static void writeBooleanField(JsonGenerator generator, SerializableString name, boolean value) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeBoolean(value);
+    }
+
+    private static SerializedString isoDate(LocalDate date) {
+        SerializedString cached = DATE_CACHE.get(date);
+        if (cached == null) {
+            if (DATE_CACHE.size() >= MAX_CACHED_DATES) {
+                DATE_CACHE.clear();
+            }
+            cached = new SerializedString(date.toString());
+            DATE_CACHE.put(date, cached);
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,81 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import java.time.LocalDateTime;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+
+/**
+ * A start or end of a collection, as carried through the {@link CollectionEventRingBuffer}.
+ * <p>
+ * Instances are preallocated slots of the ring and are overwritten by the producer that claims the
+ * slot; handlers must copy whatever they keep beyond {@link CollectionEventHandler#onEvent}.
+ * </p>
+ */
+public final class CollectionEvent {
+
+    /**
+     * What happened to the log.
+     */
+    public enum Type {
+        START,
+        END
+    }
+
+    private Type type;
+    private long logId;
+    private String zoneId;
+    private String vehicleId;
+    private String workerId;
+    private LocalDateTime collectionStartTime;
+    private LocalDateTime collectionEndTime;
+    private long weightHundredths;
+
+    /**
+     * Overwrites this slot with the state of {@code wasteLog}.
+     */
+    void set(Type type, WasteLog wasteLog) {
+        this.type = type;
+        this.logId = wasteLog.getLogId();
+        this.zoneId = wasteLog.getZoneId();
+        this.vehicleId = wasteLog.getVehicleId();
+        this.workerId = wasteLog.getWorkerId();
+        this.collectionStartTime = wasteLog.getCollectionStartTime();
+        this.collectionEndTime = wasteLog.getCollectionEndTime();
+        this.weightHundredths = wasteLog.getWeightCollected() == null ? 0L : wasteLog.getWeightCollected();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getLogId() {
+        return logId;
+    }
+
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    public String getVehicleId() {
+        return vehicleId;
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public LocalDateTime getCollectionStartTime() {
+        return collectionStartTime;
+    }
+
+    public LocalDateTime getCollectionEndTime() {
+        return collectionEndTime;
+    }
+
+    /**
+     * @return The collected weight in hundredths of a kilogram, {@code 0} for a start.
+     */
+    public long getWeightHundredths() {
+        return weightHundredths;
+    }
+}
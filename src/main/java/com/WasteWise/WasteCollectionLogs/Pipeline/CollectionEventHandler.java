@@ -0,0 +1,20 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+/**
+ * One consumer stage of the {@link CollectionEventPipeline}.
+ * <p>
+ * Every handler sees every event, in publication order, on its own thread; handlers do not wait
+ * for each other. Spring beans implementing this interface are registered automatically.
+ * </p>
+ */
+public interface CollectionEventHandler {
+
+    /**
+     * Handles one event. The event object is reused for later events and must not be retained.
+     *
+     * @param event The event.
+     * @param sequence The position of the event in the ring.
+     * @param endOfBatch {@code true} if no further event is currently available, a good point to flush buffered work.
+     */
+    void onEvent(CollectionEvent event, long sequence, boolean endOfBatch);
+}
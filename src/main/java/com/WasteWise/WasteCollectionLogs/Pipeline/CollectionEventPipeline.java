@@ -0,0 +1,172 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hands committed starts and ends of collections from the request threads to the derived-state
+ * stages (every {@link CollectionEventHandler} bean) through a {@link CollectionEventRingBuffer}.
+ * <p>
+ * Each stage runs on its own thread and consumes the ring independently, so a slow stage only
+ * delays itself until the ring is full. Publishing costs a CAS and a few field writes; the request
+ * thread no longer waits for rollups or caches to be updated.
+ * </p>
+ * <p>
+ * With {@code wastewise.pipeline.enabled=false}, or before start and after shutdown, events are
+ * handed to every stage synchronously on the calling thread.
+ * </p>
+ */
+@Component
+public class CollectionEventPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionEventPipeline.class);
+
+    private static final long DRAIN_TIMEOUT_MS = 10_000;
+
+    private final List<CollectionEventHandler> handlers;
+    private final boolean enabled;
+    private final int bufferSize;
+    private final long idleParkNanos;
+
+    private final List<EventProcessor> processors = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private CollectionEventRingBuffer ringBuffer;
+    private volatile boolean running;
+
+    public CollectionEventPipeline(List<CollectionEventHandler> handlers,
+                                   @Value("${wastewise.pipeline.enabled:true}") boolean enabled,
+                                   @Value("${wastewise.pipeline.buffer-size:4096}") int bufferSize,
+                                   @Value("${wastewise.pipeline.idle-park-micros:100}") long idleParkMicros) {
+        this.handlers = List.copyOf(handlers);
+        this.enabled = enabled;
+        this.bufferSize = bufferSize;
+        this.idleParkNanos = TimeUnit.MICROSECONDS.toNanos(idleParkMicros);
+    }
+
+    /**
+     * Preallocates the ring and starts one processor thread per stage.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled || handlers.isEmpty()) {
+            logger.info("Collection event pipeline disabled, {} stages run on the request thread", handlers.size());
+            return;
+        }
+        ringBuffer = new CollectionEventRingBuffer(bufferSize);
+        for (CollectionEventHandler handler : handlers) {
+            EventProcessor processor = new EventProcessor(ringBuffer, handler, idleParkNanos);
+            Thread thread = new Thread(processor, "collection-event-" + handler.getClass().getSimpleName());
+            thread.setDaemon(true);
+            processors.add(processor);
+            threads.add(thread);
+        }
+        running = true;
+        threads.forEach(Thread::start);
+        logger.info("Collection event pipeline started: bufferSize={}, stages={}", bufferSize, handlers.size());
+    }
+
+    /**
+     * Stops accepting events into the ring, waits until every stage has consumed what was published
+     * and stops the processor threads.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MS);
+        while (getBacklog() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        if (getBacklog() > 0) {
+            logger.warn("Collection event pipeline stopped with {} unconsumed events", getBacklog());
+        }
+        processors.forEach(EventProcessor::halt);
+        for (Thread thread : threads) {
+            try {
+                thread.join(DRAIN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Publishes the start of a committed collection.
+     */
+    public void publishStart(WasteLog wasteLog) {
+        publish(CollectionEvent.Type.START, wasteLog);
+    }
+
+    /**
+     * Publishes the end of a committed collection.
+     */
+    public void publishEnd(WasteLog wasteLog) {
+        publish(CollectionEvent.Type.END, wasteLog);
+    }
+
+    /**
+     * @return The number of events published into the ring so far.
+     */
+    public long getPublished() {
+        return ringBuffer == null ? 0 : ringBuffer.getCursor() + 1;
+    }
+
+    /**
+     * @return How many published events the slowest stage has not handled yet.
+     */
+    public long getBacklog() {
+        if (ringBuffer == null) {
+            return 0;
+        }
+        long cursor = ringBuffer.getCursor();
+        return cursor - ringBuffer.minimumSequence(cursor);
+    }
+
+    /**
+     * @return How often a request thread found the ring full and had to wait for the slowest stage.
+     */
+    public long getProducerWaits() {
+        return ringBuffer == null ? 0 : ringBuffer.getProducerWaits();
+    }
+
+    /**
+     * @return The number of events on which a stage threw; the stage skips the event and continues.
+     */
+    public long getHandlerFailures() {
+        return processors.stream().mapToLong(EventProcessor::getFailures).sum();
+    }
+
+    private void publish(CollectionEvent.Type type, WasteLog wasteLog) {
+        // Checked before claiming: a claimed slot is always published, so filling it must not fail.
+        Objects.requireNonNull(wasteLog.getLogId(), "Only saved waste logs can be published");
+        if (!running) {
+            CollectionEvent event = new CollectionEvent();
+            event.set(type, wasteLog);
+            for (CollectionEventHandler handler : handlers) {
+                handler.onEvent(event, -1, true);
+            }
+            return;
+        }
+        long sequence = ringBuffer.next();
+        try {
+            ringBuffer.get(sequence).set(type, wasteLog);
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+    }
+}
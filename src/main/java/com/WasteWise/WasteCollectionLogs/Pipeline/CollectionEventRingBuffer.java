@@ -0,0 +1,142 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Preallocated multi-producer ring of {@link CollectionEvent} slots.
+ * <p>
+ * Producers claim a sequence with a CAS on the cursor, fill the slot in place and publish it by
+ * stamping the slot's round number into the availability array, so concurrent producers never take
+ * a lock and nothing is allocated per event. Consumers (see {@link EventProcessor}) read up to the
+ * highest contiguously published sequence and advance their own sequence afterwards. A producer
+ * that would overwrite a slot not yet consumed by every registered consumer parks until the slowest
+ * one has moved on, which is the ring's only form of backpressure.
+ * </p>
+ */
+final class CollectionEventRingBuffer {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final CollectionEvent[] entries;
+    private final int bufferSize;
+    private final int mask;
+    private final int indexShift;
+    private final int[] availableBuffer;
+
+    private final Sequence cursor = new Sequence(-1);
+    private final Sequence gatingSequenceCache = new Sequence(-1);
+    private volatile Sequence[] gatingSequences = new Sequence[0];
+    private final AtomicLong producerWaits = new AtomicLong();
+
+    CollectionEventRingBuffer(int bufferSize) {
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of two, was " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.entries = new CollectionEvent[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            entries[i] = new CollectionEvent();
+        }
+        this.availableBuffer = new int[bufferSize];
+        Arrays.fill(availableBuffer, -1);
+    }
+
+    /**
+     * Registers a consumer sequence that producers must not overtake. Called before publishing starts.
+     */
+    void addGatingSequence(Sequence sequence) {
+        Sequence[] current = gatingSequences;
+        Sequence[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = sequence;
+        gatingSequences = updated;
+    }
+
+    /**
+     * Claims the next slot, parking while the ring is full.
+     *
+     * @return The claimed sequence; the caller must {@link #publish(long)} it, even if filling the slot fails.
+     */
+    long next() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - bufferSize;
+            long cachedGatingSequence = gatingSequenceCache.get();
+
+            if (wrapPoint > cachedGatingSequence || cachedGatingSequence > current) {
+                long gatingSequence = minimumSequence(current);
+                if (wrapPoint > gatingSequence) {
+                    producerWaits.incrementAndGet();
+                    LockSupport.parkNanos(1);
+                    continue;
+                }
+                gatingSequenceCache.set(gatingSequence);
+            } else if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    CollectionEvent get(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    /**
+     * Makes the slot at {@code sequence} visible to consumers.
+     */
+    void publish(long sequence) {
+        AVAILABLE.setRelease(availableBuffer, (int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    boolean isAvailable(long sequence) {
+        return (int) AVAILABLE.getAcquire(availableBuffer, (int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    /**
+     * Producers claim in order but may publish out of order; a consumer may only read up to the last
+     * sequence before the first gap.
+     *
+     * @return The highest sequence in {@code [lowerBound, availableSequence]} published without a gap,
+     *         or {@code lowerBound - 1} if {@code lowerBound} itself is not published yet.
+     */
+    long getHighestPublishedSequence(long lowerBound, long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if (!isAvailable(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    /**
+     * @return The highest claimed sequence; slots up to it may still be unpublished.
+     */
+    long getCursor() {
+        return cursor.get();
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return How often a producer found the ring full and had to wait for the slowest consumer.
+     */
+    long getProducerWaits() {
+        return producerWaits.get();
+    }
+
+    long minimumSequence(long defaultValue) {
+        long minimum = defaultValue;
+        for (Sequence sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
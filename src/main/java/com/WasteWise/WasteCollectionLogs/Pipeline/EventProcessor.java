@@ -0,0 +1,96 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs one {@link CollectionEventHandler} over the ring on a dedicated thread.
+ * <p>
+ * The processor waits on the ring's cursor, handles every newly published event in one batch and
+ * only then advances its own sequence, so producers see one volatile write per batch rather than
+ * one per event. While idle it spins briefly, then yields, then parks for {@code idleParkNanos},
+ * which keeps latency low under load without burning a core when nothing happens.
+ * </p>
+ */
+final class EventProcessor implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventProcessor.class);
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+
+    private final CollectionEventRingBuffer ringBuffer;
+    private final CollectionEventHandler handler;
+    private final long idleParkNanos;
+    private final Sequence sequence = new Sequence(-1);
+    private final AtomicLong failures = new AtomicLong();
+    private volatile boolean running = true;
+
+    EventProcessor(CollectionEventRingBuffer ringBuffer, CollectionEventHandler handler, long idleParkNanos) {
+        this.ringBuffer = ringBuffer;
+        this.handler = handler;
+        this.idleParkNanos = idleParkNanos;
+        ringBuffer.addGatingSequence(sequence);
+    }
+
+    @Override
+    public void run() {
+        long nextSequence = sequence.get() + 1;
+        int idleCount = 0;
+        while (running) {
+            long availableSequence = ringBuffer.getHighestPublishedSequence(nextSequence, ringBuffer.getCursor());
+            if (availableSequence < nextSequence) {
+                idleCount = idle(idleCount);
+                continue;
+            }
+            idleCount = 0;
+            for (long current = nextSequence; current <= availableSequence; current++) {
+                try {
+                    handler.onEvent(ringBuffer.get(current), current, current == availableSequence);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                    logger.error("Collection event handler {} failed at sequence {}", handler.getClass().getSimpleName(), current, e);
+                }
+            }
+            sequence.set(availableSequence);
+            nextSequence = availableSequence + 1;
+        }
+    }
+
+    /**
+     * Stops the processor after its current batch.
+     */
+    void halt() {
+        running = false;
+    }
+
+    /**
+     * @return The last sequence this processor has fully handled.
+     */
+    long getSequence() {
+        return sequence.get();
+    }
+
+    long getFailures() {
+        return failures.get();
+    }
+
+    CollectionEventHandler getHandler() {
+        return handler;
+    }
+
+    private int idle(int idleCount) {
+        if (idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idleCount < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(idleParkNanos);
+            return idleCount;
+        }
+        return idleCount + 1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A padded, concurrently readable sequence number.
+ * The padding keeps the value on its own cache line so that a producer cursor and the consumer
+ * sequences updated by other threads do not invalidate each other (false sharing).
+ */
+final class Sequence {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+    private volatile long value;
+    @SuppressWarnings("unused")
+    private long p9, p10, p11, p12, p13, p14, p15;
+
+    Sequence(long initial) {
+        this.value = initial;
+    }
+
+    long get() {
+        return value;
+    }
+
+    /**
+     * Ordered write: cheaper than a volatile write and sufficient for a single writer publishing progress.
+     */
+    void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+}
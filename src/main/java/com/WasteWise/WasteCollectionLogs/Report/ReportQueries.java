@@ -0,0 +1,235 @@
+package com.WasteWise.WasteCollectionLogs.Report;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.ZoneDayAggregate;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Repository.LogInterval;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+
+/**
+ * Read-only query layer of the zone and vehicle reports, the vehicle utilization and the overlap audit.
+ * <p>
+ * Reports only read, so they bypass JPA: rows are mapped straight into report DTOs by plain JDBC,
+ * with no {@code WasteLog} entities, no dirty-checking snapshots and no persistence context that grows
+ * with the range. Every call runs in a read-only transaction, and results are fetched
+ * {@code wastewise.reports.fetch-size} rows at a time (a server-side cursor with
+ * {@code useCursorFetch=true} on MySQL), so the driver never buffers a large range either. Only
+ * completed collections are returned, except to the overlap audit, which also checks open ones; the
+ * queries use the same indexes as the repository.
+ * </p>
+ */
+@Component
+@Transactional(readOnly = true)
+public class ReportQueries {
+
+    static final String ZONE_DAYS_SQL = "SELECT zone_id, CAST(collection_start_time AS DATE) AS collection_date,"
+            + " COUNT(DISTINCT vehicle_id) AS vehicles, SUM(weight_collected) AS weight_kg FROM waste_log"
+            + " WHERE zone_id IN (:ids) AND collection_start_time BETWEEN :from AND :to AND collection_end_time IS NOT NULL"
+            + " GROUP BY zone_id, CAST(collection_start_time AS DATE) ORDER BY zone_id, collection_date";
+    static final String ZONE_VEHICLE_TOTALS_SQL = "SELECT zone_id, vehicle_id, COUNT(*) AS collections, SUM(weight_collected) AS weight_kg"
+            + " FROM waste_log WHERE zone_id IN (:ids) AND collection_start_time BETWEEN :from AND :to"
+            + " AND collection_end_time IS NOT NULL GROUP BY zone_id, vehicle_id";
+    static final String VEHICLE_COLLECTIONS_SQL = "SELECT log_id, vehicle_id, zone_id, weight_collected, collection_start_time FROM waste_log"
+            + " WHERE vehicle_id IN (:ids) AND collection_start_time BETWEEN :from AND :to AND collection_end_time IS NOT NULL"
+            + " ORDER BY vehicle_id, collection_start_time, log_id";
+    static final String VEHICLE_WINDOW_SQL = VEHICLE_COLLECTIONS_SQL + " LIMIT :limit OFFSET :offset";
+    static final String INTERVAL_COLUMNS = "SELECT log_id, vehicle_id, worker_id, collection_start_time, collection_end_time FROM waste_log";
+    static final String INTERVAL_SQL = INTERVAL_COLUMNS + " WHERE log_id = :logId";
+    static final String VEHICLE_INTERVALS_SQL = INTERVAL_COLUMNS + " WHERE vehicle_id IN (:ids)"
+            + " AND collection_start_time >= :from AND collection_start_time < :to AND collection_end_time IS NOT NULL"
+            + " ORDER BY collection_start_time, log_id";
+    static final String INTERVALS_BY_VEHICLE_SQL = INTERVAL_COLUMNS + " WHERE collection_start_time >= :from AND collection_start_time < :to"
+            + " ORDER BY vehicle_id, collection_start_time, log_id";
+    static final String INTERVALS_BY_WORKER_SQL = INTERVAL_COLUMNS + " WHERE collection_start_time >= :from AND collection_start_time < :to"
+            + " ORDER BY worker_id, collection_start_time, log_id";
+
+    private static final RowMapper<ZoneReportDTO> ZONE_DAY_MAPPER = (rs, row) -> new ZoneReportDTO(rs.getString("zone_id"),
+            rs.getDate("collection_date").toLocalDate(), rs.getLong("vehicles"), kilograms(rs.getBigDecimal("weight_kg")));
+
+    private static final RowMapper<VehicleReportDTO> VEHICLE_COLLECTION_MAPPER = (rs, row) -> new VehicleReportDTO(
+            rs.getString("vehicle_id"), rs.getString("zone_id"), nullableKilograms(rs, "weight_collected"),
+            rs.getTimestamp("collection_start_time").toLocalDateTime().toLocalDate());
+
+    private static final RowMapper<LogInterval> INTERVAL_MAPPER = (rs, row) -> new Interval(rs.getLong("log_id"),
+            rs.getString("vehicle_id"), rs.getString("worker_id"), rs.getTimestamp("collection_start_time").toLocalDateTime(),
+            rs.getTimestamp("collection_end_time") == null ? null : rs.getTimestamp("collection_end_time").toLocalDateTime());
+
+    private static final RowMapper<VehicleCollection> VEHICLE_ROW_MAPPER = (rs, row) -> new VehicleCollection(
+            rs.getTimestamp("collection_start_time").toLocalDateTime(), rs.getLong("log_id"), VEHICLE_COLLECTION_MAPPER.mapRow(rs, row));
+
+    /**
+     * A vehicle report row with the columns the queries order it by, so that rows read from several
+     * shards can be merged into the order a single database would return.
+     */
+    record VehicleCollection(LocalDateTime start, long logId, VehicleReportDTO report) {
+        static final Comparator<VehicleCollection> ORDER = Comparator
+                .comparing((VehicleCollection collection) -> collection.report().getVehicleId())
+                .thenComparing(VehicleCollection::start)
+                .thenComparingLong(VehicleCollection::logId);
+    }
+
+    /**
+     * One log's interval; the end is {@code null} for an open log.
+     */
+    record Interval(Long logId, String vehicleId, String workerId, LocalDateTime start, LocalDateTime end) implements LogInterval {
+        @Override
+        public Long getLogId() {
+            return logId;
+        }
+
+        @Override
+        public String getVehicleId() {
+            return vehicleId;
+        }
+
+        @Override
+        public String getWorkerId() {
+            return workerId;
+        }
+
+        @Override
+        public LocalDateTime getCollectionStartTime() {
+            return start;
+        }
+
+        @Override
+        public LocalDateTime getCollectionEndTime() {
+            return end;
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReportQueries(JdbcTemplate jdbcTemplate, @Value("${wastewise.reports.fetch-size:500}") int fetchSize) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    /**
+     * Summarizes the completed collections of zones per zone and day inside the database.
+     *
+     * @return One row per zone and day, ordered by zone and date; {@code totalNumberOfCollections}
+     * holds the distinct vehicles of the day, like the other zone reports.
+     */
+    public List<ZoneReportDTO> findZoneDays(Collection<String> zoneIds, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(ZONE_DAYS_SQL, range(zoneIds, from, to), ZONE_DAY_MAPPER);
+    }
+
+    /**
+     * Adds the completed collections of zones to their totals, one row per zone and vehicle, so each
+     * vehicle is counted once for the whole range. Rows of zones missing from {@code totals} are skipped.
+     */
+    public void sumZoneTotals(Collection<String> zoneIds, LocalDateTime from, LocalDateTime to, Map<String, ZoneDayAggregate> totals) {
+        jdbcTemplate.query(ZONE_VEHICLE_TOTALS_SQL, range(zoneIds, from, to), rs -> {
+            ZoneDayAggregate zoneTotals = totals.get(rs.getString("zone_id"));
+            if (zoneTotals != null) {
+                zoneTotals.add(rs.getString("vehicle_id"), rs.getLong("collections"),
+                        WeightUnits.toHundredths(rs.getBigDecimal("weight_kg")));
+            }
+        });
+    }
+
+    /**
+     * @return The completed collections of the vehicles, one report row each, ordered by vehicle and start time.
+     */
+    public List<VehicleReportDTO> findVehicleCollections(Collection<String> vehicleIds, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(VEHICLE_COLLECTIONS_SQL, range(vehicleIds, from, to), VEHICLE_COLLECTION_MAPPER);
+    }
+
+    /**
+     * Reads one window of the completed collections of a vehicle, ordered by start time, without a
+     * count query. The database stops after {@code offset + limit} entries of
+     * {@code idx_waste_log_vehicle_start}; callers ask for one row more than they return to learn
+     * whether another window follows.
+     */
+    public List<VehicleReportDTO> findVehicleCollectionWindow(String vehicleId, LocalDateTime from, LocalDateTime to,
+                                                              long offset, int limit) {
+        return jdbcTemplate.query(VEHICLE_WINDOW_SQL, window(vehicleId, from, to, offset, limit), VEHICLE_COLLECTION_MAPPER);
+    }
+
+    /**
+     * @return The interval of one log, open or completed, or empty if it does not exist.
+     */
+    public Optional<LogInterval> findInterval(long logId) {
+        return jdbcTemplate.query(INTERVAL_SQL, new MapSqlParameterSource("logId", logId), INTERVAL_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Streams the completed collections of a vehicle that started in {@code [from, to)}, ordered by start
+     * time, for the utilization sweep; the order comes from {@code idx_waste_log_vehicle_start}. Rows are
+     * fetched as the stream is consumed, so it must be consumed inside the caller's transaction and closed.
+     */
+    public Stream<LogInterval> streamVehicleIntervals(String vehicleId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForStream(VEHICLE_INTERVALS_SQL, range(List.of(vehicleId), from, to), INTERVAL_MAPPER);
+    }
+
+    /**
+     * Streams the intervals of all logs that started in {@code [from, to)}, open ones included, grouped by
+     * vehicle and ordered by start time within each vehicle, for the overlap audit. Must be consumed
+     * inside the caller's transaction and closed.
+     */
+    public Stream<LogInterval> streamIntervalsOrderedByVehicle(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForStream(INTERVALS_BY_VEHICLE_SQL, period(from, to), INTERVAL_MAPPER);
+    }
+
+    /**
+     * Same as {@link #streamIntervalsOrderedByVehicle}, grouped by worker instead.
+     */
+    public Stream<LogInterval> streamIntervalsOrderedByWorker(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForStream(INTERVALS_BY_WORKER_SQL, period(from, to), INTERVAL_MAPPER);
+    }
+
+    List<VehicleCollection> findVehicleCollectionRows(Collection<String> vehicleIds, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(VEHICLE_COLLECTIONS_SQL, range(vehicleIds, from, to), VEHICLE_ROW_MAPPER);
+    }
+
+    List<VehicleCollection> findVehicleCollectionWindowRows(String vehicleId, LocalDateTime from, LocalDateTime to,
+                                                            long offset, int limit) {
+        return jdbcTemplate.query(VEHICLE_WINDOW_SQL, window(vehicleId, from, to, offset, limit), VEHICLE_ROW_MAPPER);
+    }
+
+    private static MapSqlParameterSource window(String vehicleId, LocalDateTime from, LocalDateTime to, long offset, int limit) {
+        return range(List.of(vehicleId), from, to)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+    }
+
+    private static MapSqlParameterSource range(Collection<String> ids, LocalDateTime from, LocalDateTime to) {
+        return period(from, to).addValue("ids", ids);
+    }
+
+    private static MapSqlParameterSource period(LocalDateTime from, LocalDateTime to) {
+        return new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+    }
+
+    private static double kilograms(BigDecimal kilograms) {
+        return WeightUnits.toKilograms(WeightUnits.toHundredths(kilograms));
+    }
+
+    private static Double nullableKilograms(ResultSet rs, String column) throws SQLException {
+        BigDecimal kilograms = rs.getBigDecimal(column);
+        return kilograms == null ? null : kilograms(kilograms);
+    }
+}
@@ -0,0 +1,201 @@
+package com.WasteWise.WasteCollectionLogs.Report;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.ZoneDayAggregate;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Repository.LogInterval;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardMap;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+
+/**
+ * {@link ReportQueries} over zone-sharded storage.
+ * <p>
+ * Zone queries only visit the shards of the requested zones. A vehicle drives through zones of every
+ * shard, so vehicle queries are scattered to all shards at once by {@link ZoneSharding#scatter}, and
+ * the rows are merged into the order of a single database: by vehicle, start time and log ID. A
+ * window of a vehicle's collections reads the first {@code offset + limit} rows of every shard, since
+ * any of them may hold the rows of the window.
+ * </p>
+ * <p>
+ * Interval streams are opened on every shard and merged as they are consumed, holding one row per
+ * shard, so the utilization sweep and the overlap audit see one ordered stream and stay in constant memory.
+ * </p>
+ */
+public class ShardedReportQueries extends ReportQueries {
+
+    private static final Comparator<LogInterval> START_ORDER = Comparator
+            .comparing(LogInterval::getCollectionStartTime).thenComparing(LogInterval::getLogId);
+
+    private final ShardRoutingDataSource routing;
+    private final ShardMap shardMap;
+    private final ZoneSharding zoneSharding;
+    private final Map<String, ReportQueries> shards = new LinkedHashMap<>();
+
+    public ShardedReportQueries(ShardRoutingDataSource shards, ShardMap shardMap, ZoneSharding zoneSharding, int fetchSize) {
+        super(new JdbcTemplate(shards), fetchSize);
+        this.routing = shards;
+        this.shardMap = shardMap;
+        this.zoneSharding = zoneSharding;
+        for (String shard : shards.getShardNames()) {
+            this.shards.put(shard, new ReportQueries(new JdbcTemplate(shards.getShard(shard)), fetchSize));
+        }
+    }
+
+    @Override
+    public List<ZoneReportDTO> findZoneDays(Collection<String> zoneIds, LocalDateTime from, LocalDateTime to) {
+        List<ZoneReportDTO> days = new ArrayList<>();
+        scatter(zonesByShard(zoneIds), (queries, ids) -> queries.findZoneDays(ids, from, to)).forEach(days::addAll);
+        days.sort(Comparator.comparing(ZoneReportDTO::getZoneId).thenComparing(ZoneReportDTO::getDate));
+        return days;
+    }
+
+    @Override
+    public void sumZoneTotals(Collection<String> zoneIds, LocalDateTime from, LocalDateTime to, Map<String, ZoneDayAggregate> totals) {
+        // Each zone lives on one shard, so no two shards add to the same aggregate.
+        scatter(zonesByShard(zoneIds), (queries, ids) -> {
+            queries.sumZoneTotals(ids, from, to, totals);
+            return List.of();
+        });
+    }
+
+    @Override
+    public List<VehicleReportDTO> findVehicleCollections(Collection<String> vehicleIds, LocalDateTime from, LocalDateTime to) {
+        return merge(scatter(onAllShards(vehicleIds), (queries, ids) -> queries.findVehicleCollectionRows(ids, from, to)), 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<VehicleReportDTO> findVehicleCollectionWindow(String vehicleId, LocalDateTime from, LocalDateTime to,
+                                                              long offset, int limit) {
+        int perShard = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+        return merge(scatter(onAllShards(List.of(vehicleId)),
+                (queries, ids) -> queries.findVehicleCollectionWindowRows(vehicleId, from, to, 0, perShard)), offset, limit);
+    }
+
+    /**
+     * Reads the log from its shard, outside of any transaction bound to another shard.
+     */
+    @Override
+    public Optional<LogInterval> findInterval(long logId) {
+        return shards.get(routing.shardOfLog(logId)).findInterval(logId);
+    }
+
+    @Override
+    public Stream<LogInterval> streamVehicleIntervals(String vehicleId, LocalDateTime from, LocalDateTime to) {
+        return mergeStreams(shard -> shard.streamVehicleIntervals(vehicleId, from, to), START_ORDER);
+    }
+
+    @Override
+    public Stream<LogInterval> streamIntervalsOrderedByVehicle(LocalDateTime from, LocalDateTime to) {
+        return mergeStreams(shard -> shard.streamIntervalsOrderedByVehicle(from, to),
+                Comparator.comparing(LogInterval::getVehicleId).thenComparing(START_ORDER));
+    }
+
+    @Override
+    public Stream<LogInterval> streamIntervalsOrderedByWorker(LocalDateTime from, LocalDateTime to) {
+        return mergeStreams(shard -> shard.streamIntervalsOrderedByWorker(from, to),
+                Comparator.comparing(LogInterval::getWorkerId).thenComparing(START_ORDER));
+    }
+
+    private Map<String, List<String>> zonesByShard(Collection<String> zoneIds) {
+        Map<String, List<String>> byShard = new TreeMap<>();
+        for (String zoneId : zoneIds) {
+            byShard.computeIfAbsent(shardMap.shardOf(zoneId), shard -> new ArrayList<>()).add(zoneId);
+        }
+        return byShard;
+    }
+
+    private Map<String, Collection<String>> onAllShards(Collection<String> ids) {
+        Map<String, Collection<String>> byShard = new LinkedHashMap<>();
+        shards.keySet().forEach(shard -> byShard.put(shard, ids));
+        return byShard;
+    }
+
+    private static List<VehicleReportDTO> merge(List<List<ReportQueries.VehicleCollection>> perShard, long offset, int limit) {
+        List<ReportQueries.VehicleCollection> rows = new ArrayList<>();
+        perShard.forEach(rows::addAll);
+        // Every shard's rows are already sorted, so this is a merge of runs.
+        rows.sort(ReportQueries.VehicleCollection.ORDER);
+        return rows.stream().skip(offset).limit(limit).map(ReportQueries.VehicleCollection::report).toList();
+    }
+
+    /**
+     * Runs {@code query} against each listed shard in parallel and waits for all of them.
+     *
+     * @return The results in the order of {@code idsByShard}.
+     */
+    private <T, C extends Collection<String>> List<List<T>> scatter(Map<String, C> idsByShard,
+                                                                    ShardQuery<T, C> query) {
+        return zoneSharding.scatter(idsByShard.keySet(), shard -> query.run(shards.get(shard), idsByShard.get(shard)));
+    }
+
+    /**
+     * Opens {@code query} on every shard and merges the streams, each already sorted by {@code order}.
+     * Closing the merged stream closes those of the shards.
+     */
+    private <T> Stream<T> mergeStreams(Function<ReportQueries, Stream<T>> query, Comparator<? super T> order) {
+        List<Stream<T>> streams = new ArrayList<>(shards.size());
+        try {
+            for (ReportQueries shard : shards.values()) {
+                streams.add(query.apply(shard));
+            }
+        } catch (RuntimeException e) {
+            streams.forEach(Stream::close);
+            throw e;
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Comparator.comparing((Head<T> head) -> head.row(), order));
+        for (Stream<T> stream : streams) {
+            Head.next(stream.iterator(), heads);
+        }
+        Iterator<T> merged = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Head<T> head = heads.remove();
+                Head.next(head.rest(), heads);
+                return head.row();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(() -> streams.forEach(Stream::close));
+    }
+
+    /**
+     * The next row of one shard's stream, with the rest of that stream.
+     */
+    private record Head<T>(T row, Iterator<T> rest) {
+        static <T> void next(Iterator<T> rest, PriorityQueue<Head<T>> heads) {
+            if (rest.hasNext()) {
+                heads.add(new Head<>(rest.next(), rest));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShardQuery<T, C> {
+        List<T> run(ReportQueries shard, C ids);
+    }
+}
@@ -0,0 +1,13 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Start and end of one completed collection, without the rest of the log.
+ */
+public interface CollectionInterval {
+
+    LocalDateTime getCollectionStartTime();
+
+    LocalDateTime getCollectionEndTime();
+}
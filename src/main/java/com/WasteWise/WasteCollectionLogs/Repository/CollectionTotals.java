@@ -0,0 +1,25 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of the bucketed report aggregation: the completed collections of one vehicle in one zone
+ * on one day, or in one hour of that day.
+ */
+public interface CollectionTotals {
+
+    String getZoneId();
+
+    String getVehicleId();
+
+    LocalDate getDate();
+
+    /** Hour of the day, or {@code 0} for rows aggregated per day. */
+    Integer getHour();
+
+    Long getCollections();
+
+    /** Total weight in kilograms, as summed by the database over the {@code DECIMAL(10,2)} column. */
+    BigDecimal getTotalWeightKg();
+}
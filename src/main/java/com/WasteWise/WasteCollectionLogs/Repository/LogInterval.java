@@ -0,0 +1,13 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+/**
+ * A collection interval together with the log, vehicle and worker it belongs to.
+ */
+public interface LogInterval extends CollectionInterval {
+
+    Long getLogId();
+
+    String getVehicleId();
+
+    String getWorkerId();
+}
@@ -4,9 +4,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-//import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
 
@@ -16,8 +20,180 @@ public interface WasteLogRepository extends JpaRepository<WasteLog,Long>{
     List<WasteLog>findByZoneIdAndCollectionStartTimeBetween(String zoneId,LocalDateTime startDate,LocalDateTime endTime);
     
     
-    List<WasteLog> findByVehicleIdAndCollectionStartTimeBetween(String vehicleId, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    Optional<WasteLog> findByWorkerIdAndZoneIdAndVehicleIdAndCollectionEndTimeIsNull(String workerId, String zoneId, String vehicleId);
     
     
-    Optional<WasteLog> findByWorkerIdAndZoneIdAndVehicleIdAndCollectionEndTimeIsNull(String workerId, String zoneId, String vehicleId);
+    Optional<WasteLog> findFirstByOrderByCollectionStartTimeAsc();
+    
+    
+    List<WasteLog> findByCollectionStartTimeBetweenAndCollectionEndTimeIsNotNull(LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
+    
+    
+    /**
+     * The next page of {@link #findByCollectionStartTimeBetweenAndCollectionEndTimeIsNotNull} in the order
+     * zone, start time, log ID, after the row {@code (zoneId, startTime, logId)}. Lets the archive walk a
+     * month by keyset without holding it in memory; the order is served by {@code idx_waste_log_zone_start}.
+     */
+    @Query("select w from WasteLog w where w.collectionStartTime between :startDateTime and :endDateTime"
+            + " and w.collectionEndTime is not null"
+            + " and (w.zoneId > :zoneId or (w.zoneId = :zoneId and (w.collectionStartTime > :startTime"
+            + " or (w.collectionStartTime = :startTime and w.logId > :logId))))"
+            + " order by w.zoneId, w.collectionStartTime, w.logId")
+    List<WasteLog> findCompletedAfterOrderByZone(@Param("startDateTime") LocalDateTime startDateTime,
+                                                 @Param("endDateTime") LocalDateTime endDateTime,
+                                                 @Param("zoneId") String zoneId,
+                                                 @Param("startTime") LocalDateTime startTime,
+                                                 @Param("logId") Long logId,
+                                                 Pageable pageable);
+    
+    
+    boolean existsByCollectionStartTimeBetweenAndCollectionEndTimeIsNull(LocalDateTime startDateTime, LocalDateTime endDateTime);
+    
+    
+    List<WasteLog> findByLogIdGreaterThanOrderByLogIdAsc(Long logId, Pageable pageable);
+    
+    
+    /**
+     * One page of the logs changed after the row {@code (updatedDate, logId)}, in the order updated date,
+     * log ID; start with {@code Long.MAX_VALUE} to read everything changed after {@code updatedDate}.
+     * Inserts set {@code updated_date} as well, so new logs are included. Served by {@code idx_waste_log_updated}.
+     */
+    @Query("select w from WasteLog w where w.updatedDate > :updatedDate"
+            + " or (w.updatedDate = :updatedDate and w.logId > :logId)"
+            + " order by w.updatedDate, w.logId")
+    List<WasteLog> findChangedAfter(@Param("updatedDate") LocalDateTime updatedDate,
+                                    @Param("logId") Long logId,
+                                    Pageable pageable);
+    
+    
+    /**
+     * Aggregates completed collections per worker and day inside the database. The filter on
+     * {@code worker_id} and {@code collection_start_time} is served by {@code idx_waste_log_worker_start};
+     * no entities are loaded. A {@code null} worker ID aggregates the whole workforce.
+     */
+    @Query("select w.workerId as workerId, cast(w.collectionStartTime as LocalDate) as date,"
+            + " count(w) as collections,"
+            + " sum(cast(w.weightCollected as BigDecimal)) as totalWeightKg,"
+            + " sum((w.collectionEndTime - w.collectionStartTime) by second) as activeSeconds"
+            + " from WasteLog w"
+            + " where (:workerId is null or w.workerId = :workerId)"
+            + " and w.collectionStartTime between :startDateTime and :endDateTime and w.collectionEndTime is not null"
+            + " group by w.workerId, cast(w.collectionStartTime as LocalDate)"
+            + " order by cast(w.collectionStartTime as LocalDate), w.workerId")
+    List<WorkerDailyTotals> aggregateWorkerDailyTotals(@Param("workerId") String workerId,
+                                                       @Param("startDateTime") LocalDateTime startDateTime,
+                                                       @Param("endDateTime") LocalDateTime endDateTime);
+    
+    
+    /**
+     * Aggregates completed collections per zone, vehicle and day inside the database, for one zone
+     * or one vehicle (the other filter is {@code null}). Report buckets of a week or longer are
+     * rolled up from these rows, so at most one row per vehicle and day leaves the database.
+     */
+    @Query("select w.zoneId as zoneId, w.vehicleId as vehicleId, cast(w.collectionStartTime as LocalDate) as date,"
+            + " 0 as hour, count(w) as collections, sum(cast(w.weightCollected as BigDecimal)) as totalWeightKg"
+            + " from WasteLog w"
+            + " where (:zoneId is null or w.zoneId = :zoneId) and (:vehicleId is null or w.vehicleId = :vehicleId)"
+            + " and w.collectionStartTime between :startDateTime and :endDateTime and w.collectionEndTime is not null"
+            + " group by w.zoneId, w.vehicleId, cast(w.collectionStartTime as LocalDate)")
+    List<CollectionTotals> aggregateDailyTotals(@Param("zoneId") String zoneId,
+                                                @Param("vehicleId") String vehicleId,
+                                                @Param("startDateTime") LocalDateTime startDateTime,
+                                                @Param("endDateTime") LocalDateTime endDateTime);
+    
+    
+    /**
+     * Same as {@link #aggregateDailyTotals}, per hour of the day.
+     */
+    @Query("select w.zoneId as zoneId, w.vehicleId as vehicleId, cast(w.collectionStartTime as LocalDate) as date,"
+            + " hour(w.collectionStartTime) as hour, count(w) as collections, sum(cast(w.weightCollected as BigDecimal)) as totalWeightKg"
+            + " from WasteLog w"
+            + " where (:zoneId is null or w.zoneId = :zoneId) and (:vehicleId is null or w.vehicleId = :vehicleId)"
+            + " and w.collectionStartTime between :startDateTime and :endDateTime and w.collectionEndTime is not null"
+            + " group by w.zoneId, w.vehicleId, cast(w.collectionStartTime as LocalDate), hour(w.collectionStartTime)")
+    List<CollectionTotals> aggregateHourlyTotals(@Param("zoneId") String zoneId,
+                                                 @Param("vehicleId") String vehicleId,
+                                                 @Param("startDateTime") LocalDateTime startDateTime,
+                                                 @Param("endDateTime") LocalDateTime endDateTime);
+    
+    
+    long countByCollectionEndTimeIsNull();
+    
+    
+    long countByCollectionEndTimeIsNullAndCollectionStartTimeBefore(LocalDateTime cutoff);
+    
+    
+    /**
+     * The zones that collected the most weight since {@code since}, heaviest first; the page size bounds the ranking.
+     */
+    @Query("select w.zoneId as id, count(w) as collections, sum(cast(w.weightCollected as BigDecimal)) as totalWeightKg"
+            + " from WasteLog w where w.collectionStartTime >= :since and w.collectionEndTime is not null"
+            + " group by w.zoneId order by sum(cast(w.weightCollected as BigDecimal)) desc, w.zoneId")
+    List<WeightRanking> findTopZonesByWeight(@Param("since") LocalDateTime since, Pageable pageable);
+    
+    
+    /**
+     * Same as {@link #findTopZonesByWeight}, ranking vehicles.
+     */
+    @Query("select w.vehicleId as id, count(w) as collections, sum(cast(w.weightCollected as BigDecimal)) as totalWeightKg"
+            + " from WasteLog w where w.collectionStartTime >= :since and w.collectionEndTime is not null"
+            + " group by w.vehicleId order by sum(cast(w.weightCollected as BigDecimal)) desc, w.vehicleId")
+    List<WeightRanking> findTopVehiclesByWeight(@Param("since") LocalDateTime since, Pageable pageable);
+    
+    
+    /**
+     * Intervals of all open logs and of every log that started at or after {@code since}; loads the
+     * in-memory overlap index at startup.
+     */
+    @Query("select w.logId as logId, w.vehicleId as vehicleId, w.workerId as workerId,"
+            + " w.collectionStartTime as collectionStartTime, w.collectionEndTime as collectionEndTime"
+            + " from WasteLog w where w.collectionEndTime is null or w.collectionStartTime >= :since")
+    List<LogInterval> findOpenOrRecentIntervals(@Param("since") LocalDateTime since);
+    
+    
+    @Query("select distinct w.vehicleId from WasteLog w where w.zoneId = :zoneId"
+            + " and w.collectionStartTime between :startDateTime and :endDateTime and w.collectionEndTime is not null")
+    List<String> findDistinctCompletedVehicleIds(@Param("zoneId") String zoneId,
+                                                 @Param("startDateTime") LocalDateTime startDateTime,
+                                                 @Param("endDateTime") LocalDateTime endDateTime);
+    
+    
+    /**
+     * Lowest and highest log ID of the completed logs that started before {@code cutoff}, as a
+     * two-element row; both are {@code null} if there are none. Bounds the key range walked by the retention job.
+     */
+    @Query("select min(w.logId), max(w.logId) from WasteLog w"
+            + " where w.collectionStartTime < :cutoff and w.collectionEndTime is not null")
+    List<Object[]> findPurgeableLogIdRange(@Param("cutoff") LocalDateTime cutoff);
+    
+    
+    /**
+     * Completes an open log if it still has the given version, without reading it first. Returns 0
+     * when the log was changed or completed elsewhere since that version was read.
+     */
+    @Modifying
+    @Transactional
+    @Query("update WasteLog w set w.collectionEndTime = :endTime, w.weightCollected = :weightCollected,"
+            + " w.updatedDate = :updatedDate, w.updatedBy = :updatedBy, w.version = w.version + 1"
+            + " where w.logId = :logId and w.version = :version and w.collectionEndTime is null")
+    int completeIfCurrent(@Param("logId") Long logId,
+                          @Param("version") Long version,
+                          @Param("endTime") LocalDateTime endTime,
+                          @Param("weightCollected") Long weightCollected,
+                          @Param("updatedDate") LocalDateTime updatedDate,
+                          @Param("updatedBy") String updatedBy);
+    
+    
+    /**
+     * Deletes the completed logs that started before {@code cutoff} within one primary-key range
+     * {@code [fromLogId, toLogId)}. Runs in its own short transaction so that each chunk only holds
+     * locks on a bounded slice of the table.
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from WasteLog w where w.logId >= :fromLogId and w.logId < :toLogId"
+            + " and w.collectionStartTime < :cutoff and w.collectionEndTime is not null")
+    int deleteCompletedInLogIdRange(@Param("fromLogId") Long fromLogId,
+                                    @Param("toLogId") Long toLogId,
+                                    @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,20 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.WasteWise.WasteCollectionLogs.Model.WeightAnomaly;
+
+@Repository
+public interface WeightAnomalyRepository extends JpaRepository<WeightAnomaly, Long> {
+
+    Page<WeightAnomaly> findByDetectedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    Page<WeightAnomaly> findByZoneIdAndDetectedAtBetween(String zoneId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    long countByDetectedAtGreaterThanEqual(LocalDateTime from);
+}
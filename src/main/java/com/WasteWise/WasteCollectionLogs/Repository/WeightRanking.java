@@ -0,0 +1,17 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a zone or vehicle ranking by collected weight.
+ */
+public interface WeightRanking {
+
+    /** Zone or vehicle ID. */
+    String getId();
+
+    Long getCollections();
+
+    /** Total weight in kilograms, as summed by the database over the {@code DECIMAL(10,2)} column. */
+    BigDecimal getTotalWeightKg();
+}
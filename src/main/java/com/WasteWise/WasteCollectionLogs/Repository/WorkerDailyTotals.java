@@ -0,0 +1,21 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of the worker productivity aggregation: the completed collections of one worker on one day.
+ */
+public interface WorkerDailyTotals {
+
+    String getWorkerId();
+
+    LocalDate getDate();
+
+    Long getCollections();
+
+    /** Total weight in kilograms, as summed by the database over the {@code DECIMAL(10,2)} column. */
+    BigDecimal getTotalWeightKg();
+
+    Long getActiveSeconds();
+}
@@ -0,0 +1,79 @@
+package com.WasteWise.WasteCollectionLogs.Routing;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * <p>
+ * The route is taken when a connection is opened, from the transaction of the calling thread: a
+ * {@code @Transactional(readOnly = true)} call that starts its own transaction reads the replica, a
+ * read-only call inside a read-write transaction joins it on the primary, and plain JDBC without a
+ * transaction uses the primary. Spring Data repository reads such as {@code findById} open their own
+ * read-only transaction when there is none, so they read the replica too. A thread can
+ * {@link #pinToPrimary() pin} itself to the primary for reads that must see recent writes; the write
+ * path runs its reads with {@link #callOnPrimary(Supplier)}. The routing source must be wrapped in a
+ * {@code LazyConnectionDataSourceProxy} so that the connection is opened after the transaction has
+ * been marked read-only, not when it begins.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Routes the read-only transactions of the calling thread to the primary until {@link #unpin()}.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /**
+     * Runs {@code work} pinned to the primary, then restores the previous pin.
+     */
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        if (isPinnedToPrimary()) {
+            return work.get();
+        }
+        pinToPrimary();
+        try {
+            return work.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    /**
+     * @return The route a connection opened now by the calling thread would take.
+     */
+    public static Route currentRoute() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPinnedToPrimary()
+                ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+}
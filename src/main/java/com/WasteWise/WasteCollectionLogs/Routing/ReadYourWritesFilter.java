@@ -0,0 +1,79 @@
+package com.WasteWise.WasteCollectionLogs.Routing;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Staleness guard of the replica routing: keeps a client's reads on the primary while the replica
+ * may not have its last write yet.
+ * <p>
+ * Every write request (any method but GET, HEAD and OPTIONS) is answered with the
+ * {@value #LAST_WRITE_HEADER} header, the server time of its arrival in epoch milliseconds. A client
+ * that sends the value back is pinned to the primary for the whole request while that write is less
+ * than {@code wastewise.datasource.replica.max-staleness-ms} old; the window counts from the arrival
+ * of the write, so it has to cover the replica lag plus the duration of a write. Requests without
+ * the header, or with an older or a future one, read the replica.
+ * </p>
+ * <p>
+ * The pin belongs to the request thread. Work the request hands to other threads has to take it
+ * along, as the dashboard does for its components.
+ * </p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** Response and request header carrying the time of the client's last write, in epoch milliseconds. */
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadYourWritesFilter.class);
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long maxStalenessMs;
+
+    public ReadYourWritesFilter(long maxStalenessMs) {
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            response.setHeader(LAST_WRITE_HEADER, Long.toString(now));
+        }
+        boolean pin = isRecent(request.getHeader(LAST_WRITE_HEADER), now);
+        if (pin) {
+            logger.debug("Pinning {} {} to the primary after a recent write", request.getMethod(), request.getRequestURI());
+            ReadWriteRoutingDataSource.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pin) {
+                ReadWriteRoutingDataSource.unpin();
+            }
+        }
+    }
+
+    private boolean isRecent(String lastWrite, long now) {
+        if (lastWrite == null || lastWrite.isBlank()) {
+            return false;
+        }
+        try {
+            // A timestamp from the future would pin the client for good; it is not one this server issued.
+            long age = now - Long.parseLong(lastWrite.trim());
+            return age >= 0 && age < maxStalenessMs;
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring malformed {} header: {}", LAST_WRITE_HEADER, lastWrite);
+            return false;
+        }
+    }
+}
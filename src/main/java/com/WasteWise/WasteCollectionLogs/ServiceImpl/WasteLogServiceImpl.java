@@ -1,12 +1,23 @@
 package com.WasteWise.WasteCollectionLogs.ServiceImpl;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
@@ -14,17 +25,51 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page; 
 import org.springframework.data.domain.PageImpl; 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.annotation.Transactional;
+import com.WasteWise.WasteCollectionLogs.Aggregate.VehicleBitmap;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightAnomalyDetector;
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore;
+import com.WasteWise.WasteCollectionLogs.Aggregate.ZoneDayAggregate;
+import com.WasteWise.WasteCollectionLogs.Archive.WasteLogArchive;
+import com.WasteWise.WasteCollectionLogs.Cache.OpenLogCache;
+import com.WasteWise.WasteCollectionLogs.Commit.GroupCommitExecutor;
 import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dto.CollectionOverlapDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDayDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogResponseDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogStartRequestDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogUpdateRequestDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneComparisonDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneDistinctVehiclesDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
 import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
 import com.WasteWise.WasteCollectionLogs.Handler.LogAlreadyCompletedException;
 import com.WasteWise.WasteCollectionLogs.Handler.ResourceNotFoundException;
+import com.WasteWise.WasteCollectionLogs.Invalidation.CollectionChangeFeed;
+import com.WasteWise.WasteCollectionLogs.Lease.ActiveLogLeases;
 import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Model.WeightAnomaly;
+import com.WasteWise.WasteCollectionLogs.Overlap.OverlapIndex;
+import com.WasteWise.WasteCollectionLogs.Overlap.OverlapMode;
+import com.WasteWise.WasteCollectionLogs.Overlap.OverlapSweep;
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEventPipeline;
+import com.WasteWise.WasteCollectionLogs.Report.ReportQueries;
+import com.WasteWise.WasteCollectionLogs.Repository.CollectionTotals;
+import com.WasteWise.WasteCollectionLogs.Repository.LogInterval;
 import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Repository.WorkerDailyTotals;
+import com.WasteWise.WasteCollectionLogs.Routing.ReadWriteRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.WasteWise.WasteCollectionLogs.Util.ComparisonPeriod;
+import com.WasteWise.WasteCollectionLogs.Util.ReportGranularity;
+import com.WasteWise.WasteCollectionLogs.Util.SingleFlight;
+import com.WasteWise.WasteCollectionLogs.Util.UtilizationSweep;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
 
 /**
  * Service implementation for managing waste collection logs.
@@ -36,17 +81,124 @@ public class WasteLogServiceImpl {
 	private static final Logger logger = LoggerFactory.getLogger(WasteLogServiceImpl.class);
 	
     private final WasteLogRepository wasteLogRepository;
+    private final WasteLogArchive wasteLogArchive;
+    private final WasteLogAggregateStore aggregateStore;
+    private final GroupCommitExecutor groupCommitExecutor;
+    private final CollectionEventPipeline eventPipeline;
+    private final WeightAnomalyDetector anomalyDetector;
+    private final OverlapIndex overlapIndex;
+    private final OpenLogCache openLogCache;
+    private final ActiveLogLeases activeLogLeases;
+    private final CollectionChangeFeed changeFeed;
+    private final ReportQueries reportQueries;
+    private final ZoneSharding zoneSharding;
+
+    /*
+     * Concurrent identical report calls (same ID, date range and page) share one in-flight computation,
+     * so a burst of dashboards opening the same report costs one query instead of one per browser.
+     * Nothing is cached once the computation finishes.
+     */
+    private final SingleFlight<ReportKey, Page<ZoneReportDTO>> zoneReportFlights = new SingleFlight<>();
+    private final SingleFlight<ReportKey, Page<VehicleReportDTO>> vehicleReportFlights = new SingleFlight<>();
+    private final SingleFlight<ReportKey, Slice<VehicleReportDTO>> vehicleSliceFlights = new SingleFlight<>();
+    private final SingleFlight<ReportKey, Page<WorkerReportDTO>> workerReportFlights = new SingleFlight<>();
+    private final SingleFlight<ReportKey, ZoneDistinctVehiclesDTO> distinctVehiclesFlights = new SingleFlight<>();
+
+    /**
+     * Identifies one report request for coalescing; {@code id} is {@code null} for whole-workforce reports
+     * and {@code granularity} is {@code null} for the per-day reports. Requests pinned to the primary never
+     * share a computation with requests that may read the replica, so a read-your-writes caller cannot
+     * receive a result that misses its own write.
+     */
+    private record ReportKey(String id, LocalDate startDate, LocalDate endDate, ReportGranularity granularity,
+                             Pageable pageable, boolean pinnedToPrimary) {
+
+        ReportKey(String id, LocalDate startDate, LocalDate endDate, ReportGranularity granularity, Pageable pageable) {
+            this(id, startDate, endDate, granularity, pageable, ReadWriteRoutingDataSource.isPinnedToPrimary());
+        }
+    }
+
+    /**
+     * One row of the worker report, whose totals may come from several shards.
+     */
+    private record WorkerDay(String workerId, LocalDate date) {
+    }
+
+    /**
+     * Running totals of one vehicle in one zone within one report bucket.
+     */
+    private static final class VehicleBucket {
+        private long collections;
+        private long weightHundredths;
+
+        void add(long collections, long weightHundredths) {
+            this.collections += collections;
+            this.weightHundredths += weightHundredths;
+        }
+    }
+
+    /**
+     * A log started by {@link #startCollection} and the overlap warning to return, {@code null} if its
+     * vehicle and worker were free.
+     */
+    private record StartedLog(WasteLog wasteLog, String overlapWarning) {
+    }
+
+    /**
+     * A log completed by {@link #endCollection} and its weight anomaly, {@code null} if the weight looks normal.
+     */
+    private record CompletedLog(WasteLog wasteLog, WeightAnomaly anomaly) {
+    }
 
     /**
      * Constructs a new WasteLogServiceImpl with the given WasteLogRepository.
      *
      * @param wasteLogRepository The repository for accessing waste log data.
+     * @param wasteLogArchive The archive tier holding months older than the hot database window.
+     * @param aggregateStore The in-memory per zone/day aggregates used to serve zone reports.
+     * @param groupCommitExecutor Commits starts and ends in shared transactions when group commit is enabled.
+     * @param eventPipeline Carries committed starts and ends to the derived-state stages.
+     * @param anomalyDetector Flags and records completed collections with an outlier weight.
+     * @param overlapIndex Finds the open collections already using a vehicle or a worker.
+     * @param openLogCache Lets the end of a log started on this node skip reading it.
+     * @param activeLogLeases Enforces one open log per worker, zone and vehicle across nodes when enabled.
+     * @param changeFeed Announces completed collections to the other nodes when enabled.
+     * @param reportQueries Reads live report rows without loading entities.
+     * @param zoneSharding Binds writes and zone queries to the zone's shard when storage is sharded.
      */
-    public WasteLogServiceImpl(WasteLogRepository wasteLogRepository) {
+    public WasteLogServiceImpl(WasteLogRepository wasteLogRepository, WasteLogArchive wasteLogArchive,
+                               WasteLogAggregateStore aggregateStore, GroupCommitExecutor groupCommitExecutor,
+                               CollectionEventPipeline eventPipeline, WeightAnomalyDetector anomalyDetector,
+                               OverlapIndex overlapIndex, OpenLogCache openLogCache, ActiveLogLeases activeLogLeases,
+                               CollectionChangeFeed changeFeed, ReportQueries reportQueries, ZoneSharding zoneSharding) {
         this.wasteLogRepository = wasteLogRepository;
+        this.wasteLogArchive = wasteLogArchive;
+        this.aggregateStore = aggregateStore;
+        this.groupCommitExecutor = groupCommitExecutor;
+        this.eventPipeline = eventPipeline;
+        this.anomalyDetector = anomalyDetector;
+        this.overlapIndex = overlapIndex;
+        this.openLogCache = openLogCache;
+        this.activeLogLeases = activeLogLeases;
+        this.changeFeed = changeFeed;
+        this.reportQueries = reportQueries;
+        this.zoneSharding = zoneSharding;
         logger.info("WasteLogServiceImpl initialized.");
     }
 
+    /**
+     * Runs the validation and database writes of a start or end, through the group committer if it is
+     * enabled. With active log leases or the change feed, the extra row and the log must change together,
+     * so the work runs in a transaction of its own even without group commit. Its reads never go to a read replica,
+     * which may not have the log yet. Events for the in-memory state must be published after this returns, i.e. after the commit.
+     */
+    private <T> T write(Supplier<T> work) {
+        // A group committer that is not running executes the work in a plain transaction.
+        boolean transactional = groupCommitExecutor.isEnabled() || activeLogLeases.isEnabled() || changeFeed.isEnabled();
+        // Without a transaction every repository read opens a read-only one, which the replica routing would serve.
+        return ReadWriteRoutingDataSource.callOnPrimary(() -> transactional ? groupCommitExecutor.execute(work) : work.get());
+    }
+
     /**
      * Validates if the start date is not after the end date.
      *
@@ -63,6 +215,22 @@ public class WasteLogServiceImpl {
         logger.debug("Date range validation successful.");
     }
 
+    /**
+     * Validates the ID list of a batch report and removes duplicates, keeping the request order.
+     *
+     * @param ids The requested IDs.
+     * @return The distinct IDs in request order.
+     * @throws InvalidInputException if the list is empty or longer than {@link WasteLogConstants#MAX_BATCH_IDS}.
+     */
+    private Set<String> validateBatchIds(List<String> ids) {
+        Set<String> distinct = ids == null ? Set.of() : new LinkedHashSet<>(ids);
+        if (distinct.isEmpty() || distinct.size() > WasteLogConstants.MAX_BATCH_IDS) {
+            logger.warn("InvalidBatch: {} IDs requested", distinct.size());
+            throw new InvalidInputException(WasteLogConstants.BATCH_IDS_LIMIT_EXCEEDED);
+        }
+        return distinct;
+    }
+
     /**
      * Validates that no active waste collection log already exists for a given worker, zone, and vehicle.
      * An active log is one where the `collectionEndTime` is null.
@@ -81,72 +249,275 @@ public class WasteLogServiceImpl {
         }
         logger.debug("No active log found for workerId={}, zoneId={}, vehicleId={}", workerId, zoneId, vehicleId);
     }
+
+    /**
+     * Checks the overlap index for a collection that keeps the vehicle or the worker of a new start busy.
+     * An index hit is confirmed against the database, since the index trails the commits slightly.
+     *
+     * @param workerId The ID of the worker.
+     * @param vehicleId The ID of the vehicle.
+     * @param at The start time of the new collection.
+     * @return A warning describing the conflict, or {@code null} if both are free.
+     * @throws InvalidInputException if a conflict is found and overlaps are rejected.
+     */
+    private String checkOverlap(String workerId, String vehicleId, LocalDateTime at) {
+        if (overlapIndex.getMode() == OverlapMode.OFF) {
+            return null;
+        }
+        String warning = null;
+        Long vehicleLogId = overlapIndex.findVehicleOverlap(vehicleId, at);
+        if (vehicleLogId != null && isBusyAt(vehicleLogId, at)) {
+            warning = String.format(WasteLogConstants.VEHICLE_IN_USE_MESSAGE, vehicleId, vehicleLogId);
+        } else {
+            Long workerLogId = overlapIndex.findWorkerOverlap(workerId, at);
+            if (workerLogId != null && isBusyAt(workerLogId, at)) {
+                warning = String.format(WasteLogConstants.WORKER_BUSY_MESSAGE, workerId, workerLogId);
+            }
+        }
+        if (warning != null) {
+            logger.warn("Overlap: {}", warning);
+            if (overlapIndex.getMode() == OverlapMode.REJECT) {
+                throw new InvalidInputException(warning);
+            }
+        }
+        return warning;
+    }
+
+    private boolean isBusyAt(Long logId, LocalDateTime at) {
+        if (zoneSharding.isEnabled()) {
+            // The log may live on another shard than the zone being started, which this transaction cannot read.
+            return reportQueries.findInterval(logId)
+                    .filter(interval -> isOpenAt(interval.getCollectionEndTime(), at))
+                    .isPresent();
+        }
+        return wasteLogRepository.findById(logId)
+                .filter(log -> isOpenAt(log.getCollectionEndTime(), at))
+                .isPresent();
+    }
+
+    private static boolean isOpenAt(LocalDateTime endTime, LocalDateTime at) {
+        return endTime == null || endTime.isAfter(at);
+    }
+
+    /**
+     * Returns the first day of the range that has to be read from live data; every earlier day
+     * belongs to a month that has already been archived.
+     *
+     * @param startDate The first day of the range.
+     * @param endDate The last day of the range.
+     * @return The first live day, or the day after {@code endDate} if the whole range is archived.
+     */
+    private LocalDate liveFrom(LocalDate startDate, LocalDate endDate) {
+        return wasteLogArchive.isEnabled() ? wasteLogArchive.liveFrom(startDate, endDate) : startDate;
+    }
+
+    /**
+     * Summarizes completed logs into one report row per zone and day, with the total weight
+     * collected and the number of distinct vehicles used.
+     *
+     * @param zoneId The ID of the zone the logs belong to.
+     * @param logs The logs to summarize; logs that are still open are ignored.
+     * @return The daily report rows, in no particular order.
+     */
+    private List<ZoneReportDTO> summarizeByDate(String zoneId, List<WasteLog> logs) {
+        Map<LocalDate, List<WasteLog>> groupedByDate = logs.stream()
+                .filter(log -> log.getCollectionEndTime() != null)
+                .collect(Collectors.groupingBy(log -> log.getCollectionStartTime().toLocalDate()));
+        logger.debug("Grouped {} completed logs by date for zoneId={}", groupedByDate.size(), zoneId);
+        return groupedByDate.entrySet().stream()
+                .map(entry -> {
+                    LocalDate date = entry.getKey();
+                    List<WasteLog> dailyLogs = entry.getValue();
+                    long totalWeight = 0;
+                    for (WasteLog log : dailyLogs) {
+                        totalWeight += log.getWeightCollected();
+                    }
+                    Set<String> uniqueVehicles = dailyLogs.stream()
+                            .map(WasteLog::getVehicleId)
+                            .collect(Collectors.toSet());
+                    logger.trace("Daily summary for zoneId={} on {}: totalWeight={}, uniqueVehicles={}", zoneId, date, totalWeight, uniqueVehicles.size());
+                    return new ZoneReportDTO(zoneId, date, (long) uniqueVehicles.size(), WeightUnits.toKilograms(totalWeight));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Summarizes completed archived logs into one report row per worker and day.
+     *
+     * @param logs The logs to summarize; logs that are still open are ignored.
+     * @return The daily worker rows, in no particular order.
+     */
+    private List<WorkerReportDTO> summarizeByWorkerAndDate(List<WasteLog> logs) {
+        Map<String, Map<LocalDate, List<WasteLog>>> grouped = logs.stream()
+                .filter(log -> log.getCollectionEndTime() != null)
+                .collect(Collectors.groupingBy(WasteLog::getWorkerId,
+                        Collectors.groupingBy(log -> log.getCollectionStartTime().toLocalDate())));
+        List<WorkerReportDTO> reports = new ArrayList<>();
+        grouped.forEach((workerId, days) -> days.forEach((date, dailyLogs) -> {
+            long totalWeight = 0;
+            long activeSeconds = 0;
+            for (WasteLog log : dailyLogs) {
+                totalWeight += log.getWeightCollected() == null ? 0 : log.getWeightCollected();
+                activeSeconds += ChronoUnit.SECONDS.between(log.getCollectionStartTime(), log.getCollectionEndTime());
+            }
+            reports.add(new WorkerReportDTO(workerId, date, (long) dailyLogs.size(),
+                    WeightUnits.toKilograms(totalWeight), activeSeconds / 60));
+        }));
+        return reports;
+    }
+
+    private static VehicleReportDTO toVehicleReport(WasteLog log) {
+        return new VehicleReportDTO(
+                log.getVehicleId(),
+                log.getZoneId(),
+                WeightUnits.toKilograms(log.getWeightCollected()),
+                log.getCollectionStartTime().toLocalDate());
+    }
+
+    /**
+     * Reads the completed collections of a vehicle for a date range as report rows, merging archived
+     * and live rows. Live rows are mapped by {@link ReportQueries} without loading entities.
+     *
+     * @param vehicleId The ID of the vehicle.
+     * @param startDate The first day of the range.
+     * @param endDate The last day of the range.
+     * @return Archived rows followed by live rows for the range, each part in start order.
+     */
+    private List<VehicleReportDTO> findVehicleReports(String vehicleId, LocalDate startDate, LocalDate endDate) {
+        List<VehicleReportDTO> reports = new ArrayList<>();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            wasteLogArchive.findVehicleLogs(vehicleId, startDate, liveFrom.minusDays(1)).stream()
+                    .filter(log -> log.getCollectionEndTime() != null)
+                    .sorted(Comparator.comparing(WasteLog::getCollectionStartTime).thenComparing(WasteLog::getLogId))
+                    .map(WasteLogServiceImpl::toVehicleReport)
+                    .forEach(reports::add);
+        }
+        if (!liveFrom.isAfter(endDate)) {
+            LocalDateTime startDateTime = liveFrom.atStartOfDay();
+            LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+            List<VehicleReportDTO> liveReports = reportQueries.findVehicleCollections(List.of(vehicleId), startDateTime, endDateTime);
+            logger.debug("Found {} completed logs for vehicleId={} between {} and {}", liveReports.size(), vehicleId, startDateTime, endDateTime);
+            reports.addAll(liveReports);
+        }
+        return reports;
+    }
     // --- Public Service Methods ---
 
     /**
      * Starts a new waste collection log.
-     * Validates that no active log exists for the given worker, zone, and vehicle before creating a new log.
+     * Validates that no active log exists for the given worker, zone, and vehicle before creating a new log;
+     * with active log leases enabled the database enforces this across nodes instead of a prior query.
+     * Depending on {@code wastewise.overlap.mode}, a start whose vehicle or worker is still busy with another
+     * collection is rejected or only flagged in the response.
      *
      * @param request The DTO containing information to start a waste collection log (worker ID, zone ID, vehicle ID).
-     * @return A WasteLogResponseDto with the ID of the newly created log and a success message.
+     * @return A WasteLogResponseDto with the ID of the newly created log, a success message and any overlap warning.
+     * @throws InvalidInputException if an active log exists for the same worker, zone and vehicle, or if the
+     * vehicle or worker is busy and overlaps are rejected.
      */
     public WasteLogResponseDTO startCollection(WasteLogStartRequestDTO request) { 
     	 logger.info("Attempting to start new collection log for workerId={}, zoneId={}, vehicleId={}",
                  request.getWorkerId(), request.getZoneId(), request.getVehicleId());
         // The DTO validation ensures the request is valid before it reaches here.
-    	validateNoActiveLogExists(request.getWorkerId(), request.getZoneId(), request.getVehicleId());
+        StartedLog started = zoneSharding.onZone(request.getZoneId(), () -> write(() -> {
+            LocalDateTime startTime = LocalDateTime.now();
+            String overlapWarning;
+            if (activeLogLeases.isEnabled()) {
+                // The lease insert is the uniqueness check; it goes last since nothing may be modified before a rejection.
+                overlapWarning = checkOverlap(request.getWorkerId(), request.getVehicleId(), startTime);
+                activeLogLeases.acquire(request.getWorkerId(), request.getZoneId(), request.getVehicleId(), startTime);
+            } else {
+                validateNoActiveLogExists(request.getWorkerId(), request.getZoneId(), request.getVehicleId());
+                overlapWarning = checkOverlap(request.getWorkerId(), request.getVehicleId(), startTime);
+            }
 
-        WasteLog wasteLog = new WasteLog();
-        wasteLog.setZoneId(request.getZoneId());
-        wasteLog.setVehicleId(request.getVehicleId());
-        wasteLog.setWorkerId(request.getWorkerId());
-        wasteLog.setCollectionStartTime(LocalDateTime.now());
-        wasteLog.setCreatedDate(LocalDateTime.now());
-
-        wasteLog = wasteLogRepository.save(wasteLog);
+            WasteLog newLog = new WasteLog();
+            newLog.setZoneId(request.getZoneId());
+            newLog.setVehicleId(request.getVehicleId());
+            newLog.setWorkerId(request.getWorkerId());
+            newLog.setCollectionStartTime(startTime);
+            newLog.setCreatedDate(LocalDateTime.now());
+            return new StartedLog(wasteLogRepository.save(newLog), overlapWarning);
+        }));
+        WasteLog wasteLog = started.wasteLog();
+        openLogCache.put(wasteLog);
+        eventPipeline.publishStart(wasteLog);
         logger.info("New collection log started successfully with ID: {}", wasteLog.getLogId());
 
-        return new WasteLogResponseDTO(wasteLog.getLogId(), WasteLogConstants.WASTE_COLLECTION_LOG_RECORDED_SUCCESSFULLY);
+        WasteLogResponseDTO response = new WasteLogResponseDTO(wasteLog.getLogId(), WasteLogConstants.WASTE_COLLECTION_LOG_RECORDED_SUCCESSFULLY);
+        response.setOverlapWarning(started.overlapWarning());
+        return response;
     }
 
     /**
-     * Ends an existing waste collection log.
-     * Retrieves the log by its ID, validates that it hasn't been completed already,
-     * and ensures the end time is not before the start time.
+     * Reads an open log and completes it.
      *
-     * @param request The DTO containing the log ID and the weight collected.
-     * @return A WasteLogResponseDto with the ID of the updated log and a success message.
      * @throws ResourceNotFoundException if the waste log with the given ID is not found.
      * @throws LogAlreadyCompletedException if the waste log has already been completed.
-     * @throws InvalidInputException if the collection end time is before the collection start time.
+     * @throws InvalidInputException if the end time is before the collection start time.
      */
-    public WasteLogResponseDTO endCollection(WasteLogUpdateRequestDTO request) {
-
-    	logger.info("Attempting to end collection log with ID: {} and weight: {}", request.getLogId(), request.getWeightCollected());
-    	WasteLog wasteLog = wasteLogRepository.findById(request.getLogId())
+    private WasteLog completeLoadedLog(Long logId, LocalDateTime currentEndTime, Long weightCollected) {
+        WasteLog openLog = wasteLogRepository.findById(logId)
                 .orElseThrow(() -> {
-                    logger.warn("ResourceNotFound: Waste log with ID {} not found.", request.getLogId());
-                    return new ResourceNotFoundException(String.format(WasteLogConstants.WASTE_LOG_NOT_FOUND_MESSAGE, request.getLogId()));
+                    logger.warn("ResourceNotFound: Waste log with ID {} not found.", logId);
+                    return new ResourceNotFoundException(String.format(WasteLogConstants.WASTE_LOG_NOT_FOUND_MESSAGE, logId));
                 });
-        if (wasteLog.getCollectionEndTime() != null) {
-        	logger.warn("LogAlreadyCompleted: Waste log with ID {} is already completed.", request.getLogId());
-            throw new LogAlreadyCompletedException(String.format(WasteLogConstants.LOG_ALREADY_COMPLETED_MESSAGE, request.getLogId()));
+        if (openLog.getCollectionEndTime() != null) {
+            logger.warn("LogAlreadyCompleted: Waste log with ID {} is already completed.", logId);
+            throw new LogAlreadyCompletedException(String.format(WasteLogConstants.LOG_ALREADY_COMPLETED_MESSAGE, logId));
         }
 
-        LocalDateTime currentEndTime = LocalDateTime.now();
-        
-        if (currentEndTime.isBefore(wasteLog.getCollectionStartTime())) {
-        	 logger.warn("InvalidInput: Collection end time {} is before start time {}", currentEndTime, wasteLog.getCollectionStartTime());
+        if (currentEndTime.isBefore(openLog.getCollectionStartTime())) {
+            logger.warn("InvalidInput: Collection end time {} is before start time {}", currentEndTime, openLog.getCollectionStartTime());
             throw new InvalidInputException(WasteLogConstants.COLLECTION_END_TIME_BEFORE_START_TIME);
         }
 
-        wasteLog.setCollectionEndTime(currentEndTime);
-        wasteLog.setWeightCollected(request.getWeightCollected());
-        wasteLog.setUpdatedDate(LocalDateTime.now());
+        openLog.setCollectionEndTime(currentEndTime);
+        openLog.setWeightCollected(weightCollected);
+        openLog.setUpdatedDate(LocalDateTime.now());
+
+        wasteLogRepository.save(openLog);
+        return openLog;
+    }
 
-        wasteLogRepository.save(wasteLog);
+    /**
+     * Ends an existing waste collection log.
+     * A log started on this node is completed from the {@link OpenLogCache} with a single version-checked
+     * update; otherwise the log is retrieved by its ID, validated that it hasn't been completed already,
+     * and checked that the end time is not before the start time.
+     *
+     * @param request The DTO containing the log ID and the weight collected.
+     * @return A WasteLogResponseDto with the ID of the updated log, a success message and whether its weight was flagged as an anomaly.
+     * @throws ResourceNotFoundException if the waste log with the given ID is not found.
+     * @throws LogAlreadyCompletedException if the waste log has already been completed.
+     * @throws InvalidInputException if the collection end time is before the collection start time.
+     */
+    public WasteLogResponseDTO endCollection(WasteLogUpdateRequestDTO request) {
+
+    	logger.info("Attempting to end collection log with ID: {} and weight: {}", request.getLogId(), request.getWeightCollected());
+        CompletedLog completed = zoneSharding.onLog(request.getLogId(), () -> write(() -> {
+            LocalDateTime currentEndTime = LocalDateTime.now();
+            Long weightCollected = WeightUnits.toHundredths(request.getWeightCollected());
+            WasteLog completedLog = openLogCache.complete(request.getLogId(), currentEndTime, weightCollected)
+                    .orElseGet(() -> completeLoadedLog(request.getLogId(), currentEndTime, weightCollected));
+            if (activeLogLeases.isEnabled()) {
+                activeLogLeases.release(completedLog.getWorkerId(), completedLog.getZoneId(), completedLog.getVehicleId());
+            }
+            if (changeFeed.isEnabled()) {
+                changeFeed.append(completedLog.getZoneId(), completedLog.getVehicleId(), completedLog.getCollectionStartTime().toLocalDate());
+            }
+            return new CompletedLog(completedLog, anomalyDetector.inspect(completedLog).orElse(null));
+        }));
+        WasteLog wasteLog = completed.wasteLog();
+        eventPipeline.publishEnd(wasteLog);
         logger.info("Collection log with ID: {} completed successfully.", wasteLog.getLogId());
-        return new WasteLogResponseDTO(wasteLog.getLogId(), WasteLogConstants.WASTE_COLLECTION_LOG_COMPLETED_SUCCESSFULLY);
+        WasteLogResponseDTO response = new WasteLogResponseDTO(wasteLog.getLogId(), WasteLogConstants.WASTE_COLLECTION_LOG_COMPLETED_SUCCESSFULLY);
+        response.setWeightAnomaly(completed.anomaly() != null);
+        if (completed.anomaly() != null) {
+            response.setAnomalyReason(completed.anomaly().getReason());
+        }
+        return response;
     }
 
 
@@ -161,36 +532,59 @@ public class WasteLogServiceImpl {
      * @return A Page of ZoneReportDto objects, containing daily summaries.
      * @throws InvalidInputException if the end date is before the start date.
      */
-    public Page<ZoneReportDTO> getZoneLogs(String zoneId, LocalDate startDate, LocalDate endDate, Pageable pageable) { 
+    public Page<ZoneReportDTO> getZoneLogs(String zoneId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return getZoneLogs(zoneId, startDate, endDate, null, pageable);
+    }
+
+    /**
+     * Retrieves a zone report bucketed by hour, day, ISO week, month or year. Each row covers one
+     * bucket, identified by {@code periodStart}, and counts every vehicle once per bucket. Live days
+     * are rolled up from the aggregate store when it is ready; hourly buckets, and every bucket while
+     * the store is loading, are grouped by the database, so a year of monthly data is 12 rows
+     * computed on the server.
+     *
+     * @param zoneId The ID of the zone to retrieve logs for.
+     * @param startDate The start date of the reporting period.
+     * @param endDate The end date of the reporting period.
+     * @param granularity The bucket size, or {@code null} for the per-day report of {@link #getZoneLogs(String, LocalDate, LocalDate, Pageable)}.
+     * @param pageable Pagination information.
+     * @return A Page of ZoneReportDTO objects ordered by bucket start.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public Page<ZoneReportDTO> getZoneLogs(String zoneId, LocalDate startDate, LocalDate endDate,
+                                           ReportGranularity granularity, Pageable pageable) {
+        return zoneReportFlights.execute(new ReportKey(zoneId, startDate, endDate, granularity, pageable),
+                () -> granularity == null
+                        ? computeZoneLogs(zoneId, startDate, endDate, pageable)
+                        : computeZoneBuckets(zoneId, startDate, endDate, granularity, pageable));
+    }
+
+    private Page<ZoneReportDTO> computeZoneLogs(String zoneId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
     	 logger.info("Generating zone report for zoneId={}, startDate={}, endDate={}, pageable={}",
                  zoneId, startDate, endDate, pageable);
         validateDateRange(startDate, endDate);
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        List<WasteLog> logs = wasteLogRepository.findByZoneIdAndCollectionStartTimeBetween(zoneId, startDateTime, endDateTime);
-        logger.debug("Found {} waste logs for zoneId={} between {} and {}", logs.size(), zoneId, startDateTime, endDateTime);
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        List<WasteLog> logs = new ArrayList<>();
+        if (liveFrom.isAfter(startDate)) {
+            logs.addAll(wasteLogArchive.findZoneLogs(zoneId, startDate, liveFrom.minusDays(1)));
+        }
 
-        Map<LocalDate, List<WasteLog>> groupedByDate = logs.stream()
-                .filter(log -> log.getCollectionEndTime() != null)
-                .collect(Collectors.groupingBy(log -> log.getCollectionStartTime().toLocalDate()));
-        logger.debug("Grouped {} completed logs by date for zoneId={}", groupedByDate.size(), zoneId);
-        List<ZoneReportDTO> reports = groupedByDate.entrySet().stream()
-                .map(entry -> {
-                    LocalDate date = entry.getKey();
-                    List<WasteLog> dailyLogs = entry.getValue();
-                    double totalWeight = dailyLogs.stream()
-                            .mapToDouble(WasteLog::getWeightCollected)
-                            .sum();
-                    Set<String> uniqueVehicles = dailyLogs.stream()
-                            .map(WasteLog::getVehicleId)
-                            .collect(Collectors.toSet());
-                    logger.trace("Daily summary for zoneId={} on {}: totalWeight={}, uniqueVehicles={}", zoneId, date, totalWeight, uniqueVehicles.size());
-                    return new ZoneReportDTO(zoneId, date, (long) uniqueVehicles.size(), totalWeight);
-                })
-                .sorted((r1, r2) -> r1.getDate().compareTo(r2.getDate())) // Your original sorting by date
-                .collect(Collectors.toList());
+        List<ZoneReportDTO> reports = new ArrayList<>();
+        if (!liveFrom.isAfter(endDate)) {
+            if (aggregateStore.isReady()) {
+                reports.addAll(aggregateStore.getZoneReports(zoneId, liveFrom, endDate));
+                logger.debug("Read {} daily aggregates for zoneId={} between {} and {}", reports.size(), zoneId, liveFrom, endDate);
+            } else {
+                LocalDateTime startDateTime = liveFrom.atStartOfDay();
+                LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+                List<ZoneReportDTO> liveReports = reportQueries.findZoneDays(List.of(zoneId), startDateTime, endDateTime);
+                logger.debug("Summarized {} days for zoneId={} between {} and {}", liveReports.size(), zoneId, startDateTime, endDateTime);
+                reports.addAll(liveReports);
+            }
+        }
+        reports.addAll(summarizeByDate(zoneId, logs));
+        reports.sort((r1, r2) -> r1.getDate().compareTo(r2.getDate())); // Your original sorting by date
 
         int start = (int) pageable.getOffset();
         int end = Math.min((start + pageable.getPageSize()), reports.size());
@@ -208,6 +602,287 @@ public class WasteLogServiceImpl {
       
     }
 
+    private Page<ZoneReportDTO> computeZoneBuckets(String zoneId, LocalDate startDate, LocalDate endDate,
+                                                   ReportGranularity granularity, Pageable pageable) {
+        logger.info("Generating {} zone report for zoneId={}, startDate={}, endDate={}, pageable={}",
+                granularity, zoneId, startDate, endDate, pageable);
+        validateDateRange(startDate, endDate);
+
+        NavigableMap<LocalDateTime, ZoneDayAggregate> buckets = new TreeMap<>();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            for (WasteLog log : wasteLogArchive.findZoneLogs(zoneId, startDate, liveFrom.minusDays(1))) {
+                if (log.getCollectionEndTime() != null) {
+                    buckets.computeIfAbsent(granularity.bucketStart(log.getCollectionStartTime()), start -> new ZoneDayAggregate())
+                            .add(log.getVehicleId(), log.getWeightCollected() == null ? 0L : log.getWeightCollected());
+                }
+            }
+        }
+        if (!liveFrom.isAfter(endDate)) {
+            if (aggregateStore.isReady() && granularity != ReportGranularity.HOUR) {
+                aggregateStore.rollUp(zoneId, liveFrom, endDate, granularity, buckets);
+            } else {
+                for (CollectionTotals totals : aggregateLiveTotals(zoneId, null, liveFrom, endDate, granularity)) {
+                    buckets.computeIfAbsent(bucketStart(totals, granularity), start -> new ZoneDayAggregate())
+                            .add(totals.getVehicleId(), totals.getCollections(), WeightUnits.toHundredths(totals.getTotalWeightKg()));
+                }
+            }
+        }
+
+        List<ZoneReportDTO> reports = new ArrayList<>(buckets.size());
+        buckets.forEach((start, bucket) -> reports.add(new ZoneReportDTO(zoneId, start.toLocalDate(),
+                (long) bucket.getDistinctVehicles(), WeightUnits.toKilograms(bucket.getTotalWeightHundredths()), start)));
+        logger.debug("Prepared {} {} buckets for zoneId={}", reports.size(), granularity, zoneId);
+        return toPage(reports, pageable);
+    }
+
+    /**
+     * Groups the completed live collections of a zone or a vehicle per zone, vehicle and day, or
+     * per hour for {@link ReportGranularity#HOUR}, inside the database. With sharded storage a zone is
+     * read from its shard and a vehicle from every shard at once; the rows are grouped by zone, so none spans two shards.
+     */
+    private List<CollectionTotals> aggregateLiveTotals(String zoneId, String vehicleId, LocalDate from, LocalDate to,
+                                                       ReportGranularity granularity) {
+        LocalDateTime startDateTime = from.atStartOfDay();
+        LocalDateTime endDateTime = to.atTime(LocalTime.MAX);
+        Supplier<List<CollectionTotals>> query = () -> granularity == ReportGranularity.HOUR
+                ? wasteLogRepository.aggregateHourlyTotals(zoneId, vehicleId, startDateTime, endDateTime)
+                : wasteLogRepository.aggregateDailyTotals(zoneId, vehicleId, startDateTime, endDateTime);
+        List<CollectionTotals> totals = zoneId != null ? zoneSharding.onZone(zoneId, query) : zoneSharding.onEachShard(query);
+        logger.debug("Aggregated {} rows for zoneId={}, vehicleId={} between {} and {}", totals.size(), zoneId, vehicleId, from, to);
+        return totals;
+    }
+
+    private static LocalDateTime bucketStart(CollectionTotals totals, ReportGranularity granularity) {
+        return granularity.bucketStart(totals.getDate().atTime(totals.getHour(), 0));
+    }
+
+    private static <T> Page<T> toPage(List<T> rows, Pageable pageable) {
+        int start = (int) Math.min(pageable.getOffset(), rows.size());
+        int end = Math.min(start + pageable.getPageSize(), rows.size());
+        return new PageImpl<>(rows.subList(start, end), pageable, rows.size());
+    }
+
+    /**
+     * Retrieves one slice of a zone report without its total count, for clients that only page
+     * forward. Zone rows are at most one per bucket and are already summed in memory, so the slice
+     * is cut from the same computation as {@link #getZoneLogs(String, LocalDate, LocalDate, ReportGranularity, Pageable)}
+     * and shares its in-flight calls.
+     *
+     * @return A Slice of ZoneReportDTO objects whose {@code hasNext} tells whether another page follows.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public Slice<ZoneReportDTO> getZoneLogSlice(String zoneId, LocalDate startDate, LocalDate endDate,
+                                                ReportGranularity granularity, Pageable pageable) {
+        Page<ZoneReportDTO> page = getZoneLogs(zoneId, startDate, endDate, granularity, pageable);
+        return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+    }
+
+    /**
+     * Retrieves a per-day productivity report for one worker, or for the whole workforce if
+     * {@code workerId} is {@code null}: the number of completed collections, the total weight
+     * collected and the total active minutes (sum of end minus start time) per worker and day.
+     * Live days are aggregated inside the database using the (worker_id, collection_start_time)
+     * index, so no entities are loaded. With sharded storage every shard aggregates its zones at once,
+     * and the rows of a worker who collected in zones of several shards on one day are added up.
+     *
+     * @param workerId The ID of the worker, or {@code null} for all workers.
+     * @param startDate The start date of the reporting period.
+     * @param endDate The end date of the reporting period.
+     * @param pageable Pagination information.
+     * @return A Page of WorkerReportDTO objects, ordered by date and worker ID.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public Page<WorkerReportDTO> getWorkerReport(String workerId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return workerReportFlights.execute(new ReportKey(workerId, startDate, endDate, null, pageable),
+                () -> computeWorkerReport(workerId, startDate, endDate, pageable));
+    }
+
+    private Page<WorkerReportDTO> computeWorkerReport(String workerId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        logger.info("Generating worker report for workerId={}, startDate={}, endDate={}, pageable={}",
+                workerId, startDate, endDate, pageable);
+        validateDateRange(startDate, endDate);
+
+        List<WorkerReportDTO> reports = new ArrayList<>();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            reports.addAll(summarizeByWorkerAndDate(wasteLogArchive.findWorkerLogs(workerId, startDate, liveFrom.minusDays(1))));
+        }
+        if (!liveFrom.isAfter(endDate)) {
+            Map<WorkerDay, List<WorkerDailyTotals>> days = zoneSharding.onEachShard(() -> wasteLogRepository.aggregateWorkerDailyTotals(
+                            workerId, liveFrom.atStartOfDay(), endDate.atTime(LocalTime.MAX))).stream()
+                    .collect(Collectors.groupingBy(day -> new WorkerDay(day.getWorkerId(), day.getDate()), LinkedHashMap::new, Collectors.toList()));
+            logger.debug("Aggregated {} worker-days for workerId={} between {} and {}", days.size(), workerId, liveFrom, endDate);
+            days.forEach((day, rows) -> {
+                long collections = 0;
+                BigDecimal totalWeightKg = BigDecimal.ZERO;
+                long activeSeconds = 0;
+                for (WorkerDailyTotals row : rows) {
+                    collections += row.getCollections();
+                    totalWeightKg = row.getTotalWeightKg() == null ? totalWeightKg : totalWeightKg.add(row.getTotalWeightKg());
+                    activeSeconds += row.getActiveSeconds() == null ? 0L : row.getActiveSeconds();
+                }
+                reports.add(new WorkerReportDTO(day.workerId(), day.date(), collections, totalWeightKg.doubleValue(), activeSeconds / 60));
+            });
+        }
+        reports.sort(Comparator.comparing(WorkerReportDTO::getDate).thenComparing(WorkerReportDTO::getWorkerId));
+
+        int start = (int) pageable.getOffset();
+        int end = Math.min((start + pageable.getPageSize()), reports.size());
+
+        List<WorkerReportDTO> pageContent;
+        if (start > reports.size()) {
+            pageContent = List.of();
+            logger.debug("Requested page start index {} is beyond report size {} for workerId={}. Returning empty page.", start, reports.size(), workerId);
+        } else {
+            pageContent = reports.subList(start, end);
+            logger.debug("Returning page {} with {} entries for workerId={}", pageable.getPageNumber(), pageContent.size(), workerId);
+        }
+
+        return new PageImpl<>(pageContent, pageable, reports.size());
+    }
+
+    /**
+     * Computes the busy intervals, idle gaps and active hours of a vehicle per day.
+     * Overlapping collections of the same vehicle (several workers on one truck) are merged, so
+     * every hour counts once. The logs are streamed in start order, archived months one month at a
+     * time, and folded by a {@link UtilizationSweep}; memory does not grow with the length of the range.
+     * With sharded storage the live logs of every shard are merged into one stream.
+     * Collections that started the day before {@code startDate} are included for their part after midnight.
+     *
+     * @param vehicleId The ID of the vehicle.
+     * @param startDate The start date of the period.
+     * @param endDate The end date of the period.
+     * @return The utilization per day with activity and for the whole period.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    @Transactional(readOnly = true)
+    public VehicleUtilizationDTO getVehicleUtilization(String vehicleId, LocalDate startDate, LocalDate endDate) {
+        logger.info("Generating utilization for vehicleId={} from {} to {}", vehicleId, startDate, endDate);
+        validateDateRange(startDate, endDate);
+
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay();
+        List<VehicleUtilizationDayDTO> days = new ArrayList<>();
+        UtilizationSweep sweep = new UtilizationSweep(startDate.atStartOfDay(), rangeEnd, days::add);
+
+        LocalDate scanFrom = startDate.minusDays(1);
+        LocalDate liveFrom = liveFrom(scanFrom, endDate);
+        for (YearMonth month = YearMonth.from(scanFrom); month.atDay(1).isBefore(liveFrom); month = month.plusMonths(1)) {
+            LocalDate from = month.atDay(1).isBefore(scanFrom) ? scanFrom : month.atDay(1);
+            LocalDate to = month.atEndOfMonth().isBefore(liveFrom) ? month.atEndOfMonth() : liveFrom.minusDays(1);
+            wasteLogArchive.findVehicleLogs(vehicleId, from, to).stream()
+                    .filter(log -> log.getCollectionEndTime() != null)
+                    .sorted(Comparator.comparing(WasteLog::getCollectionStartTime))
+                    .forEach(log -> sweep.accept(log.getCollectionStartTime(), log.getCollectionEndTime()));
+        }
+        if (liveFrom.isBefore(rangeEnd.toLocalDate())) {
+            try (Stream<LogInterval> intervals = reportQueries.streamVehicleIntervals(vehicleId, liveFrom.atStartOfDay(), rangeEnd)) {
+                intervals.forEach(interval -> sweep.accept(interval.getCollectionStartTime(), interval.getCollectionEndTime()));
+            }
+        }
+        sweep.finish();
+
+        long rangeDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        logger.info("Utilization for vehicleId={}: {} active days, {} active seconds", vehicleId, days.size(), sweep.getTotalActiveSeconds());
+        return new VehicleUtilizationDTO(vehicleId, startDate, endDate, UtilizationSweep.hours(sweep.getTotalActiveSeconds()),
+                UtilizationSweep.percentOfDays(sweep.getTotalActiveSeconds(), rangeDays), days);
+    }
+
+    /**
+     * Audits the history for collections that used the same vehicle, or the same worker, at the same time.
+     * Each resource type is one {@link OverlapSweep} over the logs ordered by resource and start time;
+     * live logs are streamed from the database, archived months are read and swept one month at a time,
+     * so an overlap between a collection and one started in an earlier archived month is not reported.
+     * With sharded storage the live logs of every shard are merged into one stream, so overlaps between
+     * zones of different shards are found as well.
+     *
+     * @param startDate The first start day of the audited collections.
+     * @param endDate The last start day of the audited collections.
+     * @param pageable Pagination information.
+     * @return A Page of the overlaps found, vehicle overlaps first.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    @Transactional(readOnly = true)
+    public Page<CollectionOverlapDTO> getCollectionOverlaps(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        logger.info("Auditing collection overlaps from {} to {}", startDate, endDate);
+        validateDateRange(startDate, endDate);
+
+        List<CollectionOverlapDTO> overlaps = new ArrayList<>();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        for (String resourceType : List.of("VEHICLE", "WORKER")) {
+            boolean byVehicle = resourceType.equals("VEHICLE");
+            Comparator<WasteLog> order = Comparator.comparing(byVehicle ? WasteLog::getVehicleId : WasteLog::getWorkerId)
+                    .thenComparing(WasteLog::getCollectionStartTime).thenComparing(WasteLog::getLogId);
+            for (YearMonth month = YearMonth.from(startDate); month.atDay(1).isBefore(liveFrom); month = month.plusMonths(1)) {
+                LocalDate from = month.atDay(1).isBefore(startDate) ? startDate : month.atDay(1);
+                LocalDate to = month.atEndOfMonth().isBefore(liveFrom) ? month.atEndOfMonth() : liveFrom.minusDays(1);
+                OverlapSweep sweep = new OverlapSweep(resourceType, overlaps::add);
+                wasteLogArchive.findWorkerLogs(null, from, to).stream().sorted(order)
+                        .forEach(log -> sweep.accept(byVehicle ? log.getVehicleId() : log.getWorkerId(), log.getLogId(),
+                                log.getCollectionStartTime(), log.getCollectionEndTime()));
+            }
+            if (!liveFrom.isAfter(endDate)) {
+                OverlapSweep sweep = new OverlapSweep(resourceType, overlaps::add);
+                LocalDateTime from = liveFrom.atStartOfDay();
+                LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+                try (Stream<LogInterval> intervals = byVehicle
+                        ? reportQueries.streamIntervalsOrderedByVehicle(from, to)
+                        : reportQueries.streamIntervalsOrderedByWorker(from, to)) {
+                    intervals.forEach(interval -> sweep.accept(byVehicle ? interval.getVehicleId() : interval.getWorkerId(),
+                            interval.getLogId(), interval.getCollectionStartTime(), interval.getCollectionEndTime()));
+                }
+            }
+        }
+        logger.info("Found {} collection overlaps from {} to {}", overlaps.size(), startDate, endDate);
+
+        int start = (int) pageable.getOffset();
+        int end = Math.min(start + pageable.getPageSize(), overlaps.size());
+        List<CollectionOverlapDTO> pageContent = start > overlaps.size() ? List.of() : overlaps.subList(start, end);
+        return new PageImpl<>(pageContent, pageable, overlaps.size());
+    }
+
+    /**
+     * Counts the distinct vehicles that completed at least one collection in a zone over a date range.
+     * Unlike the per-day counts of the zone report, a vehicle active on several days is counted once.
+     * Live days are answered by merging the per-day vehicle bitmaps of the aggregate store, so the
+     * cost grows with the number of days rather than the number of logs.
+     *
+     * @param zoneId The ID of the zone.
+     * @param startDate The start date of the period.
+     * @param endDate The end date of the period.
+     * @return The number of distinct vehicles in the period.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public ZoneDistinctVehiclesDTO getDistinctVehicles(String zoneId, LocalDate startDate, LocalDate endDate) {
+        return distinctVehiclesFlights.execute(new ReportKey(zoneId, startDate, endDate, null, null),
+                () -> computeDistinctVehicles(zoneId, startDate, endDate));
+    }
+
+    private ZoneDistinctVehiclesDTO computeDistinctVehicles(String zoneId, LocalDate startDate, LocalDate endDate) {
+        logger.info("Counting distinct vehicles for zoneId={}, startDate={}, endDate={}", zoneId, startDate, endDate);
+        validateDateRange(startDate, endDate);
+
+        VehicleBitmap vehicles = new VehicleBitmap();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            for (WasteLog log : wasteLogArchive.findZoneLogs(zoneId, startDate, liveFrom.minusDays(1))) {
+                if (log.getCollectionEndTime() != null) {
+                    vehicles.add(log.getVehicleId());
+                }
+            }
+        }
+        if (!liveFrom.isAfter(endDate)) {
+            if (aggregateStore.isReady()) {
+                vehicles.or(aggregateStore.getDistinctVehicles(zoneId, liveFrom, endDate));
+            } else {
+                zoneSharding.onZone(zoneId, () -> wasteLogRepository.findDistinctCompletedVehicleIds(
+                        zoneId, liveFrom.atStartOfDay(), endDate.atTime(LocalTime.MAX))).forEach(vehicles::add);
+            }
+        }
+        logger.debug("Found {} distinct vehicles for zoneId={} between {} and {}", vehicles.cardinality(), zoneId, startDate, endDate);
+        return new ZoneDistinctVehiclesDTO(zoneId, startDate, endDate, (long) vehicles.cardinality());
+    }
+
     /**
      * Retrieves a report of waste collection logs for a specific vehicle within a given date range.
      *
@@ -218,26 +893,37 @@ public class WasteLogServiceImpl {
      * @return A Page of VehicleReportDto objects.
      * @throws InvalidInputException if the end date is before the start date.
      */
-    public Page<VehicleReportDTO> getVehicleLogs(String vehicleId, LocalDate startDate, LocalDate endDate, Pageable pageable) { 
+    public Page<VehicleReportDTO> getVehicleLogs(String vehicleId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return getVehicleLogs(vehicleId, startDate, endDate, null, pageable);
+    }
+
+    /**
+     * Retrieves a vehicle report bucketed by hour, day, ISO week, month or year: one row per bucket
+     * and zone with the number of collections and their total weight. Live rows are grouped per day
+     * (or hour) and zone by the database and rolled up into longer buckets here.
+     *
+     * @param vehicleId The ID of the vehicle to retrieve logs for.
+     * @param startDate The start date of the reporting period.
+     * @param endDate The end date of the reporting period.
+     * @param granularity The bucket size, or {@code null} for one row per collection.
+     * @param pageable Pagination information.
+     * @return A Page of VehicleReportDTO objects ordered by bucket start and zone.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public Page<VehicleReportDTO> getVehicleLogs(String vehicleId, LocalDate startDate, LocalDate endDate,
+                                                 ReportGranularity granularity, Pageable pageable) {
+        return vehicleReportFlights.execute(new ReportKey(vehicleId, startDate, endDate, granularity, pageable),
+                () -> granularity == null
+                        ? computeVehicleLogs(vehicleId, startDate, endDate, pageable)
+                        : computeVehicleBuckets(vehicleId, startDate, endDate, granularity, pageable));
+    }
+
+    private Page<VehicleReportDTO> computeVehicleLogs(String vehicleId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
     	 logger.info("Generating vehicle report for vehicleId={}, startDate={}, endDate={}, pageable={}",
                  vehicleId, startDate, endDate, pageable);
         validateDateRange(startDate, endDate);
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        List<WasteLog> logs = wasteLogRepository.findByVehicleIdAndCollectionStartTimeBetween(vehicleId, startDateTime, endDateTime);
-        logger.debug("Found {} waste logs for vehicleId={} between {} and {}", logs.size(), vehicleId, startDateTime, endDateTime);
-        List<VehicleReportDTO> reports = logs.stream()
-                .filter(log -> log.getCollectionEndTime() != null) // Only include completed logs
-                .map(log -> new VehicleReportDTO(
-                        log.getVehicleId(),
-                        log.getZoneId(),
-                        log.getWeightCollected(),
-                        log.getCollectionStartTime().toLocalDate()
-                ))
-                .sorted((r1, r2) -> r1.getCollectionDate().compareTo(r2.getCollectionDate())) // Your original sorting by collection date
-                .collect(Collectors.toList());
+        List<VehicleReportDTO> reports = findVehicleReports(vehicleId, startDate, endDate);
         logger.debug("Prepared {} VehicleReportDTO entries for vehicleId={}", reports.size(), vehicleId);
 
         int start = (int) pageable.getOffset();
@@ -254,4 +940,264 @@ public class WasteLogServiceImpl {
 
         return new PageImpl<>(pageContent, pageable, reports.size());
     }
-}
\ No newline at end of file
+
+    private Page<VehicleReportDTO> computeVehicleBuckets(String vehicleId, LocalDate startDate, LocalDate endDate,
+                                                         ReportGranularity granularity, Pageable pageable) {
+        logger.info("Generating {} vehicle report for vehicleId={}, startDate={}, endDate={}, pageable={}",
+                granularity, vehicleId, startDate, endDate, pageable);
+        validateDateRange(startDate, endDate);
+
+        NavigableMap<LocalDateTime, Map<String, VehicleBucket>> buckets = new TreeMap<>();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            for (WasteLog log : wasteLogArchive.findVehicleLogs(vehicleId, startDate, liveFrom.minusDays(1))) {
+                if (log.getCollectionEndTime() != null) {
+                    buckets.computeIfAbsent(granularity.bucketStart(log.getCollectionStartTime()), start -> new TreeMap<>())
+                            .computeIfAbsent(log.getZoneId(), zone -> new VehicleBucket())
+                            .add(1, log.getWeightCollected() == null ? 0L : log.getWeightCollected());
+                }
+            }
+        }
+        if (!liveFrom.isAfter(endDate)) {
+            for (CollectionTotals totals : aggregateLiveTotals(null, vehicleId, liveFrom, endDate, granularity)) {
+                buckets.computeIfAbsent(bucketStart(totals, granularity), start -> new TreeMap<>())
+                        .computeIfAbsent(totals.getZoneId(), zone -> new VehicleBucket())
+                        .add(totals.getCollections(), WeightUnits.toHundredths(totals.getTotalWeightKg()));
+            }
+        }
+
+        List<VehicleReportDTO> reports = new ArrayList<>();
+        buckets.forEach((start, zones) -> zones.forEach((zoneId, bucket) -> reports.add(new VehicleReportDTO(vehicleId, zoneId,
+                WeightUnits.toKilograms(bucket.weightHundredths), start.toLocalDate(), bucket.collections, start))));
+        logger.debug("Prepared {} {} buckets for vehicleId={}", reports.size(), granularity, vehicleId);
+        return toPage(reports, pageable);
+    }
+
+    /**
+     * Retrieves one slice of a vehicle report without its total count. For the per-collection
+     * report the database returns only {@code pageSize + 1} completed logs from the page offset on,
+     * in start order; the extra row only sets {@code hasNext}. Archived months, if the range reaches
+     * them, come first and are read from the archive as usual. Bucketed reports are cut from the
+     * regular bucketed computation.
+     *
+     * @param vehicleId The ID of the vehicle to retrieve logs for.
+     * @param startDate The start date of the reporting period.
+     * @param endDate The end date of the reporting period.
+     * @param granularity The bucket size, or {@code null} for one row per collection.
+     * @param pageable Pagination information; its offset may be any row, not only a page boundary.
+     * @return A Slice of VehicleReportDTO objects whose {@code hasNext} tells whether another page follows.
+     * @throws InvalidInputException if the end date is before the start date.
+     */
+    public Slice<VehicleReportDTO> getVehicleLogSlice(String vehicleId, LocalDate startDate, LocalDate endDate,
+                                                      ReportGranularity granularity, Pageable pageable) {
+        if (granularity != null) {
+            Page<VehicleReportDTO> page = getVehicleLogs(vehicleId, startDate, endDate, granularity, pageable);
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+        }
+        return vehicleSliceFlights.execute(new ReportKey(vehicleId, startDate, endDate, null, pageable),
+                () -> computeVehicleSlice(vehicleId, startDate, endDate, pageable));
+    }
+
+    private Slice<VehicleReportDTO> computeVehicleSlice(String vehicleId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        logger.info("Generating vehicle report slice for vehicleId={}, startDate={}, endDate={}, pageable={}",
+                vehicleId, startDate, endDate, pageable);
+        validateDateRange(startDate, endDate);
+
+        int wanted = pageable.getPageSize() + 1;
+        long offset = pageable.getOffset();
+        List<VehicleReportDTO> rows = new ArrayList<>(wanted);
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            List<WasteLog> archived = wasteLogArchive.findVehicleLogs(vehicleId, startDate, liveFrom.minusDays(1)).stream()
+                    .filter(log -> log.getCollectionEndTime() != null)
+                    .sorted(Comparator.comparing(WasteLog::getCollectionStartTime).thenComparing(WasteLog::getLogId))
+                    .toList();
+            archived.stream().skip(offset).limit(wanted).map(WasteLogServiceImpl::toVehicleReport).forEach(rows::add);
+            offset = Math.max(0, offset - archived.size());
+        }
+        if (rows.size() < wanted && !liveFrom.isAfter(endDate)) {
+            List<VehicleReportDTO> liveRows = reportQueries.findVehicleCollectionWindow(vehicleId, liveFrom.atStartOfDay(),
+                    endDate.atTime(LocalTime.MAX), offset, wanted - rows.size());
+            logger.debug("Read {} completed logs for vehicleId={} from offset {}", liveRows.size(), vehicleId, offset);
+            rows.addAll(liveRows);
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * Retrieves the vehicle reports of several vehicles in one call. All live rows are read with a
+     * single IN-list query instead of one query per vehicle, and archived months decode each
+     * segment block once for the whole set.
+     *
+     * @param vehicleIds The IDs of the vehicles; duplicates are ignored.
+     * @param startDate The start date of the reporting period.
+     * @param endDate The end date of the reporting period.
+     * @return The completed collections of each requested vehicle sorted by date, keyed by vehicle ID
+     * in request order. Vehicles without collections map to an empty list.
+     * @throws InvalidInputException if the date range is invalid or the ID list is empty or too long.
+     */
+    public Map<String, List<VehicleReportDTO>> getVehicleLogsBatch(List<String> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        logger.info("Generating batch vehicle report for {} vehicles, startDate={}, endDate={}",
+                vehicleIds == null ? 0 : vehicleIds.size(), startDate, endDate);
+        validateDateRange(startDate, endDate);
+        Set<String> ids = validateBatchIds(vehicleIds);
+
+        List<VehicleReportDTO> rows = new ArrayList<>();
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        if (liveFrom.isAfter(startDate)) {
+            wasteLogArchive.findVehicleLogs(ids, startDate, liveFrom.minusDays(1)).stream()
+                    .filter(log -> log.getCollectionEndTime() != null)
+                    .map(WasteLogServiceImpl::toVehicleReport)
+                    .forEach(rows::add);
+        }
+        if (!liveFrom.isAfter(endDate)) {
+            List<VehicleReportDTO> liveRows = reportQueries.findVehicleCollections(ids, liveFrom.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+            logger.debug("Found {} completed logs for {} vehicles between {} and {}", liveRows.size(), ids.size(), liveFrom, endDate);
+            rows.addAll(liveRows);
+        }
+
+        Map<String, List<VehicleReportDTO>> reports = new LinkedHashMap<>();
+        ids.forEach(id -> reports.put(id, new ArrayList<>()));
+        for (VehicleReportDTO row : rows) {
+            List<VehicleReportDTO> vehicleReports = reports.get(row.getVehicleId());
+            if (vehicleReports != null) {
+                vehicleReports.add(row);
+            }
+        }
+        reports.values().forEach(list -> list.sort(Comparator.comparing(VehicleReportDTO::getCollectionDate)));
+        return reports;
+    }
+
+    /**
+     * Retrieves the daily zone reports of several zones in one call. Live days are read from the
+     * aggregate store when it is ready, otherwise summarized by a single IN-list query for all zones.
+     *
+     * @param zoneIds The IDs of the zones; duplicates are ignored.
+     * @param startDate The start date of the reporting period.
+     * @param endDate The end date of the reporting period.
+     * @return The daily summaries of each requested zone sorted by date, keyed by zone ID in request
+     * order. Zones without collections map to an empty list.
+     * @throws InvalidInputException if the date range is invalid or the ID list is empty or too long.
+     */
+    public Map<String, List<ZoneReportDTO>> getZoneLogsBatch(List<String> zoneIds, LocalDate startDate, LocalDate endDate) {
+        logger.info("Generating batch zone report for {} zones, startDate={}, endDate={}",
+                zoneIds == null ? 0 : zoneIds.size(), startDate, endDate);
+        validateDateRange(startDate, endDate);
+        Set<String> ids = validateBatchIds(zoneIds);
+
+        LocalDate liveFrom = liveFrom(startDate, endDate);
+        Map<String, List<ZoneReportDTO>> liveDaysByZone = Map.of();
+        boolean fromAggregates = aggregateStore.isReady();
+        if (!liveFrom.isAfter(endDate) && !fromAggregates) {
+            List<ZoneReportDTO> liveDays = reportQueries.findZoneDays(ids, liveFrom.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+            logger.debug("Summarized {} zone days for {} zones between {} and {}", liveDays.size(), ids.size(), liveFrom, endDate);
+            liveDaysByZone = liveDays.stream().collect(Collectors.groupingBy(ZoneReportDTO::getZoneId));
+        }
+
+        Map<String, List<ZoneReportDTO>> reports = new LinkedHashMap<>();
+        for (String zoneId : ids) {
+            List<WasteLog> logs = new ArrayList<>();
+            if (liveFrom.isAfter(startDate)) {
+                logs.addAll(wasteLogArchive.findZoneLogs(zoneId, startDate, liveFrom.minusDays(1)));
+            }
+            List<ZoneReportDTO> zoneReports = new ArrayList<>();
+            if (!liveFrom.isAfter(endDate)) {
+                if (fromAggregates) {
+                    zoneReports.addAll(aggregateStore.getZoneReports(zoneId, liveFrom, endDate));
+                } else {
+                    zoneReports.addAll(liveDaysByZone.getOrDefault(zoneId, List.of()));
+                }
+            }
+            zoneReports.addAll(summarizeByDate(zoneId, logs));
+            zoneReports.sort(Comparator.comparing(ZoneReportDTO::getDate));
+            reports.put(zoneId, zoneReports);
+        }
+        return reports;
+    }
+
+    /**
+     * Compares the totals of several zones in a period with the totals of an earlier period: the
+     * period of the same length just before it, or the same dates one year earlier. Both periods are
+     * summed from the per zone-day aggregates (archived months from their segments), so no report
+     * rows are built and the cost depends on the number of days, not on the number of logs.
+     *
+     * @param zoneIds The IDs of the zones; duplicates are ignored.
+     * @param startDate The first day of the period.
+     * @param endDate The last day of the period.
+     * @param baseline The period to compare against; {@code null} means {@link ComparisonPeriod#PREVIOUS_PERIOD}.
+     * @return One comparison per zone, in request order.
+     * @throws InvalidInputException if the date range is invalid or the ID list is empty or too long.
+     */
+    public List<ZoneComparisonDTO> compareZonePeriods(List<String> zoneIds, LocalDate startDate, LocalDate endDate,
+                                                      ComparisonPeriod baseline) {
+        logger.info("Generating zone comparison for {} zones, startDate={}, endDate={}, baseline={}",
+                zoneIds == null ? 0 : zoneIds.size(), startDate, endDate, baseline);
+        validateDateRange(startDate, endDate);
+        Set<String> ids = validateBatchIds(zoneIds);
+        ComparisonPeriod against = baseline == null ? ComparisonPeriod.PREVIOUS_PERIOD : baseline;
+        LocalDate previousStart = against.previousStart(startDate, endDate);
+        LocalDate previousEnd = against.previousEnd(startDate, endDate);
+
+        Map<String, ZoneDayAggregate> current = sumZones(ids, startDate, endDate);
+        Map<String, ZoneDayAggregate> previous = sumZones(ids, previousStart, previousEnd);
+
+        List<ZoneComparisonDTO> comparisons = new ArrayList<>(ids.size());
+        for (String zoneId : ids) {
+            ZoneDayAggregate now = current.get(zoneId);
+            ZoneDayAggregate before = previous.get(zoneId);
+            long weightChange = now.getTotalWeightHundredths() - before.getTotalWeightHundredths();
+            comparisons.add(new ZoneComparisonDTO(zoneId, startDate, endDate, previousStart, previousEnd,
+                    now.getCollections(), before.getCollections(), now.getCollections() - before.getCollections(),
+                    percentChange(now.getCollections(), before.getCollections()),
+                    WeightUnits.toKilograms(now.getTotalWeightHundredths()), WeightUnits.toKilograms(before.getTotalWeightHundredths()),
+                    WeightUnits.toKilograms(weightChange), percentChange(now.getTotalWeightHundredths(), before.getTotalWeightHundredths()),
+                    (long) now.getDistinctVehicles(), (long) before.getDistinctVehicles(),
+                    (long) now.getDistinctVehicles() - before.getDistinctVehicles()));
+        }
+        return comparisons;
+    }
+
+    /**
+     * Sums the completed collections of each zone over {@code [from, to]}. Live days are read from the
+     * aggregate store when it is ready, otherwise grouped per zone and vehicle by a single IN-list query.
+     */
+    private Map<String, ZoneDayAggregate> sumZones(Set<String> ids, LocalDate from, LocalDate to) {
+        Map<String, ZoneDayAggregate> totals = new LinkedHashMap<>();
+        ids.forEach(id -> totals.put(id, new ZoneDayAggregate()));
+        List<WasteLog> logs = new ArrayList<>();
+        LocalDate liveFrom = liveFrom(from, to);
+        if (liveFrom.isAfter(from)) {
+            for (String zoneId : ids) {
+                logs.addAll(wasteLogArchive.findZoneLogs(zoneId, from, liveFrom.minusDays(1)));
+            }
+        }
+        if (!liveFrom.isAfter(to)) {
+            if (aggregateStore.isReady()) {
+                ids.forEach(id -> totals.get(id).addAll(aggregateStore.getZoneTotals(id, liveFrom, to)));
+            } else {
+                reportQueries.sumZoneTotals(ids, liveFrom.atStartOfDay(), to.atTime(LocalTime.MAX), totals);
+            }
+        }
+        for (WasteLog log : logs) {
+            ZoneDayAggregate zoneTotals = totals.get(log.getZoneId());
+            if (log.getCollectionEndTime() != null && zoneTotals != null) {
+                zoneTotals.add(log.getVehicleId(), log.getWeightCollected() == null ? 0L : log.getWeightCollected());
+            }
+        }
+        logger.debug("Summed {} archived logs for {} zones between {} and {}", logs.size(), ids.size(), from, to);
+        return totals;
+    }
+
+    /**
+     * @return The change from {@code previous} to {@code current} in percent, rounded to two decimals,
+     * or {@code null} if {@code previous} is zero.
+     */
+    private static Double percentChange(long current, long previous) {
+        if (previous == 0) {
+            return null;
+        }
+        return Math.round((current - previous) * 10_000.0 / previous) / 100.0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default {@link ShardMap}: zones listed in {@code wastewise.sharding.zones} go to their configured
+ * shard, every other zone to a shard chosen by the hash of its ID. {@code String.hashCode} is fixed
+ * by the language, so the choice is the same on every node and after every restart as long as the
+ * list of shards does not change.
+ */
+public class HashShardMap implements ShardMap {
+
+    private final List<String> shards;
+    private final Map<String, String> assignments;
+
+    /**
+     * @param shards The shard names, in the order of {@link ShardRoutingDataSource#getShardNames()}.
+     * @param assignments Zone IDs pinned to a shard.
+     * @throws IllegalArgumentException if there are no shards or a zone is pinned to an unknown shard.
+     */
+    public HashShardMap(List<String> shards, Map<String, String> assignments) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        assignments.forEach((zoneId, shard) -> {
+            if (!shards.contains(shard)) {
+                throw new IllegalArgumentException("Zone " + zoneId + " is assigned to unknown shard " + shard);
+            }
+        });
+        this.shards = List.copyOf(shards);
+        this.assignments = Map.copyOf(assignments);
+    }
+
+    @Override
+    public String shardOf(String zoneId) {
+        String assigned = assignments.get(zoneId);
+        return assigned != null ? assigned : shards.get(Math.floorMod(zoneId.hashCode(), shards.size()));
+    }
+}
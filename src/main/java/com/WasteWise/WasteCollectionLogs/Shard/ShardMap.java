@@ -0,0 +1,15 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+/**
+ * Assigns every zone to the shard that stores its collection logs. A zone must always map to the same
+ * shard, since its logs are never moved. The default is {@link HashShardMap}; an application-defined
+ * {@code ShardMap} bean replaces it, e.g. to place zones by region or by expected write rate.
+ */
+public interface ShardMap {
+
+    /**
+     * @param zoneId The ID of the zone.
+     * @return The name of the zone's shard, one of {@code wastewise.sharding.shards}.
+     */
+    String shardOf(String zoneId);
+}
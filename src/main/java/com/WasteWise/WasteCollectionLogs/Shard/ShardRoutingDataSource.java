@@ -0,0 +1,102 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Sends every connection to the shard bound to the calling thread, or to the first shard when none is.
+ * <p>
+ * Shards are ordered by name. Log IDs are striped across them: with {@code n} shards, the shard at
+ * position {@code i} only hands out IDs with {@code (id - 1) % n == i}, so the shard of a log follows
+ * from its ID alone (see {@link ShardingProperties#getIdStripingSql()}). A shard is bound with
+ * {@link #callOn(String, Supplier)} before the transaction that uses it begins.
+ * </p>
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRoutingDataSource.class);
+    private static final ThreadLocal<String> CURRENT_SHARD = new ThreadLocal<>();
+
+    private final Map<String, DataSource> shards;
+    private final List<String> shardNames;
+
+    public ShardRoutingDataSource(Map<String, DataSource> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = new TreeMap<>(shards);
+        this.shardNames = List.copyOf(this.shards.keySet());
+        setTargetDataSources(new HashMap<>(this.shards));
+        setDefaultTargetDataSource(this.shards.get(shardNames.get(0)));
+        // A bound shard that does not exist must fail, not silently write to the first shard.
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs {@code work} with {@code shard} bound to the calling thread, then restores the previous binding.
+     * A {@code null} shard runs it unbound, on the first shard.
+     */
+    public static <T> T callOn(String shard, Supplier<T> work) {
+        String previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The shard bound to the calling thread, or {@code null}.
+     */
+    public static String currentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    public List<String> getShardNames() {
+        return shardNames;
+    }
+
+    public DataSource getShard(String shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * @return The shard that handed out {@code logId}.
+     */
+    public String shardOfLog(long logId) {
+        return shardNames.get((int) Math.floorMod(logId - 1, (long) shardNames.size()));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT_SHARD.get();
+    }
+
+    @Override
+    public void close() {
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            if (shard.getValue() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Closing shard {} failed: {}", shard.getKey(), e.toString());
+                }
+            }
+        }
+    }
+}
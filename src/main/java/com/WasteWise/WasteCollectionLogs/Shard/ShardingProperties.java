@@ -0,0 +1,35 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * The {@code wastewise.sharding.*} settings: one connection pool per shard and optional zone pins.
+ */
+@Data
+@ConfigurationProperties("wastewise.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+    /** Shard name to connection settings; shards are ordered by name. */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+    /** Zone ID to shard name, for zones that must not be placed by hash. */
+    private Map<String, String> zones = new LinkedHashMap<>();
+    /**
+     * Run on every new connection with the shard count and the shard's 1-based position, so that each
+     * shard hands out its own residue class of log IDs. Empty when the schema does it instead.
+     */
+    private String idStripingSql = "SET SESSION auto_increment_increment = %d, auto_increment_offset = %d";
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,137 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Binds the write and report paths to the shard of a zone or a log. Without
+ * {@code wastewise.sharding.enabled} every method simply runs its work on the single database.
+ * <p>
+ * Work that needs every shard is scattered: each shard runs it at the same time on its own virtual
+ * thread, with the shard bound, so a query over all shards takes as long as the slowest shard.
+ * </p>
+ */
+@Component
+public class ZoneSharding {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZoneSharding.class);
+
+    private final ShardMap shardMap;
+    private final ShardRoutingDataSource shards;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("shard-", 0).factory());
+
+    /**
+     * Used outside of Spring; sharding is off.
+     */
+    public ZoneSharding() {
+        this.shardMap = null;
+        this.shards = null;
+    }
+
+    @Autowired
+    public ZoneSharding(ObjectProvider<ShardMap> shardMap, ObjectProvider<ShardRoutingDataSource> shards) {
+        this.shards = shards.getIfAvailable();
+        this.shardMap = this.shards == null ? null : shardMap.getObject();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return shards != null;
+    }
+
+    /**
+     * @return The shards in order, or a single {@code null} entry, the one database, when sharding is off.
+     */
+    public List<String> getShardNames() {
+        return isEnabled() ? shards.getShardNames() : Collections.singletonList(null);
+    }
+
+    /**
+     * Runs {@code work} on {@code shard}, one of {@link #getShardNames()}.
+     */
+    public <T> T onShard(String shard, Supplier<T> work) {
+        return isEnabled() ? ShardRoutingDataSource.callOn(shard, work) : work.get();
+    }
+
+    /**
+     * Runs {@code work} on the shard of {@code zoneId}.
+     */
+    public <T> T onZone(String zoneId, Supplier<T> work) {
+        return isEnabled() ? ShardRoutingDataSource.callOn(shardMap.shardOf(zoneId), work) : work.get();
+    }
+
+    /**
+     * Runs {@code work} on the shard that stores {@code logId}.
+     */
+    public <T> T onLog(Long logId, Supplier<T> work) {
+        return isEnabled() && logId != null ? ShardRoutingDataSource.callOn(shards.shardOfLog(logId), work) : work.get();
+    }
+
+    /**
+     * Runs {@code work} on every shard in parallel and concatenates the results in shard order.
+     * Only suitable for rows that never span shards, such as rows grouped by zone; callers merge any others.
+     */
+    public <T> List<T> onEachShard(Supplier<List<T>> work) {
+        List<T> rows = new ArrayList<>();
+        scatter(getShardNames(), shard -> work.get()).forEach(rows::addAll);
+        return rows;
+    }
+
+    /**
+     * Runs {@code work} for each listed shard in parallel, with that shard bound, and waits for all of them.
+     * A single shard runs on the calling thread.
+     *
+     * @return The results in the order of {@code shardNames}.
+     * @throws RuntimeException the first failure of a shard.
+     */
+    public <T> List<T> scatter(Collection<String> shardNames, Function<String, T> work) {
+        List<T> results = new ArrayList<>(shardNames.size());
+        if (shardNames.size() == 1) {
+            String only = shardNames.iterator().next();
+            results.add(onShard(only, () -> work.apply(only)));
+            return results;
+        }
+        List<Future<T>> futures = new ArrayList<>(shardNames.size());
+        for (String shard : shardNames) {
+            futures.add(executor.submit(() -> onShard(shard, () -> work.apply(shard))));
+        }
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            logger.warn("Shard query failed: {}", e.getCause().toString());
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the shards", e);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,34 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The period a report period is compared against.
+ */
+public enum ComparisonPeriod {
+    /** The period of the same length that ends the day before, e.g. last week for this week. */
+    PREVIOUS_PERIOD,
+    /** The same dates one year earlier, e.g. June last year for this June. */
+    PREVIOUS_YEAR;
+
+    /**
+     * @return The first day of the period compared against {@code [startDate, endDate]}.
+     */
+    public LocalDate previousStart(LocalDate startDate, LocalDate endDate) {
+        return switch (this) {
+            case PREVIOUS_PERIOD -> startDate.minusDays(ChronoUnit.DAYS.between(startDate, endDate) + 1);
+            case PREVIOUS_YEAR -> startDate.minusYears(1);
+        };
+    }
+
+    /**
+     * @return The last day of the period compared against {@code [startDate, endDate]}.
+     */
+    public LocalDate previousEnd(LocalDate startDate, LocalDate endDate) {
+        return switch (this) {
+            case PREVIOUS_PERIOD -> startDate.minusDays(1);
+            case PREVIOUS_YEAR -> endDate.minusYears(1);
+        };
+    }
+}
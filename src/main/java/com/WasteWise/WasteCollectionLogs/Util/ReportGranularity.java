@@ -0,0 +1,47 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of the zone and vehicle reports.
+ * <p>
+ * Collection times are stored as local wall-clock times of the collection area, so buckets are cut
+ * at the calendar boundaries of that clock: midnight, Monday (ISO week), the first of the month and
+ * January 1st. Boundaries are computed on the calendar rather than by adding fixed durations, so a
+ * daylight saving change never shifts a bucket.
+ * </p>
+ */
+public enum ReportGranularity {
+    HOUR,
+    DAY,
+    /** ISO week, starting on Monday. */
+    WEEK,
+    MONTH,
+    YEAR;
+
+    /**
+     * @return The start of the bucket that contains {@code time}.
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        if (this == HOUR) {
+            return time.truncatedTo(ChronoUnit.HOURS);
+        }
+        return bucketStart(time.toLocalDate()).atStartOfDay();
+    }
+
+    /**
+     * @return The first day of the bucket that contains {@code date}; for {@link #HOUR} the day itself.
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case HOUR, DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one computation.
+ * <p>
+ * The first caller for a key runs the computation on its own thread; callers arriving while it is in
+ * flight wait for it and receive the same result or exception. The entry is removed as soon as the
+ * computation finishes, so nothing is cached: a call that starts afterwards computes again.
+ * </p>
+ *
+ * @param <K> The key type; must implement {@code equals} and {@code hashCode}.
+ * @param <V> The result type. Results are shared between callers and must not be mutated.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Returns the result of {@code computation} for {@code key}, joining an identical computation
+     * that is already running instead of starting another one.
+     *
+     * @throws RuntimeException whatever the computation threw, rethrown to every waiting caller.
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            return await(running);
+        }
+        try {
+            V result = computation.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * @return The number of calls that were served by another caller's computation.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return The number of computations currently running.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.WasteWise.WasteCollectionLogs.Dto.TimeIntervalDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDayDTO;
+
+/**
+ * Merges the collection intervals of one vehicle into busy intervals per day in a single pass.
+ * <p>
+ * Intervals must be fed in non-decreasing start order. The sweep keeps only the busy interval
+ * being merged and the day being built; overlapping collections (several workers on one vehicle)
+ * extend the current interval, a later start closes it. Intervals are clipped to the report range
+ * and split at midnight, and each finished day is handed to the consumer immediately, so memory
+ * does not grow with the number of logs.
+ * </p>
+ */
+public final class UtilizationSweep {
+
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final LocalDateTime rangeStart;
+    private final LocalDateTime rangeEnd;
+    private final Consumer<VehicleUtilizationDayDTO> days;
+
+    private LocalDateTime busyStart;
+    private LocalDateTime busyEnd;
+    private LocalDateTime lastStart;
+
+    private LocalDate day;
+    private List<TimeIntervalDTO> dayBusy;
+    private List<TimeIntervalDTO> dayIdle;
+    private long dayActiveSeconds;
+    private long dayIdleSeconds;
+    private long totalActiveSeconds;
+
+    /**
+     * @param rangeStart Inclusive start of the report range.
+     * @param rangeEnd Exclusive end of the report range.
+     * @param days Receives every day with activity, in date order.
+     */
+    public UtilizationSweep(LocalDateTime rangeStart, LocalDateTime rangeEnd, Consumer<VehicleUtilizationDayDTO> days) {
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.days = days;
+    }
+
+    /**
+     * Adds one collection interval.
+     *
+     * @throws IllegalStateException if {@code start} is before the start of the previous interval.
+     */
+    public void accept(LocalDateTime start, LocalDateTime end) {
+        if (lastStart != null && start.isBefore(lastStart)) {
+            throw new IllegalStateException("Intervals must be ordered by start time");
+        }
+        lastStart = start;
+        LocalDateTime clippedStart = start.isBefore(rangeStart) ? rangeStart : start;
+        LocalDateTime clippedEnd = end.isAfter(rangeEnd) ? rangeEnd : end;
+        if (!clippedEnd.isAfter(clippedStart)) {
+            return;
+        }
+        if (busyStart != null && !clippedStart.isAfter(busyEnd)) {
+            if (clippedEnd.isAfter(busyEnd)) {
+                busyEnd = clippedEnd;
+            }
+            return;
+        }
+        closeBusyInterval();
+        busyStart = clippedStart;
+        busyEnd = clippedEnd;
+    }
+
+    /**
+     * Emits the last busy interval and day. Call once after the last interval.
+     */
+    public void finish() {
+        closeBusyInterval();
+        closeDay();
+    }
+
+    public long getTotalActiveSeconds() {
+        return totalActiveSeconds;
+    }
+
+    /**
+     * Converts seconds to hours, rounded to two decimals.
+     */
+    public static double hours(long seconds) {
+        return Math.round(seconds / 36.0) / 100.0;
+    }
+
+    /**
+     * Returns {@code activeSeconds} as a share of {@code days} full days in percent, rounded to two decimals.
+     */
+    public static double percentOfDays(long activeSeconds, long days) {
+        return days <= 0 ? 0 : Math.round(activeSeconds * 10_000 / (SECONDS_PER_DAY * days)) / 100.0;
+    }
+
+    private void closeBusyInterval() {
+        if (busyStart == null) {
+            return;
+        }
+        LocalDateTime segmentStart = busyStart;
+        while (segmentStart.isBefore(busyEnd)) {
+            LocalDateTime midnight = segmentStart.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime segmentEnd = busyEnd.isBefore(midnight) ? busyEnd : midnight;
+            addBusy(segmentStart, segmentEnd);
+            segmentStart = segmentEnd;
+        }
+        busyStart = null;
+        busyEnd = null;
+    }
+
+    private void addBusy(LocalDateTime start, LocalDateTime end) {
+        if (!start.toLocalDate().equals(day)) {
+            closeDay();
+            day = start.toLocalDate();
+            dayBusy = new ArrayList<>();
+            dayIdle = new ArrayList<>();
+        } else {
+            LocalDateTime previousEnd = dayBusy.get(dayBusy.size() - 1).getEnd();
+            dayIdle.add(new TimeIntervalDTO(previousEnd, start));
+            dayIdleSeconds += Duration.between(previousEnd, start).getSeconds();
+        }
+        dayBusy.add(new TimeIntervalDTO(start, end));
+        long seconds = Duration.between(start, end).getSeconds();
+        dayActiveSeconds += seconds;
+        totalActiveSeconds += seconds;
+    }
+
+    private void closeDay() {
+        if (day == null) {
+            return;
+        }
+        days.accept(new VehicleUtilizationDayDTO(day, dayBusy, dayIdle, hours(dayActiveSeconds), hours(dayIdleSeconds),
+                percentOfDays(dayActiveSeconds, 1)));
+        day = null;
+        dayActiveSeconds = 0;
+        dayIdleSeconds = 0;
+    }
+}
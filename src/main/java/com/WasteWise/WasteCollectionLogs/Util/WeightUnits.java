@@ -0,0 +1,57 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between the API's kilogram values and the fixed-point representation used
+ * internally. Weights are stored and aggregated as a {@code long} number of hundredths of a
+ * kilogram (matching the {@code DECIMAL(10,2)} column), so totals are exact and summation works on
+ * primitive longs. Conversion to {@code double} kilograms happens only when building API responses.
+ */
+public final class WeightUnits {
+
+    private WeightUnits() {
+    }
+
+    /**
+     * Converts kilograms to hundredths of a kilogram, rounding half up at the second decimal place.
+     *
+     * @param kilograms The weight in kilograms, may be {@code null}.
+     * @return The weight in hundredths of a kilogram, or {@code null} if {@code kilograms} is {@code null}.
+     */
+    public static Long toHundredths(Double kilograms) {
+        if (kilograms == null) {
+            return null;
+        }
+        return BigDecimal.valueOf(kilograms).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Converts a kilogram total summed by the database over the {@code DECIMAL(10,2)} column to
+     * hundredths of a kilogram.
+     *
+     * @param kilograms The weight in kilograms, may be {@code null} (an empty sum).
+     * @return The weight in hundredths of a kilogram, {@code 0} if {@code kilograms} is {@code null}.
+     */
+    public static long toHundredths(BigDecimal kilograms) {
+        return kilograms == null ? 0L : kilograms.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Converts hundredths of a kilogram back to kilograms for the JSON edge.
+     *
+     * @param hundredths The weight in hundredths of a kilogram, may be {@code null}.
+     * @return The weight in kilograms, or {@code null} if {@code hundredths} is {@code null}.
+     */
+    public static Double toKilograms(Long hundredths) {
+        return hundredths == null ? null : hundredths / 100.0;
+    }
+
+    /**
+     * Converts a primitive total in hundredths of a kilogram to kilograms.
+     */
+    public static double toKilograms(long hundredths) {
+        return hundredths / 100.0;
+    }
+}
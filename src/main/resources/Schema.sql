@@ -13,5 +13,75 @@ CREATE TABLE IF NOT EXISTS waste_log (
     created_date DATETIME(6) NOT NULL,
     created_by VARCHAR(255),
     updated_date DATETIME(6),
-    updated_by VARCHAR(255)
-);
\ No newline at end of file
+    updated_by VARCHAR(255),
+    -- Optimistic lock; an end completes a cached open log with a version-checked UPDATE
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Serves the per-worker, per-day productivity aggregation
+CREATE INDEX idx_waste_log_worker_start ON waste_log (worker_id, collection_start_time);
+
+-- Serves the vehicle utilization sweep, which reads a vehicle's logs in start order
+CREATE INDEX idx_waste_log_vehicle_start ON waste_log (vehicle_id, collection_start_time);
+
+-- Serves the monthly archive run, which walks a month's logs grouped by zone in start order
+CREATE INDEX idx_waste_log_zone_start ON waste_log (zone_id, collection_start_time);
+
+-- Serves the catch-up after a warm restart, which reads the logs changed since the snapshot
+CREATE INDEX idx_waste_log_updated ON waste_log (updated_date);
+
+-- Audit trail of every start and end, written in batches by the background audit writer
+CREATE TABLE IF NOT EXISTS audit_log (
+    audit_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    entity_type VARCHAR(64) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action VARCHAR(16) NOT NULL,
+    actor VARCHAR(255) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    old_values LONGTEXT,
+    new_values LONGTEXT
+);
+
+CREATE INDEX idx_audit_log_entity ON audit_log (entity_type, entity_id);
+
+-- Completed collections whose weight was flagged as an outlier for their zone or vehicle
+CREATE TABLE IF NOT EXISTS weight_anomaly (
+    anomaly_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    log_id BIGINT NOT NULL,
+    zone_id VARCHAR(255) NOT NULL,
+    vehicle_id VARCHAR(255) NOT NULL,
+    weight_collected DECIMAL(10, 2) NOT NULL,
+    zone_samples BIGINT NOT NULL,
+    zone_mean_kg DOUBLE,
+    zone_std_dev_kg DOUBLE,
+    zone_ewma_kg DOUBLE,
+    vehicle_ewma_kg DOUBLE,
+    zone_z_score DOUBLE,
+    reason VARCHAR(512) NOT NULL,
+    detected_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_weight_anomaly_zone_detected ON weight_anomaly (zone_id, detected_at);
+CREATE INDEX idx_weight_anomaly_detected ON weight_anomaly (detected_at);
+
+-- One row per worker/zone/vehicle with an open collection; the unique key rejects a second start from any node
+CREATE TABLE IF NOT EXISTS active_log_lease (
+    lease_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    worker_id VARCHAR(255) NOT NULL,
+    zone_id VARCHAR(255) NOT NULL,
+    vehicle_id VARCHAR(255) NOT NULL,
+    acquired_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_active_log_lease UNIQUE (worker_id, zone_id, vehicle_id)
+);
+
+-- Completed collections announced to the other nodes; polled by sequence and purged after the retention period
+CREATE TABLE IF NOT EXISTS collection_change (
+    seq BIGINT PRIMARY KEY AUTO_INCREMENT,
+    zone_id VARCHAR(255) NOT NULL,
+    vehicle_id VARCHAR(255) NOT NULL,
+    change_date DATE NOT NULL,
+    node_id VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_collection_change_created ON collection_change (created_at);
@@ -0,0 +1,171 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightStatisticsStore;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightStats;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AggregateSnapshotService Unit Tests")
+class AggregateSnapshotServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Mock
+    private WasteLogRepository wasteLogRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private WasteLogAggregateStore store;
+    private WeightStatisticsStore statisticsStore;
+    private AggregateSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        store = new WasteLogAggregateStore();
+        statisticsStore = new WeightStatisticsStore(0.05);
+        snapshotService = new AggregateSnapshotService(store, statisticsStore, wasteLogRepository, new ZoneSharding(), true,
+                tempDir.resolve("aggregates.bin").toString(), 60);
+    }
+
+    @Test
+    @DisplayName("shouldRebuildFromDatabaseWithoutSnapshot: Cold start scans the table and becomes ready")
+    void shouldRebuildFromDatabaseWithoutSnapshot() {
+        // Given
+        when(wasteLogRepository.findByLogIdGreaterThanOrderByLogIdAsc(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                completed(1L, "RT001", 50.0), completed(2L, "RT002", 70.0), open(3L)));
+
+        // When
+        snapshotService.warmUp();
+
+        // Then
+        assertTrue(store.isReady());
+        List<ZoneReportDTO> reports = store.getZoneReports("Z001", DAY, DAY);
+        assertEquals(1, reports.size());
+        assertEquals(2L, reports.get(0).getTotalNumberOfCollections());
+        assertEquals(120.0, reports.get(0).getTotalWeightCollectedKg(), 0.001);
+        assertEquals(1, store.getOpenLogs().size());
+    }
+
+    @Test
+    @DisplayName("shouldRestoreSnapshotAndCatchUpChangedZoneDays: Warm start reads only logs after the watermark")
+    void shouldRestoreSnapshotAndCatchUpChangedZoneDays() throws Exception {
+        // Given a snapshot holding one completed and one open log
+        store.load(completed(1L, "RT001", 50.0));
+        store.load(open(3L));
+        LocalDateTime watermark = LocalDateTime.of(2025, 6, 18, 12, 0);
+        snapshotService.writeSnapshot(tempDir.resolve("aggregates.bin"), watermark);
+
+        // and the open log being completed after the watermark
+        WasteLog nowCompleted = completed(3L, "RT003", 30.0);
+        WasteLogAggregateStore restored = new WasteLogAggregateStore();
+        AggregateSnapshotService restarted = new AggregateSnapshotService(restored, new WeightStatisticsStore(0.05), wasteLogRepository, new ZoneSharding(), true,
+                tempDir.resolve("aggregates.bin").toString(), 60);
+        when(wasteLogRepository.findChangedAfter(eq(watermark), eq(Long.MAX_VALUE), any())).thenReturn(List.of(nowCompleted));
+        when(wasteLogRepository.findByZoneIdAndCollectionStartTimeBetween("Z001", DAY.atStartOfDay(), DAY.atTime(LocalTime.MAX)))
+                .thenReturn(List.of(completed(1L, "RT001", 50.0), nowCompleted));
+
+        // When
+        restarted.warmUp();
+
+        // Then
+        assertTrue(restored.isReady());
+        ZoneReportDTO report = restored.getZoneReports("Z001", DAY, DAY).get(0);
+        assertEquals(2L, report.getTotalNumberOfCollections());
+        assertEquals(80.0, report.getTotalWeightCollectedKg(), 0.001);
+        assertTrue(restored.getOpenLogs().isEmpty());
+        verify(wasteLogRepository, never()).findByLogIdGreaterThanOrderByLogIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("shouldMergeDistinctVehiclesAcrossDaysAfterRestore: Per-day vehicle bitmaps survive a snapshot and merge over a range")
+    void shouldMergeDistinctVehiclesAcrossDaysAfterRestore() throws Exception {
+        // Given RT001 on two days, PT002 on the second day and one legacy ID outside the bitmap range
+        store.load(completed(1L, "RT001", 10.0));
+        WasteLog nextDay = completed(2L, "RT001", 10.0);
+        nextDay.setCollectionStartTime(DAY.plusDays(1).atTime(8, 0));
+        store.load(nextDay);
+        WasteLog otherVehicle = completed(3L, "PT002", 10.0);
+        otherVehicle.setCollectionStartTime(DAY.plusDays(1).atTime(10, 0));
+        store.load(otherVehicle);
+        store.load(completed(4L, "TRUCK-7", 10.0));
+        snapshotService.writeSnapshot(tempDir.resolve("aggregates.bin"), DAY.atTime(23, 0));
+
+        // When
+        WasteLogAggregateStore restored = new WasteLogAggregateStore();
+        new AggregateSnapshotService(restored, new WeightStatisticsStore(0.05), wasteLogRepository, new ZoneSharding(), true, tempDir.resolve("aggregates.bin").toString(), 60)
+                .readSnapshot(tempDir.resolve("aggregates.bin"));
+
+        // Then
+        assertEquals(3, restored.getDistinctVehicles("Z001", DAY, DAY.plusDays(1)).cardinality());
+        assertEquals(2, restored.getDistinctVehicles("Z001", DAY, DAY).cardinality());
+        assertEquals(2, restored.getDistinctVehicles("Z001", DAY.plusDays(1), DAY.plusDays(1)).cardinality());
+        assertEquals(0, restored.getDistinctVehicles("Z002", DAY, DAY.plusDays(1)).cardinality());
+    }
+
+    @Test
+    @DisplayName("shouldRestoreWeightStatisticsFromSnapshot: Zone and vehicle statistics survive a restart without a rescan")
+    void shouldRestoreWeightStatisticsFromSnapshot() throws Exception {
+        // Given
+        statisticsStore.add(completed(1L, "RT001", 40.0));
+        statisticsStore.add(completed(2L, "RT001", 60.0));
+        statisticsStore.add(completed(3L, "RT002", 80.0));
+        snapshotService.writeSnapshot(tempDir.resolve("aggregates.bin"), DAY.atTime(23, 0));
+
+        // When
+        WeightStatisticsStore restored = new WeightStatisticsStore(0.05);
+        new AggregateSnapshotService(new WasteLogAggregateStore(), restored, wasteLogRepository, new ZoneSharding(), true,
+                tempDir.resolve("aggregates.bin").toString(), 60).readSnapshot(tempDir.resolve("aggregates.bin"));
+
+        // Then
+        WeightStats.Values zone = restored.getZoneStats("Z001").orElseThrow();
+        assertEquals(3, zone.count());
+        assertEquals(60.0, zone.mean(), 0.001);
+        assertEquals(20.0, zone.stdDev(), 0.001);
+        assertEquals(statisticsStore.getZoneStats("Z001").orElseThrow(), zone);
+        assertEquals(50.0, restored.getVehicleStats("RT001").orElseThrow().mean(), 0.001);
+        assertEquals(1, restored.getVehicleStats("RT002").orElseThrow().count());
+    }
+
+    private WasteLog completed(Long id, String vehicleId, double weight) {
+        WasteLog log = open(id);
+        log.setVehicleId(vehicleId);
+        log.setCollectionEndTime(DAY.atTime(9, 0));
+        log.setWeightCollected(WeightUnits.toHundredths(weight));
+        return log;
+    }
+
+    private WasteLog open(Long id) {
+        WasteLog log = new WasteLog();
+        log.setLogId(id);
+        log.setZoneId("Z001");
+        log.setVehicleId("RT00" + id);
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(DAY.atTime(8, 0));
+        log.setCreatedDate(DAY.atTime(8, 0));
+        return log;
+    }
+}
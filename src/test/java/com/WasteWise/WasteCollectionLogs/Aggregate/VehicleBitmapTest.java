@@ -0,0 +1,46 @@
+package com.WasteWise.WasteCollectionLogs.Aggregate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VehicleBitmap Unit Tests")
+class VehicleBitmapTest {
+
+    @Test
+    @DisplayName("shouldMapVehicleIdsToFixedBits: RT and PT ranges do not overlap, other IDs are rejected")
+    void shouldMapVehicleIdsToFixedBits() {
+        assertEquals(0, VehicleBitmap.indexOf("RT000"));
+        assertEquals(999, VehicleBitmap.indexOf("RT999"));
+        assertEquals(1000, VehicleBitmap.indexOf("PT000"));
+        assertEquals(1999, VehicleBitmap.indexOf("PT999"));
+        assertEquals(-1, VehicleBitmap.indexOf("XT001"));
+        assertEquals(-1, VehicleBitmap.indexOf("RT01"));
+        assertEquals(-1, VehicleBitmap.indexOf("RT0A1"));
+        assertEquals(-1, VehicleBitmap.indexOf(null));
+    }
+
+    @Test
+    @DisplayName("shouldMergeSetsExactly: OR of two days counts shared vehicles once, including overflow IDs")
+    void shouldMergeSetsExactly() {
+        VehicleBitmap monday = new VehicleBitmap();
+        monday.add("RT001");
+        monday.add("PT001");
+        monday.add("LEGACY-1");
+        VehicleBitmap tuesday = new VehicleBitmap();
+        tuesday.add("RT001");
+        tuesday.add("RT064");
+        tuesday.add("LEGACY-1");
+
+        VehicleBitmap week = new VehicleBitmap();
+        week.or(monday);
+        week.or(tuesday);
+
+        assertEquals(4, week.cardinality());
+        assertTrue(week.contains("RT064"));
+        assertTrue(week.contains("LEGACY-1"));
+        assertFalse(week.contains("PT064"));
+        assertEquals(3, monday.cardinality());
+    }
+}
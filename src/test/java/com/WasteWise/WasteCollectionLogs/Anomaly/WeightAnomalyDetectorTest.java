@@ -0,0 +1,137 @@
+package com.WasteWise.WasteCollectionLogs.Anomaly;
+
+import com.WasteWise.WasteCollectionLogs.Dto.WeightAnomalyDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Model.WeightAnomaly;
+import com.WasteWise.WasteCollectionLogs.Repository.WeightAnomalyRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardMap;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeightAnomalyDetector Unit Tests")
+class WeightAnomalyDetectorTest {
+
+    @Mock
+    private WeightAnomalyRepository weightAnomalyRepository;
+
+    private WeightStatisticsStore statisticsStore;
+    private WeightAnomalyDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        statisticsStore = new WeightStatisticsStore(0.05);
+        statisticsStore.markReady();
+        detector = new WeightAnomalyDetector(statisticsStore, weightAnomalyRepository, new ZoneSharding(), true, 30, 4.0, 10.0);
+    }
+
+    @Test
+    @DisplayName("shouldFlagAndRecordOutlierAgainstZoneHistory: A tenfold load is recorded with the statistics it was judged by")
+    void shouldFlagAndRecordOutlierAgainstZoneHistory() {
+        // Given 30 collections of 90 to 110 kg in zone Z001
+        for (int i = 0; i < 30; i++) {
+            statisticsStore.add(log("RT001", i % 2 == 0 ? 90.0 : 110.0));
+        }
+        when(weightAnomalyRepository.save(any(WeightAnomaly.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<WeightAnomaly> anomaly = detector.inspect(log("RT001", 1500.0));
+
+        // Then
+        assertTrue(anomaly.isPresent());
+        assertEquals(30L, anomaly.get().getZoneSamples());
+        assertEquals(100.0, anomaly.get().getZoneMeanKg(), 0.001);
+        assertTrue(anomaly.get().getZoneZScore() > 4.0);
+        assertTrue(anomaly.get().getReason().startsWith("Weight 1500.00 kg is "));
+        assertTrue(anomaly.get().getReason().contains("the vehicle's recent average"));
+        verify(weightAnomalyRepository).save(anomaly.get());
+    }
+
+    @Test
+    @DisplayName("shouldNotFlagNormalWeightOrThinHistory: Usual loads and zones with too few samples are never flagged")
+    void shouldNotFlagNormalWeightOrThinHistory() {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            statisticsStore.add(log("RT001", i % 2 == 0 ? 90.0 : 110.0));
+        }
+        WasteLog newZone = log("RT001", 1500.0);
+        newZone.setZoneId("Z002");
+        statisticsStore.add(newZone);
+
+        // When / Then
+        assertTrue(detector.inspect(log("RT001", 112.0)).isEmpty());
+        assertTrue(detector.inspect(newZone).isEmpty());
+        verify(weightAnomalyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("shouldMergeTheAnomaliesOfEveryShard: Without a zone, one page is cut from the anomalies of all shards")
+    void shouldMergeTheAnomaliesOfEveryShard() {
+        // Given
+        detector = new WeightAnomalyDetector(statisticsStore, weightAnomalyRepository, twoShards(), true, 30, 4.0, 10.0);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "detectedAt"));
+        when(weightAnomalyRepository.findByDetectedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), eq(pageable)))
+                .thenAnswer(invocation -> "shard-a".equals(ShardRoutingDataSource.currentShard())
+                        ? new PageImpl<>(List.of(anomaly(1L, 10), anomaly(3L, 8)), pageable, 2)
+                        : new PageImpl<>(List.of(anomaly(2L, 9)), pageable, 1));
+
+        // When
+        Page<WeightAnomalyDTO> page = detector.getAnomalies(null, LocalDate.of(2025, 6, 18), LocalDate.of(2025, 6, 18), pageable);
+
+        // Then
+        assertEquals(List.of(1L, 2L), page.getContent().stream().map(WeightAnomalyDTO::getAnomalyId).toList());
+        assertEquals(3L, page.getTotalElements());
+    }
+
+    private static ZoneSharding twoShards() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("shards", new ShardRoutingDataSource(Map.of("shard-a", mock(DataSource.class), "shard-b", mock(DataSource.class))));
+        beans.registerSingleton("shardMap", (ShardMap) zoneId -> "shard-a");
+        return new ZoneSharding(beans.getBeanProvider(ShardMap.class), beans.getBeanProvider(ShardRoutingDataSource.class));
+    }
+
+    private static WeightAnomaly anomaly(Long anomalyId, int hour) {
+        WeightAnomaly anomaly = new WeightAnomaly();
+        anomaly.setAnomalyId(anomalyId);
+        anomaly.setWeightCollected(WeightUnits.toHundredths(1500.0));
+        anomaly.setDetectedAt(LocalDateTime.of(2025, 6, 18, hour, 0));
+        return anomaly;
+    }
+
+    private static WasteLog log(String vehicleId, double weightKg) {
+        WasteLog log = new WasteLog();
+        log.setLogId(1L);
+        log.setZoneId("Z001");
+        log.setVehicleId(vehicleId);
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(LocalDateTime.of(2025, 6, 18, 8, 0));
+        log.setCollectionEndTime(LocalDateTime.of(2025, 6, 18, 9, 0));
+        log.setWeightCollected(WeightUnits.toHundredths(weightKg));
+        return log;
+    }
+}
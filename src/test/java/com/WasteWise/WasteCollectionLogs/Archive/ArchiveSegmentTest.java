@@ -0,0 +1,99 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Archive segment round-trip tests")
+class ArchiveSegmentTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("shouldRoundTripLogsThroughSegmentFile: Written logs are read back unchanged by zone and vehicle")
+    void shouldRoundTripLogsThroughSegmentFile() throws Exception {
+        // Given
+        List<WasteLog> logs = new ArrayList<>();
+        logs.add(log(10L, "Z001", "RT001", "W001", LocalDateTime.of(2024, 3, 1, 8, 15, 30, 123_456_000), 90, 125.75));
+        logs.add(log(12L, "Z001", "PT002", "W002", LocalDateTime.of(2024, 3, 1, 6, 0), 45, 80.10));
+        logs.add(log(11L, "Z002", "RT001", "W001", LocalDateTime.of(2024, 3, 2, 9, 0), 30, 40.0));
+        logs.add(log(15L, "Z001", "RT001", "W003", LocalDateTime.of(2024, 3, 31, 23, 30), 60, 10.05));
+        Path file = tempDir.resolve("segment.seg");
+
+        // When
+        ArchiveSegmentWriter.write(file, MONTH, logs);
+        ArchiveSegment segment = ArchiveSegment.open(file);
+
+        // Then
+        assertEquals(MONTH, segment.getMonth());
+
+        List<WasteLog> zoneLogs = segment.findByZone("Z001", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1));
+        assertEquals(2, zoneLogs.size());
+        // Rows inside a day block are ordered by start time
+        assertEquals(12L, zoneLogs.get(0).getLogId());
+        assertEquals("PT002", zoneLogs.get(0).getVehicleId());
+        assertEquals(10L, zoneLogs.get(1).getLogId());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 8, 15, 30, 123_456_000), zoneLogs.get(1).getCollectionStartTime());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 45, 30, 123_456_000), zoneLogs.get(1).getCollectionEndTime());
+        assertEquals(12575L, zoneLogs.get(1).getWeightCollected());
+
+        List<WasteLog> vehicleLogs = segment.findByVehicle("RT001", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        assertEquals(3, vehicleLogs.size());
+        assertTrue(vehicleLogs.stream().allMatch(l -> l.getVehicleId().equals("RT001")));
+
+        List<WasteLog> fleetLogs = segment.findByVehicles(List.of("RT001", "PT002", "PT999"), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+        assertEquals(3, fleetLogs.size());
+
+        List<WasteLog> workerLogs = segment.findByWorker("W001", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        assertEquals(2, workerLogs.size());
+        assertEquals(4, segment.findByWorker(null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).size());
+
+        LocalDateTime crossesMidnight = segment.findByZone("Z001", LocalDate.of(2024, 3, 31), LocalDate.of(2024, 3, 31))
+                .get(0).getCollectionEndTime();
+        assertEquals(LocalDateTime.of(2024, 4, 1, 0, 30), crossesMidnight);
+    }
+
+    @Test
+    @DisplayName("shouldReturnEmptyForUnknownIds: IDs missing from the dictionary short-circuit to an empty result")
+    void shouldReturnEmptyForUnknownIds() throws Exception {
+        // Given
+        Path file = tempDir.resolve("segment.seg");
+        ArchiveSegmentWriter.write(file, MONTH,
+                List.of(log(1L, "Z001", "RT001", "W001", LocalDateTime.of(2024, 3, 5, 8, 0), 30, 10.0)));
+
+        // When
+        ArchiveSegment segment = ArchiveSegment.open(file);
+
+        // Then
+        assertTrue(segment.findByZone("Z999", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).isEmpty());
+        assertTrue(segment.findByVehicle("PT999", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).isEmpty());
+        assertTrue(segment.findByZone("Z001", LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 31)).isEmpty());
+    }
+
+    private WasteLog log(Long id, String zoneId, String vehicleId, String workerId, LocalDateTime start, int minutes, double weight) {
+        WasteLog log = new WasteLog();
+        log.setLogId(id);
+        log.setZoneId(zoneId);
+        log.setVehicleId(vehicleId);
+        log.setWorkerId(workerId);
+        log.setCollectionStartTime(start);
+        log.setCollectionEndTime(start.plusMinutes(minutes));
+        log.setWeightCollected(WeightUnits.toHundredths(weight));
+        log.setCreatedDate(start);
+        return log;
+    }
+}
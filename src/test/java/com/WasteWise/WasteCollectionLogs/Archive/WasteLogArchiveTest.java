@@ -0,0 +1,92 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("WasteLogArchive Tests")
+class WasteLogArchiveTest {
+
+    private static final YearMonth OLD = YearMonth.now().minusMonths(12);
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void cleanUp() {
+        wasteLogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("shouldArchiveAMonthPageByPage: Every completed log of the month reaches the segment across several pages")
+    void shouldArchiveAMonthPageByPage() {
+        // Given
+        for (int day = 1; day <= 3; day++) {
+            wasteLogRepository.save(log("Z002", OLD.atDay(day).atTime(9, 0), true));
+            wasteLogRepository.save(log("Z001", OLD.atDay(day).atTime(8, 0), true));
+            wasteLogRepository.save(log("Z001", OLD.atDay(day).atTime(7, 0), true));
+        }
+        WasteLogArchive archive = new WasteLogArchive(wasteLogRepository, new ZoneSharding(), true, tempDir.toString(), 6, 2);
+
+        // When
+        archive.archiveCompletedMonths();
+
+        // Then
+        assertTrue(archive.covers(OLD));
+        assertEquals(6, archive.findZoneLogs("Z001", OLD.atDay(1), OLD.atEndOfMonth()).size());
+        assertEquals(3, archive.findZoneLogs("Z002", OLD.atDay(1), OLD.atEndOfMonth()).size());
+        assertEquals(OLD.atDay(2).atTime(7, 0),
+                archive.findZoneLogs("Z001", OLD.atDay(2), OLD.atDay(2)).get(0).getCollectionStartTime());
+    }
+
+    @Test
+    @DisplayName("shouldNotArchiveAMonthWithOpenLogs: A month is left in the database until its open logs are completed")
+    void shouldNotArchiveAMonthWithOpenLogs() {
+        // Given
+        wasteLogRepository.save(log("Z001", OLD.atDay(1).atTime(8, 0), true));
+        wasteLogRepository.save(log("Z001", OLD.atDay(2).atTime(8, 0), false));
+        WasteLogArchive archive = new WasteLogArchive(wasteLogRepository, new ZoneSharding(), true, tempDir.toString(), 6, 1000);
+
+        // When
+        archive.archiveCompletedMonths();
+
+        // Then
+        assertFalse(archive.covers(OLD));
+        assertFalse(archive.covers(OLD.plusMonths(1)));
+    }
+
+    private WasteLog log(String zoneId, LocalDateTime start, boolean completed) {
+        WasteLog log = new WasteLog();
+        log.setZoneId(zoneId);
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(start);
+        if (completed) {
+            log.setCollectionEndTime(start.plusMinutes(30));
+            log.setWeightCollected(1000L);
+        }
+        log.setCreatedDate(start);
+        return log;
+    }
+}
@@ -0,0 +1,98 @@
+package com.WasteWise.WasteCollectionLogs.Archive;
+
+import com.WasteWise.WasteCollectionLogs.Dto.RetentionStatusDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("WasteLogRetentionJob Tests")
+class WasteLogRetentionJobTest {
+
+    private static final YearMonth EXPIRED = YearMonth.now().minusMonths(30);
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    private final WasteLogArchive wasteLogArchive = mock(WasteLogArchive.class);
+
+    @AfterEach
+    void cleanUp() {
+        wasteLogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("shouldPurgeExpiredCompletedLogsInChunks: Only archived, completed, expired logs are deleted, chunk by chunk")
+    void shouldPurgeExpiredCompletedLogsInChunks() {
+        // Given
+        for (int day = 1; day <= 5; day++) {
+            wasteLogRepository.save(log(EXPIRED.atDay(day).atTime(8, 0), true));
+        }
+        WasteLog expiredOpen = wasteLogRepository.save(log(EXPIRED.atDay(6).atTime(8, 0), false));
+        WasteLog recent = wasteLogRepository.save(log(LocalDateTime.now().minusDays(1), true));
+        when(wasteLogArchive.covers(any(YearMonth.class))).thenReturn(true);
+        WasteLogRetentionJob job = new WasteLogRetentionJob(wasteLogRepository, wasteLogArchive, new ZoneSharding(), true, 24, true, 2, 0);
+
+        // When
+        long deleted = job.purge();
+
+        // Then
+        assertEquals(5, deleted);
+        assertEquals(List.of(expiredOpen.getLogId(), recent.getLogId()),
+                wasteLogRepository.findAll().stream().map(WasteLog::getLogId).sorted().toList());
+        RetentionStatusDTO status = job.getStatus();
+        assertEquals(5L, status.getRowsDeleted());
+        assertEquals(3L, status.getChunks());
+        assertFalse(status.getRunning());
+        assertNull(status.getLastSkipReason());
+    }
+
+    @Test
+    @DisplayName("shouldNotPurgeMonthsThatAreNotArchived: Nothing is deleted before the archive covers the month")
+    void shouldNotPurgeMonthsThatAreNotArchived() {
+        // Given
+        wasteLogRepository.save(log(EXPIRED.atDay(1).atTime(8, 0), true));
+        when(wasteLogArchive.covers(any(YearMonth.class))).thenReturn(false);
+        WasteLogRetentionJob job = new WasteLogRetentionJob(wasteLogRepository, wasteLogArchive, new ZoneSharding(), true, 24, true, 1000, 0);
+
+        // When
+        long deleted = job.purge();
+
+        // Then
+        assertEquals(0, deleted);
+        assertEquals(1, wasteLogRepository.count());
+        assertEquals("Month " + EXPIRED + " is not archived yet", job.getStatus().getLastSkipReason());
+    }
+
+    private WasteLog log(LocalDateTime start, boolean completed) {
+        WasteLog log = new WasteLog();
+        log.setZoneId("Z001");
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(start);
+        if (completed) {
+            log.setCollectionEndTime(start.plusMinutes(30));
+            log.setWeightCollected(5000L);
+        }
+        return log;
+    }
+}
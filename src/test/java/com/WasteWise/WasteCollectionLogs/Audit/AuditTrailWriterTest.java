@@ -0,0 +1,122 @@
+package com.WasteWise.WasteCollectionLogs.Audit;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(AuditTrailWriter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AuditTrailWriter Tests")
+class AuditTrailWriterTest {
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @Autowired
+    private AuditTrailWriter auditTrailWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM audit_log");
+        wasteLogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("shouldAuditStartAndEndWithOldAndNewValues: Committed changes are written to audit_log in a batch")
+    void shouldAuditStartAndEndWithOldAndNewValues() throws Exception {
+        // Given
+        WasteLog log = new WasteLog();
+        log.setZoneId("Z001");
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(LocalDateTime.of(2025, 6, 18, 8, 0));
+        log = wasteLogRepository.save(log);
+
+        WasteLog completed = wasteLogRepository.findById(log.getLogId()).orElseThrow();
+        completed.setCollectionEndTime(LocalDateTime.of(2025, 6, 18, 9, 0));
+        completed.setWeightCollected(12550L);
+        wasteLogRepository.save(completed);
+
+        // When
+        auditTrailWriter.flush();
+        // The background thread may have taken a record before the flush and still be writing it.
+        waitUntilWritten(2);
+
+        // Then
+        assertEquals("system", wasteLogRepository.findById(log.getLogId()).orElseThrow().getCreatedBy());
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT action, actor, entity_id, old_values, new_values FROM audit_log ORDER BY audit_id");
+        assertEquals(2, rows.size());
+        assertEquals("START", rows.get(0).get("ACTION"));
+        assertEquals("system", rows.get(0).get("ACTOR"));
+        assertEquals(log.getLogId(), ((Number) rows.get(0).get("ENTITY_ID")).longValue());
+        assertNull(rows.get(0).get("OLD_VALUES"));
+
+        assertEquals("END", rows.get(1).get("ACTION"));
+        Map<?, ?> oldValues = objectMapper.readValue(String.valueOf(rows.get(1).get("OLD_VALUES")), Map.class);
+        Map<?, ?> newValues = objectMapper.readValue(String.valueOf(rows.get(1).get("NEW_VALUES")), Map.class);
+        assertTrue(oldValues.containsKey("collectionEndTime"));
+        assertNull(oldValues.get("collectionEndTime"));
+        assertEquals("2025-06-18T09:00:00", newValues.get("collectionEndTime"));
+        assertEquals(125.5, newValues.get("weightCollected"));
+        assertFalse(newValues.containsKey("zoneId"));
+        assertEquals(2L, auditTrailWriter.getMetrics().getWritten());
+    }
+
+    @Test
+    @DisplayName("shouldDropRecordsWhenQueueIsFull: A full queue never blocks the caller")
+    void shouldDropRecordsWhenQueueIsFull() {
+        // Given
+        AuditTrailWriter writer = new AuditTrailWriter(jdbcTemplate, objectMapper, true, 2, 10, 1000);
+        AuditRecord record = new AuditRecord("WasteLog", 1L, AuditAction.START, "system", LocalDateTime.now(), null, Map.of());
+
+        // When
+        boolean first = writer.submit(record);
+        boolean second = writer.submit(record);
+        boolean third = writer.submit(record);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2, writer.getMetrics().getQueueDepth());
+        assertEquals(1L, writer.getMetrics().getDropped());
+    }
+
+    private void waitUntilWritten(long records) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (auditTrailWriter.getMetrics().getWritten() < records) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the audit writer");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.WasteWise.WasteCollectionLogs.Cache;
+
+import com.WasteWise.WasteCollectionLogs.Audit.AuditAction;
+import com.WasteWise.WasteCollectionLogs.Audit.AuditRecord;
+import com.WasteWise.WasteCollectionLogs.Audit.AuditTrailWriter;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OpenLogCache Tests")
+class OpenLogCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 18, 8, 0);
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    private final AuditTrailWriter auditTrailWriter = mock(AuditTrailWriter.class);
+
+    @AfterEach
+    void cleanUp() {
+        wasteLogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("shouldCompleteCachedLogWithoutReadingIt: A current cached version completes the row and audits the end")
+    void shouldCompleteCachedLogWithoutReadingIt() {
+        // Given
+        OpenLogCache cache = new OpenLogCache(wasteLogRepository, auditTrailWriter, true, 100);
+        WasteLog started = wasteLogRepository.save(log());
+        cache.put(started);
+
+        // When
+        Optional<WasteLog> completed = cache.complete(started.getLogId(), START.plusHours(1), 12550L);
+
+        // Then
+        assertTrue(completed.isPresent());
+        WasteLog stored = wasteLogRepository.findById(started.getLogId()).orElseThrow();
+        assertEquals(START.plusHours(1), stored.getCollectionEndTime());
+        assertEquals(12550L, stored.getWeightCollected());
+        assertEquals(stored.getVersion(), completed.get().getVersion());
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.size());
+        verify(auditTrailWriter).submitAfterCommit(argThat((AuditRecord record) ->
+                record.action() == AuditAction.END && record.entityId().equals(started.getLogId())));
+    }
+
+    @Test
+    @DisplayName("shouldMissWhenLogChangedElsewhere: A stale cached version leaves the row alone")
+    void shouldMissWhenLogChangedElsewhere() {
+        // Given
+        OpenLogCache cache = new OpenLogCache(wasteLogRepository, auditTrailWriter, true, 100);
+        WasteLog started = wasteLogRepository.save(log());
+        cache.put(started);
+        WasteLog elsewhere = wasteLogRepository.findById(started.getLogId()).orElseThrow();
+        elsewhere.setCollectionEndTime(START.plusMinutes(30));
+        elsewhere.setWeightCollected(5000L);
+        wasteLogRepository.save(elsewhere);
+
+        // When
+        Optional<WasteLog> completed = cache.complete(started.getLogId(), START.plusHours(1), 12550L);
+
+        // Then
+        assertTrue(completed.isEmpty());
+        assertEquals(5000L, wasteLogRepository.findById(started.getLogId()).orElseThrow().getWeightCollected());
+        assertEquals(1, cache.getStale());
+        verify(auditTrailWriter, never()).submitAfterCommit(any());
+    }
+
+    private static WasteLog log() {
+        WasteLog log = new WasteLog();
+        log.setZoneId("Z001");
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(START);
+        return log;
+    }
+}
@@ -0,0 +1,124 @@
+package com.WasteWise.WasteCollectionLogs.Commit;
+
+import com.WasteWise.WasteCollectionLogs.Handler.LogAlreadyCompletedException;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("GroupCommitExecutor Tests")
+class GroupCommitExecutorTest {
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        wasteLogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("shouldCommitConcurrentWritesInOneTransaction: Each caller gets its own result from a shared commit")
+    void shouldCommitConcurrentWritesInOneTransaction() throws Exception {
+        // Given
+        GroupCommitExecutor groupCommit = new GroupCommitExecutor(transactionManager, true, 6, 500, 100);
+        groupCommit.start();
+
+        try {
+            // When
+            List<Future<WasteLog>> results = submitAll(groupCommit, List.of(
+                    () -> wasteLogRepository.save(log("Z001")), () -> wasteLogRepository.save(log("Z002")),
+                    () -> wasteLogRepository.save(log("Z003")), () -> wasteLogRepository.save(log("Z004")),
+                    () -> wasteLogRepository.save(log("Z005")), () -> wasteLogRepository.save(log("Z006"))));
+
+            // Then
+            for (Future<WasteLog> result : results) {
+                assertNotNull(result.get(5, TimeUnit.SECONDS).getLogId());
+            }
+            assertEquals(6, wasteLogRepository.count());
+            assertEquals(1, groupCommit.getCommittedBatches());
+            assertEquals(6, groupCommit.getCommittedWrites());
+        } finally {
+            groupCommit.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("shouldIsolateFailingWrites: Business and database failures reach only their own caller")
+    void shouldIsolateFailingWrites() throws Exception {
+        // Given
+        GroupCommitExecutor groupCommit = new GroupCommitExecutor(transactionManager, true, 4, 500, 100);
+        groupCommit.start();
+
+        try {
+            // When
+            List<Future<WasteLog>> results = submitAll(groupCommit, List.of(
+                    () -> wasteLogRepository.save(log("Z001")),
+                    () -> {
+                        throw new LogAlreadyCompletedException("Waste log 42 is already completed.");
+                    },
+                    () -> wasteLogRepository.save(log(null)),
+                    () -> wasteLogRepository.save(log("Z004"))));
+
+            // Then
+            assertNotNull(results.get(0).get(5, TimeUnit.SECONDS).getLogId());
+            assertInstanceOf(LogAlreadyCompletedException.class, failureOf(results.get(1)));
+            assertInstanceOf(DataAccessException.class, failureOf(results.get(2)));
+            assertNotNull(results.get(3).get(5, TimeUnit.SECONDS).getLogId());
+            assertEquals(2, wasteLogRepository.count());
+            assertEquals(1, groupCommit.getFallbackBatches());
+        } finally {
+            groupCommit.stop();
+        }
+    }
+
+    private static List<Future<WasteLog>> submitAll(GroupCommitExecutor groupCommit, List<Supplier<WasteLog>> writes) {
+        ExecutorService callers = Executors.newFixedThreadPool(writes.size());
+        List<Future<WasteLog>> results = new ArrayList<>();
+        for (Supplier<WasteLog> write : writes) {
+            results.add(callers.submit(() -> groupCommit.execute(write)));
+        }
+        callers.shutdown();
+        return results;
+    }
+
+    private static Throwable failureOf(Future<WasteLog> result) {
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        return failure.getCause();
+    }
+
+    private static WasteLog log(String zoneId) {
+        WasteLog log = new WasteLog();
+        log.setZoneId(zoneId);
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(LocalDateTime.of(2025, 6, 18, 8, 0));
+        return log;
+    }
+}
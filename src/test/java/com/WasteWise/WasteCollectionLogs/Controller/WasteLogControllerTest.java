@@ -1,16 +1,24 @@
 package com.WasteWise.WasteCollectionLogs.Controller;
 
 import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Dto.CollectionOverlapDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.TimeIntervalDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDayDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogResponseDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogStartRequestDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.WasteLogUpdateRequestDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneComparisonDTO;
 import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
 import com.WasteWise.WasteCollectionLogs.Handler.GlobalExceptionHandler;
 import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
 import com.WasteWise.WasteCollectionLogs.Handler.LogAlreadyCompletedException;
 import com.WasteWise.WasteCollectionLogs.Handler.ResourceNotFoundException;
 import com.WasteWise.WasteCollectionLogs.ServiceImpl.WasteLogServiceImpl;
+import com.WasteWise.WasteCollectionLogs.Util.ComparisonPeriod;
+import com.WasteWise.WasteCollectionLogs.Util.ReportGranularity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -24,22 +32,28 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 
 
 @WebMvcTest
@@ -206,7 +220,7 @@ class WasteLogControllerTest {
         );
         PageImpl<ZoneReportDTO> reportsPage = new PageImpl<>(reportList, pageable, reportList.size());
 
-        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), any(Pageable.class)))
+        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
                 .thenReturn(reportsPage);
 
         mockMvc.perform(get("/wastewise/admin/wastelogs/reports/zone")
@@ -224,7 +238,34 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.data.content[1].totalWeightCollectedKg", is(1500.0)))
                 .andExpect(jsonPath("$.data.totalElements", is(2)));
 
-        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), any(Pageable.class));
+        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void getZoneLogs_ShouldPassGranularity_WhenRequested() throws Exception {
+        String zoneId = "Z001";
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+        Pageable pageable = PageRequest.of(0, 12, Sort.by("date").ascending());
+
+        List<ZoneReportDTO> reportList = List.of(
+                new ZoneReportDTO("Z001", LocalDate.of(2023, 1, 1), 4L, 31000.0, LocalDateTime.of(2023, 1, 1, 0, 0)));
+        PageImpl<ZoneReportDTO> reportsPage = new PageImpl<>(reportList, pageable, reportList.size());
+
+        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), eq(ReportGranularity.MONTH), any(Pageable.class)))
+                .thenReturn(reportsPage);
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/zone")
+                .param("zoneId", zoneId)
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-12-31")
+                .param("granularity", "MONTH")
+                .param("size", "12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].periodStart", is("2023-01-01T00:00:00")))
+                .andExpect(jsonPath("$.data.content[0].totalNumberOfCollections", is(4)));
+
+        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), eq(ReportGranularity.MONTH), any(Pageable.class));
     }
 
     @Test
@@ -236,7 +277,7 @@ class WasteLogControllerTest {
 
         PageImpl<ZoneReportDTO> reportsPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), any(Pageable.class)))
+        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
                 .thenReturn(reportsPage);
 
         mockMvc.perform(get("/wastewise/admin/wastelogs/reports/zone")
@@ -249,7 +290,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.data.content", is(empty())))
                 .andExpect(jsonPath("$.data.totalElements", is(0)));
 
-        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), any(Pageable.class));
+        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -266,7 +307,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is(containsString("Invalid Zone ID format."))));
 
-        verify(wasteLogService, never()).getZoneLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+        verify(wasteLogService, never()).getZoneLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -281,7 +322,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is("Required request parameter 'startDate' is not present.")));
 
-        verify(wasteLogService, never()).getZoneLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+        verify(wasteLogService, never()).getZoneLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -298,7 +339,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is(containsString("Parameter 'startDate' has invalid value"))));
 
-        verify(wasteLogService, never()).getZoneLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+        verify(wasteLogService, never()).getZoneLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -307,7 +348,7 @@ class WasteLogControllerTest {
         LocalDate startDate = LocalDate.of(2023, 1, 5);
         LocalDate endDate = LocalDate.of(2023, 1, 1);
 
-        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), any(Pageable.class)))
+        when(wasteLogService.getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
                 .thenThrow(new InvalidInputException(WasteLogConstants.END_DATE_CANNOT_BE_BEFORE_START_DATE));
 
         mockMvc.perform(get("/wastewise/admin/wastelogs/reports/zone")
@@ -318,7 +359,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is(WasteLogConstants.END_DATE_CANNOT_BE_BEFORE_START_DATE)));
 
-        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), any(Pageable.class));
+        verify(wasteLogService, times(1)).getZoneLogs(eq(zoneId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -334,7 +375,7 @@ class WasteLogControllerTest {
         );
         PageImpl<VehicleReportDTO> reportsPage = new PageImpl<>(reportList, pageable, reportList.size());
 
-        when(wasteLogService.getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), any(Pageable.class)))
+        when(wasteLogService.getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
                 .thenReturn(reportsPage);
 
         mockMvc.perform(get("/wastewise/admin/wastelogs/reports/vehicle")
@@ -352,7 +393,36 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.data.content[1].weightCollected", is(450.0)))
                 .andExpect(jsonPath("$.data.totalElements", is(2)));
 
-        verify(wasteLogService, times(1)).getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), any(Pageable.class));
+        verify(wasteLogService, times(1)).getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void getVehicleLogs_ShouldReturnSliceWithoutCount_WhenCountIsFalse() throws Exception {
+        String vehicleId = "RT001";
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 1, 3);
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("collectionDate").ascending());
+
+        SliceImpl<VehicleReportDTO> reportsSlice = new SliceImpl<>(
+                List.of(new VehicleReportDTO("RT001", "Z001", 300.0, LocalDate.of(2023, 1, 1))), pageable, true);
+
+        when(wasteLogService.getVehicleLogSlice(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
+                .thenReturn(reportsSlice);
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/vehicle")
+                .param("vehicleId", vehicleId)
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-03")
+                .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(WasteLogConstants.VEHICLE_REPORT_GENERATED_SUCCESSFULLY)))
+                .andExpect(jsonPath("$.data.content[0].vehicleId", is("RT001")))
+                .andExpect(jsonPath("$.data.last", is(false)))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.data.totalPages").doesNotExist());
+
+        verify(wasteLogService, times(1)).getVehicleLogSlice(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
+        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -364,7 +434,7 @@ class WasteLogControllerTest {
 
         PageImpl<VehicleReportDTO> reportsPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-        when(wasteLogService.getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), any(Pageable.class)))
+        when(wasteLogService.getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
                 .thenReturn(reportsPage);
 
         mockMvc.perform(get("/wastewise/admin/wastelogs/reports/vehicle")
@@ -377,7 +447,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.data.content", is(empty())))
                 .andExpect(jsonPath("$.data.totalElements", is(0)));
 
-        verify(wasteLogService, times(1)).getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), any(Pageable.class));
+        verify(wasteLogService, times(1)).getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -394,7 +464,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is(containsString("Invalid Vehicle ID format."))));
 
-        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -409,7 +479,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is("Required request parameter 'endDate' is not present.")));
 
-        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -426,7 +496,7 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is(containsString("Parameter 'endDate' has invalid value"))));
 
-        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+        verify(wasteLogService, never()).getVehicleLogs(anyString(), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class));
     }
 
     @Test
@@ -435,7 +505,7 @@ class WasteLogControllerTest {
         LocalDate startDate = LocalDate.of(2023, 1, 5);
         LocalDate endDate = LocalDate.of(2023, 1, 1);
 
-        when(wasteLogService.getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), any(Pageable.class)))
+        when(wasteLogService.getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class)))
                 .thenThrow(new InvalidInputException(WasteLogConstants.END_DATE_CANNOT_BE_BEFORE_START_DATE));
 
         mockMvc.perform(get("/wastewise/admin/wastelogs/reports/vehicle")
@@ -446,6 +516,135 @@ class WasteLogControllerTest {
                 .andExpect(jsonPath("$.status", is(400)))
                 .andExpect(jsonPath("$.message", is(WasteLogConstants.END_DATE_CANNOT_BE_BEFORE_START_DATE)));
 
-        verify(wasteLogService, times(1)).getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), any(Pageable.class));
+        verify(wasteLogService, times(1)).getVehicleLogs(eq(vehicleId), eq(startDate), eq(endDate), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void getWorkerReport_ShouldReturnOk_ForWholeWorkforceWhenWorkerIdOmitted() throws Exception {
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 1, 31);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("date").ascending());
+
+        List<WorkerReportDTO> reportList = List.of(
+                new WorkerReportDTO("W001", LocalDate.of(2023, 1, 1), 3L, 420.5, 95L),
+                new WorkerReportDTO("W002", LocalDate.of(2023, 1, 1), 1L, 80.0, 30L)
+        );
+        when(wasteLogService.getWorkerReport(isNull(), eq(startDate), eq(endDate), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(reportList, pageable, 5));
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/worker")
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-31")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.message", is(WasteLogConstants.WORKER_REPORT_GENERATED_SUCCESSFULLY)))
+                .andExpect(jsonPath("$.data.content[0].workerId", is("W001")))
+                .andExpect(jsonPath("$.data.content[0].totalActiveMinutes", is(95)))
+                .andExpect(jsonPath("$.data.content[1].totalWeightCollectedKg", is(80.0)))
+                .andExpect(jsonPath("$.data.totalElements", is(5)));
+
+        verify(wasteLogService, times(1)).getWorkerReport(isNull(), eq(startDate), eq(endDate), any(Pageable.class));
+    }
+
+    @Test
+    void getWorkerReport_ShouldReturnBadRequest_WhenInvalidWorkerIdFormat() throws Exception {
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/worker")
+                .param("workerId", "WK1")
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-31"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", is(containsString("Invalid Worker ID format."))));
+
+        verify(wasteLogService, never()).getWorkerReport(any(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class));
+    }
+
+    @Test
+    void getVehicleLogsBatch_ShouldReturnOk_GroupedByVehicle() throws Exception {
+        Map<String, List<VehicleReportDTO>> batch = new LinkedHashMap<>();
+        batch.put("RT001", List.of(new VehicleReportDTO("RT001", "Z001", 50.0, LocalDate.of(2023, 1, 5))));
+        batch.put("PT002", List.of());
+        when(wasteLogService.getVehicleLogsBatch(List.of("RT001", "PT002"), LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31)))
+                .thenReturn(batch);
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/vehicle/batch")
+                .param("vehicleIds", "RT001,PT002")
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(String.format(WasteLogConstants.BATCH_REPORT_GENERATED_SUCCESSFULLY, 2))))
+                .andExpect(jsonPath("$.data.RT001[0].zoneId", is("Z001")))
+                .andExpect(jsonPath("$.data.PT002", hasSize(0)));
+    }
+
+    @Test
+    void getVehicleUtilization_ShouldReturnOk_WithMergedIntervals() throws Exception {
+        LocalDate day = LocalDate.of(2023, 1, 5);
+        VehicleUtilizationDayDTO dayDTO = new VehicleUtilizationDayDTO(day,
+                List.of(new TimeIntervalDTO(day.atTime(8, 0), day.atTime(10, 0)), new TimeIntervalDTO(day.atTime(11, 0), day.atTime(12, 0))),
+                List.of(new TimeIntervalDTO(day.atTime(10, 0), day.atTime(11, 0))), 3.0, 1.0, 12.5);
+        when(wasteLogService.getVehicleUtilization("RT001", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31)))
+                .thenReturn(new VehicleUtilizationDTO("RT001", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), 3.0, 0.4, List.of(dayDTO)));
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/vehicle/utilization")
+                .param("vehicleId", "RT001")
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(WasteLogConstants.VEHICLE_UTILIZATION_GENERATED_SUCCESSFULLY)))
+                .andExpect(jsonPath("$.data.totalActiveHours", is(3.0)))
+                .andExpect(jsonPath("$.data.days[0].busyIntervals", hasSize(2)))
+                .andExpect(jsonPath("$.data.days[0].idleHours", is(1.0)));
+    }
+
+    @Test
+    void getZoneLogsBatch_ShouldReturnBadRequest_WhenInvalidZoneIdFormat() throws Exception {
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/zone/batch")
+                .param("zoneIds", "Z001,ZONE2")
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-31"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+
+        verify(wasteLogService, never()).getZoneLogsBatch(any(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    void getCollectionOverlaps_ShouldReturnOk_WithOverlaps() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2023, 1, 5, 9, 0);
+        CollectionOverlapDTO overlap = new CollectionOverlapDTO("VEHICLE", "RT001", 43L, 42L, start, start.plusHours(1));
+        when(wasteLogService.getCollectionOverlaps(eq(LocalDate.of(2023, 1, 1)), eq(LocalDate.of(2023, 1, 31)), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(overlap), PageRequest.of(0, 50), 1));
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/overlaps")
+                .param("startDate", "2023-01-01")
+                .param("endDate", "2023-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(WasteLogConstants.COLLECTION_OVERLAPS_RETRIEVED_SUCCESSFULLY)))
+                .andExpect(jsonPath("$.data.content[0].resourceId", is("RT001")))
+                .andExpect(jsonPath("$.data.content[0].otherLogId", is(42)));
+    }
+
+    @Test
+    void compareZonePeriods_ShouldReturnOk_WithComparisonPerZone() throws Exception {
+        LocalDate startDate = LocalDate.of(2024, 6, 1);
+        LocalDate endDate = LocalDate.of(2024, 6, 30);
+        ZoneComparisonDTO comparison = new ZoneComparisonDTO("Z001", startDate, endDate,
+                LocalDate.of(2023, 6, 1), LocalDate.of(2023, 6, 30), 12L, 10L, 2L, 20.0,
+                1200.0, 1000.0, 200.0, 20.0, 3L, 3L, 0L);
+
+        when(wasteLogService.compareZonePeriods(List.of("Z001"), startDate, endDate, ComparisonPeriod.PREVIOUS_YEAR))
+                .thenReturn(List.of(comparison));
+
+        mockMvc.perform(get("/wastewise/admin/wastelogs/reports/zone/compare")
+                .param("zoneIds", "Z001")
+                .param("startDate", "2024-06-01")
+                .param("endDate", "2024-06-30")
+                .param("baseline", "PREVIOUS_YEAR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(String.format(WasteLogConstants.ZONE_COMPARISON_GENERATED_SUCCESSFULLY, 1))))
+                .andExpect(jsonPath("$.data[0].previousStartDate", is("2023-06-01")))
+                .andExpect(jsonPath("$.data[0].weightChangePercent", is(20.0)));
     }
-}
\ No newline at end of file
+}
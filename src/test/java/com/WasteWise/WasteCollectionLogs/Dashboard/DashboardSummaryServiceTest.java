@@ -0,0 +1,209 @@
+package com.WasteWise.WasteCollectionLogs.Dashboard;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore;
+import com.WasteWise.WasteCollectionLogs.Dto.DashboardRankingDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.DashboardSummaryDTO;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.Repository.WeightAnomalyRepository;
+import com.WasteWise.WasteCollectionLogs.Repository.WeightRanking;
+import com.WasteWise.WasteCollectionLogs.Routing.ReadWriteRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardMap;
+import com.WasteWise.WasteCollectionLogs.Shard.ShardRoutingDataSource;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSummaryService Unit Tests")
+class DashboardSummaryServiceTest {
+
+    private static final long COMPONENT_MILLIS = 200;
+
+    @Mock
+    private WasteLogRepository wasteLogRepository;
+
+    @Mock
+    private WeightAnomalyRepository weightAnomalyRepository;
+
+    @Mock
+    private WasteLogAggregateStore aggregateStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardSummaryService dashboardSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardSummaryService = new DashboardSummaryService(wasteLogRepository, weightAnomalyRepository, aggregateStore, new ZoneSharding(),
+                transactionManager, 1000, 5, 7, 12);
+        when(wasteLogRepository.countByCollectionEndTimeIsNull()).thenAnswer(slowly(4L));
+        when(wasteLogRepository.aggregateDailyTotals(isNull(), isNull(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(slowly(List.of()));
+        // shouldAddUpTheShards stubs the rankings per shard
+        lenient().when(wasteLogRepository.findTopZonesByWeight(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(slowly(List.of()));
+        lenient().when(wasteLogRepository.findTopVehiclesByWeight(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(slowly(List.of()));
+        when(wasteLogRepository.countByCollectionEndTimeIsNullAndCollectionStartTimeBefore(any(LocalDateTime.class)))
+                .thenAnswer(slowly(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardSummaryService.stop();
+    }
+
+    @Test
+    @DisplayName("shouldRunComponentsConcurrently: The summary takes as long as the slowest component, not the sum")
+    void shouldRunComponentsConcurrently() {
+        // Given
+        when(weightAnomalyRepository.countByDetectedAtGreaterThanEqual(any(LocalDateTime.class))).thenAnswer(slowly(2L));
+
+        // When
+        long started = System.nanoTime();
+        DashboardSummaryDTO summary = dashboardSummaryService.getSummary();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertNull(summary.getUnavailable());
+        assertEquals(4L, summary.getOpenLogs());
+        assertEquals(0L, summary.getToday().getCollections());
+        assertEquals(1L, summary.getStaleOpenLogs());
+        assertEquals(2L, summary.getAnomaliesToday());
+        assertTrue(elapsedMillis < 6 * COMPONENT_MILLIS, "Components ran one after another: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("shouldReturnPartialSummaryOnTimeout: A late component is left out while the others are returned")
+    void shouldReturnPartialSummaryOnTimeout() {
+        // Given
+        when(weightAnomalyRepository.countByDetectedAtGreaterThanEqual(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return 2L;
+        });
+
+        // When
+        DashboardSummaryDTO summary = dashboardSummaryService.getSummary();
+
+        // Then
+        assertEquals(List.of("anomaliesToday"), summary.getUnavailable());
+        assertNull(summary.getAnomaliesToday());
+        assertEquals(4L, summary.getOpenLogs());
+        assertNotNull(summary.getTopZones());
+    }
+
+    @Test
+    @DisplayName("shouldQueryUnderTheDashboardTimeout: Every database query runs read-only with the dashboard timeout")
+    void shouldQueryUnderTheDashboardTimeout() {
+        // Given
+        when(weightAnomalyRepository.countByDetectedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(2L);
+
+        // When
+        dashboardSummaryService.getSummary();
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(6)).getTransaction(definitions.capture());
+        assertTrue(definitions.getAllValues().stream().allMatch(TransactionDefinition::isReadOnly));
+        assertTrue(definitions.getAllValues().stream().allMatch(definition -> definition.getTimeout() == 1));
+    }
+
+    @Test
+    @DisplayName("shouldCarryThePrimaryPinToComponents: A request pinned after its own write keeps every component on the primary")
+    void shouldCarryThePrimaryPinToComponents() {
+        // Given
+        when(weightAnomalyRepository.countByDetectedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .thenAnswer(invocation -> ReadWriteRoutingDataSource.isPinnedToPrimary() ? 1L : 0L);
+
+        // When
+        DashboardSummaryDTO summary = ReadWriteRoutingDataSource.callOnPrimary(dashboardSummaryService::getSummary);
+
+        // Then
+        assertEquals(1L, summary.getAnomaliesToday());
+        assertFalse(ReadWriteRoutingDataSource.isPinnedToPrimary());
+    }
+
+    @Test
+    @DisplayName("shouldAddUpTheShards: Counts are summed and a vehicle's totals on every shard are ranked together")
+    void shouldAddUpTheShards() {
+        // Given RT001 collects on both shards, RT002 only on shard-a
+        DashboardSummaryService sharded = new DashboardSummaryService(wasteLogRepository, weightAnomalyRepository, aggregateStore,
+                twoShards(), transactionManager, 1000, 5, 7, 12);
+        when(wasteLogRepository.findTopVehiclesByWeight(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(onShards(
+                List.of(ranking("RT002", 1, "20.00"), ranking("RT001", 1, "10.00")), List.of(ranking("RT001", 1, "15.00"))));
+        when(wasteLogRepository.findTopZonesByWeight(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(onShards(
+                List.of(ranking("Z001", 2, "30.00")), List.of(ranking("Z002", 1, "40.00"))));
+        when(weightAnomalyRepository.countByDetectedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(2L);
+
+        // When
+        DashboardSummaryDTO summary = sharded.getSummary();
+        sharded.stop();
+
+        // Then
+        assertNull(summary.getUnavailable());
+        assertEquals(8L, summary.getOpenLogs());
+        assertEquals(4L, summary.getAnomaliesToday());
+        assertEquals(List.of(new DashboardRankingDTO("RT001", 2L, 25.0), new DashboardRankingDTO("RT002", 1L, 20.0)),
+                summary.getTopVehicles());
+        assertEquals(List.of("Z002", "Z001"), summary.getTopZones().stream().map(DashboardRankingDTO::getId).toList());
+    }
+
+    private static ZoneSharding twoShards() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("shards", new ShardRoutingDataSource(Map.of("shard-a", mock(DataSource.class), "shard-b", mock(DataSource.class))));
+        beans.registerSingleton("shardMap", (ShardMap) zoneId -> "shard-a");
+        return new ZoneSharding(beans.getBeanProvider(ShardMap.class), beans.getBeanProvider(ShardRoutingDataSource.class));
+    }
+
+    private static <T> Answer<T> onShards(T shardA, T shardB) {
+        return invocation -> "shard-a".equals(ShardRoutingDataSource.currentShard()) ? shardA : shardB;
+    }
+
+    private static WeightRanking ranking(String id, long collections, String totalWeightKg) {
+        return new WeightRanking() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public Long getCollections() {
+                return collections;
+            }
+
+            @Override
+            public BigDecimal getTotalWeightKg() {
+                return new BigDecimal(totalWeightKg);
+            }
+        };
+    }
+
+    private static <T> Answer<T> slowly(T value) {
+        return invocation -> {
+            Thread.sleep(COMPONENT_MILLIS);
+            return value;
+        };
+    }
+}
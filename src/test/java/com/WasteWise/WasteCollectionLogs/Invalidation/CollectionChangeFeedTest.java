@@ -0,0 +1,106 @@
+package com.WasteWise.WasteCollectionLogs.Invalidation;
+
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CollectionChangeFeed Tests")
+class CollectionChangeFeedTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> delivered = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM collection_change");
+    }
+
+    @Test
+    @DisplayName("shouldDeliverOnlyChangesOfOtherNodes: Each node sees the other's ends once and skips its own")
+    void shouldDeliverOnlyChangesOfOtherNodes() {
+        // Given
+        CollectionChangeFeed nodeA = feed("A", new ArrayList<>());
+        CollectionChangeFeed nodeB = feed("B", delivered);
+
+        // When
+        nodeA.append("Z001", "RT001", DAY);
+        nodeB.append("Z002", "RT002", DAY);
+        nodeA.append("Z003", "RT003", DAY.plusDays(1));
+
+        // Then
+        assertEquals(2, nodeB.poll());
+        assertEquals(List.of("Z001/RT001/" + DAY, "Z003/RT003/" + DAY.plusDays(1)), delivered);
+        assertEquals(0, nodeB.poll());
+    }
+
+    @Test
+    @DisplayName("shouldDeliverChangesCommittedOutOfOrder: A sequence number that shows up late is delivered by a later poll")
+    void shouldDeliverChangesCommittedOutOfOrder() {
+        // Given
+        CollectionChangeFeed nodeB = feed("B", delivered);
+        long base = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM collection_change", Long.class);
+        insert(base + 1, "Z001");
+        insert(base + 3, "Z003");
+
+        // When
+        nodeB.poll();
+        insert(base + 2, "Z002");
+        nodeB.poll();
+
+        // Then
+        assertEquals(List.of("Z001/RT001/" + DAY, "Z003/RT001/" + DAY, "Z002/RT001/" + DAY), delivered);
+        assertEquals(0, nodeB.getExpiredGaps());
+    }
+
+    @Test
+    @DisplayName("shouldPurgeChangesOlderThanRetention: Only rows past the retention period are deleted")
+    void shouldPurgeChangesOlderThanRetention() {
+        // Given
+        CollectionChangeFeed nodeA = feed("A", delivered);
+        nodeA.append("Z001", "RT001", DAY);
+        jdbcTemplate.update("UPDATE collection_change SET created_at = ?", Timestamp.valueOf(LocalDateTime.now().minusHours(2)));
+        nodeA.append("Z002", "RT002", DAY);
+
+        // When
+        int purged = nodeA.purge();
+
+        // Then
+        assertEquals(1, purged);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM collection_change", Integer.class));
+    }
+
+    private CollectionChangeFeed feed(String nodeId, List<String> received) {
+        CollectionChangeFeed feed = new CollectionChangeFeed(jdbcTemplate,
+                List.of((zoneId, vehicleId, date) -> received.add(zoneId + "/" + vehicleId + "/" + date)),
+                new ZoneSharding(), true, nodeId, 100, 60_000, 60);
+        feed.start();
+        return feed;
+    }
+
+    private void insert(long seq, String zoneId) {
+        jdbcTemplate.update("INSERT INTO collection_change (seq, zone_id, vehicle_id, change_date, node_id, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                seq, zoneId, "RT001", DAY, "A", Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
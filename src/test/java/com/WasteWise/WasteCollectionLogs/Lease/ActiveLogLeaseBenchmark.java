@@ -0,0 +1,81 @@
+package com.WasteWise.WasteCollectionLogs.Lease;
+
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures leased starts (lease insert plus log insert, one transaction) and ends per second for one,
+ * two and four application instances sharing one database server. Every caller thread works on its
+ * own worker, so the numbers show the cost of the lease and of the shared database, not of conflicts.
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=ActiveLogLeaseBenchmark}.
+ */
+class ActiveLogLeaseBenchmark {
+
+    private static final int[] NODE_COUNTS = {1, 2, 4};
+    private static final int THREADS_PER_NODE = 4;
+    private static final int CYCLES_PER_THREAD = 1_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void startThroughputByNodeCount() throws Exception {
+        Server server = ClusterNode.startServer();
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int nodes : NODE_COUNTS) {
+                    System.out.printf("Round %d: %d node(s), %d threads each: %.0f start+end cycles/s%n",
+                            round, nodes, THREADS_PER_NODE, startsPerSecond(server, nodes));
+                }
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static double startsPerSecond(Server server, int nodeCount) throws Exception {
+        String url = ClusterNode.url(server, "lease_benchmark");
+        List<ClusterNode> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new ClusterNode(url, THREADS_PER_NODE));
+        }
+        nodes.get(0).createSchema();
+        nodes.get(0).clear();
+
+        ExecutorService callers = Executors.newFixedThreadPool(nodeCount * THREADS_PER_NODE);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int n = 0; n < nodeCount; n++) {
+                ClusterNode node = nodes.get(n);
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    String workerId = String.format("W%d%02d", n, t);
+                    results.add(callers.submit(() -> {
+                        go.await();
+                        for (int i = 0; i < CYCLES_PER_THREAD; i++) {
+                            long logId = node.start(workerId, "Z001", "RT001");
+                            node.end(logId, workerId, "Z001", "RT001");
+                        }
+                        return null;
+                    }));
+                }
+            }
+            long started = System.nanoTime();
+            go.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.MINUTES);
+            }
+            long elapsed = System.nanoTime() - started;
+            return (double) nodeCount * THREADS_PER_NODE * CYCLES_PER_THREAD / (elapsed / 1e9);
+        } finally {
+            callers.shutdownNow();
+            nodes.forEach(ClusterNode::close);
+        }
+    }
+}
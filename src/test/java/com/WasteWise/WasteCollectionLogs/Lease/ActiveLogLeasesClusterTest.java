@@ -0,0 +1,105 @@
+package com.WasteWise.WasteCollectionLogs.Lease;
+
+import com.WasteWise.WasteCollectionLogs.Constants.WasteLogConstants;
+import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ActiveLogLeases Cluster Tests")
+class ActiveLogLeasesClusterTest {
+
+    private static final int THREADS_PER_NODE = 8;
+
+    private static Server server;
+    private static ClusterNode nodeA;
+    private static ClusterNode nodeB;
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        server = ClusterNode.startServer();
+        String url = ClusterNode.url(server, "lease_cluster");
+        nodeA = new ClusterNode(url, THREADS_PER_NODE);
+        nodeB = new ClusterNode(url, THREADS_PER_NODE);
+        nodeA.createSchema();
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        nodeA.close();
+        nodeB.close();
+        server.stop();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        nodeA.clear();
+    }
+
+    @Test
+    @DisplayName("shouldOpenOneLogWhenNodesRaceForTheSameCombination: Concurrent starts on two nodes open exactly one log")
+    void shouldOpenOneLogWhenNodesRaceForTheSameCombination() throws Exception {
+        // Given
+        ExecutorService callers = Executors.newFixedThreadPool(2 * THREADS_PER_NODE);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> starts = new ArrayList<>();
+
+        try {
+            // When
+            for (int i = 0; i < 2 * THREADS_PER_NODE; i++) {
+                ClusterNode node = i % 2 == 0 ? nodeA : nodeB;
+                starts.add(callers.submit(() -> {
+                    go.await();
+                    node.start("W001", "Z001", "RT001");
+                    return null;
+                }));
+            }
+            go.countDown();
+
+            // Then
+            int opened = 0;
+            for (Future<?> start : starts) {
+                try {
+                    start.get(10, TimeUnit.SECONDS);
+                    opened++;
+                } catch (Exception e) {
+                    InvalidInputException rejection = assertInstanceOf(InvalidInputException.class, e.getCause());
+                    assertEquals(String.format(WasteLogConstants.ACTIVE_LOG_EXISTS_MESSAGE, "W001", "Z001", "RT001"), rejection.getMessage());
+                }
+            }
+            assertEquals(1, opened);
+            assertEquals(1, nodeB.jdbc().queryForObject("SELECT COUNT(*) FROM waste_log WHERE collection_end_time IS NULL", Integer.class));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("shouldAllowStartOnAnotherNodeAfterEnd: Ending a log on one node frees its combination for every node")
+    void shouldAllowStartOnAnotherNodeAfterEnd() {
+        // Given
+        long logId = nodeA.start("W001", "Z001", "RT001");
+        assertThrows(InvalidInputException.class, () -> nodeB.start("W001", "Z001", "RT001"));
+
+        // When
+        nodeA.end(logId, "W001", "Z001", "RT001");
+        nodeB.start("W001", "Z001", "RT001");
+
+        // Then
+        assertEquals(2, nodeA.jdbc().queryForObject("SELECT COUNT(*) FROM waste_log", Integer.class));
+        assertEquals(1, nodeA.jdbc().queryForObject("SELECT COUNT(*) FROM active_log_lease", Integer.class));
+    }
+}
@@ -0,0 +1,113 @@
+package com.WasteWise.WasteCollectionLogs.Lease;
+
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * One application instance for the cluster tests: its own connection pool, transaction manager and
+ * {@link ActiveLogLeases}, connected to a database server shared with the other instances. Starts and
+ * ends run the same statements in the same order as the service.
+ */
+final class ClusterNode implements AutoCloseable {
+
+    private static final String CREATE_WASTE_LOG = "CREATE TABLE IF NOT EXISTS waste_log (log_id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+            + " zone_id VARCHAR(255) NOT NULL, vehicle_id VARCHAR(255) NOT NULL, worker_id VARCHAR(255) NOT NULL,"
+            + " collection_start_time TIMESTAMP(6) NOT NULL, collection_end_time TIMESTAMP(6), weight_collected DECIMAL(10, 2),"
+            + " created_date TIMESTAMP(6) NOT NULL, version BIGINT DEFAULT 0 NOT NULL)";
+    private static final String CREATE_LEASE = "CREATE TABLE IF NOT EXISTS active_log_lease (lease_id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+            + " worker_id VARCHAR(255) NOT NULL, zone_id VARCHAR(255) NOT NULL, vehicle_id VARCHAR(255) NOT NULL,"
+            + " acquired_at TIMESTAMP(6) NOT NULL, CONSTRAINT uk_active_log_lease UNIQUE (worker_id, zone_id, vehicle_id))";
+
+    private final HikariDataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ActiveLogLeases leases;
+
+    ClusterNode(String url, int poolSize) {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(poolSize);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        leases = new ActiveLogLeases(jdbcTemplate, new ZoneSharding(), true);
+    }
+
+    /**
+     * Starts an in-memory database behind a TCP server on a free port and creates the tables.
+     *
+     * @return The server; its URL is {@link #url(Server, String)}.
+     */
+    static Server startServer() throws SQLException {
+        return Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+    }
+
+    static String url(Server server, String database) {
+        return "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:" + database + ";DB_CLOSE_DELAY=-1";
+    }
+
+    void createSchema() {
+        jdbcTemplate.execute(CREATE_WASTE_LOG);
+        jdbcTemplate.execute(CREATE_LEASE);
+    }
+
+    void clear() {
+        jdbcTemplate.update("DELETE FROM active_log_lease");
+        jdbcTemplate.update("DELETE FROM waste_log");
+    }
+
+    JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * Acquires the lease and inserts the open log in one transaction.
+     *
+     * @return The ID of the new log.
+     */
+    long start(String workerId, String zoneId, String vehicleId) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            leases.acquire(workerId, zoneId, vehicleId, now);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement insert = connection.prepareStatement("INSERT INTO waste_log (zone_id, vehicle_id, worker_id,"
+                        + " collection_start_time, created_date) VALUES (?, ?, ?, ?, ?)", new String[] {"log_id"});
+                insert.setString(1, zoneId);
+                insert.setString(2, vehicleId);
+                insert.setString(3, workerId);
+                insert.setTimestamp(4, Timestamp.valueOf(now));
+                insert.setTimestamp(5, Timestamp.valueOf(now));
+                return insert;
+            }, keyHolder);
+            return keyHolder.getKey().longValue();
+        });
+    }
+
+    /**
+     * Completes the open log and releases its lease in one transaction.
+     */
+    void end(long logId, String workerId, String zoneId, String vehicleId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE waste_log SET collection_end_time = ?, weight_collected = 10 WHERE log_id = ?",
+                    Timestamp.valueOf(LocalDateTime.now()), logId);
+            leases.release(workerId, zoneId, vehicleId);
+        });
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,47 @@
+package com.WasteWise.WasteCollectionLogs.Overlap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalIndex Tests")
+class IntervalIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 6, 18, 0, 0);
+
+    @Test
+    @DisplayName("shouldFindOverlappingCompletedIntervals: Only intervals that intersect the query are returned")
+    void shouldFindOverlappingCompletedIntervals() {
+        // Given
+        IntervalIndex index = new IntervalIndex();
+        index.complete(1L, DAY.withHour(6), DAY.withHour(14));
+        index.complete(2L, DAY.withHour(15), DAY.withHour(16));
+
+        // When / Then
+        assertEquals(1L, index.findOverlap(DAY.withHour(13), DAY.withHour(14), -1));
+        assertEquals(2L, index.findOverlap(DAY.withHour(14), DAY.withHour(17), -1));
+        assertNull(index.findOverlap(DAY.withHour(14), DAY.withHour(15), -1));
+        assertNull(index.findOverlap(DAY.withHour(13), DAY.withHour(14), 1L));
+    }
+
+    @Test
+    @DisplayName("shouldTreatOpenIntervalsAsUnbounded: An open collection overlaps everything after its start until it completes")
+    void shouldTreatOpenIntervalsAsUnbounded() {
+        // Given
+        IntervalIndex index = new IntervalIndex();
+        index.open(3L, DAY.withHour(8));
+
+        // When / Then
+        assertEquals(3L, index.findOverlap(DAY.plusDays(2), DAY.plusDays(2).plusNanos(1), -1));
+        assertNull(index.findOverlap(DAY.withHour(7), DAY.withHour(8), -1));
+
+        index.complete(3L, DAY.withHour(8), DAY.withHour(9));
+        assertNull(index.findOverlap(DAY.plusDays(2), DAY.plusDays(2).plusNanos(1), -1));
+
+        index.pruneBefore(DAY.plusDays(1));
+        assertTrue(index.isEmpty());
+    }
+}
@@ -0,0 +1,37 @@
+package com.WasteWise.WasteCollectionLogs.Overlap;
+
+import com.WasteWise.WasteCollectionLogs.Dto.CollectionOverlapDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OverlapSweep Tests")
+class OverlapSweepTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 6, 18, 0, 0);
+
+    @Test
+    @DisplayName("shouldReportOverlapsWithinEachResource: Back-to-back collections and other resources are not overlaps")
+    void shouldReportOverlapsWithinEachResource() {
+        // Given
+        List<CollectionOverlapDTO> overlaps = new ArrayList<>();
+        OverlapSweep sweep = new OverlapSweep("VEHICLE", overlaps::add);
+
+        // When
+        sweep.accept("PT001", 1L, DAY.withHour(8), DAY.withHour(12));
+        sweep.accept("PT001", 2L, DAY.withHour(9), DAY.withHour(10));
+        sweep.accept("PT001", 3L, DAY.withHour(12), DAY.withHour(13));
+        sweep.accept("RT001", 4L, DAY.withHour(12), null);
+        sweep.accept("RT001", 5L, DAY.withHour(14), DAY.withHour(15));
+
+        // Then
+        assertEquals(List.of(
+                new CollectionOverlapDTO("VEHICLE", "PT001", 2L, 1L, DAY.withHour(9), DAY.withHour(10)),
+                new CollectionOverlapDTO("VEHICLE", "RT001", 5L, 4L, DAY.withHour(14), DAY.withHour(15))), overlaps);
+    }
+}
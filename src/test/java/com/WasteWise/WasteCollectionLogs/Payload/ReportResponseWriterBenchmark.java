@@ -0,0 +1,65 @@
+package com.WasteWise.WasteCollectionLogs.Payload;
+
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the streaming report writer with the reflective ObjectMapper path on a large page.
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=ReportResponseWriterBenchmark}.
+ */
+class ReportResponseWriterBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Test
+    void compareWithObjectMapper() throws Exception {
+        List<ZoneReportDTO> rows = new ArrayList<>(ROWS);
+        LocalDate day = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new ZoneReportDTO("Z" + String.format("%03d", i % 50), day.plusDays(i / 50), 10L + i % 7, 1234.5 + i));
+        }
+        Page<ZoneReportDTO> page = new PageImpl<>(rows, PageRequest.of(0, ROWS, Sort.by("date")), ROWS * 4L);
+        RestResponse<Page<ZoneReportDTO>> response = new RestResponse<>(true, "Zone report generated successfully.", page);
+
+        assertEquals(ReportResponseWriterTest.OBJECT_MAPPER.readTree(ReportResponseWriterTest.OBJECT_MAPPER.writeValueAsString(response)),
+                ReportResponseWriterTest.OBJECT_MAPPER.readTree(ReportResponseWriterTest.stream(response)));
+
+        long jacksonNanos = measure(() -> ReportResponseWriterTest.OBJECT_MAPPER.writeValueAsString(response));
+        long streamingNanos = measure(() -> ReportResponseWriterTest.stream(response));
+        System.out.printf("ObjectMapper: %.3f ms/op, ReportResponseWriter: %.3f ms/op (%d rows)%n",
+                jacksonNanos / 1e6, streamingNanos / 1e6, ROWS);
+    }
+
+    private long measure(Serialization serialization) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += serialization.run().length();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += serialization.run().length();
+        }
+        long elapsed = (System.nanoTime() - started) / MEASURED_ITERATIONS;
+        if (sink == 0) {
+            throw new IllegalStateException();
+        }
+        return elapsed;
+    }
+
+    @FunctionalInterface
+    private interface Serialization {
+        String run() throws Exception;
+    }
+}
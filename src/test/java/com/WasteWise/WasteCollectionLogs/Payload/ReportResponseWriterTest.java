@@ -0,0 +1,121 @@
+package com.WasteWise.WasteCollectionLogs.Payload;
+
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReportResponseWriter Unit Tests")
+class ReportResponseWriterTest {
+
+    /** Configured like the application's mapper (see application.properties). */
+    static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 6, 20, 10, 15, 30, 120_000_000);
+
+    @Test
+    @DisplayName("shouldMatchJacksonForZoneReports: Streamed zone report page is identical to the ObjectMapper output")
+    void shouldMatchJacksonForZoneReports() throws Exception {
+        Page<ZoneReportDTO> page = new PageImpl<>(List.of(
+                new ZoneReportDTO("Z001", LocalDate.of(2025, 6, 18), 2L, 125.75),
+                new ZoneReportDTO("Z001", LocalDate.of(2025, 6, 19), 1L, 0.1)),
+                PageRequest.of(1, 2, Sort.by("date")), 7);
+
+        assertSameJson(new RestResponse<>(true, "Zone report generated successfully.", page, TIMESTAMP));
+    }
+
+    @Test
+    @DisplayName("shouldMatchJacksonForVehicleReports: Null fields are omitted exactly like the ObjectMapper does")
+    void shouldMatchJacksonForVehicleReports() throws Exception {
+        Page<VehicleReportDTO> page = new PageImpl<>(List.of(
+                new VehicleReportDTO("RT001", "Z001", 50.0, LocalDate.of(2025, 6, 18)),
+                new VehicleReportDTO("RT001", "Z002", null, LocalDate.of(2025, 6, 18))),
+                PageRequest.of(0, 5), 2);
+
+        assertSameJson(new RestResponse<>(true, "Vehicle report generated successfully.", page, TIMESTAMP));
+    }
+
+    @Test
+    @DisplayName("shouldMatchJacksonForBucketedReports: Bucket start and collection count are streamed when set")
+    void shouldMatchJacksonForBucketedReports() throws Exception {
+        Page<ZoneReportDTO> zonePage = new PageImpl<>(List.of(
+                new ZoneReportDTO("Z001", LocalDate.of(2025, 6, 18), 2L, 125.75, LocalDateTime.of(2025, 6, 18, 7, 0))),
+                PageRequest.of(0, 5), 1);
+        Page<VehicleReportDTO> vehiclePage = new PageImpl<>(List.of(
+                new VehicleReportDTO("RT001", "Z001", 50.0, LocalDate.of(2025, 6, 1), 4L, LocalDateTime.of(2025, 6, 1, 0, 0))),
+                PageRequest.of(0, 5), 1);
+
+        assertSameJson(new RestResponse<>(true, "Zone report generated successfully.", zonePage, TIMESTAMP));
+        assertSameJson(new RestResponse<>(true, "Vehicle report generated successfully.", vehiclePage, TIMESTAMP));
+    }
+
+    @Test
+    @DisplayName("shouldMatchJacksonForSlices: Slices are streamed without totalElements and totalPages")
+    void shouldMatchJacksonForSlices() throws Exception {
+        Slice<VehicleReportDTO> slice = new SliceImpl<>(List.of(
+                new VehicleReportDTO("RT001", "Z001", 50.0, LocalDate.of(2025, 6, 18))),
+                PageRequest.of(3, 1, Sort.by("collectionDate")), true);
+
+        assertSameJson(new RestResponse<>(true, "Vehicle report generated successfully.", slice, TIMESTAMP));
+        assertFalse(stream(new RestResponse<>(true, "Vehicle report generated successfully.", slice, TIMESTAMP))
+                .contains("totalElements"));
+    }
+
+    @Test
+    @DisplayName("shouldMatchJacksonForWorkerReports:Worker report rows are streamed with all their fields")
+    void shouldMatchJacksonForWorkerReports() throws Exception {
+        Page<WorkerReportDTO> page = new PageImpl<>(List.of(
+                new WorkerReportDTO("W001", LocalDate.of(2025, 6, 18), 3L, 420.5, 95L),
+                new WorkerReportDTO("W002", LocalDate.of(2025, 6, 18), 1L, 80.0, 30L)),
+                PageRequest.of(0, 2, Sort.by("date")), 2);
+
+        assertSameJson(new RestResponse<>(true, "Worker report generated successfully.", page, TIMESTAMP));
+    }
+
+    @Test
+    @DisplayName("shouldMatchJacksonForEmptyPage: Empty page keeps its full envelope")
+    void shouldMatchJacksonForEmptyPage() throws Exception {
+        Page<ZoneReportDTO> page = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 1, Sort.by("date")), 0);
+
+        assertSameJson(new RestResponse<>(true, "No completed logs found.", page, TIMESTAMP.withNano(0)));
+    }
+
+    static String stream(RestResponse<? extends Slice<?>> response) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)) {
+            ReportResponseWriter.write(generator, response);
+        }
+        return out.toString();
+    }
+
+    private void assertSameJson(RestResponse<? extends Slice<?>> response) throws Exception {
+        assertTrue(ReportResponseWriter.supports(response));
+        String expected = OBJECT_MAPPER.writeValueAsString(response);
+        String actual = stream(response);
+        // Property order of PageImpl is not stable across JVMs, so compare the parsed documents
+        assertEquals(OBJECT_MAPPER.readTree(expected), OBJECT_MAPPER.readTree(actual));
+    }
+}
@@ -0,0 +1,142 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CollectionEventPipeline Tests")
+class CollectionEventPipelineTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 5_000;
+
+    @Test
+    @DisplayName("shouldDeliverEveryEventToEveryStageInOrder: Concurrent producers wrapping a small ring lose and reorder nothing")
+    void shouldDeliverEveryEventToEveryStageInOrder() throws Exception {
+        // Given
+        RecordingHandler fast = new RecordingHandler();
+        RecordingHandler slow = new RecordingHandler() {
+            @Override
+            public void onEvent(CollectionEvent event, long sequence, boolean endOfBatch) {
+                Thread.onSpinWait();
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        CollectionEventPipeline pipeline = new CollectionEventPipeline(List.of(fast, slow), true, 8, 10);
+        pipeline.start();
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+
+        try {
+            // When
+            List<Future<?>> results = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                long base = p * 1_000_000L;
+                results.add(producers.submit(() -> {
+                    for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                        pipeline.publishEnd(log(base + i));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            producers.shutdownNow();
+            pipeline.stop();
+        }
+
+        // Then
+        assertEquals(PRODUCERS * EVENTS_PER_PRODUCER, pipeline.getPublished());
+        assertEquals(0, pipeline.getBacklog());
+        for (RecordingHandler handler : List.of(fast, slow)) {
+            assertEquals(PRODUCERS * EVENTS_PER_PRODUCER, handler.logIds.size());
+            Map<Long, Long> lastPerProducer = new HashMap<>();
+            for (long logId : handler.logIds) {
+                Long previous = lastPerProducer.put(logId / 1_000_000L, logId);
+                assertTrue(previous == null || previous < logId, "Events of one producer arrived out of order");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("shouldIsolateFailingStage: A stage that throws skips the event without affecting the others")
+    void shouldIsolateFailingStage() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        CollectionEventHandler failing = (event, sequence, endOfBatch) -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("stage failure");
+        };
+        RecordingHandler healthy = new RecordingHandler();
+        CollectionEventPipeline pipeline = new CollectionEventPipeline(List.of(failing, healthy), true, 16, 10);
+        pipeline.start();
+
+        // When
+        for (long logId = 1; logId <= 3; logId++) {
+            pipeline.publishStart(log(logId));
+        }
+        pipeline.stop();
+
+        // Then
+        assertEquals(3, attempts.get());
+        assertEquals(3, pipeline.getHandlerFailures());
+        assertEquals(List.of(1L, 2L, 3L), healthy.logIds);
+    }
+
+    @Test
+    @DisplayName("shouldRunStagesOnCallerWhenDisabled: With the ring disabled, stages run synchronously")
+    void shouldRunStagesOnCallerWhenDisabled() {
+        // Given
+        RecordingHandler handler = new RecordingHandler();
+        CollectionEventPipeline pipeline = new CollectionEventPipeline(List.of(handler), false, 16, 10);
+        pipeline.start();
+
+        // When
+        pipeline.publishStart(log(7L));
+
+        // Then
+        assertEquals(List.of(7L), handler.logIds);
+        assertEquals(CollectionEvent.Type.START, handler.lastType);
+        assertEquals(0, pipeline.getPublished());
+    }
+
+    private static WasteLog log(long logId) {
+        WasteLog log = new WasteLog();
+        log.setLogId(logId);
+        log.setZoneId("Z001");
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(LocalDateTime.of(2025, 6, 18, 8, 0));
+        log.setCollectionEndTime(LocalDateTime.of(2025, 6, 18, 9, 0));
+        log.setWeightCollected(5000L);
+        return log;
+    }
+
+    /**
+     * Records the log IDs it sees; only its own processor thread writes, the test reads after stop.
+     */
+    private static class RecordingHandler implements CollectionEventHandler {
+
+        final List<Long> logIds = new ArrayList<>();
+        CollectionEvent.Type lastType;
+
+        @Override
+        public void onEvent(CollectionEvent event, long sequence, boolean endOfBatch) {
+            logIds.add(event.getLogId());
+            lastType = event.getType();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.WasteWise.WasteCollectionLogs.Pipeline;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures events per second on the ingest path: several request threads publishing collection
+ * events to two consuming stages, through the ring and through an {@link ArrayBlockingQueue} per stage.
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=CollectionEventRingBufferBenchmark}.
+ */
+class CollectionEventRingBufferBenchmark {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 1_000_000;
+    private static final int BUFFER_SIZE = 4096;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void compareWithBlockingQueue() throws Exception {
+        WasteLog wasteLog = new WasteLog();
+        wasteLog.setLogId(1L);
+        wasteLog.setZoneId("Z001");
+        wasteLog.setVehicleId("RT001");
+        wasteLog.setWorkerId("W001");
+        wasteLog.setCollectionStartTime(LocalDateTime.of(2025, 6, 18, 8, 0));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            double ring = ringBuffer(wasteLog);
+            double queue = blockingQueues(wasteLog);
+            System.out.printf("Round %d: ring buffer %.2f M events/s, ArrayBlockingQueue %.2f M events/s (%d producers, 2 stages)%n",
+                    round, ring / 1e6, queue / 1e6, PRODUCERS);
+        }
+    }
+
+    private double ringBuffer(WasteLog wasteLog) throws Exception {
+        CountingHandler first = new CountingHandler();
+        CountingHandler second = new CountingHandler();
+        CollectionEventPipeline pipeline = new CollectionEventPipeline(List.of(first, second), true, BUFFER_SIZE, 50);
+        pipeline.start();
+        long elapsed = runProducers(() -> pipeline.publishStart(wasteLog));
+        pipeline.stop();
+        assertEquals((long) PRODUCERS * EVENTS_PER_PRODUCER, first.count.get());
+        assertEquals((long) PRODUCERS * EVENTS_PER_PRODUCER, second.count.get());
+        return PRODUCERS * (double) EVENTS_PER_PRODUCER / (elapsed / 1e9);
+    }
+
+    private double blockingQueues(WasteLog wasteLog) throws Exception {
+        long total = (long) PRODUCERS * EVENTS_PER_PRODUCER;
+        List<BlockingQueue<long[]>> queues = List.of(new ArrayBlockingQueue<>(BUFFER_SIZE), new ArrayBlockingQueue<>(BUFFER_SIZE));
+        List<Thread> consumers = new ArrayList<>();
+        AtomicLong consumed = new AtomicLong();
+        for (BlockingQueue<long[]> queue : queues) {
+            Thread consumer = new Thread(() -> {
+                try {
+                    for (long i = 0; i < total; i++) {
+                        consumed.addAndGet(queue.take()[0]);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumer.start();
+            consumers.add(consumer);
+        }
+        long elapsed = runProducers(() -> {
+            long[] event = {wasteLog.getLogId()};
+            try {
+                for (BlockingQueue<long[]> queue : queues) {
+                    queue.put(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+        assertEquals(2 * total, consumed.get());
+        return total / (elapsed / 1e9);
+    }
+
+    /**
+     * @return Nanoseconds from the start of the producers until all of them have published.
+     */
+    private long runProducers(Runnable publish) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                        publish.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        done.await(5, TimeUnit.MINUTES);
+        return System.nanoTime() - started;
+    }
+
+    private static class CountingHandler implements CollectionEventHandler {
+
+        final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void onEvent(CollectionEvent event, long sequence, boolean endOfBatch) {
+            if (event.getLogId() > 0) {
+                count.lazySet(count.get() + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.WasteWise.WasteCollectionLogs.Report;
+
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Util.WeightUnits;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares a year-long vehicle report read through {@code WasteLog} entities with the same report
+ * read through {@link ReportQueries}, reporting time, bytes allocated by the calling thread and
+ * collector activity per round. Not part of the regular test run; execute with
+ * {@code mvn test -Dtest=ReportQueriesBenchmark}.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class ReportQueriesBenchmark {
+
+    private static final int VEHICLES = 4;
+    private static final int ROWS_PER_VEHICLE = 50_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusYears(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compareEntityAndDtoReads() {
+        insertRows();
+        ReportQueries reportQueries = new ReportQueries(jdbcTemplate, 500);
+        List<String> vehicleIds = List.of("RT000", "RT001", "RT002", "RT003");
+
+        assertEquals(readThroughEntities(vehicleIds), reportQueries.findVehicleCollections(vehicleIds, FROM, TO));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            readThroughEntities(vehicleIds);
+            reportQueries.findVehicleCollections(vehicleIds, FROM, TO);
+        }
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            report("entities", () -> readThroughEntities(vehicleIds));
+            report("jdbc DTOs", () -> reportQueries.findVehicleCollections(vehicleIds, FROM, TO));
+        }
+    }
+
+    /**
+     * The previous report path: managed entities, mapped to report rows afterwards. The persistence
+     * context is cleared after each call, as it would be at the end of a request.
+     */
+    private List<VehicleReportDTO> readThroughEntities(List<String> vehicleIds) {
+        List<WasteLog> logs = entityManager.createQuery("select w from WasteLog w where w.vehicleId in :ids"
+                        + " and w.collectionStartTime between :from and :to and w.collectionEndTime is not null"
+                        + " order by w.vehicleId, w.collectionStartTime, w.logId", WasteLog.class)
+                .setParameter("ids", vehicleIds)
+                .setParameter("from", FROM)
+                .setParameter("to", TO)
+                .getResultList();
+        List<VehicleReportDTO> rows = new ArrayList<>(logs.size());
+        for (WasteLog log : logs) {
+            rows.add(new VehicleReportDTO(log.getVehicleId(), log.getZoneId(),
+                    WeightUnits.toKilograms(log.getWeightCollected()),
+                    log.getCollectionStartTime().toLocalDate()));
+        }
+        entityManager.clear();
+        return rows;
+    }
+
+    private void insertRows() {
+        List<Object[]> batch = new ArrayList<>();
+        for (int v = 0; v < VEHICLES; v++) {
+            for (int i = 0; i < ROWS_PER_VEHICLE; i++) {
+                LocalDateTime start = FROM.plusMinutes(10L * i);
+                batch.add(new Object[] {"Z" + String.format("%03d", i % 20), String.format("RT%03d", v), "W001",
+                        Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(5)), 1000L + i % 5000,
+                        Timestamp.valueOf(start)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO waste_log (zone_id, vehicle_id, worker_id, collection_start_time,"
+                + " collection_end_time, weight_collected, created_date, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", batch);
+    }
+
+    private static void report(String label, Supplier<List<VehicleReportDTO>> read) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        int rows = read.get().size();
+        long nanos = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        System.out.printf("%-10s %,d rows: %,d ms, %,d MB allocated, %d GCs (%d ms)%n", label, rows, nanos / 1_000_000,
+                allocated / (1024 * 1024), gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
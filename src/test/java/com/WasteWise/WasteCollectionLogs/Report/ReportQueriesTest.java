@@ -0,0 +1,157 @@
+package com.WasteWise.WasteCollectionLogs.Report;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.ZoneDayAggregate;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Repository.LogInterval;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@DisplayName("ReportQueries Tests")
+class ReportQueriesTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ReportQueries reportQueries;
+
+    @BeforeEach
+    void setUp() {
+        // A fetch size below the row count makes the driver fetch in several round trips
+        reportQueries = new ReportQueries(jdbcTemplate, 2);
+        wasteLogRepository.saveAllAndFlush(List.of(
+                log("Z001", "RT001", DAY.atTime(10, 0), DAY.atTime(10, 30), 300L),
+                log("Z001", "RT001", DAY.atTime(8, 0), DAY.atTime(8, 30), 100L),
+                log("Z001", "RT002", DAY.atTime(9, 0), DAY.atTime(9, 30), 1250L),
+                log("Z001", "RT003", DAY.atTime(9, 0), null, null),
+                log("Z001", "RT001", DAY.plusDays(1).atTime(8, 0), DAY.plusDays(1).atTime(8, 30), 400L),
+                log("Z002", "RT001", DAY.atTime(11, 0), DAY.atTime(11, 30), 200L),
+                log("Z002", "RT004", DAY.atTime(7, 0), DAY.atTime(7, 30), null)));
+    }
+
+    @Test
+    @DisplayName("shouldSummarizeCompletedZoneDays: Distinct vehicles and weight are grouped per zone and day, open logs are skipped")
+    void shouldSummarizeCompletedZoneDays() {
+        // When
+        List<ZoneReportDTO> days = reportQueries.findZoneDays(List.of("Z001", "Z002"),
+                DAY.atStartOfDay(), DAY.plusDays(1).atTime(23, 59));
+
+        // Then
+        assertEquals(List.of(
+                new ZoneReportDTO("Z001", DAY, 2L, 16.5),
+                new ZoneReportDTO("Z001", DAY.plusDays(1), 1L, 4.0),
+                new ZoneReportDTO("Z002", DAY, 2L, 2.0)), days);
+    }
+
+    @Test
+    @DisplayName("shouldListCompletedVehicleCollectionsInStartOrder: Rows are ordered by vehicle and start time and keep missing weights")
+    void shouldListCompletedVehicleCollectionsInStartOrder() {
+        // When
+        List<VehicleReportDTO> rows = reportQueries.findVehicleCollections(Set.of("RT001", "RT004"),
+                DAY.atStartOfDay(), DAY.plusDays(1).atTime(23, 59));
+
+        // Then
+        assertEquals(List.of(
+                new VehicleReportDTO("RT001", "Z001", 1.0, DAY),
+                new VehicleReportDTO("RT001", "Z001", 3.0, DAY),
+                new VehicleReportDTO("RT001", "Z002", 2.0, DAY),
+                new VehicleReportDTO("RT001", "Z001", 4.0, DAY.plusDays(1)),
+                new VehicleReportDTO("RT004", "Z002", null, DAY)), rows);
+    }
+
+    @Test
+    @DisplayName("shouldReadCompletedVehicleCollectionWindow: Offset and limit apply to the vehicle's completed logs in start order")
+    void shouldReadCompletedVehicleCollectionWindow() {
+        // When
+        List<VehicleReportDTO> window = reportQueries.findVehicleCollectionWindow("RT001",
+                DAY.atStartOfDay(), DAY.plusDays(1).atTime(23, 59), 1, 2);
+
+        // Then
+        assertEquals(List.of(3.0, 2.0), window.stream().map(VehicleReportDTO::getWeightCollected).toList());
+    }
+
+    @Test
+    @DisplayName("shouldAddZoneTotalsPerVehicle: Each zone's totals count collections and distinct vehicles over the whole range")
+    void shouldAddZoneTotalsPerVehicle() {
+        // Given
+        Map<String, ZoneDayAggregate> totals = new HashMap<>();
+        totals.put("Z001", new ZoneDayAggregate());
+
+        // When
+        reportQueries.sumZoneTotals(List.of("Z001", "Z002"), DAY.atStartOfDay(), DAY.plusDays(1).atTime(23, 59), totals);
+
+        // Then
+        assertEquals(Set.of("Z001"), totals.keySet());
+        assertEquals(4L, totals.get("Z001").getCollections());
+        assertEquals(2, totals.get("Z001").getDistinctVehicles());
+        assertEquals(2050L, totals.get("Z001").getTotalWeightHundredths());
+    }
+
+    @Test
+    @DisplayName("shouldStreamCompletedVehicleIntervalsInStartOrder: Only the vehicle's completed logs in range, ordered by start")
+    void shouldStreamCompletedVehicleIntervalsInStartOrder() {
+        // When
+        List<LocalDateTime> starts;
+        try (Stream<LogInterval> intervals = reportQueries.streamVehicleIntervals("RT001", DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())) {
+            starts = intervals.map(LogInterval::getCollectionStartTime).toList();
+        }
+        List<LogInterval> open;
+        try (Stream<LogInterval> intervals = reportQueries.streamVehicleIntervals("RT003", DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())) {
+            open = intervals.toList();
+        }
+
+        // Then
+        assertEquals(List.of(DAY.atTime(8, 0), DAY.atTime(10, 0), DAY.atTime(11, 0)), starts);
+        assertTrue(open.isEmpty());
+    }
+
+    @Test
+    @DisplayName("shouldStreamAllIntervalsGroupedByVehicle: Open logs are included and each vehicle's logs follow in start order")
+    void shouldStreamAllIntervalsGroupedByVehicle() {
+        // When
+        List<String> rows;
+        try (Stream<LogInterval> intervals = reportQueries.streamIntervalsOrderedByVehicle(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())) {
+            rows = intervals.map(interval -> interval.getVehicleId() + "@" + interval.getCollectionStartTime().getHour()
+                    + (interval.getCollectionEndTime() == null ? " open" : "")).toList();
+        }
+
+        // Then
+        assertEquals(List.of("RT001@8", "RT001@10", "RT001@11", "RT002@9", "RT003@9 open", "RT004@7"), rows);
+    }
+
+    private WasteLog log(String zoneId, String vehicleId, LocalDateTime start, LocalDateTime end, Long weightHundredths) {
+        WasteLog log = new WasteLog();
+        log.setZoneId(zoneId);
+        log.setVehicleId(vehicleId);
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(start);
+        log.setCollectionEndTime(end);
+        log.setWeightCollected(weightHundredths);
+        log.setCreatedDate(start);
+        return log;
+    }
+}
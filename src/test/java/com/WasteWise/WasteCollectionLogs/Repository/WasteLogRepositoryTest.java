@@ -0,0 +1,158 @@
+package com.WasteWise.WasteCollectionLogs.Repository;
+
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@DisplayName("WasteLogRepository Query Tests")
+class WasteLogRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @Test
+    @DisplayName("shouldAggregateWorkerTotalsPerDay: Counts, weight and active time are summed per worker and day")
+    void shouldAggregateWorkerTotalsPerDay() {
+        // Given
+        wasteLogRepository.saveAll(List.of(
+                log("W001", DAY.atTime(8, 0), DAY.atTime(8, 45), 12550L),
+                log("W001", DAY.atTime(10, 0), DAY.atTime(10, 30), 4L),
+                log("W001", DAY.plusDays(1).atTime(9, 0), DAY.plusDays(1).atTime(9, 20), 10000L),
+                log("W002", DAY.atTime(9, 0), DAY.atTime(10, 0), 5000L),
+                log("W001", DAY.atTime(11, 0), null, null)));
+
+        // When
+        List<WorkerDailyTotals> worker = wasteLogRepository.aggregateWorkerDailyTotals("W001",
+                DAY.atStartOfDay(), DAY.plusDays(1).atTime(23, 59));
+        List<WorkerDailyTotals> workforce = wasteLogRepository.aggregateWorkerDailyTotals(null,
+                DAY.atStartOfDay(), DAY.atTime(23, 59));
+
+        // Then
+        assertEquals(2, worker.size());
+        assertEquals(DAY, worker.get(0).getDate());
+        assertEquals(2L, worker.get(0).getCollections());
+        assertEquals(0, new BigDecimal("125.54").compareTo(worker.get(0).getTotalWeightKg()));
+        assertEquals(75 * 60L, worker.get(0).getActiveSeconds());
+        assertEquals(DAY.plusDays(1), worker.get(1).getDate());
+        assertEquals(2, workforce.size());
+        assertEquals("W001", workforce.get(0).getWorkerId());
+        assertEquals("W002", workforce.get(1).getWorkerId());
+        assertEquals(3600L, workforce.get(1).getActiveSeconds());
+    }
+
+    @Test
+    @DisplayName("shouldAggregateBucketTotalsPerVehicleDayAndHour: Completed logs of the zone are grouped per vehicle and day or hour")
+    void shouldAggregateBucketTotalsPerVehicleDayAndHour() {
+        // Given
+        WasteLog otherZone = log("W003", DAY.atTime(8, 10), DAY.atTime(8, 40), 700L);
+        otherZone.setZoneId("Z002");
+        wasteLogRepository.saveAll(List.of(
+                log("W001", DAY.atTime(8, 0), DAY.atTime(8, 45), 12550L),
+                log("W002", DAY.atTime(8, 30), DAY.atTime(9, 0), 4L),
+                log("W001", DAY.atTime(14, 0), DAY.atTime(14, 30), 10000L),
+                log("W001", DAY.atTime(16, 0), null, null),
+                otherZone));
+
+        // When
+        List<CollectionTotals> daily = wasteLogRepository.aggregateDailyTotals("Z001", null,
+                DAY.atStartOfDay(), DAY.atTime(23, 59));
+        List<CollectionTotals> hourly = wasteLogRepository.aggregateHourlyTotals(null, "RT001",
+                DAY.atStartOfDay(), DAY.atTime(23, 59));
+
+        // Then
+        assertEquals(1, daily.size());
+        assertEquals(DAY, daily.get(0).getDate());
+        assertEquals(3L, daily.get(0).getCollections());
+        assertEquals(0, new BigDecimal("225.54").compareTo(daily.get(0).getTotalWeightKg()));
+        assertEquals(3, hourly.size());
+        assertEquals(2L, hourly.stream().filter(row -> row.getHour() == 8 && row.getZoneId().equals("Z001"))
+                .findFirst().orElseThrow().getCollections());
+        assertTrue(hourly.stream().anyMatch(row -> row.getHour() == 14));
+    }
+
+    @Test
+    @DisplayName("shouldRankZonesByCollectedWeight: Completed logs since the cutoff are ranked heaviest first, bounded by the page")
+    void shouldRankZonesByCollectedWeight() {
+        // Given
+        WasteLog heavy = log("W003", DAY.atTime(9, 0), DAY.atTime(9, 30), 90000L);
+        heavy.setZoneId("Z002");
+        WasteLog light = log("W004", DAY.atTime(9, 0), DAY.atTime(9, 30), 100L);
+        light.setZoneId("Z003");
+        WasteLog tooOld = log("W004", DAY.minusDays(1).atTime(9, 0), DAY.minusDays(1).atTime(9, 30), 900000L);
+        tooOld.setZoneId("Z003");
+        wasteLogRepository.saveAll(List.of(
+                log("W001", DAY.atTime(8, 0), DAY.atTime(8, 45), 12550L),
+                log("W002", DAY.atTime(10, 0), DAY.atTime(10, 30), 10000L),
+                log("W001", DAY.atTime(11, 0), null, null),
+                heavy, light, tooOld));
+
+        // When
+        List<WeightRanking> ranking = wasteLogRepository.findTopZonesByWeight(DAY.atStartOfDay(), PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(List.of("Z002", "Z001"), ranking.stream().map(WeightRanking::getId).toList());
+        assertEquals(2L, ranking.get(1).getCollections());
+        assertEquals(0, new BigDecimal("225.50").compareTo(ranking.get(1).getTotalWeightKg()));
+    }
+
+    @Test
+    @DisplayName("shouldPageLogsChangedAfterAWatermark: The keyset walks every changed log once, including logs sharing a timestamp")
+    void shouldPageLogsChangedAfterAWatermark() {
+        // Given
+        LocalDateTime watermark = DAY.atTime(12, 0);
+        WasteLog before = log("W001", DAY.atTime(8, 0), DAY.atTime(8, 30), 100L);
+        before.setUpdatedDate(watermark.minusMinutes(1));
+        WasteLog first = log("W001", DAY.atTime(9, 0), DAY.atTime(9, 30), 100L);
+        first.setUpdatedDate(watermark.plusMinutes(1));
+        WasteLog second = log("W002", DAY.atTime(9, 0), null, null);
+        second.setUpdatedDate(watermark.plusMinutes(1));
+        WasteLog third = log("W003", DAY.atTime(10, 0), null, null);
+        third.setUpdatedDate(watermark.plusMinutes(2));
+        wasteLogRepository.saveAll(List.of(before, first, second, third));
+
+        // When
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime lastUpdated = watermark;
+        long lastLogId = Long.MAX_VALUE;
+        List<WasteLog> page;
+        do {
+            page = wasteLogRepository.findChangedAfter(lastUpdated, lastLogId, PageRequest.of(0, 1));
+            for (WasteLog log : page) {
+                seen.add(log.getLogId());
+                lastUpdated = log.getUpdatedDate();
+                lastLogId = log.getLogId();
+            }
+        } while (!page.isEmpty());
+
+        // Then
+        assertEquals(List.of(first.getLogId(), second.getLogId(), third.getLogId()), seen);
+    }
+
+    private WasteLog log(String workerId, LocalDateTime start, LocalDateTime end, Long weightHundredths) {
+        WasteLog log = new WasteLog();
+        log.setZoneId("Z001");
+        log.setVehicleId("RT001");
+        log.setWorkerId(workerId);
+        log.setCollectionStartTime(start);
+        log.setCollectionEndTime(end);
+        log.setWeightCollected(weightHundredths);
+        log.setCreatedDate(start);
+        return log;
+    }
+}
@@ -0,0 +1,149 @@
+package com.WasteWise.WasteCollectionLogs.Routing;
+
+import com.WasteWise.WasteCollectionLogs.Report.ReportQueries;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the latency of starts and ends (one insert and one update, each its own transaction)
+ * while report threads keep reading year-long vehicle reports: once with every transaction on the
+ * primary pool, once with read-only transactions routed to a replica pool. Two in-memory H2
+ * databases with the same rows stand in for the primary and the replica.
+ * Not part of the regular test run; execute with {@code mvn test -Dtest=ReadReplicaRoutingBenchmark}.
+ */
+class ReadReplicaRoutingBenchmark {
+
+    private static final int POOL_SIZE = 8;
+    private static final int WRITERS = 4;
+    private static final int READERS = 8;
+    private static final int SEED_ROWS_PER_VEHICLE = 20_000;
+    private static final int VEHICLES = 5;
+    private static final long MEASURE_MILLIS = 5_000;
+    private static final int ROUNDS = 2;
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void writeLatencyUnderReportLoad() throws Exception {
+        try (HikariDataSource primary = pool("bench_primary"); HikariDataSource replica = pool("bench_replica")) {
+            seed(primary);
+            seed(replica);
+            for (int round = 0; round < ROUNDS; round++) {
+                System.out.printf("Round %d, writes only:         %s%n", round, run(primary, primary, 0));
+                System.out.printf("Round %d, reports on primary:  %s%n", round, run(primary, primary, READERS));
+                System.out.printf("Round %d, reports on replica:  %s%n", round, run(primary, replica, READERS));
+            }
+        }
+    }
+
+    private static String run(DataSource primary, DataSource replica, int readers) throws Exception {
+        DataSource routed = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        TransactionTemplate writes = new TransactionTemplate(transactionManager);
+        TransactionTemplate reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routed);
+        ReportQueries reportQueries = new ReportQueries(jdbcTemplate, 500);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reports = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        ExecutorService threads = Executors.newFixedThreadPool(WRITERS + readers);
+        List<Future<long[]>> writers = new ArrayList<>();
+        try {
+            for (int r = 0; r < readers; r++) {
+                String vehicleId = String.format("RT%03d", r % VEHICLES);
+                threads.submit(() -> {
+                    while (running.get()) {
+                        reads.executeWithoutResult(status ->
+                                reportQueries.findVehicleCollections(List.of(vehicleId), FROM, FROM.plusYears(1)));
+                        reports.incrementAndGet();
+                    }
+                });
+            }
+            for (int w = 0; w < WRITERS; w++) {
+                String workerId = "W" + w;
+                writers.add(threads.submit(() -> {
+                    long[] nanos = new long[1 << 20];
+                    int count = 0;
+                    long until = System.currentTimeMillis() + MEASURE_MILLIS;
+                    while (System.currentTimeMillis() < until && count < nanos.length - 1) {
+                        long started = System.nanoTime();
+                        Long logId = writes.execute(status -> {
+                            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                            jdbcTemplate.update("INSERT INTO waste_log (zone_id, vehicle_id, worker_id, collection_start_time,"
+                                    + " created_date) VALUES ('Z001', 'RT900', ?, ?, ?)", workerId, now, now);
+                            return jdbcTemplate.queryForObject("SELECT MAX(log_id) FROM waste_log WHERE worker_id = ?", Long.class, workerId);
+                        });
+                        nanos[count++] = System.nanoTime() - started;
+                        started = System.nanoTime();
+                        writes.executeWithoutResult(status -> jdbcTemplate.update(
+                                "UPDATE waste_log SET collection_end_time = ?, weight_collected = 10 WHERE log_id = ?",
+                                Timestamp.valueOf(LocalDateTime.now()), logId));
+                        nanos[count++] = System.nanoTime() - started;
+                    }
+                    return Arrays.copyOf(nanos, count);
+                }));
+            }
+            for (Future<long[]> writer : writers) {
+                latencies.add(writer.get());
+            }
+        } finally {
+            running.set(false);
+            threads.shutdown();
+            threads.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return String.format("%,d writes, p50 %.2f ms, p99 %.2f ms, max %.2f ms, %,d reports",
+                all.length, millis(all, 0.50), millis(all, 0.99), all[all.length - 1] / 1e6, reports.get());
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * sorted.length))] / 1e6;
+    }
+
+    private static HikariDataSource pool(String database) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        dataSource.setPoolName(database);
+        return dataSource;
+    }
+
+    private static void seed(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE waste_log (log_id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                + " zone_id VARCHAR(255) NOT NULL, vehicle_id VARCHAR(255) NOT NULL, worker_id VARCHAR(255) NOT NULL,"
+                + " collection_start_time TIMESTAMP(6) NOT NULL, collection_end_time TIMESTAMP(6), weight_collected DECIMAL(10, 2),"
+                + " created_date TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_waste_log_vehicle_start ON waste_log (vehicle_id, collection_start_time)");
+        List<Object[]> rows = new ArrayList<>();
+        for (int v = 0; v < VEHICLES; v++) {
+            for (int i = 0; i < SEED_ROWS_PER_VEHICLE; i++) {
+                Timestamp start = Timestamp.valueOf(FROM.plusMinutes(20L * i));
+                rows.add(new Object[] {"Z" + String.format("%03d", i % 20), String.format("RT%03d", v), start,
+                        Timestamp.valueOf(start.toLocalDateTime().plusMinutes(10)), 1000 + i % 5000, start});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO waste_log (zone_id, vehicle_id, worker_id, collection_start_time,"
+                + " collection_end_time, weight_collected, created_date) VALUES (?, ?, 'W001', ?, ?, ?, ?)", rows);
+    }
+}
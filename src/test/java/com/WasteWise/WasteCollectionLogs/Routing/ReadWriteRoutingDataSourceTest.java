@@ -0,0 +1,173 @@
+package com.WasteWise.WasteCollectionLogs.Routing;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightAnomalyDetector;
+import com.WasteWise.WasteCollectionLogs.Archive.WasteLogArchive;
+import com.WasteWise.WasteCollectionLogs.Cache.OpenLogCache;
+import com.WasteWise.WasteCollectionLogs.Commit.GroupCommitExecutor;
+import com.WasteWise.WasteCollectionLogs.Config.DataSourceRoutingConfig;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WasteLogStartRequestDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WasteLogUpdateRequestDTO;
+import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
+import com.WasteWise.WasteCollectionLogs.Invalidation.CollectionChangeFeed;
+import com.WasteWise.WasteCollectionLogs.Lease.ActiveLogLeases;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Overlap.OverlapIndex;
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEventPipeline;
+import com.WasteWise.WasteCollectionLogs.Report.ReportQueries;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.ServiceImpl.WasteLogServiceImpl;
+import com.WasteWise.WasteCollectionLogs.Shard.ZoneSharding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica. Nothing replicates between
+ * them, so every row shows which database a statement reached.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceRoutingConfig.class, ReportQueries.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "wastewise.datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @Autowired
+    private ReportQueries reportQueries;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS waste_log (log_id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                + " zone_id VARCHAR(255) NOT NULL, vehicle_id VARCHAR(255) NOT NULL, worker_id VARCHAR(255) NOT NULL,"
+                + " collection_start_time TIMESTAMP(6) NOT NULL, collection_end_time TIMESTAMP(6), weight_collected DECIMAL(10, 2),"
+                + " created_date TIMESTAMP(6) NOT NULL, created_by VARCHAR(255), updated_date TIMESTAMP(6), updated_by VARCHAR(255),"
+                + " version BIGINT DEFAULT 0 NOT NULL)");
+        replica.update("INSERT INTO waste_log (zone_id, vehicle_id, worker_id, collection_start_time, collection_end_time,"
+                + " weight_collected, created_date) VALUES ('Z009', 'RT001', 'W001', ?, ?, 5, ?)",
+                DAY.atTime(7, 0), DAY.atTime(7, 30), DAY.atTime(7, 0));
+        WasteLog log = new WasteLog();
+        log.setZoneId("Z001");
+        log.setVehicleId("RT001");
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(DAY.atTime(8, 0));
+        log.setCollectionEndTime(DAY.atTime(8, 30));
+        log.setWeightCollected(1000L);
+        log.setCreatedDate(DAY.atTime(8, 0));
+        wasteLogRepository.save(log);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ReadWriteRoutingDataSource.unpin();
+        primary.update("DELETE FROM waste_log");
+        replica.update("DELETE FROM waste_log");
+    }
+
+    @Test
+    @DisplayName("shouldWriteToThePrimaryAndReadReportsFromTheReplica: A save reaches the primary, a read-only report reads the replica")
+    void shouldWriteToThePrimaryAndReadReportsFromTheReplica() {
+        // When
+        List<VehicleReportDTO> rows = readReport();
+
+        // Then
+        assertEquals(List.of("Z001"), primary.queryForList("SELECT zone_id FROM waste_log", String.class));
+        assertEquals(List.of("Z009"), rows.stream().map(VehicleReportDTO::getZoneId).toList());
+    }
+
+    @Test
+    @DisplayName("shouldReadThePrimaryWhenPinned: A pinned thread's read-only transactions see its own write")
+    void shouldReadThePrimaryWhenPinned() {
+        // When
+        ReadWriteRoutingDataSource.pinToPrimary();
+        List<VehicleReportDTO> rows = readReport();
+
+        // Then
+        assertEquals(List.of("Z001"), rows.stream().map(VehicleReportDTO::getZoneId).toList());
+    }
+
+    @Test
+    @DisplayName("shouldKeepReadsInsideAWriteTransactionOnThePrimary: A read-only call joins the surrounding read-write transaction")
+    void shouldKeepReadsInsideAWriteTransactionOnThePrimary() {
+        // When
+        List<VehicleReportDTO> rows = new TransactionTemplate(transactionManager).execute(status -> readReport());
+
+        // Then
+        assertEquals(List.of("Z001"), rows.stream().map(VehicleReportDTO::getZoneId).toList());
+    }
+
+    @Test
+    @DisplayName("shouldEndALogRightAfterStartingItWhileTheReplicaLags: The write path reads the primary, which already has the new log")
+    void shouldEndALogRightAfterStartingItWhileTheReplicaLags() {
+        // Given a service without group commit, leases or change feed, so its writes run outside a transaction
+        WasteLogServiceImpl service = new WasteLogServiceImpl(wasteLogRepository, mock(WasteLogArchive.class),
+                mock(WasteLogAggregateStore.class), mock(GroupCommitExecutor.class), mock(CollectionEventPipeline.class),
+                mock(WeightAnomalyDetector.class), mock(OverlapIndex.class), mock(OpenLogCache.class), mock(ActiveLogLeases.class),
+                mock(CollectionChangeFeed.class), reportQueries, new ZoneSharding());
+        WasteLogStartRequestDTO start = new WasteLogStartRequestDTO("Z002", "RT002", "W002");
+
+        // When
+        Long logId = service.startCollection(start).getLogId();
+
+        // Then
+        assertThrows(InvalidInputException.class, () -> service.startCollection(start));
+        service.endCollection(new WasteLogUpdateRequestDTO(logId, 12.5));
+        assertNotNull(primary.queryForObject("SELECT collection_end_time FROM waste_log WHERE log_id = ?", LocalDateTime.class, logId));
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM waste_log WHERE log_id = ?", Integer.class, logId));
+    }
+
+    private List<VehicleReportDTO> readReport() {
+        LocalDateTime from = DAY.atStartOfDay();
+        return reportQueries.findVehicleCollections(List.of("RT001"), from, from.plusDays(1));
+    }
+}
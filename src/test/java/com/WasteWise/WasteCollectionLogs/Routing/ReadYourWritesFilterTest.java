@@ -0,0 +1,76 @@
+package com.WasteWise.WasteCollectionLogs.Routing;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadYourWritesFilter Tests")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(5_000);
+    private final AtomicBoolean pinnedInChain = new AtomicBoolean();
+    private final MockFilterChain chain = new MockFilterChain() {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) {
+            pinnedInChain.set(ReadWriteRoutingDataSource.isPinnedToPrimary());
+        }
+    };
+
+    @Test
+    @DisplayName("shouldStampWriteRequests: Writes get the last-write header, reads do not")
+    void shouldStampWriteRequests() throws Exception {
+        // Given
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/logs/start"), writeResponse, chain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/logs/reports/zone/Z001"), readResponse, new MockFilterChain());
+
+        // Then
+        assertTrue(Long.parseLong(writeResponse.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER)) >= before);
+        assertNull(readResponse.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER));
+    }
+
+    @Test
+    @DisplayName("shouldPinRequestsAfterARecentWrite: A fresh last-write header pins the request to the primary until it completes")
+    void shouldPinRequestsAfterARecentWrite() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logs/reports/zone/Z001");
+        request.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, Long.toString(System.currentTimeMillis() - 1_000));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertTrue(pinnedInChain.get());
+        assertFalse(ReadWriteRoutingDataSource.isPinnedToPrimary());
+    }
+
+    @Test
+    @DisplayName("shouldNotPinStaleFutureOrMalformedHeaders: An old, future or unparsable last-write header leaves the request on the replica")
+    void shouldNotPinStaleFutureOrMalformedHeaders() throws Exception {
+        for (String lastWrite : new String[] {Long.toString(System.currentTimeMillis() - 60_000),
+                Long.toString(System.currentTimeMillis() + 60_000), Long.toString(Long.MAX_VALUE), "yesterday"}) {
+            // Given
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logs/reports/zone/Z001");
+            request.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, lastWrite);
+            pinnedInChain.set(true);
+
+            // When
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // Then
+            assertFalse(pinnedInChain.get(), lastWrite);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HashShardMap Tests")
+class HashShardMapTest {
+
+    private static final List<String> SHARDS = List.of("shard-a", "shard-b", "shard-c");
+
+    @Test
+    @DisplayName("shouldPreferPinnedZones: A zone assigned in the configuration stays on its shard")
+    void shouldPreferPinnedZones() {
+        // Given
+        HashShardMap shardMap = new HashShardMap(SHARDS, Map.of("Z001", "shard-c"));
+
+        // Then
+        assertEquals("shard-c", shardMap.shardOf("Z001"));
+    }
+
+    @Test
+    @DisplayName("shouldHashOtherZonesStably: An unassigned zone always maps to the same known shard")
+    void shouldHashOtherZonesStably() {
+        // Given
+        HashShardMap shardMap = new HashShardMap(SHARDS, Map.of());
+
+        // Then
+        assertTrue(SHARDS.contains(shardMap.shardOf("Z042")));
+        assertEquals(shardMap.shardOf("Z042"), new HashShardMap(SHARDS, Map.of()).shardOf("Z042"));
+    }
+
+    @Test
+    @DisplayName("shouldRejectZonesPinnedToUnknownShards: An assignment to a missing shard fails at startup")
+    void shouldRejectZonesPinnedToUnknownShards() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new HashShardMap(SHARDS, Map.of("Z001", "shard-x")));
+    }
+}
@@ -0,0 +1,282 @@
+package com.WasteWise.WasteCollectionLogs.Shard;
+
+import com.WasteWise.WasteCollectionLogs.Aggregate.AggregateSnapshotService;
+import com.WasteWise.WasteCollectionLogs.Aggregate.WasteLogAggregateStore;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightAnomalyDetector;
+import com.WasteWise.WasteCollectionLogs.Anomaly.WeightStatisticsStore;
+import com.WasteWise.WasteCollectionLogs.Archive.WasteLogArchive;
+import com.WasteWise.WasteCollectionLogs.Archive.WasteLogRetentionJob;
+import com.WasteWise.WasteCollectionLogs.Cache.OpenLogCache;
+import com.WasteWise.WasteCollectionLogs.Commit.GroupCommitExecutor;
+import com.WasteWise.WasteCollectionLogs.Config.ShardingConfig;
+import com.WasteWise.WasteCollectionLogs.Dto.CollectionOverlapDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.WorkerReportDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.ZoneReportDTO;
+import com.WasteWise.WasteCollectionLogs.Invalidation.CollectionChangeFeed;
+import com.WasteWise.WasteCollectionLogs.Lease.ActiveLogLeases;
+import com.WasteWise.WasteCollectionLogs.Model.WasteLog;
+import com.WasteWise.WasteCollectionLogs.Overlap.OverlapIndex;
+import com.WasteWise.WasteCollectionLogs.Pipeline.CollectionEventPipeline;
+import com.WasteWise.WasteCollectionLogs.Report.ReportQueries;
+import com.WasteWise.WasteCollectionLogs.Repository.WasteLogRepository;
+import com.WasteWise.WasteCollectionLogs.ServiceImpl.WasteLogServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Three in-memory H2 databases act as the shards. Every shard's table hands out striped log IDs the
+ * way {@code wastewise.sharding.id-striping-sql} does on MySQL.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ShardingConfig.class, ZoneSharding.class})
+@TestPropertySource(properties = {
+        "wastewise.sharding.enabled=true",
+        "wastewise.sharding.shards.shard-a.url=jdbc:h2:mem:shard_a;DB_CLOSE_DELAY=-1",
+        "wastewise.sharding.shards.shard-a.username=sa",
+        "wastewise.sharding.shards.shard-b.url=jdbc:h2:mem:shard_b;DB_CLOSE_DELAY=-1",
+        "wastewise.sharding.shards.shard-b.username=sa",
+        "wastewise.sharding.shards.shard-c.url=jdbc:h2:mem:shard_c;DB_CLOSE_DELAY=-1",
+        "wastewise.sharding.shards.shard-c.username=sa",
+        "wastewise.sharding.id-striping-sql=",
+        "wastewise.sharding.zones.Z001=shard-b",
+        "wastewise.sharding.zones.Z002=shard-c",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ZoneSharding Tests")
+class ZoneShardingTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Autowired
+    private ZoneSharding zoneSharding;
+
+    @Autowired
+    private ShardRoutingDataSource shards;
+
+    @Autowired
+    private WasteLogRepository wasteLogRepository;
+
+    @Autowired
+    private ReportQueries reportQueries;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        List<String> names = shards.getShardNames();
+        for (int i = 0; i < names.size(); i++) {
+            shard(names.get(i)).execute("CREATE TABLE IF NOT EXISTS waste_log (log_id BIGINT GENERATED BY DEFAULT AS IDENTITY"
+                    + " (START WITH " + (i + 1) + " INCREMENT BY " + names.size() + ") PRIMARY KEY,"
+                    + " zone_id VARCHAR(255) NOT NULL, vehicle_id VARCHAR(255) NOT NULL, worker_id VARCHAR(255) NOT NULL,"
+                    + " collection_start_time TIMESTAMP(6) NOT NULL, collection_end_time TIMESTAMP(6), weight_collected DECIMAL(10, 2),"
+                    + " created_date TIMESTAMP(6) NOT NULL, created_by VARCHAR(255), updated_date TIMESTAMP(6), updated_by VARCHAR(255),"
+                    + " version BIGINT DEFAULT 0 NOT NULL)");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (String name : shards.getShardNames()) {
+            shard(name).execute("DROP TABLE waste_log");
+        }
+    }
+
+    @Test
+    @DisplayName("shouldStoreALogOnItsZonesShard: A save bound to a zone lands on that zone's shard with a striped ID")
+    void shouldStoreALogOnItsZonesShard() {
+        // When
+        WasteLog saved = zoneSharding.onZone("Z001", () -> wasteLogRepository.save(log("Z001", "RT001", 8)));
+
+        // Then
+        assertEquals(List.of("Z001"), shard("shard-b").queryForList("SELECT zone_id FROM waste_log", String.class));
+        assertEquals(0, shard("shard-a").queryForObject("SELECT COUNT(*) FROM waste_log", Integer.class));
+        assertEquals("shard-b", shards.shardOfLog(saved.getLogId()));
+        assertTrue(zoneSharding.onLog(saved.getLogId(), () -> wasteLogRepository.findById(saved.getLogId())).isPresent());
+        assertEquals("RT001", reportQueries.findInterval(saved.getLogId()).orElseThrow().getVehicleId());
+    }
+
+    @Test
+    @DisplayName("shouldMergeVehicleCollectionsFromEveryShard: A vehicle's rows from several shards come back in start order")
+    void shouldMergeVehicleCollectionsFromEveryShard() {
+        // Given
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT001", 9)));
+        zoneSharding.onZone("Z001", () -> wasteLogRepository.save(log("Z001", "RT001", 8)));
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT001", 7)));
+        LocalDateTime from = DAY.atStartOfDay();
+
+        // When
+        List<VehicleReportDTO> all = reportQueries.findVehicleCollections(List.of("RT001"), from, from.plusDays(1));
+        List<VehicleReportDTO> window = reportQueries.findVehicleCollectionWindow("RT001", from, from.plusDays(1), 1, 1);
+
+        // Then
+        assertEquals(List.of("Z002", "Z001", "Z002"), all.stream().map(VehicleReportDTO::getZoneId).toList());
+        assertEquals(List.of("Z001"), window.stream().map(VehicleReportDTO::getZoneId).toList());
+    }
+
+    @Test
+    @DisplayName("shouldReadZoneDaysFromTheZonesShards: Zones on different shards are reported together")
+    void shouldReadZoneDaysFromTheZonesShards() {
+        // Given
+        zoneSharding.onZone("Z001", () -> wasteLogRepository.save(log("Z001", "RT001", 8)));
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT002", 8)));
+        LocalDateTime from = DAY.atStartOfDay();
+
+        // When
+        List<ZoneReportDTO> days = reportQueries.findZoneDays(List.of("Z002", "Z001"), from, from.plusDays(1));
+
+        // Then
+        assertEquals(List.of("Z001", "Z002"), days.stream().map(ZoneReportDTO::getZoneId).toList());
+    }
+
+    @Test
+    @DisplayName("shouldGroupCommitEachWriteOnItsOwnShard: One batch holding writes for two shards commits each on its shard")
+    void shouldGroupCommitEachWriteOnItsOwnShard() {
+        // Given
+        GroupCommitExecutor executor = new GroupCommitExecutor(transactionManager, true, 64, 50, 100);
+        executor.start();
+
+        // When
+        try {
+            CompletableFuture<WasteLog> first = CompletableFuture.supplyAsync(() -> zoneSharding.onZone("Z001",
+                    () -> executor.execute(() -> wasteLogRepository.save(log("Z001", "RT001", 8)))));
+            CompletableFuture<WasteLog> second = CompletableFuture.supplyAsync(() -> zoneSharding.onZone("Z002",
+                    () -> executor.execute(() -> wasteLogRepository.save(log("Z002", "RT002", 8)))));
+            CompletableFuture.allOf(first, second).join();
+        } finally {
+            executor.stop();
+        }
+
+        // Then
+        assertEquals(List.of("Z001"), shard("shard-b").queryForList("SELECT zone_id FROM waste_log", String.class));
+        assertEquals(List.of("Z002"), shard("shard-c").queryForList("SELECT zone_id FROM waste_log", String.class));
+    }
+
+    @Test
+    @DisplayName("shouldRestoreTheAggregatesOfEveryShard: A rebuild and a restart's catch-up both read the zones of every shard")
+    void shouldRestoreTheAggregatesOfEveryShard() {
+        // Given
+        zoneSharding.onZone("Z001", () -> wasteLogRepository.save(log("Z001", "RT001", 8)));
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT002", 8)));
+        String snapshotFile = tempDir.resolve("aggregates.bin").toString();
+        WasteLogAggregateStore store = new WasteLogAggregateStore();
+        AggregateSnapshotService snapshotService = new AggregateSnapshotService(store, new WeightStatisticsStore(0.05),
+                wasteLogRepository, zoneSharding, true, snapshotFile, 60);
+        snapshotService.warmUp();
+        snapshotService.snapshot();
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT003", 9)));
+
+        // When
+        WasteLogAggregateStore restarted = new WasteLogAggregateStore();
+        new AggregateSnapshotService(restarted, new WeightStatisticsStore(0.05), wasteLogRepository, zoneSharding, true,
+                snapshotFile, 60).warmUp();
+
+        // Then
+        assertEquals(1L, store.getZoneReports("Z001", DAY, DAY).get(0).getTotalNumberOfCollections());
+        assertEquals(1L, store.getZoneReports("Z002", DAY, DAY).get(0).getTotalNumberOfCollections());
+        assertEquals(1L, restarted.getZoneReports("Z001", DAY, DAY).get(0).getTotalNumberOfCollections());
+        assertEquals(2L, restarted.getZoneReports("Z002", DAY, DAY).get(0).getTotalNumberOfCollections());
+    }
+
+    @Test
+    @DisplayName("shouldReportWorkersVehiclesAndOverlapsAcrossShards: Collections in zones of two shards are reported together")
+    void shouldReportWorkersVehiclesAndOverlapsAcrossShards() {
+        // Given one worker and one vehicle in zones on shard-b and shard-c at the same time
+        zoneSharding.onZone("Z001", () -> wasteLogRepository.save(log("Z001", "RT001", 8)));
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT001", 8)));
+        WasteLogServiceImpl service = service();
+        // The streams of the utilization and the audit are read inside the service's transaction.
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // When
+        List<WorkerReportDTO> workerDays = service.getWorkerReport("W001", DAY, DAY, PageRequest.of(0, 10)).getContent();
+        double activeHours = readOnly.execute(status -> service.getVehicleUtilization("RT001", DAY, DAY).getTotalActiveHours());
+        List<CollectionOverlapDTO> overlaps = readOnly.execute(status -> service.getCollectionOverlaps(DAY, DAY, PageRequest.of(0, 10)).getContent());
+
+        // Then
+        assertEquals(List.of(new WorkerReportDTO("W001", DAY, 2L, 20.0, 60L)), workerDays);
+        assertEquals(0.5, activeHours);
+        assertEquals(List.of("VEHICLE", "WORKER"), overlaps.stream().map(CollectionOverlapDTO::getResourceType).toList());
+    }
+
+    @Test
+    @DisplayName("shouldArchiveAndPurgeEveryShard: A month is archived from all shards, then purged from each of them")
+    void shouldArchiveAndPurgeEveryShard() {
+        // Given expired logs in zones on shard-b and shard-c
+        YearMonth expired = YearMonth.now().minusMonths(30);
+        zoneSharding.onZone("Z001", () -> wasteLogRepository.save(log("Z001", "RT001", expired.atDay(2).atTime(8, 0))));
+        zoneSharding.onZone("Z002", () -> wasteLogRepository.save(log("Z002", "RT001", expired.atDay(1).atTime(8, 0))));
+        WasteLogArchive archive = new WasteLogArchive(wasteLogRepository, zoneSharding, true, tempDir.toString(), 6, 1000);
+        WasteLogRetentionJob retention = new WasteLogRetentionJob(wasteLogRepository, archive, zoneSharding, true, 24, true, 1000, 0);
+
+        // When
+        archive.archiveCompletedMonths();
+        long purged = retention.purge();
+
+        // Then
+        assertEquals(1, archive.findZoneLogs("Z001", expired.atDay(1), expired.atEndOfMonth()).size());
+        assertEquals(1, archive.findZoneLogs("Z002", expired.atDay(1), expired.atEndOfMonth()).size());
+        assertEquals(2, purged);
+        for (String name : shards.getShardNames()) {
+            assertEquals(0, shard(name).queryForObject("SELECT COUNT(*) FROM waste_log", Integer.class));
+        }
+    }
+
+    private JdbcTemplate shard(String name) {
+        return new JdbcTemplate(shards.getShard(name));
+    }
+
+    private WasteLogServiceImpl service() {
+        return new WasteLogServiceImpl(wasteLogRepository, mock(WasteLogArchive.class), mock(WasteLogAggregateStore.class),
+                mock(GroupCommitExecutor.class), mock(CollectionEventPipeline.class), mock(WeightAnomalyDetector.class),
+                mock(OverlapIndex.class), mock(OpenLogCache.class), mock(ActiveLogLeases.class), mock(CollectionChangeFeed.class),
+                reportQueries, zoneSharding);
+    }
+
+    private static WasteLog log(String zoneId, String vehicleId, int hour) {
+        return log(zoneId, vehicleId, DAY.atTime(hour, 0));
+    }
+
+    private static WasteLog log(String zoneId, String vehicleId, LocalDateTime start) {
+        WasteLog log = new WasteLog();
+        log.setZoneId(zoneId);
+        log.setVehicleId(vehicleId);
+        log.setWorkerId("W001");
+        log.setCollectionStartTime(start);
+        log.setCollectionEndTime(start.plusMinutes(30));
+        log.setWeightCollected(1000L);
+        log.setCreatedDate(start);
+        return log;
+    }
+}
@@ -0,0 +1,113 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import com.WasteWise.WasteCollectionLogs.Handler.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    @DisplayName("shouldShareOneComputationBetweenConcurrentCallers: Identical concurrent calls compute once")
+    void shouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+        // Given
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flights.execute("Z001", () -> {
+                    computations.incrementAndGet();
+                    await(release);
+                    return "report";
+                })));
+            }
+            waitUntil(() -> flights.getCoalescedCount() == CALLERS - 1);
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertEquals("report", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computations.get());
+            assertEquals(0, flights.getInFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("shouldRethrowFailureToEveryWaiterAndRecomputeAfterwards: Failures are shared but never cached")
+    void shouldRethrowFailureToEveryWaiterAndRecomputeAfterwards() throws Exception {
+        // Given
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> leader = executor.submit(() -> flights.execute("Z001", () -> {
+                await(release);
+                throw new InvalidInputException("bad range");
+            }));
+            waitUntil(() -> flights.getInFlightCount() == 1);
+            AtomicReference<Throwable> followerFailure = new AtomicReference<>();
+            Thread follower = new Thread(() -> {
+                try {
+                    flights.execute("Z001", () -> "not computed");
+                } catch (RuntimeException e) {
+                    followerFailure.set(e);
+                }
+            });
+
+            // When
+            follower.start();
+            waitUntil(() -> flights.getCoalescedCount() == 1);
+            release.countDown();
+            follower.join(5000);
+
+            // Then
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(InvalidInputException.class, leaderFailure.getCause());
+            assertInstanceOf(InvalidInputException.class, followerFailure.get());
+            assertEquals("fresh", flights.execute("Z001", () -> "fresh"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for concurrent callers");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.WasteWise.WasteCollectionLogs.Util;
+
+import com.WasteWise.WasteCollectionLogs.Dto.TimeIntervalDTO;
+import com.WasteWise.WasteCollectionLogs.Dto.VehicleUtilizationDayDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UtilizationSweep Tests")
+class UtilizationSweepTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 18);
+
+    @Test
+    @DisplayName("shouldMergeOverlappingCollectionsAndReportIdleGaps: Overlapping workers on one vehicle count once")
+    void shouldMergeOverlappingCollectionsAndReportIdleGaps() {
+        // Given
+        List<VehicleUtilizationDayDTO> days = new ArrayList<>();
+        UtilizationSweep sweep = new UtilizationSweep(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), days::add);
+
+        // When
+        sweep.accept(DAY.atTime(8, 0), DAY.atTime(9, 0));
+        sweep.accept(DAY.atTime(8, 30), DAY.atTime(10, 0));
+        sweep.accept(DAY.atTime(9, 0), DAY.atTime(9, 15));
+        sweep.accept(DAY.atTime(10, 0), DAY.atTime(10, 30));
+        sweep.accept(DAY.atTime(13, 0), DAY.atTime(14, 0));
+        sweep.finish();
+
+        // Then
+        assertEquals(1, days.size());
+        VehicleUtilizationDayDTO day = days.get(0);
+        assertEquals(List.of(new TimeIntervalDTO(DAY.atTime(8, 0), DAY.atTime(10, 30)), new TimeIntervalDTO(DAY.atTime(13, 0), DAY.atTime(14, 0))),
+                day.getBusyIntervals());
+        assertEquals(List.of(new TimeIntervalDTO(DAY.atTime(10, 30), DAY.atTime(13, 0))), day.getIdleGaps());
+        assertEquals(3.5, day.getActiveHours());
+        assertEquals(2.5, day.getIdleHours());
+        assertEquals(14.58, day.getUtilizationPercent());
+        assertEquals(3.5 * 3600, sweep.getTotalActiveSeconds());
+    }
+
+    @Test
+    @DisplayName("shouldSplitAtMidnightAndClipToRange: Night shifts count for both days, nothing outside the range counts")
+    void shouldSplitAtMidnightAndClipToRange() {
+        // Given
+        List<VehicleUtilizationDayDTO> days = new ArrayList<>();
+        UtilizationSweep sweep = new UtilizationSweep(DAY.atStartOfDay(), DAY.plusDays(2).atStartOfDay(), days::add);
+
+        // When
+        sweep.accept(DAY.minusDays(1).atTime(23, 0), DAY.atTime(1, 0));
+        sweep.accept(DAY.atTime(22, 0), DAY.plusDays(1).atTime(2, 0));
+        sweep.accept(DAY.plusDays(1).atTime(23, 0), DAY.plusDays(2).atTime(3, 0));
+        sweep.finish();
+
+        // Then
+        assertEquals(List.of(DAY, DAY.plusDays(1)), days.stream().map(VehicleUtilizationDayDTO::getDate).toList());
+        assertEquals(3.0, days.get(0).getActiveHours());
+        assertEquals(new TimeIntervalDTO(DAY.atStartOfDay(), DAY.atTime(1, 0)), days.get(0).getBusyIntervals().get(0));
+        assertEquals(3.0, days.get(1).getActiveHours());
+        assertEquals(new TimeIntervalDTO(DAY.plusDays(1).atTime(23, 0), DAY.plusDays(2).atStartOfDay()),
+                days.get(1).getBusyIntervals().get(1));
+        assertThrows(IllegalStateException.class, () -> sweep.accept(DAY.atTime(5, 0), DAY.atTime(6, 0)));
+    }
+}